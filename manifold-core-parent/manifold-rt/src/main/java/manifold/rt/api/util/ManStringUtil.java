@@ -25,6 +25,8 @@ import java.util.Formatter;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -57,6 +59,18 @@ public class ManStringUtil
 {
   private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
+  /**
+   * With this many search strings or more, {@link #replaceEach}, {@link #replaceEachRepeatedly},
+   * {@link #indexOfAny(String, String[])} and {@link #containsAny(String, String[])} scan the text once with a
+   * {@link MultiStringMatcher} instead of once per search string. The matchers are cached by the contents of the
+   * lists, callers searching with the same lists in a hot loop should compile them once with {@link #compileMatcher} or
+   * {@link #compileReplacer} instead, which skips the lookup.
+   */
+  private static final int MATCHER_THRESHOLD = 16;
+  private static final int MATCHER_CACHE_SIZE = 32;
+  /** compiled search and replacement lists by contents, cleared when full, lookups don't lock */
+  private static final Map<MatcherKey, MultiStringMatcher> MATCHERS = new ConcurrentHashMap<>();
+
   public static String join( String glue, Object[] charSequences )
   {
     return join( glue, Arrays.asList( charSequences ) );
@@ -1346,6 +1360,51 @@ public class ManStringUtil
     return containsAny( str, searchChars.toCharArray() );
   }
 
+  /**
+   * <p>Checks if the String contains any of the Strings in the given array.</p>
+   * <p>
+   * <p>A <code>null</code> String will return <code>false</code>.
+   * A <code>null</code> search array will return <code>false</code>.
+   * A <code>null</code> search array entry will be ignored, but a search
+   * array containing "" will return <code>true</code>.</p>
+   * <p>
+   * <pre>
+   * ManStringUtil.containsAny(null, *)                     = false
+   * ManStringUtil.containsAny(*, null)                     = false
+   * ManStringUtil.containsAny(*, [])                       = false
+   * ManStringUtil.containsAny("zzabyycdxx", ["ab","cd"])   = true
+   * ManStringUtil.containsAny("zzabyycdxx", ["mn","op"])   = false
+   * ManStringUtil.containsAny("", [""])                    = true
+   * ManStringUtil.containsAny("", ["a"])                   = false
+   * </pre>
+   *
+   * @param str        the String to check, may be null
+   * @param searchStrs the Strings to search for, may be null
+   *
+   * @return <code>true</code> if any of the Strings are found, <code>false</code> if no match or null input
+   */
+  public static boolean containsAny( String str, String[] searchStrs )
+  {
+    if( (str == null) || (searchStrs == null) )
+    {
+      return false;
+    }
+
+    if( searchStrs.length >= MATCHER_THRESHOLD )
+    {
+      return getMatcher( searchStrs, null ).containsAny( str );
+    }
+
+    for( String search: searchStrs )
+    {
+      if( search != null && str.contains( search ) )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
   // IndexOfAnyBut chars
   //-----------------------------------------------------------------------
 
@@ -1631,6 +1690,11 @@ public class ManStringUtil
     }
     int sz = searchStrs.length;
 
+    if( sz >= MATCHER_THRESHOLD )
+    {
+      return getMatcher( searchStrs, null ).indexOfAny( str );
+    }
+
     // String's can't have a MAX_VALUEth index.
     int ret = Integer.MAX_VALUE;
 
@@ -4121,6 +4185,16 @@ public class ManStringUtil
                                           + replacementLength );
     }
 
+    if( searchLength >= MATCHER_THRESHOLD )
+    {
+      String result = getMatcher( searchList, replacementList ).replaceEach( text );
+      if( result == text || !repeat )
+      {
+        return result;
+      }
+      return replaceEach( result, searchList, replacementList, repeat, timeToLive - 1 );
+    }
+
     // keep track of which still have matches
     boolean[] noMoreMatchesForReplIndex = new boolean[searchLength];
 
@@ -4170,6 +4244,10 @@ public class ManStringUtil
     // count the replacement text elements that are larger than their corresponding text being replaced
     for( int i = 0; i < searchList.length; i++ )
     {
+      if( searchList[i] == null || replacementList[i] == null )
+      {
+        continue;
+      }
       int greater = replacementList[i].length() - searchList[i].length();
       if( greater > 0 )
       {
@@ -4236,6 +4314,99 @@ public class ManStringUtil
     return replaceEach( result, searchList, replacementList, repeat, timeToLive - 1 );
   }
 
+  /**
+   * <p>
+   * Compiles search strings for {@link MultiStringMatcher#indexOfAny(String)} and
+   * {@link MultiStringMatcher#containsAny(String)}, which search a text for all of them in a single pass. Use this
+   * instead of {@link #indexOfAny(String, String[])} to search many texts for many strings.
+   * </p>
+   * <p>
+   * A <code>null</code> search string is ignored, an empty one matches at index 0.
+   * </p>
+   *
+   * @param searchList the Strings to search for
+   *
+   * @return a matcher for the search strings, reusable and thread-safe
+   */
+  public static MultiStringMatcher compileMatcher( String[] searchList )
+  {
+    return new MultiStringMatcher( searchList, null );
+  }
+
+  /**
+   * <p>
+   * Compiles search and replacement strings for {@link MultiStringMatcher#replaceEach(String)} and
+   * {@link MultiStringMatcher#replaceEachRepeatedly(String)}, which replace all the search strings in a single pass
+   * over a text. Use this instead of {@link #replaceEach(String, String[], String[])} to replace many strings in
+   * many texts.
+   * </p>
+   * <p>
+   * As with <code>replaceEach</code>, a search string that is null or empty, or whose replacement is null, is ignored.
+   * </p>
+   *
+   * @param searchList      the Strings to search for
+   * @param replacementList the Strings to replace them with
+   *
+   * @return a replacer for the search strings, reusable and thread-safe
+   *
+   * @throws IllegalArgumentException if the lengths of the arrays are not the same
+   */
+  public static MultiStringMatcher compileReplacer( String[] searchList, String[] replacementList )
+  {
+    return new MultiStringMatcher( searchList, replacementList );
+  }
+
+  private static MultiStringMatcher getMatcher( String[] searchList, String[] replacementList )
+  {
+    MultiStringMatcher matcher = MATCHERS.get( new MatcherKey( searchList, replacementList ) );
+    if( matcher == null )
+    {
+      matcher = new MultiStringMatcher( searchList, replacementList );
+      if( MATCHERS.size() >= MATCHER_CACHE_SIZE )
+      {
+        // many distinct lists, start over rather than track their use
+        MATCHERS.clear();
+      }
+      // copy the arrays, callers may change them
+      MATCHERS.put( new MatcherKey( searchList.clone(), replacementList == null ? null : replacementList.clone() ),
+        matcher );
+    }
+    return matcher;
+  }
+
+  private static class MatcherKey
+  {
+    private final String[] _search;
+    private final String[] _replace;
+
+    private MatcherKey( String[] search, String[] replace )
+    {
+      _search = search;
+      _replace = replace;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+      if( this == o )
+      {
+        return true;
+      }
+      if( !(o instanceof MatcherKey) )
+      {
+        return false;
+      }
+      MatcherKey key = (MatcherKey)o;
+      return Arrays.equals( _search, key._search ) && Arrays.equals( _replace, key._replace );
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return 31 * Arrays.hashCode( _search ) + Arrays.hashCode( _replace );
+    }
+  }
+
   // Replace, character based
   //-----------------------------------------------------------------------
 
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.rt.api.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A precompiled set of search strings, optionally paired with replacement strings, matching all of them in a single
+ * pass over the text. This is an Aho-Corasick automaton over {@code char}, the cost of a search is proportional to the
+ * length of the text regardless of the number of search strings.
+ * <p/>
+ * Results are the same as the corresponding {@link ManStringUtil} methods: the earliest match in the text wins and,
+ * of matches starting at the same index, the one listed first wins. Instances are immutable and may be shared between
+ * threads, use {@link ManStringUtil#compileMatcher(String[])} or {@link ManStringUtil#compileReplacer(String[], String[])}
+ * to create them once and reuse them for many texts:
+ * <pre><code>
+ *   MultiStringMatcher scrubber = ManStringUtil.compileReplacer( tokens, masks );
+ *   for( String line: lines ) {
+ *     out.println( scrubber.replaceEach( line ) );
+ *   }
+ * </code></pre>
+ */
+public final class MultiStringMatcher
+{
+  private static final char[] NO_CHARS = {};
+  private static final int[] NO_STATES = {};
+
+  /** search strings by pattern */
+  private final String[] _search;
+  /** replacement strings by pattern, null if compiled for searching only */
+  private final String[] _replace;
+  /** the number of entries in the compiled lists, governs replaceEachRepeatedly() */
+  private final int _listLength;
+  /** true if an empty search string is compiled for searching, it matches at index 0 */
+  private final boolean _matchesEmpty;
+  private final int _maxLength;
+
+  /** sorted transition chars by state */
+  private final char[][] _chars;
+  /** target states by state, parallel to _chars */
+  private final int[][] _targets;
+  /** failure state by state */
+  private final int[] _fail;
+  /** the pattern of the longest search string ending in a state, -1 if none */
+  private final int[] _match;
+
+  MultiStringMatcher( String[] searchList, String[] replacementList )
+  {
+    if( replacementList != null && searchList.length != replacementList.length )
+    {
+      throw new IllegalArgumentException( "Search and Replace array lengths don't match: "
+                                          + searchList.length
+                                          + " vs "
+                                          + replacementList.length );
+    }
+    _listLength = searchList.length;
+
+    // a search string is ignored if it is null, or if it is empty or its replacement is null when replacing
+    List<String> search = new ArrayList<>();
+    List<String> replace = replacementList == null ? null : new ArrayList<>();
+    boolean matchesEmpty = false;
+    for( int i = 0; i < searchList.length; i++ )
+    {
+      String s = searchList[i];
+      if( s == null )
+      {
+        continue;
+      }
+      if( replace == null )
+      {
+        if( s.isEmpty() )
+        {
+          matchesEmpty = true;
+          continue;
+        }
+      }
+      else
+      {
+        if( s.isEmpty() || replacementList[i] == null )
+        {
+          continue;
+        }
+        replace.add( replacementList[i] );
+      }
+      search.add( s );
+    }
+    _search = search.toArray( new String[0] );
+    _replace = replace == null ? null : replace.toArray( new String[0] );
+    _matchesEmpty = matchesEmpty;
+
+    // trie
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> terminal = new ArrayList<>();
+    trie.add( new TreeMap<>() );
+    terminal.add( -1 );
+    int maxLength = 0;
+    for( int p = 0; p < _search.length; p++ )
+    {
+      String s = _search[p];
+      maxLength = Math.max( maxLength, s.length() );
+      int state = 0;
+      for( int i = 0; i < s.length(); i++ )
+      {
+        Integer next = trie.get( state ).get( s.charAt( i ) );
+        if( next == null )
+        {
+          next = trie.size();
+          trie.add( new TreeMap<>() );
+          terminal.add( -1 );
+          trie.get( state ).put( s.charAt( i ), next );
+        }
+        state = next;
+      }
+      if( terminal.get( state ) < 0 )
+      {
+        // of duplicate search strings the first one wins
+        terminal.set( state, p );
+      }
+    }
+    _maxLength = maxLength;
+
+    int size = trie.size();
+    _chars = new char[size][];
+    _targets = new int[size][];
+    _fail = new int[size];
+    _match = new int[size];
+    for( int state = 0; state < size; state++ )
+    {
+      TreeMap<Character, Integer> transitions = trie.get( state );
+      char[] chars = transitions.isEmpty() ? NO_CHARS : new char[transitions.size()];
+      int[] targets = transitions.isEmpty() ? NO_STATES : new int[transitions.size()];
+      int i = 0;
+      for( Map.Entry<Character, Integer> entry: transitions.entrySet() )
+      {
+        chars[i] = entry.getKey();
+        targets[i++] = entry.getValue();
+      }
+      _chars[state] = chars;
+      _targets[state] = targets;
+    }
+
+    // failure links and matches, breadth first so a state's failure state is complete before the state
+    _match[0] = -1;
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    for( int target: _targets[0] )
+    {
+      _fail[target] = 0;
+      queue.add( target );
+    }
+    while( !queue.isEmpty() )
+    {
+      int state = queue.poll();
+      // the longest search string ending here is the state's own, otherwise it is a suffix of it
+      _match[state] = terminal.get( state ) >= 0 ? terminal.get( state ) : _match[_fail[state]];
+      char[] chars = _chars[state];
+      int[] targets = _targets[state];
+      for( int i = 0; i < chars.length; i++ )
+      {
+        _fail[targets[i]] = next( _fail[state], chars[i] );
+        queue.add( targets[i] );
+      }
+    }
+  }
+
+  /**
+   * @return True if {@code text} contains any of the search strings.
+   */
+  public boolean containsAny( String text )
+  {
+    if( text == null )
+    {
+      return false;
+    }
+    if( _matchesEmpty )
+    {
+      return true;
+    }
+    int state = 0;
+    for( int i = 0, length = text.length(); i < length; i++ )
+    {
+      state = next( state, text.charAt( i ) );
+      if( _match[state] >= 0 )
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same as {@link ManStringUtil#indexOfAny(String, String[])} with the compiled search strings.
+   *
+   * @return The first index of any of the search strings in {@code text}, -1 if no match
+   */
+  public int indexOfAny( String text )
+  {
+    if( text == null )
+    {
+      return -1;
+    }
+    if( _matchesEmpty )
+    {
+      return 0;
+    }
+    long found = find( text, 0 );
+    return found < 0 ? -1 : (int)(found >>> 32);
+  }
+
+  /**
+   * Same as {@link ManStringUtil#replaceEach(String, String[], String[])} with the compiled search and replacement
+   * strings.
+   *
+   * @return {@code text} with the replacements processed, the same instance if nothing matched
+   * @throws IllegalStateException if this matcher was compiled without replacement strings
+   */
+  public String replaceEach( String text )
+  {
+    if( _replace == null )
+    {
+      throw new IllegalStateException( "Compiled without replacement strings" );
+    }
+    if( text == null || text.isEmpty() )
+    {
+      return text;
+    }
+
+    long found = find( text, 0 );
+    if( found < 0 )
+    {
+      return text;
+    }
+
+    StringBuilder buf = new StringBuilder( text.length() + text.length() / 8 );
+    int start = 0;
+    while( found >= 0 )
+    {
+      int index = (int)(found >>> 32);
+      int pattern = (int)found;
+      buf.append( text, start, index ).append( _replace[pattern] );
+      start = index + _search[pattern].length();
+      found = find( text, start );
+    }
+    buf.append( text, start, text.length() );
+    return buf.toString();
+  }
+
+  /**
+   * Same as {@link ManStringUtil#replaceEachRepeatedly(String, String[], String[])} with the compiled search and
+   * replacement strings.
+   *
+   * @throws IllegalStateException if replacements are endless due to outputs of one being inputs to another, or if
+   *                               this matcher was compiled without replacement strings
+   */
+  public String replaceEachRepeatedly( String text )
+  {
+    for( int timeToLive = _listLength; ; timeToLive-- )
+    {
+      if( text == null || text.isEmpty() )
+      {
+        return text;
+      }
+      if( timeToLive < 0 )
+      {
+        throw new IllegalStateException( "TimeToLive of " + timeToLive + " is less than 0: " + text );
+      }
+      String result = replaceEach( text );
+      if( result == text )
+      {
+        return text;
+      }
+      text = result;
+    }
+  }
+
+  /**
+   * Finds the earliest match at or after {@code from}, of matches starting at the same index the first pattern wins.
+   *
+   * @return The index of the match in the high 32 bits and its pattern in the low 32 bits, -1 if no match
+   */
+  private long find( String text, int from )
+  {
+    if( _search.length == 0 )
+    {
+      return -1;
+    }
+
+    int bestIndex = -1;
+    int bestPattern = -1;
+    int state = 0;
+    for( int i = from, length = text.length(); i < length; i++ )
+    {
+      state = next( state, text.charAt( i ) );
+      int pattern = _match[state];
+      if( pattern >= 0 )
+      {
+        int index = i + 1 - _search[pattern].length();
+        if( bestPattern < 0 || index < bestIndex || (index == bestIndex && pattern < bestPattern) )
+        {
+          bestIndex = index;
+          bestPattern = pattern;
+        }
+      }
+      if( bestPattern >= 0 && i + 1 - bestIndex >= _maxLength )
+      {
+        // no search string is long enough to start at or before bestIndex and end after i
+        break;
+      }
+    }
+    return bestPattern < 0 ? -1 : ((long)bestIndex << 32) | bestPattern;
+  }
+
+  private int next( int state, char c )
+  {
+    while( true )
+    {
+      char[] chars = _chars[state];
+      int i = chars.length == 0 ? -1 : binarySearch( chars, c );
+      if( i >= 0 )
+      {
+        return _targets[state][i];
+      }
+      if( state == 0 )
+      {
+        return 0;
+      }
+      state = _fail[state];
+    }
+  }
+
+  private static int binarySearch( char[] chars, char c )
+  {
+    int low = 0;
+    int high = chars.length - 1;
+    while( low <= high )
+    {
+      int mid = (low + high) >>> 1;
+      char midChar = chars[mid];
+      if( midChar < c )
+      {
+        low = mid + 1;
+      }
+      else if( midChar > c )
+      {
+        high = mid - 1;
+      }
+      else
+      {
+        return mid;
+      }
+    }
+    return -1;
+  }
+}
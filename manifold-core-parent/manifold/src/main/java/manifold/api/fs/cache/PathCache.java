@@ -16,10 +16,13 @@
 
 package manifold.api.fs.cache;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -27,9 +30,11 @@ import java.util.function.Supplier;
 import manifold.api.fs.IDirectory;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IFileUtil;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
 import manifold.api.host.AbstractTypeSystemListener;
 import manifold.api.host.IModule;
 import manifold.api.host.RefreshRequest;
+import manifold.api.util.PerfLogUtil;
 import manifold.rt.api.util.ManIdentifierUtil;
 import manifold.rt.api.util.ManClassUtil;
 import manifold.api.util.cache.FqnCache;
@@ -59,15 +64,50 @@ public class PathCache
 
   private void init()
   {
+    long before = System.nanoTime();
+    PathCacheIndex index = PathCacheIndex.load();
+    int indexed = 0;
+    int scanned = 0;
     Map<String, FqnCache<IFile>> filesByExtension = new ConcurrentHashMap<>();
     for( IDirectory sourceEntry : _pathSupplier.get() )
     {
-      if( IFileUtil.hasSourceFiles( sourceEntry ) )
+      if( index == null || !PathCacheIndex.isIndexable( sourceEntry ) )
       {
-        addTypesForFiles( "", sourceEntry, filesByExtension );
+        scanned++;
+        if( IFileUtil.hasSourceFiles( sourceEntry ) )
+        {
+          addTypesForFiles( "", sourceEntry, filesByExtension );
+        }
+        continue;
+      }
+
+      PathCacheIndex.Root root = index.find( sourceEntry );
+      if( root != null )
+      {
+        indexed++;
+      }
+      else
+      {
+        scanned++;
+        boolean hasSources = IFileUtil.hasSourceFiles( sourceEntry );
+        List<String> files = new ArrayList<>();
+        if( hasSources )
+        {
+          collectFiles( "", sourceEntry, files );
+        }
+        root = index.put( sourceEntry, hasSources, files );
+      }
+      if( root.hasSources )
+      {
+        addTypesForIndexedFiles( (JarFileDirectoryImpl)sourceEntry, root.files, filesByExtension );
       }
     }
     _filesByExtension = filesByExtension;
+    if( index != null )
+    {
+      index.save();
+    }
+    PerfLogUtil.log( "PathCache init, " + indexed + " indexed and " + scanned + " scanned roots", before );
   }
 
   @SuppressWarnings("unused")
@@ -130,6 +170,62 @@ public class PathCache
     }
   }
 
+  /**
+   * Collects the paths of all files in {@code dir} and its package directories, relative to the root. Unlike
+   * {@link #addTypesForFiles} ignored paths are included, whether a path is ignored depends on the host and is
+   * applied when the index is read.
+   */
+  private void collectFiles( String relativePath, IDirectory dir, List<String> files )
+  {
+    for( IFile file : dir.listFiles() )
+    {
+      files.add( relativePath + file.getName() );
+    }
+    for( IDirectory subdir : dir.listDirs() )
+    {
+      if( isValidPackage( subdir ) )
+      {
+        collectFiles( relativePath + subdir.getName() + '/', subdir, files );
+      }
+    }
+  }
+
+  /**
+   * Adds the files the index lists for a jar root, the jar is not opened, see {@link JarFileDirectoryImpl#indexedFile}.
+   */
+  private void addTypesForIndexedFiles( JarFileDirectoryImpl root, List<String> files, Map<String, FqnCache<IFile>> filesByExtension )
+  {
+    Map<String, Boolean> ignoredPackages = new HashMap<>();
+    for( String path : files )
+    {
+      int iSlash = path.lastIndexOf( '/' );
+      String pkg = iSlash < 0 ? "" : path.substring( 0, iSlash ).replace( '/', '.' );
+      if( !isPackageIgnored( pkg, ignoredPackages ) )
+      {
+        IFile file = root.indexedFile( path );
+        String fqn = qualifyName( pkg, file.getName() );
+        addToExtension( fqn, file, filesByExtension );
+        addToReverseMap( file, fqn );
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #addTypesForFiles}, a package is skipped if it or any of its enclosing packages is ignored.
+   */
+  private boolean isPackageIgnored( String pkg, Map<String, Boolean> ignoredPackages )
+  {
+    Boolean ignored = ignoredPackages.get( pkg );
+    if( ignored == null )
+    {
+      int iDot = pkg.lastIndexOf( '.' );
+      ignored = (!pkg.isEmpty() && isPackageIgnored( iDot < 0 ? "" : pkg.substring( 0, iDot ), ignoredPackages )) ||
+                _module.getHost().isPathIgnored( pkg );
+      ignoredPackages.put( pkg, ignored );
+    }
+    return ignored;
+  }
+
   private boolean isValidPackage( IDirectory subdir )
   {
     // Exclude directories that are not actual packages such as META-INF that exist in jar files
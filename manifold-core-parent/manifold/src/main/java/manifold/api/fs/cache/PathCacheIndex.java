@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
+import manifold.api.util.IssueMsg;
+import manifold.internal.javac.JavacPlugin;
+
+/**
+ * An on-disk index of the files {@link PathCache} finds in jar roots, keyed by each jar's absolute path, size, and
+ * modification time. A jar whose key matches its index entry is not opened or walked, its files are resolved directly
+ * from the index and the jar is opened only when one of them is read; only new or changed jars are rescanned. Directory roots are always scanned, a directory's
+ * modification time does not reflect changes in its subdirectories.
+ * <p/>
+ * The index is off by default. Enable it with {@code -Dmanifold.pathcache.index=true} to use
+ * {@code ${java.io.tmpdir}/manifold/pathcache.idx}, or set the property to the path of the index file to use instead.
+ * The file may be shared by concurrent processes, it is always replaced atomically.
+ */
+final class PathCacheIndex
+{
+  static final String INDEX_PROPERTY = "manifold.pathcache.index";
+  private static final int VERSION = 1;
+
+  private final File _indexFile;
+  private final Map<String, Root> _roots;
+  private final Map<String, Root> _updated;
+
+  /**
+   * @return The index configured via {@link #INDEX_PROPERTY} or null if the index is not enabled
+   */
+  static PathCacheIndex load()
+  {
+    String value = System.getProperty( INDEX_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return null;
+    }
+
+    File indexFile = value.equalsIgnoreCase( "true" )
+      ? new File( System.getProperty( "java.io.tmpdir" ), "manifold" + File.separator + "pathcache.idx" )
+      : new File( value );
+    return load( indexFile );
+  }
+
+  static PathCacheIndex load( File indexFile )
+  {
+    return new PathCacheIndex( indexFile, read( indexFile ) );
+  }
+
+  private PathCacheIndex( File indexFile, Map<String, Root> roots )
+  {
+    _indexFile = indexFile;
+    _roots = roots;
+    _updated = new HashMap<>();
+  }
+
+  static boolean isIndexable( IDirectory root )
+  {
+    return root instanceof JarFileDirectoryImpl;
+  }
+
+  /**
+   * @return The index entry for {@code root} if it is current with the file, otherwise null
+   */
+  Root find( IDirectory root )
+  {
+    if( !isIndexable( root ) )
+    {
+      return null;
+    }
+
+    File file = root.toJavaFile();
+    Root entry = _roots.get( file.getAbsolutePath() );
+    return entry != null && entry.isCurrent( file ) ? entry : null;
+  }
+
+  Root put( IDirectory root, boolean hasSources, List<String> files )
+  {
+    File file = root.toJavaFile();
+    Root entry = new Root( file.getAbsolutePath(), file.length(), file.lastModified(), hasSources, files );
+    _roots.put( entry.path, entry );
+    _updated.put( entry.path, entry );
+    return entry;
+  }
+
+  /**
+   * Writes the entries put since loading. The file is reread first so that entries written meanwhile by other
+   * processes are kept, entries for jars that no longer exist are dropped.
+   */
+  void save()
+  {
+    if( _updated.isEmpty() )
+    {
+      return;
+    }
+
+    Map<String, Root> roots = read( _indexFile );
+    roots.putAll( _updated );
+    roots.values().removeIf( root -> !new File( root.path ).isFile() );
+
+    File dir = _indexFile.getAbsoluteFile().getParentFile();
+    File tmp = null;
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      tmp = File.createTempFile( _indexFile.getName(), ".tmp", dir );
+      try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tmp ) ) ) )
+      {
+        out.writeInt( VERSION );
+        out.writeInt( roots.size() );
+        for( Root root : roots.values() )
+        {
+          root.write( out );
+        }
+      }
+      try
+      {
+        Files.move( tmp.toPath(), _indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      }
+      catch( AtomicMoveNotSupportedException e )
+      {
+        Files.move( tmp.toPath(), _indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+      _updated.clear();
+    }
+    catch( IOException e )
+    {
+      // the index is only an optimization, a failure to write it costs a rescan next time
+      JavacPlugin javacPlugin = JavacPlugin.instance();
+      if( javacPlugin != null )
+      {
+        javacPlugin.getIssueReporter().reportWarning(
+          IssueMsg.MSG_COULD_NOT_WRITE_PATHCACHE_INDEX.get( _indexFile, e.getMessage() ) );
+      }
+      if( tmp != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        tmp.delete();
+      }
+    }
+  }
+
+  private static Map<String, Root> read( File indexFile )
+  {
+    Map<String, Root> roots = new HashMap<>();
+    if( !indexFile.isFile() )
+    {
+      return roots;
+    }
+
+    try( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( indexFile ) ) ) )
+    {
+      if( in.readInt() != VERSION )
+      {
+        return roots;
+      }
+      int count = in.readInt();
+      for( int i = 0; i < count; i++ )
+      {
+        Root root = Root.read( in );
+        roots.put( root.path, root );
+      }
+    }
+    catch( IOException e )
+    {
+      // unreadable or truncated, start over
+      roots.clear();
+    }
+    return roots;
+  }
+
+  static final class Root
+  {
+    final String path;
+    final long size;
+    final long lastModified;
+    final boolean hasSources;
+    /**
+     * Paths of all files in valid package directories relative to the root, in scan order
+     */
+    final List<String> files;
+
+    private Root( String path, long size, long lastModified, boolean hasSources, List<String> files )
+    {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.hasSources = hasSources;
+      this.files = files;
+    }
+
+    boolean isCurrent( File file )
+    {
+      return file.length() == size && file.lastModified() == lastModified;
+    }
+
+    private void write( DataOutputStream out ) throws IOException
+    {
+      out.writeUTF( path );
+      out.writeLong( size );
+      out.writeLong( lastModified );
+      out.writeBoolean( hasSources );
+      out.writeInt( files.size() );
+      for( String file : files )
+      {
+        out.writeUTF( file );
+      }
+    }
+
+    private static Root read( DataInputStream in ) throws IOException
+    {
+      String path = in.readUTF();
+      long size = in.readLong();
+      long lastModified = in.readLong();
+      boolean hasSources = in.readBoolean();
+      int count = in.readInt();
+      List<String> files = count == 0 ? Collections.emptyList() : new ArrayList<>( count );
+      for( int i = 0; i < count; i++ )
+      {
+        files.add( in.readUTF() );
+      }
+      return new Root( path, size, lastModified, hasSources, files );
+    }
+  }
+}
@@ -33,6 +33,11 @@ public class JarEntryFileImpl extends JarEntryResourceImpl implements IFile
   @Override
   public InputStream openInputStream() throws IOException
   {
+    if( _entry == null && exists() )
+    {
+      // an indexed file, processing the jar's entries sets its entry
+      _jarFile.getJarFile();
+    }
     if( _entry == null )
     {
       throw new IOException();
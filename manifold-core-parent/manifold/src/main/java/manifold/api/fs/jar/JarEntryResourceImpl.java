@@ -55,6 +55,15 @@ public abstract class JarEntryResourceImpl implements IResource
     setExists();
   }
 
+  /**
+   * Marks a resource the PathCache index lists as existing before the jar's entries are processed, see
+   * {@link JarFileDirectoryImpl#indexedFile(String)}.
+   */
+  void setIndexed()
+  {
+    setExists();
+  }
+
   private void setExists()
   {
     _exists = true;
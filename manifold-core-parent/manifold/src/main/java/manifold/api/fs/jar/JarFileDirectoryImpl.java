@@ -46,6 +46,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   private IDirectory _parent;
   private URI _uri;
   private ResourcePath _path;
+  private volatile boolean _processed;
 
   public JarFileDirectoryImpl( IFileSystem fileSystem, File file )
   {
@@ -54,23 +55,45 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
     _childFiles = new ArrayList<>();
     _childDirs = new ArrayList<>();
     _file = file;
+  }
+
+  /**
+   * The jar is opened and its entries processed on first access to its contents, not on construction. Jars on the
+   * class path that are never listed or read, such as those the PathCache index knows have no source files, are
+   * never opened.
+   */
+  private void processEntries()
+  {
+    if( _processed )
+    {
+      return;
+    }
 
-    if( file.exists() )
+    synchronized( this )
     {
-      try
+      if( _processed )
       {
-        _jarFile = new JarFile( file );
-        Enumeration<JarEntry> entries = _jarFile.entries();
-        while( entries.hasMoreElements() )
-        {
-          JarEntry e = entries.nextElement();
-          processJarEntry( e );
-        }
+        return;
       }
-      catch( IOException e )
+
+      if( _file.exists() )
       {
-        throw new RuntimeException( e );
+        try
+        {
+          _jarFile = new JarFile( _file );
+          Enumeration<JarEntry> entries = _jarFile.entries();
+          while( entries.hasMoreElements() )
+          {
+            JarEntry e = entries.nextElement();
+            processJarEntry( e );
+          }
+        }
+        catch( IOException e )
+        {
+          throw new RuntimeException( e );
+        }
       }
+      _processed = true;
     }
   }
 
@@ -92,14 +115,14 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
       String name = pathComponents.get( 0 );
       if( e.isDirectory() )
       {
-        JarEntryDirectoryImpl resource = getOrCreateDirectory( name );
+        JarEntryDirectoryImpl resource = getOrCreateDirectory0( name );
         resource.setEntry( e );
       }
       else
       {
         try
         {
-          JarEntryFileImpl resource = getOrCreateFile( name );
+          JarEntryFileImpl resource = getOrCreateFile0( name );
           resource.setEntry( e );
         }
         catch( UnsupportedOperationException uoe )
@@ -113,7 +136,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
     }
     else
     {
-      JarEntryDirectoryImpl parentDirectory = getOrCreateDirectory( pathComponents.get( 0 ) );
+      JarEntryDirectoryImpl parentDirectory = getOrCreateDirectory0( pathComponents.get( 0 ) );
       for( int i = 1; i < pathComponents.size() - 1; i++ )
       {
         parentDirectory = parentDirectory.getOrCreateDirectory( pathComponents.get( i ) );
@@ -132,8 +155,40 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
     }
   }
 
+  /**
+   * Resolves a file the PathCache index lists at {@code path} in this jar without opening the jar. The file exists
+   * as far as the caller is concerned, its jar entry is resolved when the jar's entries are processed e.g., when the
+   * file is first read.
+   *
+   * @param path A '/' separated path relative to the root of the jar
+   */
+  public IFile indexedFile( String path )
+  {
+    synchronized( this )
+    {
+      List<String> pathComponents = IDirectoryUtil.splitPath( path );
+      JarEntryResourceImpl file;
+      if( pathComponents.size() == 1 )
+      {
+        file = getOrCreateFile0( pathComponents.get( 0 ) );
+      }
+      else
+      {
+        JarEntryDirectoryImpl parentDirectory = getOrCreateDirectory0( pathComponents.get( 0 ) );
+        for( int i = 1; i < pathComponents.size() - 1; i++ )
+        {
+          parentDirectory = parentDirectory.getOrCreateDirectory( pathComponents.get( i ) );
+        }
+        file = parentDirectory.getOrCreateFile( pathComponents.get( pathComponents.size() - 1 ) );
+      }
+      file.setIndexed();
+      return (IFile)file;
+    }
+  }
+
   public InputStream getInputStream( JarEntry entry ) throws IOException
   {
+    processEntries();
     return _jarFile.getInputStream( entry );
   }
 
@@ -141,6 +196,12 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
 
   @Override
   public JarEntryDirectoryImpl getOrCreateDirectory( String relativeName )
+  {
+    processEntries();
+    return getOrCreateDirectory0( relativeName );
+  }
+
+  private JarEntryDirectoryImpl getOrCreateDirectory0( String relativeName )
   {
     IResource resource = _resources.get( relativeName );
     if( resource instanceof IFile )
@@ -159,6 +220,12 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
 
   @Override
   public JarEntryFileImpl getOrCreateFile( String relativeName )
+  {
+    processEntries();
+    return getOrCreateFile0( relativeName );
+  }
+
+  private JarEntryFileImpl getOrCreateFile0( String relativeName )
   {
     IResource resource = _resources.get( relativeName );
     if( resource instanceof IDirectory )
@@ -200,6 +267,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public List<? extends IDirectory> listDirs()
   {
+    processEntries();
     List<IDirectory> results = new ArrayList<>();
     for( IDirectory child : _childDirs )
     {
@@ -214,6 +282,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
   @Override
   public List<? extends IFile> listFiles()
   {
+    processEntries();
     List<IFile> results = new ArrayList<>();
     for( IFile child : _childFiles )
     {
@@ -299,6 +368,7 @@ public class JarFileDirectoryImpl implements IJarFileDirectory
 
   public JarFile getJarFile()
   {
+    processEntries();
     return _jarFile;
   }
 
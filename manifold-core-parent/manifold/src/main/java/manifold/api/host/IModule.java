@@ -36,6 +36,7 @@ import manifold.api.fs.IFileSystem;
 import manifold.api.fs.cache.PathCache;
 import manifold.api.type.ContributorKind;
 import manifold.api.type.ITypeManifold;
+import manifold.api.util.Profiler;
 import manifold.rt.api.util.ServiceUtil;
 
 /**
@@ -105,11 +106,16 @@ public interface IModule
     Set<ITypeManifold> typeManifolds = getTypeManifolds();
     for( ITypeManifold tm : typeManifolds )
     {
-      if( (predicate == null || predicate.test( tm )) &&
-          tm.isType( fqn ) )
+      if( predicate == null || predicate.test( tm ) )
       {
-        tms = tms == null ? new HashSet<>( 2 ) : tms;
-        tms.add( tm );
+        long start = Profiler.start();
+        boolean isType = tm.isType( fqn );
+        Profiler.count( "isType", tm.getClass(), start );
+        if( isType )
+        {
+          tms = tms == null ? new HashSet<>( 2 ) : tms;
+          tms.add( tm );
+        }
       }
     }
     return tms == null ? Collections.emptySet() : tms;
@@ -117,6 +117,20 @@ public interface ITypeManifold extends IFileConnected, ISelfCompiled
 
   List<IFile> findFilesForType( String fqn );
 
+  /**
+   * Is the source this type manifold contributes for a type fully determined by the contents of the resource files
+   * this type manifold handles? That is the type's own files and any other files of this type manifold it may read,
+   * such as a schema referenced from another file. If so, contributed source may be cached across builds, see
+   * {@code manifold.contribution.cache}.
+   * <p/>
+   * Return false if contributed source also depends on anything else such as Java types, a database, or remote
+   * resources.
+   */
+  default boolean isContributionCacheable()
+  {
+    return false;
+  }
+
   /**
    * Clear all cached data
    */
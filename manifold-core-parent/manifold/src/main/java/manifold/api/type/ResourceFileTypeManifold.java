@@ -23,9 +23,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import javax.tools.DiagnosticListener;
@@ -37,6 +40,7 @@ import manifold.api.host.IModule;
 import manifold.api.host.RefreshKind;
 import manifold.api.host.RefreshRequest;
 import manifold.api.service.BaseService;
+import manifold.api.util.Profiler;
 import manifold.rt.api.Array;
 import manifold.rt.api.util.ManClassUtil;
 import manifold.rt.api.util.StreamUtil;
@@ -105,7 +109,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
       // Map primary type to model
       if( primaryFqn.charAt( 0 ) != '-' )
       {
-        model = LocklessLazyVar.make( () -> _modelMapper.apply( primaryFqn, files ) );
+        model = LocklessLazyVar.make( () -> buildModel( primaryFqn, files ) );
         fqnToModel.add( primaryFqn, model );
         primaryFqnNoMinus = primaryFqn;
       }
@@ -121,7 +125,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
         {
           if( model == null )
           {
-            model = LocklessLazyVar.make( () -> _modelMapper.apply( primaryFqnNoMinus, files ) );
+            model = LocklessLazyVar.make( () -> buildModel( primaryFqnNoMinus, files ) );
           }
           fqnToModel.add( addFqn, model ); // use same model as base fqn
         }
@@ -183,6 +187,19 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
     return primaryFqnToFiles;
   }
 
+  private M buildModel( String fqn, Set<IFile> files )
+  {
+    long start = Profiler.start();
+    try
+    {
+      return _modelMapper.apply( fqn, files );
+    }
+    finally
+    {
+      Profiler.event( "model", getClass(), fqn, start );
+    }
+  }
+
   protected boolean isDuplicate( IFile file, Set<IFile> files )
   {
     Set<String> fqnForFile = getModule().getPathCache().getFqnForFile( file );
@@ -479,6 +496,57 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
     _fqnToModel.clear();
   }
 
+  /**
+   * Can this manifold's models be built on worker threads ahead of the compiler asking for them? Override to return
+   * true if building a model is thread-safe, in particular if it does not use the Java compiler. See
+   * {@link #prewarmModels(Executor)}.
+   */
+  public boolean isModelPrewarmable()
+  {
+    return false;
+  }
+
+  /**
+   * Builds the models not built yet on {@code executor}, so that they are ready when the compiler asks for them. Type
+   * names are resolved on the calling thread. A model the compiler asks for while its build is pending or in progress may
+   * be built again on the compiler's thread, but only the model published first is kept and used, see
+   * {@link LocklessLazyVar}. A build that fails is left for the compiler to repeat and report.
+   *
+   * @return The builds submitted, each completes with its build time in nanoseconds
+   */
+  public List<CompletableFuture<Long>> prewarmModels( Executor executor )
+  {
+    FqnCache<LocklessLazyVar<M>> fqnCache = _fqnToModel.get();
+    Set<LocklessLazyVar<M>> models = Collections.newSetFromMap( new IdentityHashMap<>() );
+    for( String fqn : fqnCache.getFqns() )
+    {
+      LocklessLazyVar<M> lazyModel = fqnCache.get( fqn );
+      if( lazyModel != null && !lazyModel.isLoaded() )
+      {
+        // a model backs all its types
+        models.add( lazyModel );
+      }
+    }
+
+    List<CompletableFuture<Long>> builds = new ArrayList<>( models.size() );
+    for( LocklessLazyVar<M> lazyModel : models )
+    {
+      builds.add( CompletableFuture.supplyAsync( () -> {
+        long before = System.nanoTime();
+        try
+        {
+          lazyModel.get();
+        }
+        catch( Throwable ignore )
+        {
+          // the compiler rebuilds the model and reports the failure
+        }
+        return System.nanoTime() - before;
+      }, executor ) );
+    }
+    return builds;
+  }
+
   public static String getContent( IFile file )
   {
     if( file != null )
@@ -593,7 +661,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
       }
       else
       {
-        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> _modelMapper.apply( type, files ) ) );
+        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> buildModel( type, files ) ) );
       }
     }
 
@@ -609,7 +677,7 @@ public abstract class ResourceFileTypeManifold<M extends IModel> extends BaseSer
       }
       else
       {
-        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> _modelMapper.apply( type, files ) ) );
+        _fqnToModel.get().add( type, LocklessLazyVar.make( () -> buildModel( type, files ) ) );
       }
     }
   }
@@ -24,6 +24,7 @@ import java.util.List;
 public class IssueMsg
 {
   public static final IssueMsg MSG_COULD_NOT_FIND_TYPE_FOR_FILE = new IssueMsg( "Could not find type for file: {0}" );
+  public static final IssueMsg MSG_COULD_NOT_WRITE_PATHCACHE_INDEX = new IssueMsg( "Could not write PathCache index {0}: {1}" );
 
   public static final IssueMsg MSG_AUTO_CANNOT_INFER_WO_INIT = new IssueMsg( "Cannot infer 'auto' variable type without initializer" );
   public static final IssueMsg MSG_AUTO_CANNOT_RETURN_AUTO_FROM_ABSTRACT_METHOD = new IssueMsg( "Cannot return 'auto' from abstract method" );
@@ -41,6 +41,8 @@ public class PerfLogUtil
 
   public static void log( String label, long nanosBefore )
   {
+    Profiler.event( "perf", label, null, nanosBefore );
+
     //noinspection ConstantConditions
     if( !PERF.get() )
     {
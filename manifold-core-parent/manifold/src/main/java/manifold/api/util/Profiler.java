@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records where compilation spends its time in manifold: type manifold {@code isType()} calls, model builds, and
+ * source contributions per type manifold, javac task phases per file, and the extension transformer per class.
+ * <p/>
+ * The recording is written as a Chrome trace-event file when compilation finishes, and the compiler reports the file
+ * in a note, see {@link #write()}. Open it in {@code chrome://tracing} or
+ * <a href="https://ui.perfetto.dev">Perfetto</a>. Events are complete events ({@code "ph": "X"}) on the thread they
+ * ran on, {@code isType()} calls are too frequent and short to trace individually and are only counted. In addition
+ * to {@code traceEvents} the file has a {@code manifold} object with the total time and count per category and name,
+ * and the total time per file and category, slowest first. Totals add up durations, for events that overlap, such as
+ * javac's ENTER of each file, they exceed the wall time.
+ * <p/>
+ * Profiling is off by default. Enable it with {@code -Dmanifold.perf.trace=true} to write
+ * {@code ${java.io.tmpdir}/manifold/trace-<time>-<pid>-<id>.json}, or set the property to an existing directory to
+ * write to instead, or to the file to write. Build tools may load manifold in more than one class loader, each
+ * records and writes separately, so prefer a directory. When compiling with Maven or Gradle the compiler usually runs
+ * in the build's JVM, pass the property to it e.g., via {@code MAVEN_OPTS}.
+ */
+public final class Profiler
+{
+  public static final String TRACE_PROPERTY = "manifold.perf.trace";
+  /**
+   * Max trace events kept, past that events are only totaled
+   */
+  static final int MAX_EVENTS = 2_000_000;
+
+  private static final Profiler INSTANCE = make();
+
+  private final File _file;
+  private final long _origin;
+  private final Queue<Event> _events;
+  private final AtomicInteger _eventCount;
+  private final Map<String, Total> _totals;
+  private final Map<String, Map<String, LongAdder>> _fileTotals;
+  private final LongAdder _recorded;
+  /** the number of records when last written */
+  private long _written;
+
+  private static Profiler make()
+  {
+    String value = System.getProperty( TRACE_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return null;
+    }
+
+    File file = value.equalsIgnoreCase( "true" )
+      ? new File( System.getProperty( "java.io.tmpdir" ), "manifold" )
+      : new File( value );
+    if( file.isDirectory() || value.equalsIgnoreCase( "true" ) )
+    {
+      // unique per JVM and class loader, build tools may load manifold in more than one
+      file = new File( file, "trace-" + System.currentTimeMillis() + '-' + getPid() + '-' +
+                             Integer.toHexString( System.identityHashCode( Profiler.class ) ) + ".json" );
+    }
+    return new Profiler( file );
+  }
+
+  Profiler( File file )
+  {
+    _file = file;
+    _origin = System.nanoTime();
+    _events = new ConcurrentLinkedQueue<>();
+    _eventCount = new AtomicInteger();
+    _totals = new ConcurrentHashMap<>();
+    _fileTotals = new ConcurrentHashMap<>();
+    _recorded = new LongAdder();
+  }
+
+  public static boolean isEnabled()
+  {
+    return INSTANCE != null;
+  }
+
+  /**
+   * @return The start time to pass to {@code event()} or {@code count()}, 0 if profiling is not enabled
+   */
+  public static long start()
+  {
+    return INSTANCE == null ? 0 : System.nanoTime();
+  }
+
+  /**
+   * Records a trace event from {@code startNanos} to now.
+   *
+   * @param category The kind of work e.g., {@code "contribute"}
+   * @param name     What did the work e.g., the type manifold's class name
+   * @param file     The file or type the work was for, or null
+   */
+  public static void event( String category, String name, String file, long startNanos )
+  {
+    if( INSTANCE != null )
+    {
+      INSTANCE.record( category, name, file, startNanos, System.nanoTime(), true );
+    }
+  }
+
+  /**
+   * Same as {@link #event(String, String, String, long)}, named after {@code cls}.
+   */
+  public static void event( String category, Class<?> cls, String file, long startNanos )
+  {
+    if( INSTANCE != null )
+    {
+      INSTANCE.record( category, cls.getName(), file, startNanos, System.nanoTime(), true );
+    }
+  }
+
+  /**
+   * Adds the time from {@code startNanos} to now to the totals, without a trace event. For frequent, short calls.
+   */
+  public static void count( String category, Class<?> cls, long startNanos )
+  {
+    if( INSTANCE != null )
+    {
+      INSTANCE.record( category, cls.getName(), null, startNanos, System.nanoTime(), false );
+    }
+  }
+
+  /**
+   * Writes the recording so far, replacing the file written before. Compilation may finish more than once in a javac
+   * task, the file is written again only if more was recorded since.
+   *
+   * @return The file written, or null if profiling is not enabled or nothing was recorded since the last write
+   */
+  public static File write() throws IOException
+  {
+    return INSTANCE == null ? null : INSTANCE.writeIfRecorded();
+  }
+
+  synchronized File writeIfRecorded() throws IOException
+  {
+    long recorded = _recorded.sum();
+    if( recorded == _written )
+    {
+      return null;
+    }
+    writeFile();
+    _written = recorded;
+    return _file;
+  }
+
+  void record( String category, String name, String file, long startNanos, long endNanos, boolean trace )
+  {
+    _recorded.increment();
+    long nanos = endNanos - startNanos;
+    Total total = _totals.computeIfAbsent( category + '\0' + name, __ -> new Total( category, name ) );
+    total.count.increment();
+    total.nanos.add( nanos );
+
+    if( file != null )
+    {
+      _fileTotals.computeIfAbsent( file, __ -> new ConcurrentHashMap<>() )
+        .computeIfAbsent( category, __ -> new LongAdder() ).add( nanos );
+    }
+
+    if( trace && _eventCount.incrementAndGet() <= MAX_EVENTS )
+    {
+      Thread thread = Thread.currentThread();
+      _events.add( new Event( category, name, file, thread.getId(), startNanos - _origin, nanos ) );
+    }
+  }
+
+  private void writeFile() throws IOException
+  {
+    File dir = _file.getAbsoluteFile().getParentFile();
+    File tmp = null;
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      tmp = File.createTempFile( _file.getName(), ".tmp", dir );
+      try( Writer out = new BufferedWriter( new OutputStreamWriter( Files.newOutputStream( tmp.toPath() ), UTF_8 ) ) )
+      {
+        write( out );
+      }
+      try
+      {
+        Files.move( tmp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      }
+      catch( AtomicMoveNotSupportedException e )
+      {
+        Files.move( tmp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+    }
+    catch( IOException e )
+    {
+      if( tmp != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        tmp.delete();
+      }
+      throw new IOException( "Failed to write manifold profile " + _file + ": " + e.getMessage(), e );
+    }
+  }
+
+  void write( Writer out ) throws IOException
+  {
+    out.write( "{\"displayTimeUnit\":\"ms\",\"traceEvents\":[" );
+    boolean first = true;
+    for( Event event : _events )
+    {
+      out.write( first ? "\n" : ",\n" );
+      first = false;
+      out.write( "{\"ph\":\"X\",\"pid\":1,\"tid\":" + event.tid +
+                 ",\"ts\":" + micros( event.startNanos ) + ",\"dur\":" + micros( event.nanos ) +
+                 ",\"cat\":" + quote( event.category ) + ",\"name\":" + quote( event.name ) );
+      if( event.file != null )
+      {
+        out.write( ",\"args\":{\"file\":" + quote( event.file ) + "}" );
+      }
+      out.write( "}" );
+    }
+    out.write( "\n],\n\"manifold\":{\"droppedEvents\":" + Math.max( 0, _eventCount.get() - MAX_EVENTS ) );
+
+    out.write( ",\n\"totals\":[" );
+    List<Total> totals = new ArrayList<>( _totals.values() );
+    totals.sort( Comparator.comparingLong( (Total total) -> total.nanos.sum() ).reversed() );
+    first = true;
+    for( Total total : totals )
+    {
+      out.write( first ? "\n" : ",\n" );
+      first = false;
+      out.write( "{\"cat\":" + quote( total.category ) + ",\"name\":" + quote( total.name ) +
+                 ",\"count\":" + total.count.sum() + ",\"ms\":" + millis( total.nanos.sum() ) + "}" );
+    }
+
+    out.write( "\n],\n\"files\":[" );
+    Map<String, Long> fileNanos = new HashMap<>();
+    _fileTotals.forEach( ( file, cats ) -> fileNanos.put( file, cats.values().stream().mapToLong( LongAdder::sum ).sum() ) );
+    List<String> files = new ArrayList<>( fileNanos.keySet() );
+    files.sort( Comparator.comparingLong( (String file) -> fileNanos.get( file ) ).reversed() );
+    first = true;
+    for( String file : files )
+    {
+      out.write( first ? "\n" : ",\n" );
+      first = false;
+      out.write( "{\"file\":" + quote( file ) + ",\"ms\":" + millis( fileNanos.get( file ) ) + ",\"cat\":{" );
+      boolean firstCat = true;
+      for( Map.Entry<String, LongAdder> cat : new TreeMap<>( _fileTotals.get( file ) ).entrySet() )
+      {
+        out.write( (firstCat ? "" : ",") + quote( cat.getKey() ) + ":" + millis( cat.getValue().sum() ) );
+        firstCat = false;
+      }
+      out.write( "}}" );
+    }
+    out.write( "\n]}}\n" );
+  }
+
+  private static String micros( long nanos )
+  {
+    return String.valueOf( nanos / 1_000 );
+  }
+
+  private static String millis( long nanos )
+  {
+    return String.format( Locale.ROOT, "%.3f", nanos / 1_000_000.0 );
+  }
+
+  static String quote( String value )
+  {
+    StringBuilder sb = new StringBuilder( value.length() + 2 ).append( '"' );
+    for( int i = 0; i < value.length(); i++ )
+    {
+      char c = value.charAt( i );
+      switch( c )
+      {
+        case '"':
+          sb.append( "\\\"" );
+          break;
+        case '\\':
+          sb.append( "\\\\" );
+          break;
+        case '\n':
+          sb.append( "\\n" );
+          break;
+        case '\r':
+          sb.append( "\\r" );
+          break;
+        case '\t':
+          sb.append( "\\t" );
+          break;
+        default:
+          if( c < 0x20 )
+          {
+            sb.append( String.format( Locale.ROOT, "\\u%04x", (int)c ) );
+          }
+          else
+          {
+            sb.append( c );
+          }
+      }
+    }
+    return sb.append( '"' ).toString();
+  }
+
+  private static String getPid()
+  {
+    // "<pid>@<host>"
+    String name = ManagementFactory.getRuntimeMXBean().getName();
+    int at = name.indexOf( '@' );
+    return at > 0 ? name.substring( 0, at ) : "0";
+  }
+
+  private static final class Event
+  {
+    final String category;
+    final String name;
+    final String file;
+    final long tid;
+    final long startNanos;
+    final long nanos;
+
+    Event( String category, String name, String file, long tid, long startNanos, long nanos )
+    {
+      this.category = category;
+      this.name = name;
+      this.file = file;
+      this.tid = tid;
+      this.startNanos = startNanos;
+      this.nanos = nanos;
+    }
+  }
+
+  private static final class Total
+  {
+    final String category;
+    final String name;
+    final LongAdder count = new LongAdder();
+    final LongAdder nanos = new LongAdder();
+
+    Total( String category, String name )
+    {
+      this.category = category;
+      this.name = name;
+    }
+  }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import manifold.api.fs.IFile;
+import manifold.api.fs.IFileFragment;
+import manifold.api.host.AbstractTypeSystemListener;
+import manifold.api.host.IModule;
+import manifold.api.host.RefreshRequest;
+import manifold.api.type.ContributorKind;
+import manifold.api.type.ITypeManifold;
+import manifold.api.util.cache.FqnCache;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.internal.javac.JavacPlugin;
+import manifold.util.concurrent.LocklessLazyVar;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An on-disk cache of the source type manifolds contribute, so that a build where a type's resource files have not
+ * changed since the last build skips building the model and generating code. Applies only when all the type
+ * manifolds contributing to a type are {@link ITypeManifold#isContributionCacheable() cacheable}.
+ * <p/>
+ * The cache key is a {@link Fingerprint} of:
+ * <ul>
+ *   <li>the type name and the location it is produced for</li>
+ *   <li>the contents of all resource files handled by the contributing type manifolds, not just the type's own
+ *   files, since a type may read others, such as a JSON schema {@code $ref} or a GraphQL schema</li>
+ *   <li>the contents of all resource files handled by the module's supplemental type manifolds, which may
+ *   contribute to inner types e.g., extension classes</li>
+ *   <li>the jars, and their sizes and modification times, of the type manifold classes and of manifold itself</li>
+ *   <li>the compiler's {@code -A} options and the {@code manifold.*} system properties</li>
+ * </ul>
+ * Source is cached only if producing it reported no diagnostics, so a cache hit never hides an error or a warning.
+ * <p/>
+ * The cache is off by default. Enable it with {@code -Dmanifold.contribution.cache=true} to use
+ * {@code ${java.io.tmpdir}/manifold/contributions}, or set the property to the directory to use instead. Only the
+ * latest entry per type is kept, the directory may be deleted at any time.
+ */
+final class ContributionCache
+{
+  static final String CACHE_PROPERTY = "manifold.contribution.cache";
+  private static final String VERSION = "1";
+
+  private final IModule _module;
+  private final File _dir;
+  private final LocklessLazyVar<String> _environment;
+  private final Map<ITypeManifold, String> _resourceFingerprints;
+  @SuppressWarnings({"FieldCanBeLocal", "UnusedDeclaration"})
+  private final CacheClearer _clearer;
+
+  /**
+   * @return The cache configured via {@link #CACHE_PROPERTY} or null if the cache is not enabled
+   */
+  static ContributionCache make( IModule module )
+  {
+    String value = System.getProperty( CACHE_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return null;
+    }
+
+    File dir = value.equalsIgnoreCase( "true" )
+      ? new File( System.getProperty( "java.io.tmpdir" ), "manifold" + File.separator + "contributions" )
+      : new File( value );
+    return new ContributionCache( module, dir );
+  }
+
+  ContributionCache( IModule module, File dir )
+  {
+    _module = module;
+    _dir = dir;
+    _environment = LocklessLazyVar.make( this::fingerprintEnvironment );
+    _resourceFingerprints = new ConcurrentHashMap<>();
+    _module.getHost().addTypeSystemListenerAsWeakRef( module, _clearer = new CacheClearer() );
+  }
+
+  /**
+   * @param producer Produces the source reporting to the error handler it is given
+   */
+  String produce( JavaFileManager.Location location, Set<ITypeManifold> tms, String fqn,
+                  DiagnosticListener<JavaFileObject> errorHandler,
+                  Function<DiagnosticListener<JavaFileObject>, String> producer )
+  {
+    String key = makeKey( location, tms, fqn );
+    if( key == null )
+    {
+      return producer.apply( errorHandler );
+    }
+
+    File cached = new File( new File( _dir, fqn ), key + ".java" );
+    if( cached.isFile() )
+    {
+      try
+      {
+        return new String( Files.readAllBytes( cached.toPath() ), UTF_8 );
+      }
+      catch( IOException ignore )
+      {
+        // fall through and regenerate
+      }
+    }
+
+    boolean[] reported = {false};
+    String source = producer.apply( diagnostic -> {
+      reported[0] = true;
+      errorHandler.report( diagnostic );
+    } );
+    if( !reported[0] && source != null )
+    {
+      write( cached, source );
+    }
+    return source;
+  }
+
+  /**
+   * @return The cache key for {@code fqn} or null if its source may not be cached
+   */
+  private String makeKey( JavaFileManager.Location location, Set<ITypeManifold> tms, String fqn )
+  {
+    if( tms.isEmpty() )
+    {
+      return null;
+    }
+
+    if( tms.stream().anyMatch( tm -> !tm.isContributionCacheable() ) )
+    {
+      return null;
+    }
+
+    // only types backed by resource files, fragments are embedded in Java source and change with it
+    List<IFile> files = _module.getPathCache().findFiles( fqn ).stream()
+      .filter( file -> tms.stream().anyMatch( tm -> tm.handlesFile( file ) ) )
+      .collect( Collectors.toList() );
+    if( files.isEmpty() || files.stream().anyMatch( file -> file instanceof IFileFragment ) )
+    {
+      return null;
+    }
+
+    List<ITypeManifold> sorted = new ArrayList<>( tms );
+    sorted.sort( Comparator.comparing( tm -> tm.getClass().getName() ) );
+
+    Fingerprint fp = new Fingerprint( VERSION )
+      .extend( _environment.get() )
+      .extend( fqn )
+      .extend( location == null ? "" : location.getName() );
+    for( ITypeManifold tm : sorted )
+    {
+      fp.extend( tm.getClass().getName() ).extend( fingerprintResources( tm ) );
+    }
+    for( ITypeManifold tm : _module.getTypeManifolds() )
+    {
+      if( tm.getContributorKind() == ContributorKind.Supplemental && !tms.contains( tm ) )
+      {
+        fp.extend( tm.getClass().getName() ).extend( fingerprintResources( tm ) );
+      }
+    }
+    return fp.toHexString();
+  }
+
+  private String fingerprintResources( ITypeManifold tm )
+  {
+    return _resourceFingerprints.computeIfAbsent( tm, __ -> fingerprintResources( _module, tm ) );
+  }
+
+  /**
+   * The contents of the resource files {@code tm} handles, excluding fragments
+   */
+  static String fingerprintResources( IModule module, ITypeManifold tm )
+  {
+    // sort by extension and name, independent of where the module is
+    Map<String, IFile> files = new TreeMap<>();
+    for( Map.Entry<String, FqnCache<IFile>> entry : module.getPathCache().getExtensionCaches().entrySet() )
+    {
+      String ext = entry.getKey();
+      if( tm.handlesFileExtension( ext ) )
+      {
+        FqnCache<IFile> cache = entry.getValue();
+        for( String fqn : cache.getFqns() )
+        {
+          IFile file = cache.get( fqn );
+          if( file != null && !(file instanceof IFileFragment) && tm.handlesFile( file ) )
+          {
+            files.put( ext + ':' + fqn, file );
+          }
+        }
+      }
+    }
+
+    Fingerprint fp = new Fingerprint();
+    for( Map.Entry<String, IFile> entry : files.entrySet() )
+    {
+      fp.extend( entry.getKey() );
+      try( InputStream in = entry.getValue().openInputStream() )
+      {
+        fp.extend( in );
+      }
+      catch( IOException e )
+      {
+        throw new RuntimeException( e );
+      }
+    }
+    return fp.toHexString();
+  }
+
+  private String fingerprintEnvironment()
+  {
+    Fingerprint fp = new Fingerprint();
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    classes.add( ContributionCache.class );
+    _module.getTypeManifolds().forEach( tm -> classes.add( tm.getClass() ) );
+    for( Class<?> cls : classes )
+    {
+      fp.extend( cls.getName() ).extend( fingerprintClassLocation( cls ) );
+    }
+
+    JavacPlugin javacPlugin = JavacPlugin.instance();
+    if( javacPlugin != null && javacPlugin.getContext() != null )
+    {
+      new TreeMap<>( JavacProcessingEnvironment.instance( javacPlugin.getContext() ).getOptions() )
+        .forEach( ( name, value ) -> fp.extend( name ).extend( String.valueOf( value ) ) );
+    }
+    new TreeMap<>( System.getProperties() ).forEach( ( name, value ) -> {
+      if( String.valueOf( name ).startsWith( "manifold." ) )
+      {
+        fp.extend( String.valueOf( name ) ).extend( String.valueOf( value ) );
+      }
+    } );
+    return fp.toHexString();
+  }
+
+  /**
+   * The jar the class is loaded from, or if it is loaded from a directory, its class file
+   */
+  static String fingerprintClassLocation( Class<?> cls )
+  {
+    try
+    {
+      CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+      File file = codeSource == null || codeSource.getLocation() == null
+        ? null
+        : new File( codeSource.getLocation().toURI() );
+      if( file != null && file.isDirectory() )
+      {
+        URL classFile = cls.getResource( cls.getSimpleName() + ".class" );
+        file = classFile != null && classFile.getProtocol().equals( "file" ) ? new File( classFile.toURI() ) : null;
+      }
+      return file == null ? "" : file.getName() + ':' + file.length() + ':' + file.lastModified();
+    }
+    catch( Exception e )
+    {
+      return "";
+    }
+  }
+
+  private void write( File cached, String source )
+  {
+    File dir = cached.getParentFile();
+    File tmp = null;
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      tmp = File.createTempFile( cached.getName(), ".tmp", dir );
+      Files.write( tmp.toPath(), source.getBytes( UTF_8 ) );
+      try
+      {
+        Files.move( tmp.toPath(), cached.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      }
+      catch( AtomicMoveNotSupportedException e )
+      {
+        Files.move( tmp.toPath(), cached.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+
+      // keep only the latest entry for the type
+      File[] stale = dir.listFiles( file -> file.getName().endsWith( ".java" ) && !file.equals( cached ) );
+      if( stale != null )
+      {
+        for( File file : stale )
+        {
+          //noinspection ResultOfMethodCallIgnored
+          file.delete();
+        }
+      }
+    }
+    catch( IOException e )
+    {
+      // the cache is only an optimization, a failure to write it costs regenerating next time
+      if( tmp != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        tmp.delete();
+      }
+    }
+  }
+
+  private class CacheClearer extends AbstractTypeSystemListener
+  {
+    @Override
+    public void refreshed()
+    {
+      _resourceFingerprints.clear();
+    }
+
+    @Override
+    public void refreshedTypes( RefreshRequest request )
+    {
+      IModule refreshModule = request.module;
+      if( (refreshModule == null || refreshModule == _module) && !(request.file instanceof IFileFragment) )
+      {
+        // fragments are not part of the resource fingerprints
+        _resourceFingerprints.clear();
+      }
+    }
+  }
+}
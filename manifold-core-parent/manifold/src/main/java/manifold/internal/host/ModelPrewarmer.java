@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import manifold.api.host.IModule;
+import manifold.api.type.ITypeManifold;
+import manifold.api.type.ResourceFileTypeManifold;
+import manifold.api.util.PerfLogUtil;
+
+/**
+ * Builds the models of resource file type manifolds on a bounded pool of worker threads while the compiler is busy
+ * with other work, so that models are ready when the compiler asks a type manifold for a type. Only the models of
+ * manifolds that are {@link ResourceFileTypeManifold#isModelPrewarmable() prewarmable} are built. Source is still
+ * generated on the compiler's thread: contributing source reports diagnostics to the compiler and may use its symbol
+ * tables, neither of which are thread-safe.
+ * <p/>
+ * Pre-warming is off by default. Enable it with {@code -Dmanifold.prewarm.models=true} to use as many workers as there
+ * are processors, less the compiler's, or set the property to the number of workers. With {@code -Dmanifold.perf=true}
+ * the time from the start of pre-warming until all models are built is logged along with the sum of the build times,
+ * which is what building the models serially on the compiler's thread costs.
+ */
+final class ModelPrewarmer
+{
+  static final String PREWARM_PROPERTY = "manifold.prewarm.models";
+
+  /**
+   * @return The number of workers configured via {@link #PREWARM_PROPERTY}, 0 if pre-warming is not enabled
+   */
+  static int getWorkerCount()
+  {
+    String value = System.getProperty( PREWARM_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return 0;
+    }
+
+    if( value.equalsIgnoreCase( "true" ) )
+    {
+      return Math.max( 1, Runtime.getRuntime().availableProcessors() - 1 );
+    }
+
+    try
+    {
+      return Math.max( 0, Integer.parseInt( value.trim() ) );
+    }
+    catch( NumberFormatException e )
+    {
+      return 0;
+    }
+  }
+
+  /**
+   * Starts building the models of {@code module}'s prewarmable type manifolds if pre-warming is enabled. Returns once
+   * the builds are submitted, the workers are daemon threads and exit when the builds are done.
+   *
+   * @return A future completing when all the models are built, or null if pre-warming is not enabled or there is nothing
+   * to build
+   */
+  static CompletableFuture<Void> start( IModule module )
+  {
+    int workers = getWorkerCount();
+    if( workers <= 0 )
+    {
+      return null;
+    }
+    return start( module, workers );
+  }
+
+  static CompletableFuture<Void> start( IModule module, int workers )
+  {
+    long before = System.nanoTime();
+
+    List<ResourceFileTypeManifold<?>> tms = new ArrayList<>();
+    for( ITypeManifold tm : module.getTypeManifolds() )
+    {
+      if( tm instanceof ResourceFileTypeManifold && ((ResourceFileTypeManifold<?>)tm).isModelPrewarmable() )
+      {
+        tms.add( (ResourceFileTypeManifold<?>)tm );
+      }
+    }
+    if( tms.isEmpty() )
+    {
+      return null;
+    }
+
+    AtomicInteger threadCount = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool( workers, runnable -> {
+      Thread thread = new Thread( runnable, "manifold-prewarm-" + threadCount.incrementAndGet() );
+      thread.setDaemon( true );
+      return thread;
+    } );
+
+    List<CompletableFuture<Long>> builds = new ArrayList<>();
+    try
+    {
+      for( ResourceFileTypeManifold<?> tm : tms )
+      {
+        builds.addAll( tm.prewarmModels( pool ) );
+      }
+    }
+    finally
+    {
+      // no more builds, let the workers exit when done
+      pool.shutdown();
+    }
+    if( builds.isEmpty() )
+    {
+      return null;
+    }
+
+    return CompletableFuture.allOf( builds.toArray( new CompletableFuture[0] ) )
+      .thenRun( () -> {
+        long serialNanos = builds.stream().mapToLong( CompletableFuture::join ).sum();
+        PerfLogUtil.log( "Model pre-warm, " + builds.size() + " models on " + workers + " workers (" +
+                         serialNanos / 1_000_000 + "ms serial)", before );
+      } );
+  }
+}
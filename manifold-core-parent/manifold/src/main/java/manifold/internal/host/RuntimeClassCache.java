@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.host.AbstractTypeSystemListener;
+import manifold.api.host.IModule;
+import manifold.api.host.RefreshRequest;
+import manifold.api.type.ITypeManifold;
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.util.concurrent.LocklessLazyVar;
+
+/**
+ * An on-disk cache of the classes the runtime host compiles from source in dynamic mode, so that a type compiled in
+ * one run loads without compiling in the next. Used by {@code ManClassesUrlConnection}.
+ * <p/>
+ * Entries are keyed by a {@link Fingerprint} of the class name, the source it is compiled from, the compiler options,
+ * and the contents of the type's own resource files, plus the environment: the Java version, the jars of the type
+ * manifold classes and of manifold, the module's class path entries, and the {@code manifold.*} system properties. A
+ * type's resource files are read when the type is loaded, editing one invalidates only the classes of its type. Changes
+ * to other types the source references, such as ordinary Java classes in a directory, are not tracked, delete the cache
+ * directory after changing those.
+ * <p/>
+ * The cache is off by default. Enable it with {@code -Dmanifold.class.cache=true} to use
+ * {@code ${java.io.tmpdir}/manifold/class-cache}, or set the property to the directory to use instead. The directory is
+ * bounded to {@code -Dmanifold.class.cache.maxSize} megabytes, 256 by default; past that the least recently used
+ * entries are deleted. The directory may be shared by concurrent JVMs: entries are written atomically, only the latest
+ * entry per class is kept, and a missing or invalid entry is recompiled.
+ */
+public final class RuntimeClassCache
+{
+  static final String CACHE_PROPERTY = "manifold.class.cache";
+  static final String MAX_SIZE_PROPERTY = "manifold.class.cache.maxSize";
+  private static final String VERSION = "1";
+  private static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private static final LocklessLazyVar<RuntimeClassCache> INSTANCE =
+    LocklessLazyVar.make( () -> make( RuntimeManifoldHost.get().getSingleModule() ) );
+
+  private final IModule _module;
+  private final File _dir;
+  private final long _maxSize;
+  private final LocklessLazyVar<String> _environment;
+  private final LocklessLazyVar<AtomicLong> _size;
+  @SuppressWarnings({"FieldCanBeLocal", "UnusedDeclaration"})
+  private final CacheClearer _clearer;
+
+  /**
+   * @return The runtime host's cache configured via {@link #CACHE_PROPERTY} or null if the cache is not enabled
+   */
+  public static RuntimeClassCache get()
+  {
+    return INSTANCE.get();
+  }
+
+  static RuntimeClassCache make( IModule module )
+  {
+    String value = System.getProperty( CACHE_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return null;
+    }
+
+    File dir = value.equalsIgnoreCase( "true" )
+      ? new File( System.getProperty( "java.io.tmpdir" ), "manifold" + File.separator + "class-cache" )
+      : new File( value );
+    long maxSize = DEFAULT_MAX_SIZE;
+    String size = System.getProperty( MAX_SIZE_PROPERTY );
+    if( size != null && !size.isEmpty() )
+    {
+      try
+      {
+        maxSize = Long.parseLong( size.trim() ) * 1024 * 1024;
+      }
+      catch( NumberFormatException ignore )
+      {
+      }
+    }
+    return new RuntimeClassCache( module, dir, maxSize );
+  }
+
+  RuntimeClassCache( IModule module, File dir, long maxSize )
+  {
+    _module = module;
+    _dir = dir;
+    _maxSize = maxSize;
+    _environment = LocklessLazyVar.make( this::fingerprintEnvironment );
+    _size = LocklessLazyVar.make( () -> new AtomicLong( listEntries().stream().mapToLong( File::length ).sum() ) );
+    _module.getHost().addTypeSystemListenerAsWeakRef( module, _clearer = new CacheClearer() );
+  }
+
+  /**
+   * @param fqn      The name of the class
+   * @param source   The source the class is compiled from, for an inner class the source of its top-level class
+   * @param options  The compiler options
+   * @param compiler Compiles the class, throws if the source has errors
+   *
+   * @return The class's bytecode, from the cache if it has it, otherwise compiled and then cached
+   */
+  public byte[] get( String fqn, CharSequence source, Iterable<String> options, Supplier<byte[]> compiler )
+  {
+    String key = makeKey( fqn, source, options );
+    File cached = new File( new File( _dir, fqn ), key + ".class" );
+    byte[] bytes = read( cached );
+    if( bytes != null )
+    {
+      return bytes;
+    }
+
+    bytes = compiler.get();
+    if( bytes != null )
+    {
+      write( cached, bytes );
+    }
+    return bytes;
+  }
+
+  private String makeKey( String fqn, CharSequence source, Iterable<String> options )
+  {
+    Fingerprint fp = new Fingerprint( VERSION )
+      .extend( _environment.get() )
+      .extend( fqn )
+      .extend( source.toString() );
+    for( String option : options )
+    {
+      fp.extend( option );
+    }
+    fingerprintTypeResources( fp, fqn );
+    return fp.toHexString();
+  }
+
+  /**
+   * Extends {@code fp} with the resource files of the type manifolds producing {@code fqn}, or its nearest enclosing type
+   * if {@code fqn} is an inner class
+   */
+  private void fingerprintTypeResources( Fingerprint fp, String fqn )
+  {
+    for( String type = fqn; type != null; type = getEnclosingName( type ) )
+    {
+      Set<ITypeManifold> tms = _module.findTypeManifoldsFor( type, ITypeManifold::isFileBacked );
+      if( tms.isEmpty() )
+      {
+        continue;
+      }
+
+      List<ITypeManifold> sorted = new ArrayList<>( tms );
+      sorted.sort( Comparator.comparing( tm -> tm.getClass().getName() ) );
+      for( ITypeManifold tm : sorted )
+      {
+        fp.extend( tm.getClass().getName() );
+        List<IFile> files = new ArrayList<>( tm.findFilesForType( type ) );
+        files.sort( Comparator.comparing( file -> file.getPath().getPathString() ) );
+        for( IFile file : files )
+        {
+          fp.extend( file.getName() );
+          try( InputStream in = file.openInputStream() )
+          {
+            fp.extend( in );
+          }
+          catch( IOException e )
+          {
+            fp.extend( String.valueOf( e ) );
+          }
+        }
+      }
+      return;
+    }
+  }
+
+  private static String getEnclosingName( String fqn )
+  {
+    int dot = fqn.lastIndexOf( '.' );
+    return dot < 0 ? null : fqn.substring( 0, dot );
+  }
+
+  private String fingerprintEnvironment()
+  {
+    Fingerprint fp = new Fingerprint()
+      .extend( System.getProperty( "java.vendor" ) )
+      .extend( System.getProperty( "java.version" ) );
+
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    classes.add( RuntimeClassCache.class );
+    _module.getTypeManifolds().forEach( tm -> classes.add( tm.getClass() ) );
+    for( Class<?> cls : classes )
+    {
+      fp.extend( cls.getName() ).extend( ContributionCache.fingerprintClassLocation( cls ) );
+    }
+
+    // the class path entries, not their contents
+    for( IDirectory entry : _module.getJavaClassPath() )
+    {
+      fp.extend( entry.getPath().getPathString() );
+      if( entry.isJavaFile() )
+      {
+        File file = entry.toJavaFile();
+        fp.extend( file.length() + ":" + file.lastModified() );
+      }
+    }
+
+    new TreeMap<>( System.getProperties() ).forEach( ( name, value ) -> {
+      String prop = String.valueOf( name );
+      if( prop.startsWith( "manifold." ) && !prop.startsWith( CACHE_PROPERTY ) )
+      {
+        fp.extend( prop ).extend( String.valueOf( value ) );
+      }
+    } );
+    return fp.toHexString();
+  }
+
+  private static byte[] read( File cached )
+  {
+    if( !cached.isFile() )
+    {
+      return null;
+    }
+
+    try
+    {
+      byte[] bytes = Files.readAllBytes( cached.toPath() );
+      if( bytes.length < 4 ||
+          ((bytes[0] & 0xff) << 24 | (bytes[1] & 0xff) << 16 | (bytes[2] & 0xff) << 8 | (bytes[3] & 0xff)) != MAGIC )
+      {
+        // not written by us, recompile and replace
+        return null;
+      }
+      // most recently used, see evict()
+      //noinspection ResultOfMethodCallIgnored
+      cached.setLastModified( System.currentTimeMillis() );
+      return bytes;
+    }
+    catch( IOException e )
+    {
+      // deleted meanwhile by another JVM evicting it
+      return null;
+    }
+  }
+
+  private void write( File cached, byte[] bytes )
+  {
+    File dir = cached.getParentFile();
+    File tmp = null;
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      tmp = File.createTempFile( cached.getName(), ".tmp", dir );
+      Files.write( tmp.toPath(), bytes );
+      try
+      {
+        Files.move( tmp.toPath(), cached.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      }
+      catch( AtomicMoveNotSupportedException e )
+      {
+        Files.move( tmp.toPath(), cached.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+      long size = _size.get().addAndGet( bytes.length );
+
+      // keep only the latest entry for the class
+      File[] stale = dir.listFiles( file -> file.getName().endsWith( ".class" ) && !file.equals( cached ) );
+      if( stale != null )
+      {
+        for( File file : stale )
+        {
+          long length = file.length();
+          if( file.delete() )
+          {
+            size = _size.get().addAndGet( -length );
+          }
+        }
+      }
+
+      if( size > _maxSize )
+      {
+        evict();
+      }
+    }
+    catch( IOException e )
+    {
+      // the cache is only an optimization, a failure to write it costs compiling next time
+      if( tmp != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        tmp.delete();
+      }
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries until the cache is down to three quarters of its max size. The size is
+   * recounted from the directory, which other JVMs may have written to as well.
+   */
+  private synchronized void evict()
+  {
+    List<File> entries = listEntries();
+    long size = entries.stream().mapToLong( File::length ).sum();
+    if( size > _maxSize )
+    {
+      entries.sort( Comparator.comparingLong( File::lastModified ) );
+      long target = _maxSize / 4 * 3;
+      for( File entry : entries )
+      {
+        if( size <= target )
+        {
+          break;
+        }
+        long length = entry.length();
+        if( entry.delete() )
+        {
+          size -= length;
+          File dir = entry.getParentFile();
+          String[] rest = dir.list();
+          if( rest != null && rest.length == 0 )
+          {
+            //noinspection ResultOfMethodCallIgnored
+            dir.delete();
+          }
+        }
+      }
+    }
+    _size.get().set( size );
+  }
+
+  private List<File> listEntries()
+  {
+    List<File> entries = new ArrayList<>();
+    File[] dirs = _dir.listFiles( File::isDirectory );
+    if( dirs != null )
+    {
+      for( File dir : dirs )
+      {
+        File[] files = dir.listFiles( file -> file.getName().endsWith( ".class" ) );
+        if( files != null )
+        {
+          for( File file : files )
+          {
+            entries.add( file );
+          }
+        }
+      }
+    }
+    return entries;
+  }
+
+  private class CacheClearer extends AbstractTypeSystemListener
+  {
+    @Override
+    public void refreshed()
+    {
+      _environment.clear();
+    }
+
+    @Override
+    public void refreshedTypes( RefreshRequest request )
+    {
+      IModule refreshModule = request.module;
+      if( refreshModule == null || refreshModule == _module )
+      {
+        _environment.clear();
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.tools.Diagnostic;
 import javax.tools.DiagnosticListener;
@@ -41,6 +42,7 @@ import manifold.internal.javac.GeneratedJavaStubFileObject;
 import manifold.internal.javac.SourceJavaFileObject;
 import manifold.internal.javac.SourceSupplier;
 import manifold.api.util.JavacDiagnostic;
+import manifold.api.util.Profiler;
 import manifold.util.concurrent.LocklessLazyVar;
 
 
@@ -57,7 +59,9 @@ public abstract class SimpleModule implements IModule
   private List<IDirectory> _sourcePath;
   private List<IDirectory> _outputPath;
   private SortedSet<ITypeManifold> _typeManifolds;
+  private TypeManifoldIndex _typeManifoldIndex;
   private LocklessLazyVar<PathCache> _pathCache;
+  private LocklessLazyVar<ContributionCache> _contributionCache;
 
   public SimpleModule( IManifoldHost host, List<IDirectory> classpath, List<IDirectory> sourcePath, List<IDirectory> outputPath )
   {
@@ -66,6 +70,7 @@ public abstract class SimpleModule implements IModule
     _sourcePath = sourcePath;
     _outputPath = outputPath;
     _pathCache = LocklessLazyVar.make( this::makePathCache );
+    _contributionCache = LocklessLazyVar.make( () -> ContributionCache.make( this ) );
   }
 
   @Override
@@ -132,6 +137,15 @@ public abstract class SimpleModule implements IModule
     return _typeManifolds;
   }
 
+  @Override
+  public Set<ITypeManifold> findTypeManifoldsFor( String fqn, Predicate<ITypeManifold> predicate )
+  {
+    TypeManifoldIndex index = _typeManifoldIndex;
+    return index == null
+      ? IModule.super.findTypeManifoldsFor( fqn, predicate )
+      : index.findTypeManifoldsFor( fqn, predicate );
+  }
+
   public JavaFileObject produceFile( String fqn, JavaFileManager.Location location, DiagnosticListener<JavaFileObject> errorHandler )
   {
     //noinspection unchecked
@@ -140,6 +154,14 @@ public abstract class SimpleModule implements IModule
   }
 
   private String compoundProduce( JavaFileManager.Location location, Set<ITypeManifold> sps, String fqn, DiagnosticListener<JavaFileObject> errorHandler )
+  {
+    ContributionCache cache = _contributionCache.get();
+    return cache == null
+      ? contribute( location, sps, fqn, errorHandler )
+      : cache.produce( location, sps, fqn, errorHandler, handler -> contribute( location, sps, fqn, handler ) );
+  }
+
+  private String contribute( JavaFileManager.Location location, Set<ITypeManifold> sps, String fqn, DiagnosticListener<JavaFileObject> errorHandler )
   {
     ITypeManifold found = null;
     String result = "";
@@ -163,7 +185,7 @@ public abstract class SimpleModule implements IModule
         else
         {
           found = sp;
-          result = sp.contribute( location, fqn, false, result, errorHandler );
+          result = contribute( sp, location, fqn, result, errorHandler );
         }
       }
     }
@@ -171,13 +193,27 @@ public abstract class SimpleModule implements IModule
     {
       if( sp.getContributorKind() == ContributorKind.Supplemental )
       {
-        result = sp.contribute( location, fqn, false, result, errorHandler );
+        result = contribute( sp, location, fqn, result, errorHandler );
       }
     }
 
     return result;
   }
 
+  private static String contribute( ITypeManifold tm, JavaFileManager.Location location, String fqn, String existing,
+                                    DiagnosticListener<JavaFileObject> errorHandler )
+  {
+    long start = Profiler.start();
+    try
+    {
+      return tm.contribute( location, fqn, false, existing, errorHandler );
+    }
+    finally
+    {
+      Profiler.event( "contribute", tm.getClass(), fqn, start );
+    }
+  }
+
   public void initializeTypeManifolds()
   {
     if( _typeManifolds != null )
@@ -194,6 +230,8 @@ public abstract class SimpleModule implements IModule
 
       _typeManifolds = loadTypeManifolds();
       _typeManifolds.forEach( tm -> tm.init( this ) );
+      _typeManifoldIndex = new TypeManifoldIndex( this );
+      ModelPrewarmer.start( this );
     }
   }
 
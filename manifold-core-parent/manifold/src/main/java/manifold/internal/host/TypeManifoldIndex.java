@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import manifold.api.host.AbstractTypeSystemListener;
+import manifold.api.host.IModule;
+import manifold.api.host.RefreshRequest;
+import manifold.api.type.ITypeManifold;
+import manifold.api.type.ResourceFileTypeManifold;
+import manifold.api.util.Profiler;
+
+/**
+ * Maps top-level type names to the type manifolds that define them so that {@link IModule#findTypeManifoldsFor(String)}
+ * does not have to ask every type manifold about every name the compiler resolves, most of which are plain Java types.
+ * <p/>
+ * Only resource file type manifolds whose type names are exactly those of {@link ITypeManifold#getAllTypeNames()} are
+ * indexed, that is those using {@link ResourceFileTypeManifold}'s own {@code isType()}, {@code findTopLevelFqn()}, and
+ * {@code getAllTypeNames()}. Other type manifolds may answer {@code isType()} dynamically and are always asked directly.
+ * <p/>
+ * A Bloom filter over the indexed names serves as the negative cache. The hash of each prefix of a name is computed
+ * incrementally, so a name no indexed manifold knows about is rejected without allocating substrings or probing the
+ * map. The index is discarded on type system refresh and rebuilt on next use.
+ */
+final class TypeManifoldIndex
+{
+  private final IModule _module;
+  @SuppressWarnings({"FieldCanBeLocal", "UnusedDeclaration"})
+  private final CacheClearer _clearer;
+  private volatile Snapshot _snapshot;
+
+  TypeManifoldIndex( IModule module )
+  {
+    _module = module;
+    _module.getHost().addTypeSystemListenerAsWeakRef( module, _clearer = new CacheClearer() );
+  }
+
+  Set<ITypeManifold> findTypeManifoldsFor( String fqn, Predicate<ITypeManifold> predicate )
+  {
+    Snapshot snapshot = getSnapshot();
+
+    Set<ITypeManifold> tms = null;
+    for( ITypeManifold tm : snapshot._unindexed )
+    {
+      if( (predicate == null || predicate.test( tm )) &&
+          isType( tm, fqn ) )
+      {
+        tms = tms == null ? new HashSet<>( 2 ) : tms;
+        tms.add( tm );
+      }
+    }
+
+    List<ITypeManifold> candidates = snapshot.findCandidates( fqn );
+    if( candidates != null )
+    {
+      for( ITypeManifold tm : candidates )
+      {
+        // the candidate defines an enclosing top-level type, isType() settles inner types
+        if( (predicate == null || predicate.test( tm )) &&
+            isType( tm, fqn ) )
+        {
+          tms = tms == null ? new HashSet<>( 2 ) : tms;
+          tms.add( tm );
+        }
+      }
+    }
+    return tms == null ? Collections.emptySet() : tms;
+  }
+
+  private static boolean isType( ITypeManifold tm, String fqn )
+  {
+    long start = Profiler.start();
+    try
+    {
+      return tm.isType( fqn );
+    }
+    finally
+    {
+      Profiler.count( "isType", tm.getClass(), start );
+    }
+  }
+
+  private Snapshot getSnapshot()
+  {
+    Snapshot snapshot = _snapshot;
+    if( snapshot == null )
+    {
+      synchronized( this )
+      {
+        snapshot = _snapshot;
+        if( snapshot == null )
+        {
+          _snapshot = snapshot = new Snapshot( _module.getTypeManifolds() );
+        }
+      }
+    }
+    return snapshot;
+  }
+
+  void clear()
+  {
+    _snapshot = null;
+  }
+
+  static boolean isIndexable( ITypeManifold tm )
+  {
+    if( !(tm instanceof ResourceFileTypeManifold) )
+    {
+      return false;
+    }
+
+    try
+    {
+      Class<?> cls = tm.getClass();
+      return cls.getMethod( "isType", String.class ).getDeclaringClass() == ResourceFileTypeManifold.class &&
+             cls.getMethod( "findTopLevelFqn", String.class ).getDeclaringClass() == ResourceFileTypeManifold.class &&
+             cls.getMethod( "getAllTypeNames" ).getDeclaringClass() == ResourceFileTypeManifold.class;
+    }
+    catch( NoSuchMethodException e )
+    {
+      return false;
+    }
+  }
+
+  private static final class Snapshot
+  {
+    private final List<ITypeManifold> _unindexed;
+    private final Map<String, List<ITypeManifold>> _byTopLevel;
+    private final long[] _bloom;
+    private final int _mask;
+
+    Snapshot( Set<ITypeManifold> typeManifolds )
+    {
+      _unindexed = new ArrayList<>();
+      _byTopLevel = new HashMap<>();
+      for( ITypeManifold tm : typeManifolds )
+      {
+        if( isIndexable( tm ) )
+        {
+          for( String fqn : tm.getAllTypeNames() )
+          {
+            _byTopLevel.computeIfAbsent( fqn, __ -> new ArrayList<>( 1 ) ).add( tm );
+          }
+        }
+        else
+        {
+          _unindexed.add( tm );
+        }
+      }
+
+      // ~10 bits per name, 3 probes: < 2% false positives
+      int bits = Integer.highestOneBit( Math.max( 64, _byTopLevel.size() * 10 ) - 1 ) << 1;
+      _bloom = new long[bits >>> 6];
+      _mask = bits - 1;
+      for( String fqn : _byTopLevel.keySet() )
+      {
+        int h = fqn.hashCode();
+        int h2 = mix( h );
+        for( int i = 0; i < 3; i++ )
+        {
+          int bit = (h + i * h2) & _mask;
+          _bloom[bit >>> 6] |= 1L << bit;
+        }
+      }
+    }
+
+    /**
+     * @return The indexed type manifolds defining {@code fqn} or any of its enclosing types, or null if there are none
+     */
+    List<ITypeManifold> findCandidates( String fqn )
+    {
+      if( _byTopLevel.isEmpty() )
+      {
+        return null;
+      }
+
+      List<ITypeManifold> candidates = null;
+      int h = 0;
+      int length = fqn.length();
+      for( int i = 0; i <= length; i++ )
+      {
+        char c = i < length ? fqn.charAt( i ) : '.';
+        if( c == '.' || c == '$' )
+        {
+          // h is String#hashCode() of fqn[0, i) with '$' as '.'
+          if( mightContain( h ) )
+          {
+            List<ITypeManifold> tms = _byTopLevel.get( fqn.substring( 0, i ).replace( '$', '.' ) );
+            if( tms != null )
+            {
+              if( candidates == null )
+              {
+                candidates = tms;
+              }
+              else
+              {
+                candidates = new ArrayList<>( candidates );
+                candidates.addAll( tms );
+              }
+            }
+          }
+          c = '.';
+        }
+        h = 31 * h + c;
+      }
+      return candidates;
+    }
+
+    private boolean mightContain( int h )
+    {
+      int h2 = mix( h );
+      for( int i = 0; i < 3; i++ )
+      {
+        int bit = (h + i * h2) & _mask;
+        if( (_bloom[bit >>> 6] & (1L << bit)) == 0 )
+        {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int mix( int h )
+    {
+      h *= 0x9E3779B9;
+      return (h ^ (h >>> 16)) | 1;
+    }
+  }
+
+  /**
+   * Registered after the module's type manifolds have initialized, so that it is notified after they have updated
+   * their own type names. In between queries use the prior index, which is still correct for existing types: a deleted
+   * type's manifold is still a candidate, but its {@code isType()} no longer confirms it.
+   */
+  private class CacheClearer extends AbstractTypeSystemListener
+  {
+    @Override
+    public void refreshed()
+    {
+      clear();
+    }
+
+    @Override
+    public void refreshedTypes( RefreshRequest request )
+    {
+      IModule refreshModule = request.module;
+      if( refreshModule == null || refreshModule == _module )
+      {
+        clear();
+      }
+    }
+  }
+}
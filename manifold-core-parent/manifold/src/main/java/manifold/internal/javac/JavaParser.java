@@ -278,6 +278,16 @@ public class JavaParser implements IJavaParser
     }
   }
 
+  /**
+   * @return The class compiled for {@code fqn} by a prior call to one of the {@code compile()} methods, or null
+   */
+  public InMemoryClassJavaFileObject findCompiledFile( String fqn )
+  {
+    init();
+
+    return _mfm.findCompiledFile( fqn );
+  }
+
   /**
    * Compiles fresh, no caching.  Intended for use with parser feedback tooling e.g., a Java editor.
    */
@@ -72,6 +72,7 @@ import manifold.api.fs.def.FileFragmentImpl;
 import manifold.api.type.ICompilerComponent;
 import manifold.api.type.ITypeManifold;
 import manifold.api.util.JavacUtil;
+import manifold.api.util.Profiler;
 import manifold.internal.host.JavacManifoldHost;
 import manifold.api.util.IssueMsg;
 import manifold.api.util.JavacDiagnostic;
@@ -140,6 +141,8 @@ public class JavacPlugin implements Plugin, TaskListener
   private List<String> _manifoldSourcePath;
   private String _bootclasspath;
   private boolean _isIncremental;
+  private final Map<String, Long> _taskStarts = new HashMap<>();
+  private boolean _profileReported;
 
   public static JavacPlugin instance()
   {
@@ -1050,6 +1053,11 @@ public class JavacPlugin implements Plugin, TaskListener
   @Override
   public void started( TaskEvent e )
   {
+    if( Profiler.isEnabled() )
+    {
+      _taskStarts.put( taskKey( e ), Profiler.start() );
+    }
+
     switch( e.getKind() )
     {
       case PARSE:
@@ -1091,6 +1099,21 @@ public class JavacPlugin implements Plugin, TaskListener
 
   @Override
   public void finished( TaskEvent e )
+  {
+    try
+    {
+      finished0( e );
+    }
+    finally
+    {
+      if( Profiler.isEnabled() )
+      {
+        profileTask( e );
+      }
+    }
+  }
+
+  private void finished0( TaskEvent e )
   {
     switch( e.getKind() )
     {
@@ -1115,6 +1138,28 @@ public class JavacPlugin implements Plugin, TaskListener
     }
   }
 
+  private void profileTask( TaskEvent e )
+  {
+    Long start = _taskStarts.remove( taskKey( e ) );
+    if( start != null )
+    {
+      JavaFileObject sourceFile = e.getSourceFile();
+      Profiler.event( "javac." + e.getKind().name(), e.getKind().name(),
+        sourceFile == null ? null : sourceFile.getName(), start );
+    }
+  }
+
+  /**
+   * Task events of the same kind may overlap e.g., ENTER starts for all files before it finishes for any
+   */
+  private static String taskKey( TaskEvent e )
+  {
+    JavaFileObject sourceFile = e.getSourceFile();
+    return e.getKind().name() + ':' +
+           (sourceFile == null ? "" : sourceFile.toUri()) + ':' +
+           (e.getTypeElement() == null ? "" : e.getTypeElement().getQualifiedName());
+  }
+
   private void closeStuff()
   {
     if( Todo.instance( getContext() ).peek() != null )
@@ -1135,6 +1180,29 @@ public class JavacPlugin implements Plugin, TaskListener
     {
       throw ManExceptionUtil.unchecked( t );
     }
+
+    if( Profiler.isEnabled() )
+    {
+      writeProfile();
+    }
+  }
+
+  private void writeProfile()
+  {
+    try
+    {
+      File file = Profiler.write();
+      if( file != null && !_profileReported )
+      {
+        // rewritten as the task finishes more work, the file is the same
+        _profileReported = true;
+        getIssueReporter().reportInfo( "Manifold profile written to " + file );
+      }
+    }
+    catch( IOException e )
+    {
+      getIssueReporter().reportWarning( e.getMessage() );
+    }
   }
 
   private void addInputFile( TaskEvent e )
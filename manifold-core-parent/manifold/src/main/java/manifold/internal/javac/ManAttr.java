@@ -19,8 +19,6 @@ package manifold.internal.javac;
 import com.sun.source.tree.Tree;
 import com.sun.tools.javac.code.*;
 import com.sun.tools.javac.comp.*;
-import com.sun.tools.javac.jvm.ClassReader;
-import com.sun.tools.javac.model.JavacElements;
 import com.sun.tools.javac.model.JavacTypes;
 import com.sun.tools.javac.tree.*;
 import com.sun.tools.javac.tree.JCTree.JCBinary;
@@ -37,21 +35,18 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.sun.tools.javac.util.List;
-import manifold.api.host.IModule;
 import manifold.api.type.ITypeManifold;
 import manifold.api.util.IssueMsg;
 import manifold.api.util.JCTreeUtil;
 import manifold.internal.javac.AbstractBinder.Node;
 import manifold.rt.api.FragmentValue;
 import manifold.rt.api.Null;
-import manifold.rt.api.util.ManClassUtil;
 import manifold.rt.api.util.ManStringUtil;
 import manifold.util.JreUtil;
 import manifold.util.ReflectUtil;
 
 import javax.lang.model.element.ElementKind;
 import javax.tools.JavaFileObject;
-import javax.tools.StandardLocation;
 
 import static com.sun.tools.javac.code.Flags.*;
 import static com.sun.tools.javac.code.TypeTag.CLASS;
@@ -2231,36 +2226,7 @@ public interface ManAttr
     // Next, since tuples are not files and are therefore not known in advance for #list() to work, we force the
     // compiler to load it via ClassReader/Finder#includeClassFile()
 
-    IModule compilingModule = JavacPlugin.instance().getHost().getSingleModule();
-    if( compilingModule == null )
-    {
-      return null;
-    }
-    String pkg = ManClassUtil.getPackage( tupleTypeName );
-    Symbol.PackageSymbol pkgSym;
-    if( JreUtil.isJava8() )
-    {
-      pkgSym = JavacElements.instance( ctx ).getPackageElement( pkg );
-    }
-    else
-    {
-      //reflection for:  pkgSym = JavacElements.instance( ctx ).getPackageElement( getEnv().toplevel.modle, pkg );
-      Object moduleSym = ReflectUtil.field( getEnv().toplevel, "modle" ).get();
-      Class<?> moduleElementClass = ReflectUtil.type( "javax.lang.model.element.ModuleElement" );
-      pkgSym = (Symbol.PackageSymbol)ReflectUtil
-        .method( JavacElements.instance( ctx ), "getPackageElement", moduleElementClass, CharSequence.class )
-        .invoke( moduleSym, pkg );
-    }
-    IssueReporter<JavaFileObject> issueReporter = new IssueReporter<>( () -> ctx );
-    String fqn = tupleTypeName.replace( '$', '.' );
-    ManifoldJavaFileManager fm = JavacPlugin.instance().getManifoldFileManager();
-    JavaFileObject file = fm.findGeneratedFile( fqn, StandardLocation.CLASS_PATH, compilingModule, issueReporter );
-    Object classReader = JreUtil.isJava8()
-      ? ClassReader.instance( ctx )
-      : ReflectUtil.method( "com.sun.tools.javac.code.ClassFinder", "instance", Context.class ).invokeStatic( ctx );
-    ReflectUtil.method( classReader, "includeClassFile", Symbol.PackageSymbol.class, JavaFileObject.class )
-      .invoke( pkgSym, file );
-    return IDynamicJdk.instance().getTypeElement( ctx, getEnv().toplevel, tupleTypeName );
+    return StaticCompiler.instance().includeGeneratedType( ctx, getEnv().toplevel, tupleTypeName );
   }
 
   default List<JCTree.JCExpression> removeLabels( List<JCTree.JCExpression> args )
@@ -24,7 +24,9 @@ import com.sun.tools.javac.comp.AttrContext;
 import com.sun.tools.javac.comp.CompileStates;
 import com.sun.tools.javac.comp.Env;
 import com.sun.tools.javac.comp.Todo;
+import com.sun.tools.javac.jvm.ClassReader;
 import com.sun.tools.javac.main.JavaCompiler;
+import com.sun.tools.javac.model.JavacElements;
 import com.sun.tools.javac.processing.JavacProcessingEnvironment;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.Assert;
@@ -35,10 +37,12 @@ import manifold.api.host.IModule;
 import manifold.api.type.ContributorKind;
 import manifold.api.type.ITypeManifold;
 import manifold.internal.host.JavacManifoldHost;
+import manifold.rt.api.util.ManClassUtil;
 import manifold.util.JreUtil;
 import manifold.util.ReflectUtil;
 
 import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 import java.io.File;
 import java.io.IOException;
@@ -255,6 +259,46 @@ public class StaticCompiler
     }
   }
 
+  /**
+   * Load a type that is not file-based, such as a tuple type or a pregenerated proxy factory. Since the type is not
+   * known in advance for FileManager#list() to work, this forces the compiler to load it via
+   * ClassReader/Finder#includeClassFile().
+   *
+   * @return The type's ClassSymbol or null if the type is not produced from the compiling module
+   */
+  public Symbol.ClassSymbol includeGeneratedType( Context ctx, JCTree.JCCompilationUnit compilationUnit, String fqn )
+  {
+    IModule compilingModule = JavacPlugin.instance().getHost().getSingleModule();
+    if( compilingModule == null )
+    {
+      return null;
+    }
+    String pkg = ManClassUtil.getPackage( fqn );
+    Symbol.PackageSymbol pkgSym;
+    if( JreUtil.isJava8() )
+    {
+      pkgSym = JavacElements.instance( ctx ).getPackageElement( pkg );
+    }
+    else
+    {
+      //reflection for:  pkgSym = JavacElements.instance( ctx ).getPackageElement( compilationUnit.modle, pkg );
+      Object moduleSym = ReflectUtil.field( compilationUnit, "modle" ).get();
+      Class<?> moduleElementClass = ReflectUtil.type( "javax.lang.model.element.ModuleElement" );
+      pkgSym = (Symbol.PackageSymbol)ReflectUtil
+        .method( JavacElements.instance( ctx ), "getPackageElement", moduleElementClass, CharSequence.class )
+        .invoke( moduleSym, pkg );
+    }
+    IssueReporter<JavaFileObject> issueReporter = new IssueReporter<>( () -> ctx );
+    ManifoldJavaFileManager fm = JavacPlugin.instance().getManifoldFileManager();
+    JavaFileObject file = fm.findGeneratedFile( fqn.replace( '$', '.' ), StandardLocation.CLASS_PATH, compilingModule, issueReporter );
+    Object classReader = JreUtil.isJava8()
+      ? ClassReader.instance( ctx )
+      : ReflectUtil.method( "com.sun.tools.javac.code.ClassFinder", "instance", Context.class ).invokeStatic( ctx );
+    ReflectUtil.method( classReader, "includeClassFile", Symbol.PackageSymbol.class, JavaFileObject.class )
+      .invoke( pkgSym, file );
+    return IDynamicJdk.instance().getTypeElement( ctx, compilationUnit, fqn );
+  }
+
   private boolean enterClassSymbols( IModule module, Context ctx, Collection<String> types )
   {
     //
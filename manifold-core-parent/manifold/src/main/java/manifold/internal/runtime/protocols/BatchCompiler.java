@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.runtime.protocols;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import manifold.api.host.IModule;
+import manifold.api.type.ISelfCompiledFile;
+import manifold.api.type.ITypeManifold;
+import manifold.api.type.TypeName;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.javac.InMemoryClassJavaFileObject;
+import manifold.internal.javac.JavaParser;
+import manifold.rt.api.util.ManClassUtil;
+import manifold.rt.api.util.Pair;
+import manifold.util.concurrent.ConcurrentHashSet;
+
+/**
+ * Compiles the types of a type manifold in a package together in one javac task the first time the runtime host loads
+ * any of them, instead of one task per class load. Later loads find the classes already compiled, see
+ * {@link JavaParser#findCompiledFile(String)}.
+ * <p/>
+ * Types a type's source references are already compiled along with it, implicitly. Batching pays off for types that
+ * are loaded separately but share others, such as the queries of a GraphQL schema or a set of JSON types, where each
+ * separate task would compile the shared types over again.
+ * <p/>
+ * Batching is off by default. Enable it with {@code -Dmanifold.runtime.batch=true} to batch up to 1000 types, or set
+ * the property to the max number of types to batch. A batch has the types of the loaded type's package only, so that
+ * loading a type does not compile a type manifold's types throughout the class path. A type manifold's types in a
+ * package are batched once. If some of them have
+ * errors, the rest of the batch is compiled again without them. A type with errors, or a type not in the batch, is
+ * compiled on its own, as without batching, which reports its errors.
+ */
+final class BatchCompiler
+{
+  static final String BATCH_PROPERTY = "manifold.runtime.batch";
+  private static final int DEFAULT_MAX_TYPES = 1000;
+
+  /** type manifolds and the packages of theirs batched */
+  private static final Set<Pair<ITypeManifold, String>> BATCHED = new ConcurrentHashSet<>();
+  private static final Map<ITypeManifold, Object> LOCKS = new ConcurrentHashMap<>();
+
+  /**
+   * @return The max number of types to batch configured via {@link #BATCH_PROPERTY}, 0 if batching is not enabled
+   */
+  static int getMaxTypes()
+  {
+    String value = System.getProperty( BATCH_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return 0;
+    }
+
+    if( value.equalsIgnoreCase( "true" ) )
+    {
+      return DEFAULT_MAX_TYPES;
+    }
+
+    try
+    {
+      return Math.max( 0, Integer.parseInt( value.trim() ) );
+    }
+    catch( NumberFormatException e )
+    {
+      return 0;
+    }
+  }
+
+  /**
+   * Compiles {@code fqn} together with the other types in its package of the type manifolds producing it, if they have
+   * not been batched already. Only loads of types from the same type manifold wait for one another.
+   *
+   * @return The class compiled for {@code fqn} or null if the batch did not produce it
+   */
+  static InMemoryClassJavaFileObject compile( String fqn, Iterable<String> options, int maxTypes )
+  {
+    JavaParser javaParser = RuntimeManifoldHost.get().getJavaParser();
+    InMemoryClassJavaFileObject cls = javaParser.findCompiledFile( fqn );
+    if( cls != null )
+    {
+      return cls;
+    }
+
+    Pair<JavaFileObject, String> source = javaParser.findJavaSource( fqn, new DiagnosticCollector<>() );
+    if( source == null )
+    {
+      return null;
+    }
+
+    IModule module = RuntimeManifoldHost.get().getSingleModule();
+    for( ITypeManifold tm : module.findTypeManifoldsFor( source.getSecond() ) )
+    {
+      if( !tm.isFileBacked() )
+      {
+        continue;
+      }
+
+      synchronized( LOCKS.computeIfAbsent( tm, key -> new Object() ) )
+      {
+        if( BATCHED.add( new Pair<>( tm, ManClassUtil.getPackage( source.getSecond() ) ) ) )
+        {
+          compileBatch( javaParser, tm, source.getSecond(), options, maxTypes );
+        }
+      }
+      cls = javaParser.findCompiledFile( fqn );
+      if( cls != null )
+      {
+        return cls;
+      }
+    }
+    return null;
+  }
+
+  private static void compileBatch( JavaParser javaParser, ITypeManifold tm, String fqn, Iterable<String> options,
+                                    int maxTypes )
+  {
+    Set<String> typeNames = new TreeSet<>();
+    for( TypeName typeName : tm.getTypeNames( ManClassUtil.getPackage( fqn ) ) )
+    {
+      if( typeName.kind == TypeName.Kind.TYPE )
+      {
+        typeNames.add( typeName.name );
+      }
+    }
+
+    Set<String> batch = new LinkedHashSet<>();
+    batch.add( fqn );
+    for( String typeName : typeNames )
+    {
+      if( batch.size() >= maxTypes )
+      {
+        break;
+      }
+      if( javaParser.findCompiledFile( typeName ) == null )
+      {
+        batch.add( typeName );
+      }
+    }
+    if( batch.size() == 1 )
+    {
+      // nothing to batch
+      return;
+    }
+
+    List<JavaFileObject> files = new ArrayList<>();
+    for( String typeName : batch )
+    {
+      Pair<JavaFileObject, String> file = javaParser.findJavaSource( typeName, new DiagnosticCollector<>() );
+      if( file != null && !(file.getFirst() instanceof ISelfCompiledFile &&
+                            ((ISelfCompiledFile)file.getFirst()).isSelfCompile( typeName )) )
+      {
+        files.add( file.getFirst() );
+      }
+    }
+
+    DiagnosticCollector<JavaFileObject> errors = new DiagnosticCollector<>();
+    javaParser.compile( files, options, errors );
+
+    // javac stops generating classes once a type has errors, compile the batch once more without the types having
+    // errors. Those are compiled on their own, which reports their errors
+    Set<JavaFileObject> failed = new HashSet<>();
+    for( Diagnostic<? extends JavaFileObject> diagnostic : errors.getDiagnostics() )
+    {
+      if( diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getSource() != null )
+      {
+        failed.add( diagnostic.getSource() );
+      }
+    }
+    if( files.removeIf( failed::contains ) && files.size() > 1 )
+    {
+      javaParser.compile( files, options, new DiagnosticCollector<>() );
+    }
+  }
+}
@@ -26,6 +26,7 @@ import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -33,6 +34,7 @@ import javax.tools.DiagnosticCollector;
 import javax.tools.JavaFileObject;
 import manifold.api.type.ISelfCompiledFile;
 import manifold.api.type.ITypeManifold;
+import manifold.internal.host.RuntimeClassCache;
 import manifold.internal.host.RuntimeManifoldHost;
 import manifold.internal.javac.InMemoryClassJavaFileObject;
 import manifold.internal.javac.JavaCompileIssuesException;
@@ -50,6 +52,8 @@ public class ManClassesUrlConnection extends URLConnection
     "java/", "javax/", "sun/"
   };
   private static final String META_INF_MANIFEST_MF = "META-INF/MANIFEST.MF";
+  private static final List<String> COMPILE_OPTIONS =
+    Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" );
   private static final ThreadLocal<Map<String, Supplier<String>>> _proxySupplierByFqn = ThreadLocal.withInitial( HashMap::new );
 
   public static Supplier<String> getProxySupplier( String fqnProxy )
@@ -307,14 +311,10 @@ public class ManClassesUrlConnection extends URLConnection
         }
         else
         {
-          DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
-          InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( _javaFqn,
-            Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" ), errorHandler );
-          if( cls != null )
-          {
-            return cls.getBytes();
-          }
-          throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+          RuntimeClassCache cache = RuntimeClassCache.get();
+          return cache == null
+            ? compileJavaClassFromSource()
+            : cache.get( _javaFqn, getSource( _javaSrcFile ), COMPILE_OPTIONS, this::compileJavaClassFromSource );
         }
       }
       catch( Throwable t )
@@ -328,20 +328,46 @@ public class ManClassesUrlConnection extends URLConnection
       }
     }
 
+    private byte[] compileJavaClassFromSource()
+    {
+      int maxBatch = BatchCompiler.getMaxTypes();
+      InMemoryClassJavaFileObject batched = maxBatch > 0 ? BatchCompiler.compile( _javaFqn, COMPILE_OPTIONS, maxBatch ) : null;
+      if( batched != null )
+      {
+        return batched.getBytes();
+      }
+
+      DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
+      InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( _javaFqn,
+        COMPILE_OPTIONS, errorHandler );
+      if( cls != null )
+      {
+        return cls.getBytes();
+      }
+      throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+    }
+
+    private CharSequence getSource( JavaFileObject file )
+    {
+      try
+      {
+        return file.getCharContent( true );
+      }
+      catch( IOException e )
+      {
+        throw new RuntimeException( e );
+      }
+    }
+
     private byte[] compileProxyClass( String source )
     {
       long before = System.nanoTime();
       try
       {
-        DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
-        StringJavaFileObject fileObj = new StringJavaFileObject( _javaFqn, source );
-        InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( fileObj, _javaFqn,
-          Arrays.asList( "-source", "8", "-g", "-nowarn", "-Xlint:none", "-proc:none", "-parameters" ), errorHandler );
-        if( cls != null )
-        {
-          return cls.getBytes();
-        }
-        throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+        RuntimeClassCache cache = RuntimeClassCache.get();
+        return cache == null
+          ? compileProxyClassFromSource( source )
+          : cache.get( _javaFqn, source, COMPILE_OPTIONS, () -> compileProxyClassFromSource( source ) );
       }
       finally
       {
@@ -349,6 +375,19 @@ public class ManClassesUrlConnection extends URLConnection
       }
     }
 
+    private byte[] compileProxyClassFromSource( String source )
+    {
+      DiagnosticCollector<JavaFileObject> errorHandler = new DiagnosticCollector<>();
+      StringJavaFileObject fileObj = new StringJavaFileObject( _javaFqn, source );
+      InMemoryClassJavaFileObject cls = RuntimeManifoldHost.get().getJavaParser().compile( fileObj, _javaFqn,
+        COMPILE_OPTIONS, errorHandler );
+      if( cls != null )
+      {
+        return cls.getBytes();
+      }
+      throw new JavaCompileIssuesException( _javaFqn, errorHandler );
+    }
+
     public int read()
     {
       init();
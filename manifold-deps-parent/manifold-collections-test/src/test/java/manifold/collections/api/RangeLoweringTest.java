@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.collections.api;
+
+import manifold.collections.api.range.DoubleRange;
+import manifold.collections.api.range.IntegerRange;
+import manifold.collections.api.range.LongRange;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static manifold.collections.api.range.RangeFun.*;
+import static org.junit.Assert.*;
+
+/**
+ * For-each loops and membership tests directly on range expressions are compiled to counted loops and comparisons,
+ * these tests compare them with iterating and testing the range objects.
+ */
+public class RangeLoweringTest
+{
+  private final List<String> _evaluated = new ArrayList<>();
+
+  @Test
+  public void testIntLoops()
+  {
+    for( int a = -3; a <= 3; a++ )
+    {
+      for( int b = -3; b <= 3; b++ )
+      {
+        for( int s = 1; s <= 3; s++ )
+        {
+          assertEquals( iterate( a to b step s ), closed( a, b, s ) );
+          assertEquals( iterate( a _to b step s ), leftOpen( a, b, s ) );
+          assertEquals( iterate( a to_ b step s ), rightOpen( a, b, s ) );
+          assertEquals( iterate( a _to_ b step s ), open( a, b, s ) );
+        }
+        List<Integer> values = new ArrayList<>();
+        for( Integer i: a to b )
+        {
+          values.add( i );
+        }
+        assertEquals( iterate( a to b ), values );
+      }
+    }
+  }
+
+  @Test
+  public void testLongLoops()
+  {
+    for( long a = -3; a <= 3; a++ )
+    {
+      for( long b = -3; b <= 3; b++ )
+      {
+        LongRange range = a _to b step 2L;
+        List<Long> expected = new ArrayList<>();
+        for( long l: range )
+        {
+          expected.add( l );
+        }
+        List<Long> values = new ArrayList<>();
+        for( long l: a _to b step 2L )
+        {
+          values.add( l );
+        }
+        assertEquals( expected, values );
+      }
+    }
+  }
+
+  @Test
+  public void testLoopsAtLimits()
+  {
+    int[] ends = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MIN_VALUE + 2,
+                  Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+    for( int a: ends )
+    {
+      for( int b: ends )
+      {
+        if( Math.abs( (long)a - b ) > 2 )
+        {
+          continue;
+        }
+        for( int s = 1; s <= 3; s++ )
+        {
+          assertEquals( iterate( a to b step s ), closed( a, b, s ) );
+          assertEquals( iterate( a _to b step s ), leftOpen( a, b, s ) );
+          assertEquals( iterate( a to_ b step s ), rightOpen( a, b, s ) );
+          assertEquals( iterate( a _to_ b step s ), open( a, b, s ) );
+        }
+      }
+    }
+
+    long[][] longRanges = {{Long.MAX_VALUE - 1, Long.MAX_VALUE}, {Long.MAX_VALUE, Long.MAX_VALUE},
+                           {Long.MIN_VALUE + 1, Long.MIN_VALUE}, {Long.MIN_VALUE, Long.MIN_VALUE}};
+    for( long[] ends2: longRanges )
+    {
+      long a = ends2[0];
+      long b = ends2[1];
+      for( long s = 1; s <= 3; s++ )
+      {
+        List<Long> expected = new ArrayList<>();
+        for( long l: (LongRange)(a to b step s) )
+        {
+          expected.add( l );
+        }
+        List<Long> values = new ArrayList<>();
+        for( long l: a to b step s )
+        {
+          values.add( l );
+          assertTrue( values.size() <= 100 );
+        }
+        assertEquals( expected, values );
+
+        expected.clear();
+        for( long l: (LongRange)(a _to b step s) )
+        {
+          expected.add( l );
+        }
+        values.clear();
+        for( long l: a _to b step s )
+        {
+          values.add( l );
+          assertTrue( values.size() <= 100 );
+        }
+        assertEquals( expected, values );
+      }
+    }
+    long max = Long.MAX_VALUE;
+    long beforeMax = max - 1;
+    List<Long> values = new ArrayList<>();
+    for( long l: beforeMax to max )
+    {
+      values.add( l );
+      assertTrue( values.size() <= 100 );
+    }
+    assertEquals( Arrays.asList( Long.MAX_VALUE - 1, Long.MAX_VALUE ), values );
+  }
+
+  @Test
+  public void testDoubleLoops()
+  {
+    for( double a = -1; a <= 1; a += .5 )
+    {
+      for( double b = -1; b <= 1; b += .5 )
+      {
+        DoubleRange range = a to_ b step .25;
+        List<Double> expected = new ArrayList<>();
+        for( double d: range )
+        {
+          expected.add( d );
+        }
+        List<Double> values = new ArrayList<>();
+        for( double d: a to_ b step .25 )
+        {
+          values.add( d );
+        }
+        assertEquals( expected, values );
+      }
+    }
+  }
+
+  @Test
+  public void testControlFlow()
+  {
+    List<Integer> values = new ArrayList<>();
+    outer:
+    for( int i: 0 to 9 )
+    {
+      for( int j: 0 to 9 )
+      {
+        if( j > i )
+        {
+          continue outer;
+        }
+        if( i == 3 )
+        {
+          break outer;
+        }
+        values.add( i * 10 + j );
+      }
+    }
+    assertEquals( Arrays.asList( 0, 10, 11, 20, 21, 22 ), values );
+
+    int sum = 0;
+    for( int i: 1 to 10 )
+    {
+      i = i * 2; // the loop variable is a copy
+      sum += i;
+    }
+    assertEquals( 110, sum );
+  }
+
+  @Test
+  public void testInvalidStep()
+  {
+    for( int s: new int[] {0, -1} )
+    {
+      try
+      {
+        for( int i: 0 to 10 step s )
+        {
+          fail();
+        }
+        fail();
+      }
+      catch( IllegalArgumentException e )
+      {
+        assertEquals( "The step must be greater than 0: " + s, e.getMessage() );
+      }
+    }
+    try
+    {
+      for( long l: 10L to 0L step (-2L) )
+      {
+        fail();
+      }
+      fail();
+    }
+    catch( IllegalArgumentException e )
+    {
+      assertEquals( "The step must be greater than 0: -2", e.getMessage() );
+    }
+    try
+    {
+      for( double d: 0.0 to_ 1.0 step 0.0 )
+      {
+        fail();
+      }
+      fail();
+    }
+    catch( IllegalArgumentException e )
+    {
+      assertEquals( "The step must be greater than 0: 0.0", e.getMessage() );
+    }
+  }
+
+  @Test
+  public void testEvaluationOrder()
+  {
+    for( int i: eval( "start", 0 ) to (eval( "end", 2 )) step (eval( "step", 1 )) )
+    {
+      _evaluated.add( "body" );
+    }
+    assertEquals( Arrays.asList( "start", "end", "step", "body", "body", "body" ), _evaluated );
+
+    _evaluated.clear();
+    assertTrue( eval( "x", 1 ) inside (eval( "a", 0 )) to (eval( "b", 2 )) );
+    assertEquals( Arrays.asList( "a", "b", "x" ), _evaluated );
+  }
+
+  @Test
+  public void testMembership()
+  {
+    for( int a = -2; a <= 2; a++ )
+    {
+      for( int b = -2; b <= 2; b++ )
+      {
+        for( int x = -3; x <= 3; x++ )
+        {
+          assertEquals( (a to b).contains( x ), x inside a to b );
+          assertEquals( (a _to b).contains( x ), x inside a _to b );
+          assertEquals( (a to_ b).contains( x ), x inside a to_ b );
+          assertEquals( (a _to_ b).contains( x ), x inside a _to_ b );
+          assertNotEquals( (a _to b).contains( x ), x outside a _to b );
+          assertNotEquals( (a to_ b).contains( x ), x outside a to_ b );
+        }
+      }
+    }
+
+    double[] values = {-0.0, 0.0, 1, Double.NaN};
+    for( double a: values )
+    {
+      for( double b: values )
+      {
+        for( double x: values )
+        {
+          assertEquals( (a to b).contains( x ), x inside a to b );
+          assertEquals( (a _to_ b).contains( x ), x inside a _to_ b );
+          assertNotEquals( (a to b).contains( x ), x outside a to b );
+        }
+      }
+    }
+
+    long l = 5;
+    assertTrue( l inside 1L to 10L );
+    assertTrue( l outside 6L to 10L );
+  }
+
+  private int eval( String name, int value )
+  {
+    _evaluated.add( name );
+    return value;
+  }
+
+  private static List<Integer> iterate( IntegerRange range )
+  {
+    List<Integer> values = new ArrayList<>();
+    for( int i: range )
+    {
+      values.add( i );
+    }
+    return values;
+  }
+
+  private static List<Integer> closed( int a, int b, int s )
+  {
+    List<Integer> values = new ArrayList<>();
+    for( int i: a to b step s )
+    {
+      values.add( i );
+      // a loop that wraps around at the limits of int is endless
+      assertTrue( values.size() <= 100 );
+    }
+    return values;
+  }
+
+  private static List<Integer> leftOpen( int a, int b, int s )
+  {
+    List<Integer> values = new ArrayList<>();
+    for( int i: a _to b step s )
+    {
+      values.add( i );
+      // a loop that wraps around at the limits of int is endless
+      assertTrue( values.size() <= 100 );
+    }
+    return values;
+  }
+
+  private static List<Integer> rightOpen( int a, int b, int s )
+  {
+    List<Integer> values = new ArrayList<>();
+    for( int i: a to_ b step s )
+    {
+      values.add( i );
+      // a loop that wraps around at the limits of int is endless
+      assertTrue( values.size() <= 100 );
+    }
+    return values;
+  }
+
+  private static List<Integer> open( int a, int b, int s )
+  {
+    List<Integer> values = new ArrayList<>();
+    for( int i: a _to_ b step s )
+    {
+      values.add( i );
+      // a loop that wraps around at the limits of int is endless
+      assertTrue( values.size() <= 100 );
+    }
+    return values;
+  }
+}
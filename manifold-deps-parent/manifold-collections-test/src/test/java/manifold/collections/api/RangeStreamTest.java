@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.collections.api;
+
+import manifold.collections.api.range.DoubleRange;
+import manifold.collections.api.range.IntegerRange;
+import manifold.collections.api.range.LongRange;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+public class RangeStreamTest
+{
+  @Test
+  public void testIntStream()
+  {
+    for( int a = -4; a <= 4; a++ )
+    {
+      for( int b = -4; b <= 4; b++ )
+      {
+        for( int step = 1; step <= 3; step++ )
+        {
+          for( int flags = 0; flags < 4; flags++ )
+          {
+            IntegerRange range = new IntegerRange( a, b, step, (flags & 1) != 0, (flags & 2) != 0, a > b );
+            List<Integer> expected = new ArrayList<>();
+            range.iterator().forEachRemaining( expected::add );
+
+            assertEquals( expected, range.intStream().boxed().collect( Collectors.toList() ) );
+            assertEquals( expected, range.intStream().parallel().boxed().collect( Collectors.toList() ) );
+            assertEquals( expected.size(), range.spliterator().getExactSizeIfKnown() );
+
+            List<Integer> values = new ArrayList<>();
+            PrimitiveIterator.OfInt iterator = range.intIterator();
+            while( iterator.hasNext() )
+            {
+              values.add( iterator.nextInt() );
+            }
+            assertEquals( expected, values );
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIntegerRangeLimits()
+  {
+    // iteration stops at the limits of int instead of wrapping around
+    assertEquals( asList( Integer.MAX_VALUE - 1, Integer.MAX_VALUE ),
+      toList( new IntegerRange( Integer.MAX_VALUE - 1, Integer.MAX_VALUE ).iterator() ) );
+    assertEquals( asList( Integer.MAX_VALUE - 3, Integer.MAX_VALUE - 1 ),
+      toList( new IntegerRange( Integer.MAX_VALUE - 3, Integer.MAX_VALUE, 2 ).iterator() ) );
+    assertEquals( asList( Integer.MIN_VALUE + 1, Integer.MIN_VALUE ),
+      toList( new IntegerRange( Integer.MIN_VALUE + 1, Integer.MIN_VALUE, 1, true, true, true ).iterator() ) );
+    assertEquals( asList( Integer.MIN_VALUE + 2, Integer.MIN_VALUE ),
+      toList( new IntegerRange( Integer.MIN_VALUE + 2, Integer.MIN_VALUE, 2, true, true, true ).iterator() ) );
+
+    PrimitiveIterator.OfInt iterator = new IntegerRange( Integer.MAX_VALUE, Integer.MAX_VALUE ).intIterator();
+    assertEquals( Integer.MAX_VALUE, iterator.nextInt() );
+    assertFalse( iterator.hasNext() );
+    try
+    {
+      iterator.nextInt();
+      fail();
+    }
+    catch( NoSuchElementException expected )
+    {
+    }
+
+    int[] endpoints = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+    for( int a : endpoints )
+    {
+      for( int b : endpoints )
+      {
+        for( int step = 1; step <= 3; step++ )
+        {
+          for( int flags = 0; flags < 4; flags++ )
+          {
+            IntegerRange range = new IntegerRange( a, b, step, (flags & 1) != 0, (flags & 2) != 0, a > b );
+            if( range.spliterator().getExactSizeIfKnown() > 100 )
+            {
+              continue;
+            }
+            List<Integer> expected = toList( range.iterator() );
+            assertEquals( range.toString(), expected, range.intStream().boxed().collect( Collectors.toList() ) );
+          }
+        }
+      }
+    }
+
+    // the long iterators stop at the limits of long
+    assertEquals( asList( Long.MAX_VALUE - 1, Long.MAX_VALUE ),
+      toList( new LongRange( Long.MAX_VALUE - 1, Long.MAX_VALUE ).iterator() ) );
+    assertEquals( asList( Long.MIN_VALUE + 1, Long.MIN_VALUE ),
+      toList( new LongRange( Long.MIN_VALUE + 1, Long.MIN_VALUE, 1, true, true, true ).iterator() ) );
+  }
+
+  @Test
+  public void testLongStream()
+  {
+    // reversed, the closed flags apply to the lower and upper endpoints: [0, 10)
+    LongRange range = new LongRange( 10L, 0L, 3, true, false, true );
+    assertArrayEquals( new long[] {7, 4, 1}, range.longStream().toArray() );
+    assertArrayEquals( new long[] {7, 4, 1}, range.longStream().parallel().toArray() );
+    assertEquals( 7, range.longIterator().nextLong() );
+
+    LongRange big = new LongRange( 0L, 10_000_000L );
+    assertEquals( 50_000_005_000_000L, big.longStream().parallel().sum() );
+  }
+
+  @Test
+  public void testWideLongRanges()
+  {
+    // the distance between the endpoints exceeds Long.MAX_VALUE
+    LongRange wide = new LongRange( -10L, Long.MAX_VALUE, Long.MAX_VALUE / 2, true, true, false );
+    assertArrayEquals( new long[] {-10, Long.MAX_VALUE / 2 - 10, Long.MAX_VALUE / 2 * 2 - 10},
+      wide.longStream().toArray() );
+    assertEquals( 3, wide.spliterator().getExactSizeIfKnown() );
+    assertArrayEquals( new long[] {-10, Long.MAX_VALUE / 2 - 10, Long.MAX_VALUE / 2 * 2 - 10},
+      wide.longStream().parallel().toArray() );
+
+    LongRange reversed = new LongRange( 10L, Long.MIN_VALUE, Long.MAX_VALUE, true, true, true );
+    assertArrayEquals( new long[] {10, 10 - Long.MAX_VALUE}, reversed.longStream().toArray() );
+
+    // the last values are at the limits of long
+    LongRange toMax = new LongRange( Long.MAX_VALUE - 4, Long.MAX_VALUE, 2, false, true, false );
+    assertArrayEquals( new long[] {Long.MAX_VALUE - 2, Long.MAX_VALUE}, toMax.longStream().toArray() );
+    assertEquals( 2, toMax.longStream().count() );
+    LongRange toMin = new LongRange( Long.MIN_VALUE + 1, Long.MIN_VALUE, 1, true, true, true );
+    assertArrayEquals( new long[] {Long.MIN_VALUE + 1, Long.MIN_VALUE}, toMin.longStream().toArray() );
+
+    // Long.MAX_VALUE values fit in the size, more do not
+    LongRange max = new LongRange( 0L, Long.MAX_VALUE, 1, true, false, false );
+    assertEquals( Long.MAX_VALUE, max.spliterator().getExactSizeIfKnown() );
+    LongRange all = new LongRange( Long.MIN_VALUE, Long.MAX_VALUE, 1, true, true, false );
+    assertEquals( -1, all.spliterator().getExactSizeIfKnown() );
+    assertArrayEquals( new long[] {Long.MIN_VALUE, Long.MIN_VALUE + 1}, all.longStream().limit( 2 ).toArray() );
+    LongRange allReversed = new LongRange( Long.MAX_VALUE, Long.MIN_VALUE, 1, true, true, true );
+    assertArrayEquals( new long[] {Long.MAX_VALUE, Long.MAX_VALUE - 1}, allReversed.longStream().limit( 2 ).toArray() );
+  }
+
+  @Test
+  public void testLongStreamMatchesIterator()
+  {
+    long[] endpoints = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -3, 0, 2, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+    long[] steps = {1, 2, 3, Long.MAX_VALUE};
+    for( long a : endpoints )
+    {
+      for( long b : endpoints )
+      {
+        for( long s : steps )
+        {
+          for( int flags = 0; flags < 4; flags++ )
+          {
+            LongRange range = new LongRange( a, b, s, (flags & 1) != 0, (flags & 2) != 0, a > b );
+            long size = range.spliterator().getExactSizeIfKnown();
+            if( size < 0 || size > 100 )
+            {
+              continue;
+            }
+            List<Long> expected = new ArrayList<>();
+            for( Iterator<Long> iterator = range.iterator(); iterator.hasNext() && expected.size() <= 100; )
+            {
+              expected.add( iterator.next() );
+            }
+            assertEquals( range.toString(), expected, range.longStream().boxed().collect( Collectors.toList() ) );
+            assertEquals( range.toString(), expected.size(), size );
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDoubleStream()
+  {
+    DoubleRange range = new DoubleRange( 0d, 1d, .25, true, false, false );
+    assertArrayEquals( new double[] {0, .25, .5, .75}, range.doubleStream().toArray(), 0 );
+    assertArrayEquals( new double[] {.5, .25}, new DoubleRange( .5, 0d, .25, false, true, true )
+      .doubleStream().toArray(), 0 );
+    assertEquals( 0, new DoubleRange( 0d, 0d, 1, false, true, false ).doubleStream().count() );
+
+    DoubleRange tenths = new DoubleRange( 0d, 1d, .1 );
+    assertEquals( 11, tenths.doubleStream().count() );
+    assertEquals( 11, tenths.doubleStream().parallel().count() );
+    double[] values = tenths.doubleStream().toArray();
+    for( int i = 0; i < values.length; i++ )
+    {
+      assertEquals( tenths.getFromLeft( i ), values[i], 0 );
+    }
+  }
+
+  @Test
+  public void testDoubleStreamMatchesIterator()
+  {
+    // large
+    DoubleRange large = new DoubleRange( 0d, 1e7, 1 );
+    assertEquals( count( large.iterator() ), large.doubleStream().count() );
+    assertEquals( 10_000_001, large.spliterator().getExactSizeIfKnown() );
+    DoubleRange largeReversed = new DoubleRange( 1e7, -1e7, 4, true, false, true );
+    assertEquals( count( largeReversed.iterator() ), largeReversed.doubleStream().count() );
+
+    // infinite, the spliterator is not sized and steps like the iterator
+    for( DoubleRange infinite : new DoubleRange[] {
+      new DoubleRange( 0d, Double.POSITIVE_INFINITY, 1 ),
+      new DoubleRange( 0d, Double.NEGATIVE_INFINITY, .5, true, true, true )} )
+    {
+      assertEquals( -1, infinite.spliterator().getExactSizeIfKnown() );
+      List<Double> expected = new ArrayList<>();
+      Iterator<Double> iterator = infinite.iterator();
+      for( int i = 0; i < 1000; i++ )
+      {
+        expected.add( iterator.next() );
+      }
+      assertTrue( iterator.hasNext() );
+      assertEquals( expected, infinite.doubleStream().limit( 1000 ).boxed().collect( Collectors.toList() ) );
+    }
+
+    // the number of steps saturates a long
+    DoubleRange saturated = new DoubleRange( -Double.MAX_VALUE, Double.MAX_VALUE, 1e-300 );
+    assertEquals( -1, saturated.spliterator().getExactSizeIfKnown() );
+    assertEquals( 3, saturated.doubleStream().limit( 3 ).count() );
+    // beyond 2^53 doubles are spaced more than 1 apart, the size is still known
+    DoubleRange huge = new DoubleRange( 0d, (double)(1L << 62), 1, true, false, false );
+    assertTrue( huge.spliterator().hasCharacteristics( Spliterator.SIZED ) );
+    assertEquals( 1L << 62, huge.spliterator().getExactSizeIfKnown(), 1024 );
+  }
+
+  @Test
+  public void testSplit()
+  {
+    Spliterator.OfInt whole = new IntegerRange( 0, 999 ).spliterator();
+    Spliterator.OfInt prefix = whole.trySplit();
+    assertEquals( 500, prefix.estimateSize() );
+    assertEquals( 500, whole.estimateSize() );
+    int[] first = new int[1];
+    assertTrue( whole.tryAdvance( (int i) -> first[0] = i ) );
+    assertEquals( 500, first[0] );
+
+    assertEquals( IntStream.rangeClosed( 0, 999 ).sum(), new IntegerRange( 0, 999 ).intStream().parallel().sum() );
+  }
+
+  private static long count( Iterator<?> iterator )
+  {
+    long count = 0;
+    for( ; iterator.hasNext(); iterator.next() )
+    {
+      count++;
+    }
+    return count;
+  }
+
+  private static <E> List<E> toList( Iterator<E> iterator )
+  {
+    List<E> list = new ArrayList<>();
+    while( iterator.hasNext() && list.size() <= 100 )
+    {
+      list.add( iterator.next() );
+    }
+    return list;
+  }
+}
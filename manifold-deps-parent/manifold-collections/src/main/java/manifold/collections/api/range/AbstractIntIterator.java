@@ -18,11 +18,11 @@
 
 package manifold.collections.api.range;
 
-import java.util.Iterator;
+import java.util.PrimitiveIterator;
 
 /**
  */
-public abstract class AbstractIntIterator implements Iterator<Integer>
+public abstract class AbstractIntIterator implements PrimitiveIterator.OfInt
 {
   abstract public int nextInt();
 }
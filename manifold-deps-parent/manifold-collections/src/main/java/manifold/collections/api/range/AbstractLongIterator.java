@@ -18,11 +18,11 @@
 
 package manifold.collections.api.range;
 
-import java.util.Iterator;
+import java.util.PrimitiveIterator;
 
 /**
  */
-public abstract class AbstractLongIterator implements Iterator<Long>
+public abstract class AbstractLongIterator implements PrimitiveIterator.OfLong
 {
   abstract public long nextLong();
 }
@@ -20,6 +20,12 @@ package manifold.collections.api.range;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 public final class DoubleRange extends NumberRange<Double, DoubleRange>
 {
@@ -97,7 +103,142 @@ public final class DoubleRange extends NumberRange<Double, DoubleRange>
     return null;
   }
 
-  public class ForwardIterator implements Iterator<Double>
+  /**
+   * @return An iterator over the values of this range in iteration order,
+   * {@link PrimitiveIterator.OfDouble#nextDouble()} does not box
+   */
+  public PrimitiveIterator.OfDouble doubleIterator()
+  {
+    return isReversed() ? new ReverseIterator() : new ForwardIterator();
+  }
+
+  /**
+   * @return A spliterator over the values of this range in iteration order. It computes values from step indexes, so it
+   * splits evenly for parallel streams. Like {@link #getFromLeft(int)} it multiplies the step by the index, which can
+   * differ in the last bits from the values of {@link #iterator()}, which adds the step repeatedly. If the range is
+   * infinite or has more than {@code Long.MAX_VALUE} values, the spliterator is not sized and steps like the iterator.
+   */
+  @Override
+  public Spliterator.OfDouble spliterator()
+  {
+    double step = getStep();
+    double first = isReversed() ? getRightEndpoint() : getLeftEndpoint();
+    long offset = (isReversed() ? isRightClosed() : isLeftClosed()) ? 0 : 1;
+    StepSpliterator spliterator = new StepSpliterator( first, isReversed() ? -step : step, offset, offset );
+    double distance = Math.abs( (isReversed() ? getLeftEndpoint() : getRightEndpoint()) - first );
+    if( Double.isNaN( distance ) )
+    {
+      // no values, like the iterator
+      return spliterator;
+    }
+
+    double steps = distance / step;
+    if( !(steps < Long.MAX_VALUE - 1) )
+    {
+      // infinite, or the number of steps saturates a long
+      return Spliterators.spliteratorUnknownSize( doubleIterator(),
+        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE );
+    }
+
+    // estimate the number of steps, then correct for rounding
+    long last = (long)steps;
+    while( last >= offset && !spliterator.isInRange( last ) )
+    {
+      last--;
+    }
+    while( last < Long.MAX_VALUE - 1 && spliterator.isInRange( last + 1 ) )
+    {
+      last++;
+    }
+    spliterator._fence = Math.max( offset, last + 1 );
+    return spliterator;
+  }
+
+  /**
+   * @return A sequential stream of the values of this range in iteration order, use {@link DoubleStream#parallel()} for
+   * a parallel stream
+   */
+  public DoubleStream doubleStream()
+  {
+    return StreamSupport.doubleStream( spliterator(), false );
+  }
+
+  private class StepSpliterator implements Spliterator.OfDouble
+  {
+    private final double _first;
+    private final double _step;
+    private long _index;
+    private long _fence;
+
+    private StepSpliterator( double first, double step, long index, long fence )
+    {
+      _first = first;
+      _step = step;
+      _index = index;
+      _fence = fence;
+    }
+
+    private double valueAt( long index )
+    {
+      return _first + _step * index;
+    }
+
+    private boolean isInRange( long index )
+    {
+      double value = valueAt( index );
+      return _step > 0
+             ? isRightClosed() ? value <= getRightEndpoint() : value < getRightEndpoint()
+             : isLeftClosed() ? value >= getLeftEndpoint() : value > getLeftEndpoint();
+    }
+
+    @Override
+    public OfDouble trySplit()
+    {
+      long mid = (_index + _fence) >>> 1;
+      if( mid <= _index )
+      {
+        return null;
+      }
+      StepSpliterator prefix = new StepSpliterator( _first, _step, _index, mid );
+      _index = mid;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance( DoubleConsumer action )
+    {
+      if( _index >= _fence )
+      {
+        return false;
+      }
+      action.accept( valueAt( _index++ ) );
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining( DoubleConsumer action )
+    {
+      for( long i = _index; i < _fence; i++ )
+      {
+        action.accept( valueAt( i ) );
+      }
+      _index = _fence;
+    }
+
+    @Override
+    public long estimateSize()
+    {
+      return _fence - _index;
+    }
+
+    @Override
+    public int characteristics()
+    {
+      return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+  }
+
+  public class ForwardIterator extends AbstractDoubleIterator
   {
     private double _csr;
 
@@ -118,6 +259,12 @@ public final class DoubleRange extends NumberRange<Double, DoubleRange>
 
     @Override
     public Double next()
+    {
+      return nextDouble();
+    }
+
+    @Override
+    public double nextDouble()
     {
       if( _csr > getRightEndpoint() ||
           (!isRightClosed() && _csr == getRightEndpoint()) )
@@ -136,7 +283,7 @@ public final class DoubleRange extends NumberRange<Double, DoubleRange>
     }
   }
 
-  private class ReverseIterator implements Iterator<Double>
+  private class ReverseIterator extends AbstractDoubleIterator
   {
     private double _csr;
 
@@ -157,6 +304,12 @@ public final class DoubleRange extends NumberRange<Double, DoubleRange>
 
     @Override
     public Double next()
+    {
+      return nextDouble();
+    }
+
+    @Override
+    public double nextDouble()
     {
       if( _csr < getLeftEndpoint() ||
           (!isLeftClosed() && _csr == getLeftEndpoint()) )
@@ -20,6 +20,11 @@ package manifold.collections.api.range;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public final class IntegerRange extends NumberRange<Integer, IntegerRange>
 {
@@ -95,9 +100,110 @@ public final class IntegerRange extends NumberRange<Integer, IntegerRange>
     return null;
   }
 
+  /**
+   * @return An iterator over the values of this range in iteration order, {@link PrimitiveIterator.OfInt#nextInt()}
+   * does not box
+   */
+  public PrimitiveIterator.OfInt intIterator()
+  {
+    return isReversed() ? new ReverseIterator() : new ForwardIterator();
+  }
+
+  /**
+   * @return A spliterator over the values of this range in iteration order. It computes values from step indexes, so it
+   * splits evenly for parallel streams.
+   */
+  @Override
+  public Spliterator.OfInt spliterator()
+  {
+    long step = getStep();
+    long first = isReversed()
+                 ? (long)getRightEndpoint() - (isRightClosed() ? 0 : step)
+                 : (long)getLeftEndpoint() + (isLeftClosed() ? 0 : step);
+    long distance = isReversed() ? first - getLeftEndpoint() : getRightEndpoint() - first;
+    boolean lastClosed = isReversed() ? isLeftClosed() : isRightClosed();
+    long size = distance < 0 || (distance == 0 && !lastClosed)
+                ? 0
+                : (lastClosed ? distance : distance - 1) / step + 1;
+    return new StepSpliterator( first, isReversed() ? -step : step, 0, size );
+  }
+
+  /**
+   * @return A sequential stream of the values of this range in iteration order, use {@link IntStream#parallel()} for a
+   * parallel stream
+   */
+  public IntStream intStream()
+  {
+    return StreamSupport.intStream( spliterator(), false );
+  }
+
+  private static class StepSpliterator implements Spliterator.OfInt
+  {
+    private final long _first;
+    private final long _step;
+    private long _index;
+    private final long _fence;
+
+    private StepSpliterator( long first, long step, long index, long fence )
+    {
+      _first = first;
+      _step = step;
+      _index = index;
+      _fence = fence;
+    }
+
+    @Override
+    public OfInt trySplit()
+    {
+      long mid = (_index + _fence) >>> 1;
+      if( mid <= _index )
+      {
+        return null;
+      }
+      StepSpliterator prefix = new StepSpliterator( _first, _step, _index, mid );
+      _index = mid;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance( IntConsumer action )
+    {
+      if( _index >= _fence )
+      {
+        return false;
+      }
+      action.accept( (int)(_first + _step * _index++) );
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining( IntConsumer action )
+    {
+      for( long i = _index; i < _fence; i++ )
+      {
+        action.accept( (int)(_first + _step * i) );
+      }
+      _index = _fence;
+    }
+
+    @Override
+    public long estimateSize()
+    {
+      return _fence - _index;
+    }
+
+    @Override
+    public int characteristics()
+    {
+      return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+  }
+
   public class ForwardIterator extends AbstractIntIterator
   {
     private int _csr;
+    /** true if the next value would overflow */
+    private boolean _overflow;
 
     public ForwardIterator()
     {
@@ -111,7 +217,7 @@ public final class IntegerRange extends NumberRange<Integer, IntegerRange>
     @Override
     public boolean hasNext()
     {
-      return _csr < getRightEndpoint() || (isRightClosed() && _csr == getRightEndpoint());
+      return !_overflow && (_csr < getRightEndpoint() || (isRightClosed() && _csr == getRightEndpoint()));
     }
 
     @Override
@@ -122,12 +228,12 @@ public final class IntegerRange extends NumberRange<Integer, IntegerRange>
 
     public int nextInt()
     {
-      if( _csr > getRightEndpoint() ||
-          (!isRightClosed() && _csr == getRightEndpoint()) )
+      if( !hasNext() )
       {
         throw new NoSuchElementException();
       }
       int ret = _csr;
+      _overflow = ret > Integer.MAX_VALUE - getStep();
       _csr = _csr + getStep();
       return ret;
     }
@@ -142,6 +248,8 @@ public final class IntegerRange extends NumberRange<Integer, IntegerRange>
   private class ReverseIterator extends AbstractIntIterator
   {
     private int _csr;
+    /** true if the next value would overflow */
+    private boolean _overflow;
 
     public ReverseIterator()
     {
@@ -155,7 +263,7 @@ public final class IntegerRange extends NumberRange<Integer, IntegerRange>
     @Override
     public boolean hasNext()
     {
-       return _csr > getLeftEndpoint() || (isLeftClosed() && _csr == getLeftEndpoint());
+       return !_overflow && (_csr > getLeftEndpoint() || (isLeftClosed() && _csr == getLeftEndpoint()));
     }
 
     @Override
@@ -166,12 +274,12 @@ public final class IntegerRange extends NumberRange<Integer, IntegerRange>
 
     public int nextInt()
     {
-      if( _csr < getLeftEndpoint() ||
-          (!isLeftClosed() && _csr == getLeftEndpoint()) )
+      if( !hasNext() )
       {
         throw new NoSuchElementException();
       }
       int ret = _csr;
+      _overflow = ret < Integer.MIN_VALUE + getStep();
       _csr = _csr - getStep();
       return ret;
     }
@@ -20,6 +20,12 @@ package manifold.collections.api.range;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 public final class LongRange extends NumberRange<Long, LongRange>
 {
@@ -93,9 +99,136 @@ public final class LongRange extends NumberRange<Long, LongRange>
     return null;
   }
 
+  /**
+   * @return An iterator over the values of this range in iteration order, {@link PrimitiveIterator.OfLong#nextLong()}
+   * does not box
+   */
+  public PrimitiveIterator.OfLong longIterator()
+  {
+    return isReversed() ? new ReverseIterator() : new ForwardIterator();
+  }
+
+  /**
+   * @return A spliterator over the values of this range in iteration order. It computes values from step indexes, so it
+   * splits evenly for parallel streams. A range of more than {@code Long.MAX_VALUE} values, such as
+   * {@code Long.MIN_VALUE to Long.MAX_VALUE}, can't report its size, its spliterator iterates and is not sized.
+   */
+  @Override
+  public Spliterator.OfLong spliterator()
+  {
+    long step = getStep();
+    boolean reversed = isReversed();
+    long from = reversed ? getRightEndpoint() : getLeftEndpoint();
+    long to = reversed ? getLeftEndpoint() : getRightEndpoint();
+    if( reversed ? from < to : from > to )
+    {
+      return Spliterators.emptyLongSpliterator();
+    }
+
+    // the distance between the endpoints and the step indexes are unsigned, they may exceed Long.MAX_VALUE
+    long distance = reversed ? from - to : to - from;
+    long firstIndex = (reversed ? isRightClosed() : isLeftClosed()) ? 0 : 1;
+    long lastIndex = Long.divideUnsigned( distance, step );
+    if( !(reversed ? isLeftClosed() : isRightClosed()) && Long.remainderUnsigned( distance, step ) == 0 )
+    {
+      if( lastIndex == 0 )
+      {
+        return Spliterators.emptyLongSpliterator();
+      }
+      lastIndex--;
+    }
+    if( Long.compareUnsigned( lastIndex, firstIndex ) < 0 )
+    {
+      return Spliterators.emptyLongSpliterator();
+    }
+
+    long size = lastIndex - firstIndex + 1;
+    if( size <= 0 )
+    {
+      // more than Long.MAX_VALUE values
+      return Spliterators.spliteratorUnknownSize( longIterator(),
+        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE );
+    }
+    long first = reversed ? from - step * firstIndex : from + step * firstIndex;
+    return new StepSpliterator( first, reversed ? -step : step, 0, size );
+  }
+
+  /**
+   * @return A sequential stream of the values of this range in iteration order, use {@link LongStream#parallel()} for a
+   * parallel stream
+   */
+  public LongStream longStream()
+  {
+    return StreamSupport.longStream( spliterator(), false );
+  }
+
+  private static class StepSpliterator implements Spliterator.OfLong
+  {
+    private final long _first;
+    private final long _step;
+    private long _index;
+    private final long _fence;
+
+    private StepSpliterator( long first, long step, long index, long fence )
+    {
+      _first = first;
+      _step = step;
+      _index = index;
+      _fence = fence;
+    }
+
+    @Override
+    public OfLong trySplit()
+    {
+      long mid = (_index + _fence) >>> 1;
+      if( mid <= _index )
+      {
+        return null;
+      }
+      StepSpliterator prefix = new StepSpliterator( _first, _step, _index, mid );
+      _index = mid;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance( LongConsumer action )
+    {
+      if( _index >= _fence )
+      {
+        return false;
+      }
+      action.accept( _first + _step * _index++ );
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining( LongConsumer action )
+    {
+      for( long i = _index; i < _fence; i++ )
+      {
+        action.accept( _first + _step * i );
+      }
+      _index = _fence;
+    }
+
+    @Override
+    public long estimateSize()
+    {
+      return _fence - _index;
+    }
+
+    @Override
+    public int characteristics()
+    {
+      return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+  }
+
   public class ForwardIterator extends AbstractLongIterator
   {
     private long _csr;
+    /** true if the next value would overflow */
+    private boolean _overflow;
 
     public ForwardIterator()
     {
@@ -109,7 +242,7 @@ public final class LongRange extends NumberRange<Long, LongRange>
     @Override
     public boolean hasNext()
     {
-      return _csr < getRightEndpoint() || (isRightClosed() && _csr == getRightEndpoint());
+      return !_overflow && (_csr < getRightEndpoint() || (isRightClosed() && _csr == getRightEndpoint()));
     }
 
     @Override
@@ -119,12 +252,12 @@ public final class LongRange extends NumberRange<Long, LongRange>
     }
     public long nextLong()
     {
-      if( _csr > getRightEndpoint() ||
-          (!isRightClosed() && _csr == getRightEndpoint()) )
+      if( !hasNext() )
       {
         throw new NoSuchElementException();
       }
       long ret = _csr;
+      _overflow = ret > Long.MAX_VALUE - getStep();
       _csr = _csr + getStep();
       return ret;
     }
@@ -139,6 +272,8 @@ public final class LongRange extends NumberRange<Long, LongRange>
   private class ReverseIterator extends AbstractLongIterator
   {
     private long _csr;
+    /** true if the next value would overflow */
+    private boolean _overflow;
 
     public ReverseIterator()
     {
@@ -152,7 +287,7 @@ public final class LongRange extends NumberRange<Long, LongRange>
     @Override
     public boolean hasNext()
     {
-       return _csr > getLeftEndpoint() || (isLeftClosed() && _csr == getLeftEndpoint());
+       return !_overflow && (_csr > getLeftEndpoint() || (isLeftClosed() && _csr == getLeftEndpoint()));
     }
 
     @Override
@@ -162,12 +297,12 @@ public final class LongRange extends NumberRange<Long, LongRange>
     }
     public long nextLong()
     {
-      if( _csr < getLeftEndpoint() ||
-          (!isLeftClosed() && _csr == getLeftEndpoint()) )
+      if( !hasNext() )
       {
         throw new NoSuchElementException();
       }
       long ret = _csr;
+      _overflow = ret < Long.MIN_VALUE + getStep();
       _csr = _csr - getStep();
       return ret;
     }
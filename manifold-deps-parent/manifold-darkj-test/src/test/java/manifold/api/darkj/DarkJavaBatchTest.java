@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.darkj;
+
+import junit.framework.TestCase;
+import manifold.internal.host.RuntimeManifoldHost;
+import manifold.internal.runtime.Bootstrap;
+import manifold.util.ReflectUtil;
+
+/**
+ * Runs in a JVM of its own, see the pom, batching and the classes it compiles are global to the runtime host.
+ */
+public class DarkJavaBatchTest extends TestCase
+{
+  private static final String BATCH_PROPERTY = "manifold.runtime.batch";
+
+  @Override
+  protected void setUp()
+  {
+    System.setProperty( BATCH_PROPERTY, "true" );
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    System.clearProperty( BATCH_PROPERTY );
+  }
+
+  public void testUnreferencedTypesCompileWithFirst()
+  {
+    Bootstrap.init();
+
+    Object lamp = ReflectUtil.constructor( "abc.Lamp" ).newInstance();
+    // Candle is not referenced from Lamp, it is compiled in the same batch
+    assertNotNull( RuntimeManifoldHost.get().getJavaParser().findCompiledFile( "abc.Candle" ) );
+    // Broken does not compile, javac generates nothing for the batch, the rest of the batch is compiled without it
+    assertNull( RuntimeManifoldHost.get().getJavaParser().findCompiledFile( "abc.Broken" ) );
+    // Torch is in another package, it is not in the batch
+    assertNull( RuntimeManifoldHost.get().getJavaParser().findCompiledFile( "abc.more.Torch" ) );
+
+    assertEquals( "off", ReflectUtil.method( ReflectUtil.method( lamp, "turnOff" ).invoke(), "getName" ).invoke() );
+    Object candle = ReflectUtil.constructor( "abc.Candle" ).newInstance();
+    assertEquals( "flicker", ReflectUtil.method( candle, "getLight" ).invoke() );
+    Object torch = ReflectUtil.constructor( "abc.more.Torch" ).newInstance();
+    assertEquals( "beam", ReflectUtil.method( torch, "getLight" ).invoke() );
+  }
+}
@@ -0,0 +1,10 @@
+package manifold.ext.bench;
+
+import manifold.ext.rt.api.Structural;
+
+@Structural
+public interface Coordinate
+{
+  double getX();
+  double getY();
+}
@@ -0,0 +1,49 @@
+package manifold.ext.bench;
+
+import manifold.ext.rt.RuntimeMethods;
+import manifold.rt.api.IBootstrap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cold-start latency of the first structural cast of a new iface/root-class pair.
+ *
+ * Design:
+ *   Each fork is a fresh JVM, the single measured invocation is the first proxy of Pos -> Coordinate.
+ *   bytecode=true   — proxy class is emitted directly as bytecode (StructuralProxyClassGenerator)
+ *   bytecode=false  — proxy source is generated and compiled with the runtime javac host
+ *
+ * Manifold is bootstrapped in setup so that only proxy creation is measured.
+ *
+ * Build:  mvn -pl :manifold-ext-bench package   (from manifold-deps-parent)
+ * Run:    java -jar target/benchmarks.jar FirstProxyBenchmark   (Java 11+, the source path needs jdk.compiler)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class FirstProxyBenchmark
+{
+  @Param({"true", "false"})
+  public String bytecode;
+
+  private Pos pos;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    System.setProperty( "manifold.ext.proxy.bytecode", bytecode );
+    IBootstrap.dasBoot();
+    pos = new Pos( 1, 2 );
+  }
+
+  @Benchmark
+  public double firstProxy()
+  {
+    Coordinate coord = (Coordinate)RuntimeMethods.constructProxy( pos, Coordinate.class );
+    return coord.getX();
+  }
+}
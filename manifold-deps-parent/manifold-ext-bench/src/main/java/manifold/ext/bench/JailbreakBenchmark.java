@@ -0,0 +1,101 @@
+package manifold.ext.bench;
+
+import manifold.ext.rt.ReflectionBootstrap;
+import manifold.ext.rt.ReflectionRuntimeMethods;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways a {@code @Jailbreak} method call can compile.
+ *
+ * Design:
+ *   reflect*  — the call exactly as the compiler emits it by default, a {@link ReflectionRuntimeMethods} call with
+ *               boxed args in an Object[]
+ *   indy*     — the call as emitted with -Amanifold.ext.jailbreak.indy=true, the call site comes from
+ *               {@link ReflectionBootstrap} and is held in a static final so the JIT treats its target as constant,
+ *               same as an invokedynamic instruction
+ *   receivers — number of distinct receiver classes cycled through the instance call site: 1 is monomorphic, 7 is
+ *               past the inline cache depth (megamorphic)
+ *
+ * Build:  mvn -pl :manifold-ext-bench package   (from manifold-deps-parent)
+ * Run:    java -jar target/benchmarks.jar JailbreakBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JailbreakBenchmark
+{
+  private static final MethodHandle INDY_SCALE;
+  private static final MethodHandle INDY_SQUARE;
+
+  static
+  {
+    try
+    {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      INDY_SCALE = ReflectionBootstrap.invoke( lookup, "scale",
+        MethodType.methodType( int.class, Object.class, int.class ), "(I)I" ).dynamicInvoker();
+      INDY_SQUARE = ReflectionBootstrap.invokeStatic( lookup, "square",
+        MethodType.methodType( int.class, int.class ), "(I)I", Secret.class.getName() ).dynamicInvoker();
+    }
+    catch( ReflectiveOperationException e )
+    {
+      throw new ExceptionInInitializerError( e );
+    }
+  }
+
+  @Param({"1", "7"})
+  public int receivers;
+
+  private Secret[] _secrets;
+  private int _index;
+  private int _arg;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    Secret[] all = {new Secret.S1(), new Secret.S2(), new Secret.S3(), new Secret.S4(),
+      new Secret.S5(), new Secret.S6(), new Secret.S7()};
+    _secrets = new Secret[receivers];
+    System.arraycopy( all, 0, _secrets, 0, receivers );
+    _arg = 42;
+  }
+
+  private Secret next()
+  {
+    Secret secret = _secrets[_index];
+    _index = (_index + 1) % _secrets.length;
+    return secret;
+  }
+
+  @Benchmark
+  public int reflectInstance()
+  {
+    return ReflectionRuntimeMethods.invoke_int( next(), "scale", new Class[]{int.class}, new Object[]{_arg} );
+  }
+
+  @Benchmark
+  public int indyInstance() throws Throwable
+  {
+    return (int)INDY_SCALE.invokeExact( (Object)next(), _arg );
+  }
+
+  @Benchmark
+  public int reflectStatic()
+  {
+    return ReflectionRuntimeMethods.invokeStatic_int( Secret.class, "square", new Class[]{int.class}, new Object[]{_arg} );
+  }
+
+  @Benchmark
+  public int indyStatic() throws Throwable
+  {
+    return (int)INDY_SQUARE.invokeExact( _arg );
+  }
+}
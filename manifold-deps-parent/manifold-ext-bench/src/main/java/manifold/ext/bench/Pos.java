@@ -0,0 +1,26 @@
+package manifold.ext.bench;
+
+/**
+ * Structurally, but not nominally, implements {@link Coordinate}.
+ */
+public class Pos
+{
+  private final double _x;
+  private final double _y;
+
+  public Pos( double x, double y )
+  {
+    _x = x;
+    _y = y;
+  }
+
+  public double getX()
+  {
+    return _x;
+  }
+
+  public double getY()
+  {
+    return _y;
+  }
+}
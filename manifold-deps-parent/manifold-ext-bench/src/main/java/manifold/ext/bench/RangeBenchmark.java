@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.bench;
+
+import manifold.collections.api.range.DoubleRange;
+import manifold.collections.api.range.IntegerRange;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static manifold.collections.api.range.RangeFun.*;
+
+/**
+ * Measures for-each loops and membership tests on range expressions, which the compiler lowers to counted loops and
+ * comparisons, against the same loops and tests through the range objects.
+ *
+ * Design:
+ *   intLoop / intIterator       — sum of {@code 0 to_ n}, lowered vs. iterating an IntegerRange
+ *   doubleLoop / doubleIterator — sum of {@code 0 to 1 step 1/n}, lowered vs. iterating a DoubleRange
+ *   inside / contains           — n membership tests, lowered vs. IntegerRange#contains()
+ *
+ * Build:  mvn -pl :manifold-ext-bench package   (from manifold-deps-parent)
+ * Run:    java -jar target/benchmarks.jar RangeBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RangeBenchmark
+{
+  @Param({"1000"})
+  public int n;
+
+  private double _step;
+  private IntegerRange _intRange;
+  private DoubleRange _doubleRange;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    _step = 1d / n;
+    _intRange = 0 to_ n;
+    _doubleRange = 0d to 1d step _step;
+  }
+
+  @Benchmark
+  public long intLoop()
+  {
+    long sum = 0;
+    for( int i: 0 to_ n )
+    {
+      sum += i;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long intIterator()
+  {
+    long sum = 0;
+    for( int i: _intRange )
+    {
+      sum += i;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double doubleLoop()
+  {
+    double sum = 0;
+    for( double d: 0d to 1d step _step )
+    {
+      sum += d;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double doubleIterator()
+  {
+    double sum = 0;
+    for( double d: _doubleRange )
+    {
+      sum += d;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int inside()
+  {
+    int count = 0;
+    for( int i = 0; i < n; i++ )
+    {
+      if( i inside 100 to 500 )
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int contains()
+  {
+    IntegerRange range = 100 to 500;
+    int count = 0;
+    for( int i = 0; i < n; i++ )
+    {
+      if( range.contains( i ) )
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,33 @@
+package manifold.ext.bench;
+
+/**
+ * Private members, as reached by {@code @Jailbreak}. The subclasses make distinct receiver classes for the
+ * polymorphic case.
+ */
+public class Secret
+{
+  private final int _factor;
+
+  public Secret( int factor )
+  {
+    _factor = factor;
+  }
+
+  private int scale( int i )
+  {
+    return i * _factor;
+  }
+
+  private static int square( int i )
+  {
+    return i * i;
+  }
+
+  public static class S1 extends Secret { public S1() { super( 1 ); } }
+  public static class S2 extends Secret { public S2() { super( 2 ); } }
+  public static class S3 extends Secret { public S3() { super( 3 ); } }
+  public static class S4 extends Secret { public S4() { super( 4 ); } }
+  public static class S5 extends Secret { public S5() { super( 5 ); } }
+  public static class S6 extends Secret { public S6() { super( 6 ); } }
+  public static class S7 extends Secret { public S7() { super( 7 ); } }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext;
+
+import junit.framework.TestCase;
+import manifold.ext.rt.ReflectionBootstrap;
+import manifold.ext.rt.api.Jailbreak;
+import manifold.ext.stuff.Animal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Compiled with {@code -Amanifold.ext.jailbreak.indy=true}, see this module's pom
+ */
+public class JailbreakIndyTest extends TestCase
+{
+  public void testPolymorphicCallSite()
+  {
+    // more receiver classes than the inline cache holds, the last ones go through the megamorphic fallback
+    Animal[] animals = {new Animal.Dog(), new Animal.Cat(), new Animal.Cow(), new Animal.Duck(),
+      new Animal.Owl(), new Animal.Fish(), new Animal.Dog()};
+    String[] expected = {"woof", "meow", "moo", "quack", "hoot", "...", "woof"};
+    for( int round = 0; round < 3; round++ )
+    {
+      for( int i = 0; i < animals.length; i++ )
+      {
+        @Jailbreak Animal animal = animals[i];
+        assertEquals( expected[i], animal.sound() );
+      }
+    }
+  }
+
+  public void testPrimitivesVoidAndStatic()
+  {
+    @Jailbreak Animal animal = new Animal();
+    animal.sound();
+    animal.sound();
+    assertEquals( 2, animal.calls() );
+    animal.reset();
+    assertEquals( 0, animal.calls() );
+    @Jailbreak Animal staticAnimal = null;
+    assertEquals( 5, staticAnimal.add( 2, 3 ) );
+  }
+
+  public void testVarargs()
+  {
+    @Jailbreak Animal animal = new Animal();
+    assertEquals( "a-b-c", animal.join( "-", "a", "b", "c" ) );
+    assertEquals( "", animal.join( "-" ) );
+  }
+
+  public void testExceptionIsNotWrapped()
+  {
+    @Jailbreak Animal animal = new Animal();
+    try
+    {
+      animal.fail();
+      fail();
+    }
+    catch( IllegalStateException e )
+    {
+      assertEquals( "fail", e.getMessage() );
+    }
+  }
+
+  public void testBootstrapDirectly() throws Throwable
+  {
+    CallSite site = ReflectionBootstrap.invoke( MethodHandles.lookup(), "sound",
+      MethodType.methodType( Object.class, Object.class ), "()Ljava/lang/String;" );
+    assertEquals( "woof", site.dynamicInvoker().invoke( (Object)new Animal.Dog() ) );
+    assertEquals( "meow", site.dynamicInvoker().invoke( (Object)new Animal.Cat() ) );
+
+    CallSite staticSite = ReflectionBootstrap.invokeStatic( MethodHandles.lookup(), "add",
+      MethodType.methodType( int.class, int.class, int.class ), "(II)I", Animal.class.getName() );
+    assertEquals( 7, (int)staticSite.dynamicInvoker().invokeExact( 3, 4 ) );
+  }
+}
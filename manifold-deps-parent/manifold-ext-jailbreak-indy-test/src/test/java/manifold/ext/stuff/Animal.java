@@ -0,0 +1,20 @@
+package manifold.ext.stuff;
+
+public class Animal
+{
+  private int _calls;
+
+  private String sound() { _calls++; return "..."; }
+  private int calls() { return _calls; }
+  private void reset() { _calls = 0; }
+  private String join( String sep, String... parts ) { return String.join( sep, parts ); }
+  private void fail() { throw new IllegalStateException( "fail" ); }
+  private static int add( int a, int b ) { return a + b; }
+
+  public static class Dog extends Animal { private String sound() { return "woof"; } }
+  public static class Cat extends Animal { private String sound() { return "meow"; } }
+  public static class Cow extends Animal { private String sound() { return "moo"; } }
+  public static class Duck extends Animal { private String sound() { return "quack"; } }
+  public static class Owl extends Animal { private String sound() { return "hoot"; } }
+  public static class Fish extends Animal {}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.structural;
+
+import junit.framework.TestCase;
+import manifold.ext.rt.RuntimeMethods;
+import manifold.ext.rt.api.Structural;
+import manifold.rt.api.util.StreamUtil;
+
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Collections;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * This module compiles with {@code -Amanifold.ext.proxy.pregenerate=true}, other modules cover the default
+ * dynamic proxy generation
+ */
+public class StructuralProxyPregeneratorTest extends TestCase
+{
+  private static final String PROXY_FACTORY =
+    "manifold.ext.structural.pregeneratedproxy_manifold_ext_structural_StructuralProxyPregeneratorTest_Square_To_manifold_ext_structural_StructuralProxyPregeneratorTest_Shape";
+
+  public void testCastSiteIsPregenerated()
+  {
+    Shape shape = (Shape)new Square( 3 );
+    assertEquals( 9d, shape.area() );
+    assertEquals( "square", shape.name() );
+
+    // the proxy the runtime constructs for the structural call is the pregenerated one
+    Object proxy = RuntimeMethods.constructProxy( new Square( 3 ), Shape.class );
+    assertEquals( PROXY_FACTORY + '$' + "Proxy", proxy.getClass().getName() );
+  }
+
+  public void testAssignmentSiteIsPregenerated()
+  {
+    Named named = new Square( 2 );
+    assertEquals( "square", named.name() );
+
+    Object proxy = RuntimeMethods.constructProxy( new Square( 2 ), Named.class );
+    assertEquals( "manifold.ext.structural.pregeneratedproxy_manifold_ext_structural_StructuralProxyPregeneratorTest_Square_To_manifold_ext_structural_StructuralProxyPregeneratorTest_Named" + '$' + "Proxy",
+      proxy.getClass().getName() );
+  }
+
+  public void testMostSpecificFactoryWins()
+  {
+    // both Square and BigSquare have pregenerated factories for Shape
+    Shape shape = (Shape)new BigSquare( 2 );
+    assertEquals( "big square", shape.name() );
+    Object proxy = RuntimeMethods.constructProxy( new BigSquare( 2 ), Shape.class );
+    assertEquals( "manifold.ext.structural.pregeneratedproxy_manifold_ext_structural_StructuralProxyPregeneratorTest_BigSquare_To_manifold_ext_structural_StructuralProxyPregeneratorTest_Shape" + '$' + "Proxy",
+      proxy.getClass().getName() );
+
+    // SmallSquare has no factory of its own, its superclass's factory is used
+    proxy = RuntimeMethods.constructProxy( new SmallSquare( 2 ), Shape.class );
+    assertEquals( PROXY_FACTORY + '$' + "Proxy", proxy.getClass().getName() );
+    assertEquals( "small square", ((Shape)proxy).name() );
+  }
+
+  public void testProxyFactoryIsRegistered() throws Exception
+  {
+    boolean found = false;
+    for( URL url : Collections.list( getClass().getClassLoader().getResources( "META-INF/services/manifold.ext.rt.api.IProxyFactory_gen" ) ) )
+    {
+      found |= StreamUtil.getContent( new InputStreamReader( url.openStream(), UTF_8 ) ).contains( PROXY_FACTORY );
+    }
+    assertTrue( found );
+  }
+
+  @Structural
+  public interface Shape
+  {
+    double area();
+    String name();
+  }
+
+  @Structural
+  public interface Named
+  {
+    String name();
+  }
+
+  public static class Square
+  {
+    private final double _side;
+
+    public Square( double side )
+    {
+      _side = side;
+    }
+
+    public double area()
+    {
+      return _side * _side;
+    }
+
+    public String name()
+    {
+      return "square";
+    }
+  }
+
+  public static class BigSquare extends Square
+  {
+    public BigSquare( double side )
+    {
+      super( side );
+    }
+
+    @Override
+    public String name()
+    {
+      return "big square";
+    }
+  }
+
+  public static class SmallSquare extends Square
+  {
+    public SmallSquare( double side )
+    {
+      super( side );
+    }
+
+    @Override
+    public String name()
+    {
+      return "small square";
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt;
+
+import manifold.util.ReflectUtil;
+
+import java.lang.invoke.*;
+import java.util.List;
+
+/**
+ * Bootstrap methods for {@code invokedynamic} call sites the compiler emits in place of {@link ReflectionRuntimeMethods}
+ * calls when compiling with {@code -Amanifold.ext.jailbreak.indy=true}.
+ * <p/>
+ * The call site type mirrors the corresponding {@code invoke_*} method: the receiver and reference parameters are
+ * {@code Object}, primitives are passed as-is. The target method is resolved via {@link ReflectUtil}, same as the
+ * reflective path, but only once per call site (static) or once per receiver class (instance), after which calls go
+ * directly through a {@link MethodHandle}.
+ */
+@SuppressWarnings( "unused" )
+public class ReflectionBootstrap
+{
+  /**
+   * Max number of receiver classes chained at an instance call site, beyond that the site is megamorphic.
+   */
+  static final int MAX_INLINE_CACHE_DEPTH = 4;
+
+  private static final MethodHandle IS_CLASS;
+  private static final MethodHandle FALLBACK;
+  private static final MethodHandle LOOKUP;
+
+  static
+  {
+    try
+    {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      IS_CLASS = lookup.findStatic( ReflectionBootstrap.class, "isClass",
+        MethodType.methodType( boolean.class, Class.class, Object.class ) );
+      FALLBACK = lookup.findVirtual( InlineCacheCallSite.class, "fallback",
+        MethodType.methodType( Object.class, Object[].class ) );
+      LOOKUP = lookup.findVirtual( InlineCacheCallSite.class, "lookup",
+        MethodType.methodType( MethodHandle.class, Object.class ) );
+    }
+    catch( ReflectiveOperationException e )
+    {
+      throw new ExceptionInInitializerError( e );
+    }
+  }
+
+  /**
+   * Bootstrap for a static method call site.
+   *
+   * @param descriptor The erased descriptor of the declared method, parameter types are resolved from it
+   * @param owner      The binary name of the class declaring the method
+   */
+  public static CallSite invokeStatic( MethodHandles.Lookup caller, String name, MethodType type,
+                                       String descriptor, String owner ) throws ReflectiveOperationException
+  {
+    ClassLoader loader = caller.lookupClass().getClassLoader();
+    Class<?> cls = Class.forName( owner, false, loader );
+    Class<?>[] params = MethodType.fromMethodDescriptorString( descriptor, loader ).parameterArray();
+    return new ConstantCallSite( resolve( cls, name, params, type ) );
+  }
+
+  /**
+   * Bootstrap for an instance method call site. The first argument of {@code type} is the receiver.
+   *
+   * @param descriptor The erased descriptor of the declared method, parameter types are resolved from it
+   */
+  public static CallSite invoke( MethodHandles.Lookup caller, String name, MethodType type,
+                                 String descriptor )
+  {
+    ClassLoader loader = caller.lookupClass().getClassLoader();
+    Class<?>[] params = MethodType.fromMethodDescriptorString( descriptor, loader ).parameterArray();
+    return new InlineCacheCallSite( name, params, type );
+  }
+
+  private static MethodHandle resolve( Class<?> cls, String name, Class<?>[] params, MethodType type )
+  {
+    ReflectUtil.MethodRef ref = ReflectUtil.method( cls, name, params );
+    if( ref == null )
+    {
+      throw new RuntimeException( "Method '" + name + "' not found" );
+    }
+    return ref.asHandle().asType( type );
+  }
+
+  private static boolean isClass( Class<?> cls, Object receiver )
+  {
+    return receiver.getClass() == cls;
+  }
+
+  /**
+   * A polymorphic inline cache keyed on the receiver's class. Each miss prepends a class test for the new receiver
+   * class to the chain, up to {@link #MAX_INLINE_CACHE_DEPTH}. Past that the site is megamorphic and dispatches
+   * through a {@link ClassValue} lookup of the receiver's class.
+   */
+  static class InlineCacheCallSite extends MutableCallSite
+  {
+    private final ClassValue<MethodHandle> _targets;
+    private int _depth;
+
+    InlineCacheCallSite( String name, Class<?>[] params, MethodType type )
+    {
+      super( type );
+      _targets = new ClassValue<MethodHandle>()
+      {
+        @Override
+        protected MethodHandle computeValue( Class<?> cls )
+        {
+          return resolve( cls, name, params, type );
+        }
+      };
+      setTarget( FALLBACK.bindTo( this )
+        .asCollector( Object[].class, type.parameterCount() )
+        .asType( type ) );
+    }
+
+    int getDepth()
+    {
+      return _depth;
+    }
+
+    MethodHandle lookup( Object receiver )
+    {
+      return _targets.get( receiver.getClass() );
+    }
+
+    Object fallback( Object[] args ) throws Throwable
+    {
+      Object receiver = args[0];
+      MethodHandle target = lookup( receiver );
+      synchronized( this )
+      {
+        MethodType type = type();
+        List<Class<?>> rest = type.parameterList().subList( 1, type.parameterCount() );
+        if( _depth < MAX_INLINE_CACHE_DEPTH )
+        {
+          MethodHandle test = MethodHandles.insertArguments( IS_CLASS, 0, receiver.getClass() );
+          test = MethodHandles.dropArguments( test, 1, rest );
+          setTarget( MethodHandles.guardWithTest( test, target, getTarget() ) );
+        }
+        else if( _depth == MAX_INLINE_CACHE_DEPTH )
+        {
+          // megamorphic, replace the chain
+          MethodHandle lookup = MethodHandles.dropArguments( LOOKUP.bindTo( this ), 1, rest );
+          setTarget( MethodHandles.foldArguments( MethodHandles.exactInvoker( type ), lookup ) );
+        }
+        _depth++;
+      }
+      return target.invokeWithArguments( args );
+    }
+  }
+}
@@ -23,7 +23,7 @@ public class ReflectionRuntimeMethods
 {
   public static Object invoke_Object( Object receiver, String name, Class[] paramTypes, Object[] args )
   {
-    return ReflectUtil.method( receiver, name, paramTypes ).invoke( args );
+    return ReflectUtil.method( receiver, name, paramTypes ).invokeFast( args );
   }
 
   public static boolean invoke_boolean( Object receiver, String name, Class[] paramTypes, Object[] args )
@@ -74,7 +74,7 @@ public class ReflectionRuntimeMethods
   public static Object invokeStatic_Object( Class cls, String name, Class[] paramTypes, Object[] args )
   {
     //noinspection ConstantConditions
-    return ReflectUtil.method( cls, name, paramTypes ).invokeStatic( args );
+    return ReflectUtil.method( cls, name, paramTypes ).invokeStaticFast( args );
   }
 
   public static boolean invokeStatic_boolean( Class cls, String name, Class[] paramTypes, Object[] args )
@@ -124,7 +124,7 @@ public class ReflectionRuntimeMethods
 
   public static Object getField_Object( Object receiver, String name )
   {
-    return ReflectUtil.field( receiver, name ).get();
+    return ReflectUtil.field( receiver, name ).getFast();
   }
 
   public static boolean getField_boolean( Object receiver, String name )
@@ -170,7 +170,7 @@ public class ReflectionRuntimeMethods
   public static Object getFieldStatic_Object( Class receiver, String name )
   {
     //noinspection ConstantConditions
-    return ReflectUtil.field( receiver, name ).getStatic();
+    return ReflectUtil.field( receiver, name ).getStaticFast();
   }
 
   public static boolean getFieldStatic_boolean( Class receiver, String name )
@@ -216,7 +216,7 @@ public class ReflectionRuntimeMethods
   @SuppressWarnings("UnusedReturnValue")
   public static Object setField_Object( Object receiver, String name, Object value )
   {
-    ReflectUtil.field( receiver, name ).set( value );
+    ReflectUtil.field( receiver, name ).setFast( value );
     return value;
   }
 
@@ -272,7 +272,7 @@ public class ReflectionRuntimeMethods
   public static Object setFieldStatic_Object( Class receiver, String name, Object value )
   {
     //noinspection ConstantConditions
-    ReflectUtil.field( receiver, name ).setStatic( value );
+    ReflectUtil.field( receiver, name ).setStaticFast( value );
     return value;
   }
 
@@ -327,6 +327,6 @@ public class ReflectionRuntimeMethods
   public static Object construct( Class type, Class[] paramTypes, Object[] args )
   {
     //noinspection ConstantConditions
-    return ReflectUtil.constructor( type, paramTypes ).newInstance( args );
+    return ReflectUtil.constructor( type, paramTypes ).newInstanceFast( args );
   }
 }
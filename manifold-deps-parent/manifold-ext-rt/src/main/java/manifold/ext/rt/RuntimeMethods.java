@@ -366,44 +366,71 @@ public class RuntimeMethods
   private static IProxyFactory findRegisteredFactory( Class<?> rootClass, Class<?> iface )
   {
     //noinspection ConstantConditions
-    return _registeredProxyFactories.get().stream()
+    IProxyFactory registered = _registeredProxyFactories.get().stream()
       .filter( e -> !(e instanceof IDynamicProxyFactory) )
       .filter( e -> maybeMakeProxyFactory( rootClass, iface, e.getClass(), c -> e ) != null )
-      .findFirst().orElse(
-        _registeredProxyFactories_gen.get().stream()
-          .filter( e -> maybeMakeProxyFactory( rootClass, iface, e.getClass(), c -> e ) != null )
-          .findFirst().orElse( null ) );
+      .findFirst().orElse( null );
+    if( registered != null )
+    {
+      return registered;
+    }
+
+    // generated factories, such as pregenerated structural proxies, may exist for both a class and its superclass,
+    // the factory for the most specific class wins
+    //noinspection ConstantConditions
+    Set<IProxyFactory_gen> generated = _registeredProxyFactories_gen.get();
+    for( Class<?> c = rootClass; c != null; c = c.getSuperclass() )
+    {
+      for( IProxyFactory_gen factory : generated )
+      {
+        Class<?>[] typeArgs = getFactoryTypeArgs( factory.getClass() );
+        if( typeArgs != null && typeArgs[0] == c && typeArgs[1].isAssignableFrom( iface ) )
+        {
+          return factory;
+        }
+      }
+    }
+    // factories for interfaces the root class implements
+    return generated.stream()
+      .filter( e -> maybeMakeProxyFactory( rootClass, iface, e.getClass(), c -> e ) != null )
+      .findFirst().orElse( null );
   }
 
   private static IProxyFactory maybeMakeProxyFactory( Class<?> rootClass, Class<?> ifaceClass, Class factoryClass,
                                                       Function<Class<?>, IProxyFactory> proxyFactoryMaker )
+  {
+    Class<?>[] typeArgs = getFactoryTypeArgs( factoryClass );
+    if( typeArgs != null && typeArgs[0].isAssignableFrom( rootClass ) && typeArgs[1].isAssignableFrom( ifaceClass ) )
+    {
+      return proxyFactoryMaker.apply( factoryClass );
+    }
+    return null;
+  }
+
+  /**
+   * @return The raw root and interface types of the factory's {@link IProxyFactory} type arguments, or null
+   */
+  private static Class<?>[] getFactoryTypeArgs( Class<?> factoryClass )
   {
     Type type = Arrays.stream( factoryClass.getGenericInterfaces() )
       .filter( e -> e.getTypeName().startsWith( IProxyFactory.class.getTypeName() ) )
       .findFirst().orElse( null );
-    if( type instanceof ParameterizedType )
+    if( !(type instanceof ParameterizedType) )
     {
-      Type typeArg1 = ((ParameterizedType)type).getActualTypeArguments()[0];
-      if( typeArg1 instanceof ParameterizedType )
-      {
-        typeArg1 = ((ParameterizedType)typeArg1).getRawType();
-      }
-      if( !((Class<?>)typeArg1).isAssignableFrom( rootClass ) )
-      {
-        return null;
-      }
-
-      Type typeArg2 = ((ParameterizedType)type).getActualTypeArguments()[1];
-      if( typeArg2 instanceof ParameterizedType )
-      {
-        typeArg2 = ((ParameterizedType)typeArg2).getRawType();
-      }
-      if( ((Class<?>)typeArg2).isAssignableFrom( ifaceClass ) )
+      return null;
+    }
+    Type[] typeArgs = ((ParameterizedType)type).getActualTypeArguments();
+    Class<?>[] classes = new Class<?>[2];
+    for( int i = 0; i < 2; i++ )
+    {
+      Type typeArg = typeArgs[i];
+      if( typeArg instanceof ParameterizedType )
       {
-        return proxyFactoryMaker.apply( factoryClass );
+        typeArg = ((ParameterizedType)typeArg).getRawType();
       }
+      classes[i] = (Class<?>)typeArg;
     }
-    return null;
+    return classes;
   }
 
   private static IProxyFactory constructProxyFactory( Class factoryClass )
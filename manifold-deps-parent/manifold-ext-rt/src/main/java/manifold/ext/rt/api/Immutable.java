@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares instances of the annotated class or interface, including instances of its subtypes, are immutable and its
+ * operator and binding methods, such as {@code plus()} and {@code postfixBind()}, are side effect free. With this
+ * guarantee the compiler evaluates an operator or binding expression consisting only of literals and {@code static
+ * final} fields of immutable types once, on first use, and caches its value in a synthetic static field instead of
+ * evaluating it each time. For instance, {@code 10 km} and {@code 5 m/s} are constant expressions if the unit types
+ * are {@code @Immutable}:
+ * <pre><code>
+ *   for( Length d : distances ) {
+ *     total += d * 10 km; // 10 km is computed once
+ *   }
+ * </code></pre>
+ * Constant folding is enabled by default, set the {@code manifold.ext.fold.constants} compiler option to {@code false}
+ * to disable it: {@code -Amanifold.ext.fold.constants=false}.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.TYPE})
+public @interface Immutable
+{
+}
@@ -1703,7 +1703,7 @@ public class ProxyGenerator {
    * See JVMS section 4.4 for more information about the constant pool
    * of a class file.
    */
-  private static class ConstantPool {
+  static class ConstantPool {
 
     /**
      * list of constant pool entries, in constant pool index order.
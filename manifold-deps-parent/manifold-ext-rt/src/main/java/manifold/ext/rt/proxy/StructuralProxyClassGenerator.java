@@ -0,0 +1,594 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.rt.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import manifold.ext.rt.ExtensionMethod;
+import manifold.ext.rt.api.IProxyFactory;
+import manifold.util.JreUtil;
+import manifold.util.ManExceptionUtil;
+import manifold.util.ReflectUtil;
+
+/**
+ * Generates a structural proxy class directly as bytecode, as opposed to generating Java source and compiling it with
+ * the runtime javac host. The bytecode strategy only handles the simple, but by far most common, case where each
+ * interface method has a public method on the root class with the same name and parameter types and a compatible
+ * return type. Anything else e.g., property fields, extension methods, parameter coercion, etc. is left to the
+ * source-based generators, {@link #makeProxyFactory} returns null for these.
+ * <p/>
+ * On Java 15+ the proxy is defined as a hidden class in the interface's package via {@code Lookup#defineHiddenClass},
+ * on Java 9+ as a normal class via {@code Lookup#defineClass}, and on Java 8 directly in the interface's class loader.
+ * <p/>
+ * Disable with {@code -Dmanifold.ext.proxy.bytecode=false}.
+ */
+public class StructuralProxyClassGenerator
+{
+  private static final boolean ENABLED = Boolean.parseBoolean( System.getProperty( "manifold.ext.proxy.bytecode", "true" ) );
+
+  private static final int CLASSFILE_MAJOR_VERSION = 52;
+  private static final int CLASSFILE_MINOR_VERSION = 0;
+
+  private static final int ACC_PUBLIC = 0x0001;
+  private static final int ACC_PRIVATE = 0x0002;
+  private static final int ACC_FINAL = 0x0010;
+  private static final int ACC_SUPER = 0x0020;
+  private static final int ACC_SYNTHETIC = 0x1000;
+
+  private static final int opc_iload = 21;
+  private static final int opc_lload = 22;
+  private static final int opc_fload = 23;
+  private static final int opc_dload = 24;
+  private static final int opc_aload = 25;
+  private static final int opc_aload_0 = 42;
+  private static final int opc_aload_1 = 43;
+  private static final int opc_ireturn = 172;
+  private static final int opc_lreturn = 173;
+  private static final int opc_freturn = 174;
+  private static final int opc_dreturn = 175;
+  private static final int opc_areturn = 176;
+  private static final int opc_return = 177;
+  private static final int opc_getfield = 180;
+  private static final int opc_putfield = 181;
+  private static final int opc_invokevirtual = 182;
+  private static final int opc_invokespecial = 183;
+  private static final int opc_wide = 196;
+
+  private static final String ROOT_FIELD = "_root";
+  private static final AtomicLong ID = new AtomicLong();
+
+  private final Class<?> _iface;
+  private final Class<?> _rootClass;
+  private final String _className;
+  private final ProxyGenerator.ConstantPool _cp;
+
+  public static boolean isEnabled()
+  {
+    return ENABLED;
+  }
+
+  /**
+   * @return A proxy factory backed by a bytecode-generated proxy class, or null if the {@code iface}/{@code rootClass}
+   * pair requires more than direct method delegation, in which case the caller should use a source-based generator.
+   */
+  public static IProxyFactory makeProxyFactory( Class<?> iface, Class<?> rootClass, String relativeName )
+  {
+    if( !ENABLED || !isSupported( iface, rootClass ) )
+    {
+      return null;
+    }
+
+    List<Method[]> delegates = findDelegates( iface, rootClass );
+    if( delegates == null )
+    {
+      return null;
+    }
+
+    String className = iface.getPackage().getName() + '.' + relativeName + "$bc" + ID.incrementAndGet();
+    byte[] bytes = new StructuralProxyClassGenerator( iface, rootClass, className ).generateClassFile( delegates );
+    MethodHandle constructor = defineProxyClass( iface, rootClass, className, bytes );
+    return new Factory( constructor );
+  }
+
+  private StructuralProxyClassGenerator( Class<?> iface, Class<?> rootClass, String className )
+  {
+    _iface = iface;
+    _rootClass = rootClass;
+    _className = className;
+    _cp = new ProxyGenerator.ConstantPool();
+  }
+
+  private static boolean isSupported( Class<?> iface, Class<?> rootClass )
+  {
+    if( !iface.isInterface() || !isPublic( iface ) || !isPublic( rootClass ) ||
+        rootClass.isInterface() || rootClass.isAnonymousClass() || rootClass.isLocalClass() ||
+        rootClass.isArray() || rootClass.isPrimitive() )
+    {
+      return false;
+    }
+
+    Package pkg = iface.getPackage();
+    if( pkg == null || pkg.getName().isEmpty() ||
+        pkg.getName().startsWith( "java." ) || pkg.getName().startsWith( "javax." ) )
+    {
+      // can't define classes in java.* packages, let the source generator handle these via its "not" package prefix
+      return false;
+    }
+
+    ClassLoader loader = iface.getClassLoader();
+    if( loader == null || !isVisible( rootClass, loader ) )
+    {
+      // the proxy is defined in the interface's loader, the root class must be visible from there
+      return false;
+    }
+
+    if( !JreUtil.isJava8() && (isNamedModule( iface ) || isNamedModule( rootClass )) )
+    {
+      // named modules require read edges and exports we don't manage here
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean isPublic( Class<?> cls )
+  {
+    for( Class<?> c = cls; c != null; c = c.getEnclosingClass() )
+    {
+      if( !Modifier.isPublic( c.getModifiers() ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isVisible( Class<?> cls, ClassLoader loader )
+  {
+    while( cls.isArray() )
+    {
+      cls = cls.getComponentType();
+    }
+    if( cls.isPrimitive() )
+    {
+      return true;
+    }
+    try
+    {
+      return Class.forName( cls.getName(), false, loader ) == cls;
+    }
+    catch( Throwable t )
+    {
+      return false;
+    }
+  }
+
+  private static boolean isNamedModule( Class<?> cls )
+  {
+    Object module = ReflectUtil.method( (Object)cls, "getModule" ).invoke();
+    return (boolean)ReflectUtil.method( module, "isNamed" ).invoke();
+  }
+
+  /**
+   * @return Pairs of [interface method, root method] to delegate, or null if any interface method can't be delegated
+   * directly to a root method.
+   */
+  private static List<Method[]> findDelegates( Class<?> iface, Class<?> rootClass )
+  {
+    ClassLoader loader = iface.getClassLoader();
+    List<Method[]> delegates = new ArrayList<>();
+    Set<String> signatures = new HashSet<>();
+    for( Method mi : iface.getMethods() )
+    {
+      if( Modifier.isStatic( mi.getModifiers() ) || mi.isBridge() || mi.isSynthetic() ||
+          mi.getAnnotation( ExtensionMethod.class ) != null || isObjectMethod( mi ) )
+      {
+        continue;
+      }
+
+      if( !signatures.add( mi.getName() + getParameterDescriptors( mi.getParameterTypes() ) ) )
+      {
+        // same signature inherited from separate interfaces, possibly with covariant returns
+        return null;
+      }
+
+      Method rootMethod = findExactMethod( rootClass, mi );
+      if( rootMethod == null )
+      {
+        if( mi.isDefault() && ReflectUtil.findBestMethod( mi, rootClass ) == null )
+        {
+          // inherit the default method
+          continue;
+        }
+        return null;
+      }
+
+      if( !isVisible( rootMethod.getReturnType(), loader ) )
+      {
+        return null;
+      }
+      delegates.add( new Method[]{mi, rootMethod} );
+    }
+    return delegates;
+  }
+
+  private static Method findExactMethod( Class<?> rootClass, Method mi )
+  {
+    Method rootMethod;
+    try
+    {
+      rootMethod = rootClass.getMethod( mi.getName(), mi.getParameterTypes() );
+    }
+    catch( NoSuchMethodException e )
+    {
+      return null;
+    }
+
+    if( Modifier.isStatic( rootMethod.getModifiers() ) )
+    {
+      return null;
+    }
+
+    Class<?> ifaceReturn = mi.getReturnType();
+    Class<?> rootReturn = rootMethod.getReturnType();
+    if( ifaceReturn == rootReturn ||
+        (!ifaceReturn.isPrimitive() && !rootReturn.isPrimitive() && ifaceReturn.isAssignableFrom( rootReturn )) )
+    {
+      return rootMethod;
+    }
+    return null;
+  }
+
+  private static boolean isObjectMethod( Method mi )
+  {
+    // mirrors StructuralTypeProxyGenerator#isObjectMethod so both strategies skip the same methods
+    Class<?>[] paramTypes = mi.getParameterTypes();
+    outer:
+    for( Method objMi : Object.class.getMethods() )
+    {
+      if( objMi.getName().equals( mi.getName() ) )
+      {
+        Class<?>[] objParams = objMi.getParameterTypes();
+        if( objParams.length == paramTypes.length )
+        {
+          for( int i = 0; i < objParams.length; i++ )
+          {
+            if( !paramTypes[i].equals( objParams[i] ) )
+            {
+              continue outer;
+            }
+          }
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private byte[] generateClassFile( List<Method[]> delegates )
+  {
+    try
+    {
+      String rootDesc = getFieldType( _rootClass );
+      String thisClass = dotToSlash( _className );
+
+      List<byte[]> methods = new ArrayList<>();
+      methods.add( generateConstructor( thisClass, rootDesc ) );
+      for( Method[] delegate : delegates )
+      {
+        methods.add( generateMethod( thisClass, rootDesc, delegate[0], delegate[1] ) );
+      }
+
+      // reserve remaining constant pool entries before writing the pool
+      short thisClassIndex = _cp.getClass( thisClass );
+      short superClassIndex = _cp.getClass( "java/lang/Object" );
+      short ifaceIndex = _cp.getClass( dotToSlash( _iface.getName() ) );
+      short fieldNameIndex = _cp.getUtf8( ROOT_FIELD );
+      short fieldDescIndex = _cp.getUtf8( rootDesc );
+      _cp.setReadOnly();
+
+      ByteArrayOutputStream bout = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream( bout );
+      out.writeInt( 0xCAFEBABE );
+      out.writeShort( CLASSFILE_MINOR_VERSION );
+      out.writeShort( CLASSFILE_MAJOR_VERSION );
+      _cp.write( out );
+      out.writeShort( ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC );
+      out.writeShort( thisClassIndex );
+      out.writeShort( superClassIndex );
+      out.writeShort( 1 );
+      out.writeShort( ifaceIndex );
+
+      // private final <root> _root;
+      out.writeShort( 1 );
+      out.writeShort( ACC_PRIVATE | ACC_FINAL );
+      out.writeShort( fieldNameIndex );
+      out.writeShort( fieldDescIndex );
+      out.writeShort( 0 );
+
+      out.writeShort( methods.size() );
+      for( byte[] method : methods )
+      {
+        out.write( method );
+      }
+
+      out.writeShort( 0 );
+      return bout.toByteArray();
+    }
+    catch( IOException e )
+    {
+      throw new InternalError( "unexpected I/O Exception", e );
+    }
+  }
+
+  private byte[] generateConstructor( String thisClass, String rootDesc ) throws IOException
+  {
+    ByteArrayOutputStream code = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream( code );
+    out.writeByte( opc_aload_0 );
+    out.writeByte( opc_invokespecial );
+    out.writeShort( _cp.getMethodRef( "java/lang/Object", "<init>", "()V" ) );
+    out.writeByte( opc_aload_0 );
+    out.writeByte( opc_aload_1 );
+    out.writeByte( opc_putfield );
+    out.writeShort( _cp.getFieldRef( thisClass, ROOT_FIELD, rootDesc ) );
+    out.writeByte( opc_return );
+    return methodInfo( ACC_PUBLIC, "<init>", "(" + rootDesc + ")V", 2, 2, code );
+  }
+
+  private byte[] generateMethod( String thisClass, String rootDesc, Method mi, Method rootMethod ) throws IOException
+  {
+    Class<?>[] params = mi.getParameterTypes();
+    ByteArrayOutputStream code = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream( code );
+
+    // _root.<name>( p0, p1, ... )
+    out.writeByte( opc_aload_0 );
+    out.writeByte( opc_getfield );
+    out.writeShort( _cp.getFieldRef( thisClass, ROOT_FIELD, rootDesc ) );
+    int slot = 1;
+    for( Class<?> param : params )
+    {
+      codeLoad( param, slot, out );
+      slot += getWordsPerType( param );
+    }
+    out.writeByte( opc_invokevirtual );
+    out.writeShort( _cp.getMethodRef( dotToSlash( _rootClass.getName() ), rootMethod.getName(),
+      getMethodDescriptor( rootMethod.getParameterTypes(), rootMethod.getReturnType() ) ) );
+    codeReturn( mi.getReturnType(), out );
+
+    int maxStack = Math.max( slot, getWordsPerType( mi.getReturnType() ) );
+    return methodInfo( ACC_PUBLIC | ACC_FINAL, mi.getName(),
+      getMethodDescriptor( params, mi.getReturnType() ), maxStack, slot, code );
+  }
+
+  private byte[] methodInfo( int access, String name, String descriptor, int maxStack, int maxLocals,
+                             ByteArrayOutputStream code ) throws IOException
+  {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream( bout );
+    out.writeShort( access );
+    out.writeShort( _cp.getUtf8( name ) );
+    out.writeShort( _cp.getUtf8( descriptor ) );
+    out.writeShort( 1 );
+    out.writeShort( _cp.getUtf8( "Code" ) );
+    out.writeInt( 12 + code.size() );
+    out.writeShort( maxStack );
+    out.writeShort( maxLocals );
+    out.writeInt( code.size() );
+    code.writeTo( out );
+    out.writeShort( 0 ); // exception table
+    out.writeShort( 0 ); // attributes
+    return bout.toByteArray();
+  }
+
+  private static void codeLoad( Class<?> type, int slot, DataOutputStream out ) throws IOException
+  {
+    int opcode;
+    if( type == long.class )
+    {
+      opcode = opc_lload;
+    }
+    else if( type == float.class )
+    {
+      opcode = opc_fload;
+    }
+    else if( type == double.class )
+    {
+      opcode = opc_dload;
+    }
+    else if( type.isPrimitive() )
+    {
+      opcode = opc_iload;
+    }
+    else
+    {
+      opcode = opc_aload;
+    }
+
+    if( slot <= 0xFF )
+    {
+      out.writeByte( opcode );
+      out.writeByte( slot );
+    }
+    else
+    {
+      out.writeByte( opc_wide );
+      out.writeByte( opcode );
+      out.writeShort( slot );
+    }
+  }
+
+  private static void codeReturn( Class<?> type, DataOutputStream out ) throws IOException
+  {
+    if( type == void.class )
+    {
+      out.writeByte( opc_return );
+    }
+    else if( type == long.class )
+    {
+      out.writeByte( opc_lreturn );
+    }
+    else if( type == float.class )
+    {
+      out.writeByte( opc_freturn );
+    }
+    else if( type == double.class )
+    {
+      out.writeByte( opc_dreturn );
+    }
+    else if( type.isPrimitive() )
+    {
+      out.writeByte( opc_ireturn );
+    }
+    else
+    {
+      out.writeByte( opc_areturn );
+    }
+  }
+
+  private static MethodHandle defineProxyClass( Class<?> iface, Class<?> rootClass, String className, byte[] bytes )
+  {
+    try
+    {
+      Class<?> proxyClass;
+      MethodHandles.Lookup lookup;
+      if( JreUtil.isJava8() )
+      {
+        proxyClass = Proxy.defineProxyClass( null, className, bytes, 0, bytes.length, iface.getClassLoader() );
+        lookup = MethodHandles.publicLookup();
+      }
+      else
+      {
+        MethodHandles.Lookup ifaceLookup = (MethodHandles.Lookup)ReflectUtil.method( MethodHandles.class,
+          "privateLookupIn", Class.class, MethodHandles.Lookup.class ).invokeStatic( iface, MethodHandles.lookup() );
+        if( JreUtil.isJava15orLater() )
+        {
+          // hidden class: not discoverable by name, unloaded with its proxy factory
+          Class<?> classOption = ReflectUtil.type( "java.lang.invoke.MethodHandles$Lookup$ClassOption" );
+          lookup = (MethodHandles.Lookup)ReflectUtil.method( ifaceLookup, "defineHiddenClass",
+            byte[].class, boolean.class, Array.newInstance( classOption, 0 ).getClass() )
+            .invoke( bytes, true, Array.newInstance( classOption, 0 ) );
+          proxyClass = lookup.lookupClass();
+        }
+        else
+        {
+          proxyClass = (Class<?>)ReflectUtil.method( ifaceLookup, "defineClass", byte[].class ).invoke( (Object)bytes );
+          lookup = ifaceLookup;
+        }
+      }
+
+      Constructor<?> constructor = proxyClass.getConstructor( rootClass );
+      return lookup.unreflectConstructor( constructor )
+        .asType( MethodType.methodType( Object.class, Object.class ) );
+    }
+    catch( Throwable t )
+    {
+      throw ManExceptionUtil.unchecked( t );
+    }
+  }
+
+  private static String dotToSlash( String name )
+  {
+    return name.replace( '.', '/' );
+  }
+
+  private static String getMethodDescriptor( Class<?>[] parameterTypes, Class<?> returnType )
+  {
+    return getParameterDescriptors( parameterTypes ) +
+           ((returnType == void.class) ? "V" : getFieldType( returnType ));
+  }
+
+  private static String getParameterDescriptors( Class<?>[] parameterTypes )
+  {
+    StringBuilder desc = new StringBuilder( "(" );
+    for( Class<?> parameterType : parameterTypes )
+    {
+      desc.append( getFieldType( parameterType ) );
+    }
+    desc.append( ')' );
+    return desc.toString();
+  }
+
+  private static String getFieldType( Class<?> type )
+  {
+    if( type.isPrimitive() )
+    {
+      if( type == int.class ) return "I";
+      if( type == long.class ) return "J";
+      if( type == boolean.class ) return "Z";
+      if( type == byte.class ) return "B";
+      if( type == char.class ) return "C";
+      if( type == short.class ) return "S";
+      if( type == float.class ) return "F";
+      if( type == double.class ) return "D";
+      if( type == void.class ) return "V";
+      throw new IllegalStateException( type.getName() );
+    }
+    if( type.isArray() )
+    {
+      // Class.getName() returns the field descriptor form for arrays
+      return dotToSlash( type.getName() );
+    }
+    return "L" + dotToSlash( type.getName() ) + ";";
+  }
+
+  private static int getWordsPerType( Class<?> type )
+  {
+    if( type == void.class )
+    {
+      return 0;
+    }
+    return type == long.class || type == double.class ? 2 : 1;
+  }
+
+  private static class Factory implements IProxyFactory
+  {
+    private final MethodHandle _constructor;
+
+    private Factory( MethodHandle constructor )
+    {
+      _constructor = constructor;
+    }
+
+    @Override
+    public Object proxy( Object target, Class iface )
+    {
+      try
+      {
+        return (Object)_constructor.invokeExact( target );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.fold;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import static manifold.ext.fold.FoldUnits.*;
+import static org.junit.Assert.*;
+
+public class ConstantFoldingTest
+{
+  @Before
+  public void reset()
+  {
+    Unit.evaluations = 0;
+    Dist.evaluations = 0;
+    MutableUnit.evaluations = 0;
+  }
+
+  @Test
+  public void testBindingEvaluatedOnce()
+  {
+    Dist total = new Dist( 0 );
+    for( int i = 0; i < 10; i++ )
+    {
+      total += 2 KM;
+    }
+    assertEquals( 20000, total.getMeters() );
+    assertEquals( 1, Unit.evaluations );
+  }
+
+  @Test
+  public void testLargestConstantExpressionEvaluatedOnce()
+  {
+    int sum = 0;
+    for( int i = 0; i < 10; i++ )
+    {
+      sum += (1 KM + 5 M).getMeters();
+    }
+    assertEquals( 10050, sum );
+    assertEquals( 2, Unit.evaluations );
+    assertEquals( 1, Dist.evaluations );
+  }
+
+  @Test
+  public void testNonConstantOperand()
+  {
+    int sum = 0;
+    for( int i = 0; i < 10; i++ )
+    {
+      // the constant operand is folded, the sum is not
+      sum += (3 M * i).getMeters();
+    }
+    assertEquals( 135, sum );
+    assertEquals( 1, Unit.evaluations );
+    assertEquals( 10, Dist.evaluations );
+  }
+
+  @Test
+  public void testNestedClassAndLambda()
+  {
+    Supplier<Dist> lambda = () -> 6 M;
+    Nested nested = new Nested();
+    for( int i = 0; i < 10; i++ )
+    {
+      assertEquals( 6, lambda.get().getMeters() );
+      assertEquals( 7, nested.get().getMeters() );
+    }
+    assertEquals( 2, Unit.evaluations );
+  }
+
+  @Test
+  public void testConstantFields()
+  {
+    // private, so the fields don't change the default serialVersionUID
+    int count = 0;
+    for( Field field : ConstantFoldingTest.class.getDeclaredFields() )
+    {
+      if( field.getName().startsWith( '$' + "constant" ) )
+      {
+        count++;
+        int modifiers = field.getModifiers();
+        assertTrue( field.isSynthetic() );
+        assertTrue( Modifier.isPrivate( modifiers ) );
+        assertTrue( Modifier.isStatic( modifiers ) );
+        assertTrue( Modifier.isVolatile( modifiers ) );
+      }
+    }
+    assertTrue( count > 0 );
+  }
+
+  static class Nested
+  {
+    Dist get()
+    {
+      return 7 M;
+    }
+  }
+
+  @Test
+  public void testMutableNotFolded()
+  {
+    for( int i = 0; i < 10; i++ )
+    {
+      assertEquals( 4, (4 MUTABLE_M).getMeters() );
+    }
+    assertEquals( 10, MutableUnit.evaluations );
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.fold;
+
+import manifold.ext.rt.api.Immutable;
+
+public interface FoldUnits
+{
+  Unit M = new Unit( 1 );
+  Unit KM = new Unit( 1000 );
+  MutableUnit MUTABLE_M = new MutableUnit();
+
+  @Immutable
+  final class Unit
+  {
+    static int evaluations;
+
+    private final int _factor;
+
+    Unit( int factor )
+    {
+      _factor = factor;
+    }
+
+    public Dist postfixBind( Integer value )
+    {
+      evaluations++;
+      return new Dist( value * _factor );
+    }
+  }
+
+  @Immutable
+  final class Dist
+  {
+    static int evaluations;
+
+    private final int _meters;
+
+    Dist( int meters )
+    {
+      _meters = meters;
+    }
+
+    public int getMeters()
+    {
+      return _meters;
+    }
+
+    public Dist plus( Dist d )
+    {
+      evaluations++;
+      return new Dist( _meters + d._meters );
+    }
+
+    public Dist times( int factor )
+    {
+      evaluations++;
+      return new Dist( _meters * factor );
+    }
+  }
+
+  final class MutableUnit
+  {
+    static int evaluations;
+
+    public Dist postfixBind( Integer value )
+    {
+      evaluations++;
+      return new Dist( value );
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext.structural;
+
+import junit.framework.TestCase;
+import manifold.ext.rt.api.IProxyFactory;
+import manifold.ext.rt.api.Structural;
+import manifold.ext.rt.proxy.StructuralProxyClassGenerator;
+
+public class StructuralProxyClassGeneratorTest extends TestCase
+{
+  public void testDirectDelegation()
+  {
+    IProxyFactory factory = StructuralProxyClassGenerator.makeProxyFactory( Coordinate.class, Pos.class, "Pos_test_Coordinate" );
+    assertNotNull( factory );
+    Coordinate coord = (Coordinate)factory.proxy( new Pos( 3, 4 ), Coordinate.class );
+    assertEquals( 3d, coord.getX() );
+    assertEquals( 4d, coord.getY() );
+  }
+
+  public void testPrimitivesAndCovariantReturn()
+  {
+    IProxyFactory factory = StructuralProxyClassGenerator.makeProxyFactory( Mixed.class, MixedImpl.class, "MixedImpl_test_Mixed" );
+    assertNotNull( factory );
+    Mixed mixed = (Mixed)factory.proxy( new MixedImpl(), Mixed.class );
+    assertEquals( 8L, mixed.add( 3L, 5 ) );
+    assertEquals( 1.5d, mixed.half( 3d ) );
+    assertEquals( "abc", mixed.name( new char[] {'a', 'b', 'c'} ) );
+    assertEquals( "default", mixed.fallback() );
+    mixed.run();
+    assertTrue( mixed.ran() );
+  }
+
+  public void testNotDirectlyDelegableFallsBack()
+  {
+    // add() requires a widening conversion and half() a boxing conversion, which the source generator handles
+    assertNull( StructuralProxyClassGenerator.makeProxyFactory( Mixed.class, Widened.class, "Widened_test_Mixed" ) );
+    Mixed mixed = (Mixed)new Widened();
+    assertEquals( 8L, mixed.add( 3L, 5 ) );
+    assertEquals( 1.5d, mixed.half( 3d ) );
+    assertEquals( "abc", mixed.name( new char[] {'a', 'b', 'c'} ) );
+    mixed.run();
+    assertTrue( mixed.ran() );
+  }
+
+  public static class Pos
+  {
+    private final double _x;
+    private final double _y;
+
+    public Pos( double x, double y )
+    {
+      _x = x;
+      _y = y;
+    }
+
+    public double getX()
+    {
+      return _x;
+    }
+
+    public double getY()
+    {
+      return _y;
+    }
+  }
+
+  @Structural
+  public interface Mixed
+  {
+    long add( long a, int b );
+    double half( double d );
+    CharSequence name( char[] chars );
+    void run();
+    boolean ran();
+
+    default String fallback()
+    {
+      return "default";
+    }
+  }
+
+  public static class MixedImpl
+  {
+    private boolean _ran;
+
+    public long add( long a, int b )
+    {
+      return a + b;
+    }
+
+    public double half( double d )
+    {
+      return d / 2;
+    }
+
+    public String name( char[] chars )
+    {
+      return new String( chars );
+    }
+
+    public void run()
+    {
+      _ran = true;
+    }
+
+    public boolean ran()
+    {
+      return _ran;
+    }
+  }
+
+  public static class Widened
+  {
+    private boolean _ran;
+
+    public long add( long a, long b )
+    {
+      return a + b;
+    }
+
+    public double half( Double d )
+    {
+      return d / 2;
+    }
+
+    public String name( char[] chars )
+    {
+      return new String( chars );
+    }
+
+    public void run()
+    {
+      _ran = true;
+    }
+
+    public boolean ran()
+    {
+      return _ran;
+    }
+  }
+}
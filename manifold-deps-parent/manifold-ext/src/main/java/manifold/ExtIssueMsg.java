@@ -38,6 +38,7 @@ public class ExtIssueMsg
   public static final IssueMsg MSG_SELF_NOT_ON_CORRECT_TYPE = new IssueMsg( "@Self cannot be applied to the type '{0}', only on '{1}' or a super type." );
   public static final IssueMsg MSG_INCREMENT_OP_NOT_ALLOWED_REFLECTION = new IssueMsg( "++, -- expressions not supported with jailbreak, assign directly with '='" );
   public static final IssueMsg MSG_COMPOUND_OP_NOT_ALLOWED_REFLECTION = new IssueMsg( "Compound assignment operators not supported with jailbreak, assign directly with '='" );
+  public static final IssueMsg MSG_STRUCTURAL_PROXY_NOT_PREGENERATED = new IssueMsg( "Structural proxy from '{0}' to '{1}' not pregenerated: {2}" );
 
   //
   // For now these are only used in the IntelliJ plugin
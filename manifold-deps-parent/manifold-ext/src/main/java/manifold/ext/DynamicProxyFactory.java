@@ -26,11 +26,14 @@ import com.sun.tools.javac.util.List;
 import com.sun.tools.javac.util.Name;
 import com.sun.tools.javac.util.Names;
 import java.lang.reflect.Constructor;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import javax.lang.model.type.NoType;
 import manifold.ext.rt.api.ICallHandler;
 import manifold.ext.rt.api.IDynamicProxyFactory;
 import manifold.ext.rt.api.IProxyFactory;
+import manifold.ext.rt.proxy.StructuralProxyClassGenerator;
 import manifold.internal.host.RuntimeManifoldHost;
 import manifold.internal.javac.ClassSymbols;
 import manifold.internal.javac.IDynamicJdk;
@@ -55,6 +58,12 @@ public class DynamicProxyFactory implements IDynamicProxyFactory
     }
     else
     {
+      // Try the bytecode generator first, it avoids compiling the proxy with javac at runtime
+      IProxyFactory proxyFactory = StructuralProxyClassGenerator.makeProxyFactory( iface, rootClass, relativeProxyName );
+      if( proxyFactory != null )
+      {
+        return proxyFactory;
+      }
       proxyClass = StructuralTypeProxyGenerator.makeProxy( iface, rootClass, relativeProxyName );
     }
     Constructor constructor = proxyClass.getConstructors()[0];
@@ -99,7 +108,41 @@ public class DynamicProxyFactory implements IDynamicProxyFactory
     }
 
     // maybe has an extension satisfying ICallHandler
-    return hasCallHandlerFromExtension( rootClass );
+    return mayHaveExtension( rootClass ) && hasCallHandlerFromExtension( rootClass );
+  }
+
+  /**
+   * Checks the extension manifold's index before resorting to javac symbols, most root classes have no extensions
+   */
+  private static boolean mayHaveExtension( Class rootClass )
+  {
+    ExtensionManifold extensionManifold = RuntimeManifoldHost.get().getSingleModule().getTypeManifolds().stream()
+      .filter( tm -> tm instanceof ExtensionManifold )
+      .map( tm -> (ExtensionManifold)tm )
+      .findFirst().orElse( null );
+    return extensionManifold == null || isExtended( extensionManifold, rootClass, new HashSet<>() );
+  }
+
+  private static boolean isExtended( ExtensionManifold extensionManifold, Class cls, Set<Class> visited )
+  {
+    if( cls == null || !visited.add( cls ) )
+    {
+      return false;
+    }
+    String fqn = cls.getCanonicalName();
+    if( (fqn != null && extensionManifold.isType( fqn )) ||
+        isExtended( extensionManifold, cls.getSuperclass(), visited ) )
+    {
+      return true;
+    }
+    for( Class iface : cls.getInterfaces() )
+    {
+      if( isExtended( extensionManifold, iface, visited ) )
+      {
+        return true;
+      }
+    }
+    return false;
   }
 
   private static boolean hasCallHandlerFromExtension( Class rootClass )
@@ -37,6 +37,7 @@ import manifold.api.type.ITypeManifold;
 import manifold.api.type.ITypeProcessor;
 import manifold.api.type.JavaTypeManifold;
 import manifold.api.type.ResourceFileTypeManifold;
+import manifold.api.util.Profiler;
 import manifold.ext.rt.api.Extension;
 import manifold.internal.javac.*;
 import manifold.rt.api.util.ManClassUtil;
@@ -57,6 +58,8 @@ public class ExtensionManifold extends JavaTypeManifold<Model> implements ITypeP
   public static final String EXTENSIONS_PACKAGE = "extensions";
   private static final Set<String> FILE_EXTENSIONS = new HashSet<>( Arrays.asList( "java", "class" ) );
 
+  private final StructuralProxyPregenerator _proxyPregenerator = new StructuralProxyPregenerator( this );
+
   public void init( IModule module )
   {
     init( module, ( fqn, files ) -> new Model( fqn, files, this ) );
@@ -354,6 +357,38 @@ public class ExtensionManifold extends JavaTypeManifold<Model> implements ITypeP
     return false;
   }
 
+  StructuralProxyPregenerator getProxyPregenerator()
+  {
+    return _proxyPregenerator;
+  }
+
+  @Override
+  public boolean isType( String fqn )
+  {
+    return _proxyPregenerator.isType( fqn ) || super.isType( fqn );
+  }
+
+  @Override
+  public boolean isTopLevelType( String fqn )
+  {
+    return _proxyPregenerator.isType( fqn ) || super.isTopLevelType( fqn );
+  }
+
+  @Override
+  public String getPackage( String fqn )
+  {
+    return _proxyPregenerator.isType( fqn ) ? ManClassUtil.getPackage( fqn ) : super.getPackage( fqn );
+  }
+
+  @Override
+  public String contribute( JavaFileManager.Location location, String fqn, boolean genStubs, String existing, DiagnosticListener<JavaFileObject> errorHandler )
+  {
+    // pregenerated structural proxy factories are not file-based
+    return _proxyPregenerator.isType( fqn )
+      ? _proxyPregenerator.contribute( fqn )
+      : super.contribute( location, fqn, genStubs, existing, errorHandler );
+  }
+
   @Override
   protected String contribute( JavaFileManager.Location location, String topLevelFqn, boolean genStubs, String existing, Model model, DiagnosticListener<JavaFileObject> errorHandler )
   {
@@ -368,8 +403,10 @@ public class ExtensionManifold extends JavaTypeManifold<Model> implements ITypeP
       typeElement.getKind().name().equals( "RECORD" ) ||
       typeElement.getKind() == ElementKind.INTERFACE )
     {
+      long start = Profiler.start();
       TreeTranslator visitor = new ExtensionTransformer( this, typeProcessor );
       typeProcessor.getTree().accept( visitor );
+      Profiler.event( "ExtensionTransformer", ExtensionTransformer.class, typeElement.getQualifiedName().toString(), start );
     }
   }
 
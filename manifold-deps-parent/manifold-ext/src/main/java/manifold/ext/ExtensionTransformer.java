@@ -25,9 +25,11 @@ import com.sun.tools.javac.comp.AttrContextEnv;
 import com.sun.tools.javac.comp.Env;
 import com.sun.tools.javac.comp.Resolve;
 import com.sun.tools.javac.model.JavacElements;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
 import com.sun.tools.javac.tree.JCTree.JCTypeCast;
+import com.sun.tools.javac.tree.TreeInfo;
 import com.sun.tools.javac.tree.TreeMaker;
 import com.sun.tools.javac.tree.TreeTranslator;
 import com.sun.tools.javac.util.List;
@@ -39,6 +41,7 @@ import manifold.api.host.IManifoldHost;
 import manifold.api.type.ContributorKind;
 import manifold.api.type.ITypeManifold;
 import manifold.ext.rt.ExtensionMethod;
+import manifold.ext.rt.ReflectionBootstrap;
 import manifold.ext.rt.ReflectionRuntimeMethods;
 import manifold.ext.rt.RuntimeMethods;
 import manifold.ext.rt.api.*;
@@ -73,16 +76,38 @@ import static manifold.util.JreUtil.isJava8;
  */
 public class ExtensionTransformer extends TreeTranslator
 {
+  /**
+   * Compiler option to emit {@code invokedynamic} call sites bound via {@link ReflectionBootstrap} in place of
+   * {@link ReflectionRuntimeMethods} calls for {@code @Jailbreak} method calls.
+   */
+  static final String ARG_JAILBREAK_INDY = "manifold.ext.jailbreak.indy";
+  /**
+   * Compiler option to disable caching the values of constant operator and binding expressions of {@link Immutable}
+   * types in synthetic static fields. Enabled by default.
+   */
+  static final String ARG_FOLD_CONSTANTS = "manifold.ext.fold.constants";
+  private static final String CONSTANT_FIELD_PREFIX = "$constant";
+  private static final Set<String> IMMUTABLE_TYPES = new HashSet<>( Arrays.asList(
+    String.class.getName(), Boolean.class.getName(), Character.class.getName(), Byte.class.getName(),
+    Short.class.getName(), Integer.class.getName(), Long.class.getName(), Float.class.getName(),
+    Double.class.getName(), java.math.BigInteger.class.getName(), java.math.BigDecimal.class.getName() ) );
+
   private final ExtensionManifold _sp;
   private final TypeProcessor _tp;
   private boolean _bridgeMethod;
   private boolean _lambdaMethod;
   private JCTree.JCVariableDecl _parameter;
+  /** constant expressions waiting for their enclosing operator expression, folded with it if it is also constant */
+  private final Set<JCTree> _constants = Collections.newSetFromMap( new IdentityHashMap<>() );
+  /** fields of folded constants, added to the top-level class after it is translated */
+  private final ListBuffer<JCTree> _constantFields = new ListBuffer<>();
+  private final RangeLowering _rangeLowering;
 
   public ExtensionTransformer( ExtensionManifold sp, TypeProcessor typeProcessor )
   {
     _sp = sp;
     _tp = typeProcessor;
+    _rangeLowering = new RangeLowering( this );
   }
 
   @SuppressWarnings( "WeakerAccess" )
@@ -154,6 +179,17 @@ public class ExtensionTransformer extends TreeTranslator
 
   public void visitBinary( JCTree.JCBinary tree )
   {
+    if( !_tp.isGenerate() )
+    {
+      // `x inside a to b` is a pair of comparisons
+      JCExpression membership = _rangeLowering.lowerMembership( tree );
+      if( membership != null )
+      {
+        result = membership;
+        return;
+      }
+    }
+
     super.visitBinary( tree );
 
     if( _tp.isGenerate() && !shouldProcessForGeneration() )
@@ -184,6 +220,13 @@ public class ExtensionTransformer extends TreeTranslator
         operatorMethod = favorStringsWithNumberCoercion( tree, operatorMethod );
         JCExpression expr = null;
 
+        boolean constant = isConstantExpression( tree, operatorMethod );
+        if( !constant )
+        {
+          tree.lhs = foldConstant( tree.lhs );
+          tree.rhs = foldConstant( tree.rhs );
+        }
+
         JCTree.JCMethodInvocation methodCall;
         JCExpression receiver = swap ? tree.rhs : tree.lhs;
         JCExpression arg = swap ? tree.lhs : tree.rhs;
@@ -291,10 +334,191 @@ public class ExtensionTransformer extends TreeTranslator
         }
 
         result = expr == null ? methodCall : expr;
+
+        if( constant && TreeInfo.symbol( methodCall.meth ) == operatorMethod )
+        {
+          // fold the largest constant expression, e.g., `5 m/s` as a whole, not `m/s` separately
+          _constants.add( result );
+          if( !isOperatorOperand( tree ) )
+          {
+            result = foldConstant( (JCExpression)result );
+          }
+        }
       }
     }
   }
 
+  /**
+   * Is the operator or binding expression computed from literals and {@code static final} fields of {@link Immutable}
+   * types and does it produce an immutable value? If so, it can be evaluated once instead of each time it executes.
+   */
+  private boolean isConstantExpression( JCTree.JCBinary tree, Symbol.MethodSymbol operatorMethod )
+  {
+    if( _tp.isGenerate() || !isFoldConstants() || isExtensionMethod( operatorMethod ) )
+    {
+      return false;
+    }
+
+    Symbol.ClassSymbol classSym = _tp.getTree().sym;
+    if( classSym == null || (classSym.flags() & INTERFACE) != 0 ||
+      !(classSym.owner instanceof Symbol.PackageSymbol) )
+    {
+      // can only add a field to a top-level class
+      return false;
+    }
+
+    return isImmutable( tree.type ) && !tree.type.isPrimitive() && !tree.type.isParameterized() &&
+      isImmutable( operatorMethod.owner.type ) &&
+      isConstantOperand( tree.lhs ) && isConstantOperand( tree.rhs );
+  }
+
+  private boolean isConstantOperand( JCExpression operand )
+  {
+    JCExpression expr = TreeInfo.skipParens( operand );
+    if( _constants.contains( expr ) )
+    {
+      return true;
+    }
+    if( expr.type == null || expr.type.isErroneous() )
+    {
+      return false;
+    }
+    if( expr instanceof JCTree.JCLiteral )
+    {
+      return !expr.type.hasTag( BOT );
+    }
+    if( expr.type.constValue() != null )
+    {
+      // e.g., -1, or a static final String
+      return true;
+    }
+
+    if( expr instanceof JCTree.JCFieldAccess &&
+      !(TreeInfo.symbol( ((JCTree.JCFieldAccess)expr).selected ) instanceof Symbol.TypeSymbol) )
+    {
+      // the qualifier has to be evaluated
+      return false;
+    }
+    Symbol sym = TreeInfo.symbol( expr );
+    return (expr instanceof JCTree.JCIdent || expr instanceof JCTree.JCFieldAccess) &&
+      sym instanceof Symbol.VarSymbol &&
+      (sym.flags() & (STATIC | FINAL)) == (STATIC | FINAL) &&
+      // a field of this class may be read by its static initializer before it is initialized
+      sym.outermostClass() != _tp.getTree().sym &&
+      isImmutable( sym.type );
+  }
+
+  private boolean isImmutable( Type type )
+  {
+    if( type == null || type.isErroneous() )
+    {
+      return false;
+    }
+    if( type.isPrimitive() )
+    {
+      return true;
+    }
+    if( !(type.tsym instanceof Symbol.ClassSymbol) )
+    {
+      return false;
+    }
+    if( IMMUTABLE_TYPES.contains( type.tsym.getQualifiedName().toString() ) )
+    {
+      return true;
+    }
+    for( Type st: _tp.getTypes().closure( type ) )
+    {
+      for( Attribute.Compound annotation : st.tsym.getAnnotationMirrors() )
+      {
+        if( annotation.type.toString().equals( Immutable.class.getName() ) )
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Is the expression, perhaps parenthesized, an operand of an enclosing operator or binding expression?
+   */
+  private boolean isOperatorOperand( JCExpression tree )
+  {
+    Tree parent = _tp.getParent( tree );
+    while( parent instanceof JCTree.JCParens )
+    {
+      parent = _tp.getParent( parent );
+    }
+    return parent instanceof JCTree.JCBinary &&
+      IDynamicJdk.instance().getOperator( (JCTree.JCBinary)parent ) instanceof OverloadOperatorSymbol;
+  }
+
+  /**
+   * If the expression is constant, replace it with a synthetic static field caching its value. The expression is
+   * evaluated on first use, as before, so class initialization order does not change:
+   * <pre><code>
+   *   ($constant0 != null ? $constant0 : ($constant0 = expr))
+   * </code></pre>
+   * Racing threads may evaluate the expression more than once, they all see an equivalent value. The field is volatile
+   * so a value is fully constructed when another thread sees it, including lazily computed state of an immutable type
+   * such as Rational. It is also private, a private static field does not change the class's default serialVersionUID.
+   */
+  private JCExpression foldConstant( JCExpression expr )
+  {
+    if( expr instanceof JCTree.JCParens )
+    {
+      ((JCTree.JCParens)expr).expr = foldConstant( ((JCTree.JCParens)expr).expr );
+      return expr;
+    }
+    if( !_constants.remove( expr ) )
+    {
+      return expr;
+    }
+
+    TreeMaker make = _tp.getTreeMaker();
+    Symtab symbols = _tp.getSymtab();
+    Context ctx = _tp.getContext();
+    JCTree.JCClassDecl classDecl = _tp.getTree();
+    Symbol.VarSymbol fieldSym = new Symbol.VarSymbol( PRIVATE | STATIC | VOLATILE | SYNTHETIC,
+      Names.instance( ctx ).fromString( CONSTANT_FIELD_PREFIX + _constantFields.size() ), expr.type, classDecl.sym );
+    ReflectUtil.method( classDecl.sym.members(), "enter", Symbol.class ).invoke( fieldSym );
+    JCTree.JCVariableDecl field = make.VarDef( fieldSym, null );
+    field.pos = expr.pos;
+    _constantFields.append( field );
+
+    JCTree.JCLiteral nullLiteral = make.Literal( BOT, null );
+    nullLiteral.type = symbols.botType;
+    JCTree.JCBinary notNull = make.Binary( JCTree.Tag.NE, makeConstantFieldRef( fieldSym, expr.pos ), nullLiteral );
+    notNull.type = symbols.booleanType;
+    IDynamicJdk.instance().setOperatorSymbol( ctx, notNull, JCTree.Tag.NE, "!=", symbols.objectType.tsym );
+
+    JCTree.JCAssign assign = make.Assign( makeConstantFieldRef( fieldSym, expr.pos ), expr );
+    assign.type = expr.type;
+    assign.pos = expr.pos;
+    JCTree.JCParens parens = make.Parens( assign );
+    parens.type = expr.type;
+    parens.pos = expr.pos;
+
+    JCTree.JCConditional cond = make.Conditional( notNull, makeConstantFieldRef( fieldSym, expr.pos ), parens );
+    cond.type = expr.type;
+    cond.pos = expr.pos;
+    return cond;
+  }
+
+  private JCExpression makeConstantFieldRef( Symbol.VarSymbol fieldSym, int pos )
+  {
+    TreeMaker make = _tp.getTreeMaker();
+    JCExpression ref = make.Select( make.QualIdent( fieldSym.owner ), fieldSym );
+    ref.pos = pos;
+    return ref;
+  }
+
+  private boolean isFoldConstants()
+  {
+    Map<String, String> options = JavacProcessingEnvironment.instance( _tp.getContext() ).getOptions();
+    return !"false".equalsIgnoreCase( options.get( ARG_FOLD_CONSTANTS ) );
+  }
+
   // Create a temporary variable and corresonding identifier to avoid cop
   private JCTree[] tempify( JCTree.JCExpression tree, TreeMaker make, JCExpression expr, Context ctx, Symbol owner, String varName )
   {
@@ -664,6 +888,8 @@ public class ExtensionTransformer extends TreeTranslator
   @Override
   public void visitAssign( JCTree.JCAssign tree )
   {
+    recordStructuralCoercion( tree.rhs, tree.rhs.type, tree.lhs.type );
+
     super.visitAssign( tree );
 
     if( _tp.isGenerate() && !shouldProcessForGeneration() )
@@ -1156,6 +1382,11 @@ public class ExtensionTransformer extends TreeTranslator
 
   public void visitVarDef( JCTree.JCVariableDecl tree )
   {
+    if( tree.init != null && tree.sym != null )
+    {
+      recordStructuralCoercion( tree.init, tree.init.type, tree.sym.type );
+    }
+
     if( shouldProcessForLambdaGeneration() && (tree.getModifiers().flags & PARAMETER) != 0 )
     {
       _parameter = tree;
@@ -1203,6 +1434,8 @@ public class ExtensionTransformer extends TreeTranslator
   @Override
   public void visitTypeCast( JCTypeCast tree )
   {
+    recordStructuralCoercion( tree, tree.expr.type, tree.type );
+
     super.visitTypeCast( tree );
 
     if( _tp.isGenerate() && !shouldProcessForGeneration() )
@@ -1398,6 +1631,8 @@ public class ExtensionTransformer extends TreeTranslator
   @Override
   public void visitApply( JCTree.JCMethodInvocation tree )
   {
+    recordStructuralArguments( tree );
+
     super.visitApply( tree );
 
     eraseGenericStructuralVarargs( tree );
@@ -1604,6 +1839,17 @@ public class ExtensionTransformer extends TreeTranslator
   @Override
   public void visitForeachLoop( JCTree.JCEnhancedForLoop tree )
   {
+    if( !_tp.isGenerate() )
+    {
+      // `for( int i: 0 to n )` is a counted loop
+      JCTree.JCBlock loop = _rangeLowering.lowerForeach( tree );
+      if( loop != null )
+      {
+        result = loop;
+        return;
+      }
+    }
+
     super.visitForeachLoop( tree );
 
     // Support case where Iterable is made structural via extension.
@@ -1802,6 +2048,8 @@ public class ExtensionTransformer extends TreeTranslator
   {
     super.visitClassDef( tree );
 
+    addConstantFields( tree );
+
     verifyExtensionInterfaces( tree );
 
     checkExtensionClassError( tree );
@@ -1810,9 +2058,20 @@ public class ExtensionTransformer extends TreeTranslator
 
     compileGeneratedProxyFactoryClasses( tree );
 
+    compilePregeneratedProxyFactoryClasses();
+
     incrementalCompileClasses( tree );
   }
 
+  private void addConstantFields( JCTree.JCClassDecl tree )
+  {
+    if( tree == _tp.getTree() && !_constantFields.isEmpty() )
+    {
+      tree.defs = tree.defs.appendList( _constantFields );
+      _constantFields.clear();
+    }
+  }
+
   private void precompileClasses( JCTree.JCClassDecl tree )
   {
     Map<String, Set<String>> typeNames = new HashMap<>();
@@ -1920,6 +2179,52 @@ public class ExtensionTransformer extends TreeTranslator
     return matchingTypes;
   }
 
+  private void compilePregeneratedProxyFactoryClasses()
+  {
+    if( !_tp.isGenerate() )
+    {
+      _sp.getProxyPregenerator().surfacePending( _tp.getContext(), _tp.getCompilationUnit() );
+    }
+  }
+
+  private void recordStructuralArguments( JCTree.JCMethodInvocation tree )
+  {
+    if( _tp.isGenerate() || !(tree.meth.type instanceof Type.MethodType) ||
+      !_sp.getProxyPregenerator().isEnabled( _tp.getContext() ) )
+    {
+      return;
+    }
+
+    List<Type> paramTypes = tree.meth.type.getParameterTypes();
+    int count = tree.varargsElement != null ? paramTypes.size() - 1 : paramTypes.size();
+    List<JCExpression> args = tree.args;
+    for( int i = 0; i < count && args.nonEmpty(); i++, args = args.tail )
+    {
+      recordStructuralCoercion( args.head, args.head.type, paramTypes.get( i ) );
+    }
+  }
+
+  /**
+   * With {@code -Amanifold.ext.proxy.pregenerate=true} record the (root class, structural interface) pair at a
+   * coercion site so the proxy factory for it is generated at compile-time, see {@link StructuralProxyPregenerator}.
+   */
+  private void recordStructuralCoercion( JCTree site, Type rootType, Type ifaceType )
+  {
+    if( _tp.isGenerate() || ifaceType == null ||
+      !_sp.getProxyPregenerator().isEnabled( _tp.getContext() ) ||
+      !TypesUtil.isStructuralInterface( _tp.getTypes(), ifaceType.tsym ) )
+    {
+      return;
+    }
+
+    String reason = _sp.getProxyPregenerator().record( _tp.getTypes(), rootType, ifaceType );
+    if( reason != null )
+    {
+      _tp.report( site, Diagnostic.Kind.WARNING,
+        ExtIssueMsg.MSG_STRUCTURAL_PROXY_NOT_PREGENERATED.get( rootType, ifaceType.tsym, reason ) );
+    }
+  }
+
   private void compileGeneratedProxyFactoryClasses( JCTree.JCClassDecl tree )
   {
     if( isExtensionClass( tree ) )
@@ -2913,6 +3218,14 @@ public class ExtensionTransformer extends TreeTranslator
         return tree;
       }
       Type returnType = ((Symbol.MethodSymbol)m.sym).getReturnType();
+      if( isJailbreakIndy() )
+      {
+        JCTree.JCMethodInvocation indyCall = replaceWithInvokeDynamic( tree, m, isStatic, returnType );
+        if( indyCall != null )
+        {
+          return indyCall;
+        }
+      }
       Symbol.MethodSymbol reflectMethodSym = findReflectUtilMethod( tree, returnType, isStatic );
 
       List<Symbol.VarSymbol> parameters = ((Symbol.MethodSymbol)m.sym).getParameters();
@@ -2957,6 +3270,133 @@ public class ExtensionTransformer extends TreeTranslator
     return tree;
   }
 
+  private boolean isJailbreakIndy()
+  {
+    Map<String, String> options = JavacProcessingEnvironment.instance( _tp.getContext() ).getOptions();
+    return Boolean.parseBoolean( options.get( ARG_JAILBREAK_INDY ) );
+  }
+
+  /**
+   * Replace the call with an {@code invokedynamic} call site bootstrapped by {@link ReflectionBootstrap}. The call
+   * site type mirrors {@code ReflectionRuntimeMethods.invoke_*}: the receiver and reference parameters are erased to
+   * Object so that inaccessible types never appear in the caller's descriptor.
+   *
+   * @return The indy call or null if the bootstrap class is not available, in which case reflection is used
+   */
+  private JCTree.JCMethodInvocation replaceWithInvokeDynamic( JCTree.JCMethodInvocation tree, JCTree.JCFieldAccess m,
+                                                              boolean isStatic, Type returnType )
+  {
+    Symbol.ClassSymbol bootstrapClassSym =
+      IDynamicJdk.instance().getTypeElement( _tp.getContext(), _tp.getCompilationUnit(), ReflectionBootstrap.class.getName() );
+    if( bootstrapClassSym == null )
+    {
+      return null;
+    }
+
+    Symtab symTab = _tp.getSymtab();
+    Types types = _tp.getTypes();
+    Names names = Names.instance( _tp.getContext() );
+
+    List<Type> bsmParams = List.of( symTab.methodHandleLookupType, symTab.stringType, symTab.methodTypeType, symTab.stringType );
+    if( isStatic )
+    {
+      bsmParams = bsmParams.append( symTab.stringType );
+    }
+    Symbol.MethodSymbol bsm = resolveMethod( tree, names.fromString( isStatic ? "invokeStatic" : "invoke" ),
+      bootstrapClassSym.type, bsmParams );
+    if( bsm == null )
+    {
+      return null;
+    }
+
+    Type erasedMethod = types.erasure( m.sym.type );
+    ArrayList<Type> indyParams = new ArrayList<>();
+    if( !isStatic )
+    {
+      indyParams.add( symTab.objectType ); // receiver
+    }
+    StringBuilder descriptor = new StringBuilder( "(" );
+    for( Type param : erasedMethod.getParameterTypes() )
+    {
+      indyParams.add( param.isPrimitive() ? param : symTab.objectType );
+      appendDescriptor( descriptor, param );
+    }
+    descriptor.append( ')' );
+    appendDescriptor( descriptor, erasedMethod.getReturnType() );
+    Type erasedReturn = types.erasure( returnType );
+    Type indyReturn = erasedReturn.isPrimitiveOrVoid() ? erasedReturn : symTab.objectType;
+    Type.MethodType indyType = new Type.MethodType( List.from( indyParams ), indyReturn, List.nil(), symTab.methodClass );
+
+    Symbol dynSym = isStatic
+      ? makeDynamicMethodSymbol( m.sym.name, bsm, indyType,
+          descriptor.toString(), ((Symbol.ClassSymbol)types.erasure( m.selected.type ).tsym).flatName().toString() )
+      : makeDynamicMethodSymbol( m.sym.name, bsm, indyType, descriptor.toString() );
+
+    TreeMaker make = _tp.getTreeMaker();
+    JCTree.JCFieldAccess indySelect = make.Select( make.QualIdent( bootstrapClassSym ), m.sym.name );
+    indySelect.sym = dynSym;
+    indySelect.type = indyType;
+    indySelect.pos = tree.pos;
+
+    List<JCExpression> args = isStatic ? tree.getArguments() : tree.getArguments().prepend( m.selected );
+    JCTree.JCMethodInvocation indyCall = make.Apply( List.nil(), indySelect, args );
+    indyCall.varargsElement = tree.varargsElement;
+    indyCall.type = returnType;
+    indyCall.pos = tree.pos;
+    return indyCall;
+  }
+
+  private void appendDescriptor( StringBuilder sb, Type erasedType )
+  {
+    switch( erasedType.getTag() )
+    {
+      case BOOLEAN: sb.append( 'Z' ); break;
+      case BYTE: sb.append( 'B' ); break;
+      case CHAR: sb.append( 'C' ); break;
+      case SHORT: sb.append( 'S' ); break;
+      case INT: sb.append( 'I' ); break;
+      case LONG: sb.append( 'J' ); break;
+      case FLOAT: sb.append( 'F' ); break;
+      case DOUBLE: sb.append( 'D' ); break;
+      case VOID: sb.append( 'V' ); break;
+      case ARRAY:
+        sb.append( '[' );
+        appendDescriptor( sb, ((Type.ArrayType)erasedType).getComponentType() );
+        break;
+      default:
+        sb.append( 'L' ).append( ((Symbol.ClassSymbol)erasedType.tsym).flatName().toString().replace( '.', '/' ) ).append( ';' );
+    }
+  }
+
+  /**
+   * The {@code DynamicMethodSymbol} constructor changed in Java 13 (bootstrap as {@code MethodHandleSymbol}, static
+   * args as {@code LoadableConstant}), hence reflection.
+   */
+  private Symbol makeDynamicMethodSymbol( Name name, Symbol.MethodSymbol bsm, Type indyType, String... staticArgs )
+  {
+    Symtab symTab = _tp.getSymtab();
+    String dynSymClass = "com.sun.tools.javac.code.Symbol$DynamicMethodSymbol";
+    if( !JreUtil.isJava13orLater() )
+    {
+      return (Symbol)ReflectUtil.constructor( dynSymClass,
+          Name.class, Symbol.class, int.class, Symbol.MethodSymbol.class, Type.class, Object[].class )
+        .newInstance( name, symTab.noSymbol, 6 /*REF_invokeStatic*/, bsm, indyType, staticArgs );
+    }
+
+    Class<?> methodHandleSymClass = ReflectUtil.type( "com.sun.tools.javac.code.Symbol$MethodHandleSymbol" );
+    Class<?> loadableConstantClass = ReflectUtil.type( "com.sun.tools.javac.jvm.PoolConstant$LoadableConstant" );
+    Object bsmHandle = ReflectUtil.constructor( methodHandleSymClass, Symbol.class ).newInstance( bsm );
+    Object loadableArgs = java.lang.reflect.Array.newInstance( loadableConstantClass, staticArgs.length );
+    for( int i = 0; i < staticArgs.length; i++ )
+    {
+      java.lang.reflect.Array.set( loadableArgs, i,
+        ReflectUtil.method( loadableConstantClass, "String", String.class ).invokeStatic( staticArgs[i] ) );
+    }
+    return (Symbol)ReflectUtil.constructor( dynSymClass,
+        Name.class, Symbol.class, methodHandleSymClass, Type.class, loadableArgs.getClass() )
+      .newInstance( name, symTab.noSymbol, bsmHandle, indyType, loadableArgs );
+  }
+
   private JCTree replaceWithReflection( JCTree.JCFieldAccess tree )
   {
     TreeMaker make = _tp.getTreeMaker();
@@ -0,0 +1,606 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext;
+
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symtab;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.TypeTag;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.TreeInfo;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.tree.TreeScanner;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.JCDiagnostic;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.Names;
+import manifold.internal.javac.IDynamicJdk;
+import manifold.internal.javac.ILetExpr;
+import manifold.internal.javac.OverloadOperatorSymbol;
+import manifold.util.JreUtil;
+import manifold.util.ReflectUtil;
+
+import static com.sun.tools.javac.code.Flags.FINAL;
+import static com.sun.tools.javac.code.Flags.SYNTHETIC;
+
+/**
+ * Lowers for-each loops over integer, long, and double ranges made with {@code RangeFun} expressions, such as
+ * {@code for( int i: 0 to_ n )}, to counted loops, and range membership tests, such as {@code x inside 0 to n}, to
+ * comparisons. The lowered code follows the range's iterator and {@code contains()} exactly, including reversed ranges
+ * and open endpoints, but it does not allocate the range, its iterator, or boxed elements.
+ * <p/>
+ * A for-each loop over a range is lowered like this:
+ * <pre><code>
+ *   {
+ *     int $start = start, $end = end, $step = step;
+ *     if( $step <= 0 ) throw new IllegalArgumentException( "The step must be greater than 0: " + $step );
+ *     for( boolean $rev = $start > $end,
+ *          $more = !firstClosed && hasNext( $start ) ? noOverflow( $start ) : true,
+ *          int $csr = !firstClosed && hasNext( $start ) ? advance( $start ) : $start; $more && hasNext( $csr );
+ *          $more = noOverflow( $csr ), $csr = advance( $csr ) )
+ *     {
+ *       int i = $csr;
+ *       body
+ *     }
+ *   }
+ * </code></pre>
+ * where {@code advance(c)} is {@code $rev ? c - $step : c + $step}, {@code hasNext(c)} is
+ * {@code ($rev ? c > $end : c < $end) || (lastClosed && c == $end)}, and {@code noOverflow(c)} is
+ * {@code $rev ? c >= MIN_VALUE + $step : c <= MAX_VALUE - $step}. Like the iterator, the loop ends instead of wrapping
+ * around at the limits of {@code int} and {@code long}, {@code $more} is left out for doubles.
+ */
+class RangeLowering
+{
+  private static final String RANGE_FUN = "manifold.collections.api.range.RangeFun";
+
+  private final ExtensionTransformer _transformer;
+  private final Context _ctx;
+  private final Symtab _syms;
+  private final TreeMaker _make;
+  private final Names _names;
+  private int _tempIndex;
+
+  RangeLowering( ExtensionTransformer transformer )
+  {
+    _transformer = transformer;
+    _ctx = transformer.getTypeProcessor().getContext();
+    _syms = transformer.getTypeProcessor().getSymtab();
+    _make = transformer.getTypeProcessor().getTreeMaker();
+    _names = Names.instance( _ctx );
+  }
+
+  /**
+   * @return A block with a counted loop equivalent to {@code tree}, or null if {@code tree} does not iterate a range
+   * expression
+   */
+  JCTree.JCBlock lowerForeach( JCTree.JCEnhancedForLoop tree )
+  {
+    RangeExpr range = matchRange( tree.expr, true );
+    if( range == null || !isElementType( tree.var.sym.type, range._type ) )
+    {
+      return null;
+    }
+
+    Symbol owner = tree.var.sym.owner;
+    Type type = range._type;
+    int index = _tempIndex++;
+    Symbol.VarSymbol start = makeTemp( "$rangeStart", index, type, owner );
+    Symbol.VarSymbol end = makeTemp( "$rangeEnd", index, type, owner );
+    Symbol.VarSymbol step = makeTemp( "$rangeStep", index, type, owner );
+    Symbol.VarSymbol rev = makeTemp( "$rangeReverse", index, _syms.booleanType, owner );
+    Symbol.VarSymbol csr = makeTemp( "$rangeCsr", index, type, owner );
+
+    // endpoints and step are evaluated in the same order as the range expression
+    JCTree.JCVariableDecl startDef = makeVarDef( start, _transformer.translate( range._start ), tree.pos );
+    JCTree.JCVariableDecl endDef = makeVarDef( end, _transformer.translate( range._end ), tree.pos );
+    JCTree.JCVariableDecl stepDef = makeVarDef( step, range._step == null
+                                                      ? makeLiteral( type, 1 )
+                                                      : _transformer.translate( range._step ), tree.pos );
+    JCTree.JCVariableDecl revDef = makeVarDef( rev, makeGreater( ident( start ), ident( end ), type ), tree.pos );
+
+    // the logical first endpoint is the start, it is skipped if it is open (the closed flags swap when reversed)
+    JCExpression firstOpen = makeChoice( rev, !range._rightClosed, !range._leftClosed );
+    JCExpression skipFirst = makeBinary( JCTree.Tag.AND, firstOpen, makeHasNext( start, end, rev, range ) );
+    JCTree.JCVariableDecl csrDef = makeVarDef( csr,
+      makeConditional( skipFirst, makeAdvance( ident( start ), step, rev ), ident( start ), type ), tree.pos );
+
+    JCTree.JCExpressionStatement update = makeAssign( csr, makeAdvance( ident( csr ), step, rev ), tree.pos );
+    List<JCTree.JCStatement> init = List.of( revDef, csrDef );
+    List<JCTree.JCExpressionStatement> updates = List.of( update );
+    JCExpression cond = makeHasNext( csr, end, rev, range );
+    if( type.getTag() != TypeTag.DOUBLE )
+    {
+      // like the iterator, stop if the next value would overflow instead of wrapping around
+      Symbol.VarSymbol more = makeTemp( "$rangeMore", index, _syms.booleanType, owner );
+      JCExpression skipFirstAgain = makeBinary( JCTree.Tag.AND,
+        makeChoice( rev, !range._rightClosed, !range._leftClosed ), makeHasNext( start, end, rev, range ) );
+      JCTree.JCVariableDecl moreDef = makeVarDef( more, makeConditional( skipFirstAgain,
+        makeNoOverflow( start, step, rev, type ), _make.Literal( true ), _syms.booleanType ), tree.pos );
+      init = List.of( revDef, moreDef, csrDef );
+      updates = List.of( makeAssign( more, makeNoOverflow( csr, step, rev, type ), tree.pos ), update );
+      cond = makeBinary( JCTree.Tag.AND, ident( more ), cond );
+    }
+
+    JCTree.JCVariableDecl var = _transformer.translate( tree.var );
+    var.init = ident( csr );
+    JCTree.JCBlock body = _make.Block( 0, List.of( var, _transformer.translate( tree.body ) ) );
+    body.pos = tree.body.pos;
+
+    JCTree.JCForLoop loop = _make.ForLoop( init, cond, updates, body );
+    loop.pos = tree.pos;
+    patchTargets( body, tree, loop );
+
+    JCTree.JCBlock block = _make.Block( 0, List.of( startDef, endDef, stepDef, makeStepCheck( step, type, tree.pos ), loop ) );
+    block.pos = tree.pos;
+    return block;
+  }
+
+  /**
+   * {@code if( $step <= 0 ) throw new IllegalArgumentException( "The step must be greater than 0: " + $step );}, same
+   * as the range constructors
+   */
+  private JCTree.JCStatement makeStepCheck( Symbol.VarSymbol step, Type type, int pos )
+  {
+    Symbol.ClassSymbol exceptionSym = IDynamicJdk.instance().getTypeElement( _ctx,
+      _transformer.getTypeProcessor().getCompilationUnit(), IllegalArgumentException.class.getTypeName() );
+    Symbol.MethodSymbol constructor = null;
+    for( Symbol member: exceptionSym.getEnclosedElements() )
+    {
+      if( member.isConstructor() && ((Symbol.MethodSymbol)member).params().size() == 1 &&
+        ((Symbol.MethodSymbol)member).params().head.type.tsym == _syms.stringType.tsym )
+      {
+        constructor = (Symbol.MethodSymbol)member;
+        break;
+      }
+    }
+
+    JCTree.JCLiteral message = _make.Literal( "The step must be greater than 0: " );
+    message.pos = pos;
+    JCTree.JCNewClass newException = _make.NewClass( null, List.nil(), _make.QualIdent( exceptionSym ),
+      List.of( makeBinary( JCTree.Tag.PLUS, message, ident( step ) ) ), null );
+    newException.constructor = constructor;
+    newException.constructorType = constructor.type;
+    newException.type = exceptionSym.type;
+    newException.pos = pos;
+    JCTree.JCThrow throwStmt = _make.Throw( newException );
+    throwStmt.pos = pos;
+
+    // a primitive comparison like the constructors, NaN passes
+    JCTree.JCIf check = _make.If( makeBinary( JCTree.Tag.LE, ident( step ), makeLiteral( type, 0 ) ), throwStmt, null );
+    check.pos = pos;
+    return check;
+  }
+
+  /**
+   * Retargets {@code break} and {@code continue} statements from the for-each loop to the counted loop, same as javac's
+   * {@code Lower} does when it lowers a for-each loop.
+   */
+  private void patchTargets( JCTree body, JCTree src, JCTree dest )
+  {
+    new TreeScanner()
+    {
+      @Override
+      public void visitBreak( JCTree.JCBreak tree )
+      {
+        if( tree.target == src )
+        {
+          tree.target = dest;
+        }
+      }
+
+      @Override
+      public void visitContinue( JCTree.JCContinue tree )
+      {
+        if( tree.target == src )
+        {
+          tree.target = dest;
+        }
+      }
+
+      @Override
+      public void visitClassDef( JCTree.JCClassDecl tree )
+      {
+      }
+
+      @Override
+      public void visitLambda( JCTree.JCLambda tree )
+      {
+      }
+    }.scan( body );
+  }
+
+  /**
+   * @return Comparisons equivalent to an {@code inside} or {@code outside} range membership test, or null if
+   * {@code tree} is not a membership test of a range expression
+   */
+  JCExpression lowerMembership( JCTree.JCBinary tree )
+  {
+    Symbol.MethodSymbol method = getBindingMethod( tree );
+    if( method == null || !method.name.toString().equals( "postfixBind" ) )
+    {
+      return null;
+    }
+    String owner = method.owner.getQualifiedName().toString();
+    boolean inside = owner.equals( RANGE_FUN + ".Inside.InsideRange" );
+    if( !inside && !owner.equals( RANGE_FUN + ".Outside.OutsideRange" ) )
+    {
+      return null;
+    }
+    JCExpression receiver = TreeInfo.skipParens( getReceiver( tree ) );
+    Symbol.MethodSymbol rangeMethod = getBindingMethod( receiver );
+    if( rangeMethod == null || !rangeMethod.name.toString().equals( "prefixBind" ) ||
+      !rangeMethod.owner.getQualifiedName().toString().equals( RANGE_FUN + (inside ? ".Inside" : ".Outside") ) )
+    {
+      return null;
+    }
+    // a step does not affect membership, but it would have to be evaluated
+    RangeExpr range = matchRange( getArg( (JCTree.JCBinary)receiver ), false );
+    JCExpression element = getArg( tree );
+    if( range == null || !isElementType( element.type, range._type ) )
+    {
+      return null;
+    }
+
+    Symbol owningSymbol = ExtensionTransformer.getEnclosingSymbol( tree, _ctx,
+      child -> _transformer.getTypeProcessor().getParent( child ) );
+    Type type = range._type;
+    int index = _tempIndex++;
+    Symbol.VarSymbol start = makeTemp( "$rangeStart", index, type, owningSymbol );
+    Symbol.VarSymbol end = makeTemp( "$rangeEnd", index, type, owningSymbol );
+    Symbol.VarSymbol elem = makeTemp( "$rangeElem", index, type, owningSymbol );
+    // same evaluation order as the range expression and then the element
+    List<JCTree.JCVariableDecl> tempVars = List.of(
+      makeVarDef( start, _transformer.translate( range._start ), tree.pos ),
+      makeVarDef( end, _transformer.translate( range._end ), tree.pos ),
+      makeVarDef( elem, _transformer.translate( element ), tree.pos ) );
+
+    // the range's logical left and right endpoints
+    JCExpression rev = makeGreater( ident( start ), ident( end ), type );
+    JCExpression left = makeConditional( rev, ident( end ), ident( start ), type );
+    JCExpression right = makeConditional( rev, ident( start ), ident( end ), type );
+
+    JCExpression result;
+    if( inside )
+    {
+      // left <= elem && right >= elem, or < and > if open
+      result = makeBinary( JCTree.Tag.AND,
+        makeCompare( range._leftClosed ? JCTree.Tag.LE : JCTree.Tag.LT, left, ident( elem ), type ),
+        makeCompare( range._rightClosed ? JCTree.Tag.GE : JCTree.Tag.GT, right, ident( elem ), type ) );
+    }
+    else
+    {
+      result = makeBinary( JCTree.Tag.OR,
+        makeCompare( range._leftClosed ? JCTree.Tag.GT : JCTree.Tag.GE, left, ident( elem ), type ),
+        makeCompare( range._rightClosed ? JCTree.Tag.LT : JCTree.Tag.LE, right, ident( elem ), type ) );
+    }
+    return ILetExpr.makeLetExpr( _make, tempVars, result, _syms.booleanType, tree.pos );
+  }
+
+  /**
+   * Matches {@code start to end}, or {@code start to end step s} if {@code allowStep}, where {@code to} is any of the
+   * {@code RangeFun} endpoint constants and the range is an {@code IntegerRange}, {@code LongRange}, or
+   * {@code DoubleRange}.
+   */
+  private RangeExpr matchRange( JCExpression expr, boolean allowStep )
+  {
+    expr = TreeInfo.skipParens( expr );
+    JCExpression step = null;
+    Symbol.MethodSymbol method = getBindingMethod( expr );
+    if( method == null || !method.name.toString().equals( "prefixBind" ) )
+    {
+      return null;
+    }
+
+    if( method.owner.getQualifiedName().toString().equals( RANGE_FUN + ".Step.StepRange" ) )
+    {
+      if( !allowStep )
+      {
+        return null;
+      }
+      // (range step) s
+      JCExpression stepClause = TreeInfo.skipParens( getReceiver( (JCTree.JCBinary)expr ) );
+      Symbol.MethodSymbol stepMethod = getBindingMethod( stepClause );
+      if( stepMethod == null ||
+        !stepMethod.owner.getQualifiedName().toString().equals( RANGE_FUN + ".Step" ) ||
+        !isRangeFunField( getReceiver( (JCTree.JCBinary)stepClause ), "step" ) )
+      {
+        return null;
+      }
+      step = getArg( (JCTree.JCBinary)expr );
+      expr = TreeInfo.skipParens( getArg( (JCTree.JCBinary)stepClause ) );
+      method = getBindingMethod( expr );
+      if( method == null || !method.name.toString().equals( "prefixBind" ) )
+      {
+        return null;
+      }
+    }
+
+    Type type;
+    switch( method.owner.getQualifiedName().toString() )
+    {
+      case RANGE_FUN + ".Closed.From_Integer":
+        type = _syms.intType;
+        break;
+      case RANGE_FUN + ".Closed.From_Long":
+        type = _syms.longType;
+        break;
+      case RANGE_FUN + ".Closed.From_Double":
+        type = _syms.doubleType;
+        break;
+      default:
+        return null;
+    }
+
+    // (start to) end
+    JCExpression from = TreeInfo.skipParens( getReceiver( (JCTree.JCBinary)expr ) );
+    Symbol.MethodSymbol fromMethod = getBindingMethod( from );
+    if( fromMethod == null || !fromMethod.owner.getQualifiedName().toString().equals( RANGE_FUN + ".Closed" ) )
+    {
+      return null;
+    }
+    JCExpression endpoints = getReceiver( (JCTree.JCBinary)from );
+    RangeExpr range = new RangeExpr();
+    if( isRangeFunField( endpoints, "to" ) )
+    {
+      range._leftClosed = range._rightClosed = true;
+    }
+    else if( isRangeFunField( endpoints, "_to" ) )
+    {
+      range._rightClosed = true;
+    }
+    else if( isRangeFunField( endpoints, "to_" ) )
+    {
+      range._leftClosed = true;
+    }
+    else if( !isRangeFunField( endpoints, "_to_" ) )
+    {
+      return null;
+    }
+    range._type = type;
+    range._start = getArg( (JCTree.JCBinary)from );
+    range._end = getArg( (JCTree.JCBinary)expr );
+    range._step = step;
+    return range;
+  }
+
+  private boolean isRangeFunField( JCExpression expr, String name )
+  {
+    Symbol sym = TreeInfo.symbol( TreeInfo.skipParens( expr ) );
+    return sym instanceof Symbol.VarSymbol && sym.name.toString().equals( name ) &&
+      sym.owner.getQualifiedName().toString().equals( RANGE_FUN );
+  }
+
+  private boolean isElementType( Type varType, Type elemType )
+  {
+    Type unboxed = varType.isPrimitive() ? varType : _transformer.getTypeProcessor().getTypes().unboxedType( varType );
+    return unboxed != null && unboxed.getTag() == elemType.getTag();
+  }
+
+  private Symbol.MethodSymbol getBindingMethod( JCExpression expr )
+  {
+    if( !(expr instanceof JCTree.JCBinary) )
+    {
+      return null;
+    }
+    Symbol op = IDynamicJdk.instance().getOperator( expr );
+    while( op instanceof OverloadOperatorSymbol )
+    {
+      op = ((OverloadOperatorSymbol)op).getMethod();
+    }
+    return op instanceof Symbol.MethodSymbol && op.owner != null ? (Symbol.MethodSymbol)op : null;
+  }
+
+  private boolean isSwapped( JCTree.JCBinary tree )
+  {
+    Symbol op = IDynamicJdk.instance().getOperator( tree );
+    return op instanceof OverloadOperatorSymbol && ((OverloadOperatorSymbol)op).isSwapped();
+  }
+
+  private JCExpression getReceiver( JCTree.JCBinary tree )
+  {
+    return isSwapped( tree ) ? tree.rhs : tree.lhs;
+  }
+
+  private JCExpression getArg( JCTree.JCBinary tree )
+  {
+    return isSwapped( tree ) ? tree.lhs : tree.rhs;
+  }
+
+  private Symbol.VarSymbol makeTemp( String name, int index, Type type, Symbol owner )
+  {
+    return new Symbol.VarSymbol( FINAL | SYNTHETIC, _names.fromString( name + index ), type, owner );
+  }
+
+  private JCTree.JCVariableDecl makeVarDef( Symbol.VarSymbol sym, JCExpression init, int pos )
+  {
+    JCTree.JCVariableDecl def = _make.VarDef( sym, init );
+    def.pos = pos;
+    return def;
+  }
+
+  private JCExpression ident( Symbol.VarSymbol sym )
+  {
+    return _make.Ident( sym );
+  }
+
+  private JCExpression makeLiteral( Type type, int value )
+  {
+    switch( type.getTag() )
+    {
+      case LONG:
+        return _make.Literal( (long)value );
+      case DOUBLE:
+        return _make.Literal( (double)value );
+      default:
+        return _make.Literal( value );
+    }
+  }
+
+  /**
+   * {@code rev ? ifReversed : otherwise}, a literal if both are the same
+   */
+  private JCExpression makeChoice( Symbol.VarSymbol rev, boolean ifReversed, boolean otherwise )
+  {
+    return ifReversed == otherwise
+           ? _make.Literal( ifReversed )
+           : makeConditional( ident( rev ), _make.Literal( ifReversed ), _make.Literal( otherwise ), _syms.booleanType );
+  }
+
+  /**
+   * {@code ($rev ? c > $end : c < $end) || (lastClosed && c == $end)}
+   */
+  private JCExpression makeHasNext( Symbol.VarSymbol c, Symbol.VarSymbol end, Symbol.VarSymbol rev, RangeExpr range )
+  {
+    JCExpression beforeEnd = makeConditional( ident( rev ),
+      makeBinary( JCTree.Tag.GT, ident( c ), ident( end ) ),
+      makeBinary( JCTree.Tag.LT, ident( c ), ident( end ) ), _syms.booleanType );
+    JCExpression atEnd = makeBinary( JCTree.Tag.AND,
+      makeChoice( rev, range._leftClosed, range._rightClosed ),
+      makeBinary( JCTree.Tag.EQ, ident( c ), ident( end ) ) );
+    return makeBinary( JCTree.Tag.OR, beforeEnd, atEnd );
+  }
+
+  /**
+   * {@code $rev ? c - $step : c + $step}
+   */
+  private JCExpression makeAdvance( JCExpression c, Symbol.VarSymbol step, Symbol.VarSymbol rev )
+  {
+    return makeConditional( ident( rev ),
+      makeBinary( JCTree.Tag.MINUS, c, ident( step ) ),
+      makeBinary( JCTree.Tag.PLUS, c, ident( step ) ), c.type );
+  }
+
+  /**
+   * {@code $rev ? c >= MIN_VALUE + $step : c <= MAX_VALUE - $step}, true if advancing {@code c} does not overflow
+   */
+  private JCExpression makeNoOverflow( Symbol.VarSymbol c, Symbol.VarSymbol step, Symbol.VarSymbol rev, Type type )
+  {
+    boolean isLong = type.getTag() == TypeTag.LONG;
+    JCExpression min = isLong ? _make.Literal( Long.MIN_VALUE ) : _make.Literal( Integer.MIN_VALUE );
+    JCExpression max = isLong ? _make.Literal( Long.MAX_VALUE ) : _make.Literal( Integer.MAX_VALUE );
+    return makeConditional( ident( rev ),
+      makeBinary( JCTree.Tag.GE, ident( c ), makeBinary( JCTree.Tag.PLUS, min, ident( step ) ) ),
+      makeBinary( JCTree.Tag.LE, ident( c ), makeBinary( JCTree.Tag.MINUS, max, ident( step ) ) ), _syms.booleanType );
+  }
+
+  private JCTree.JCExpressionStatement makeAssign( Symbol.VarSymbol var, JCExpression value, int pos )
+  {
+    JCTree.JCAssign assign = _make.Assign( ident( var ), value );
+    assign.type = var.type;
+    assign.pos = pos;
+    JCTree.JCExpressionStatement exec = _make.Exec( assign );
+    exec.pos = pos;
+    return exec;
+  }
+
+  /**
+   * Same as {@code Comparable#compareTo} of the boxed values, which differs from the primitive comparison for doubles
+   */
+  private JCExpression makeCompare( JCTree.Tag tag, JCExpression lhs, JCExpression rhs, Type type )
+  {
+    if( type.getTag() != TypeTag.DOUBLE )
+    {
+      return makeBinary( tag, lhs, rhs );
+    }
+
+    Symbol.ClassSymbol doubleSym = _transformer.getTypeProcessor().getTypes().boxedClass( type );
+    Symbol.MethodSymbol compare = _transformer.resolveMethod( lhs.pos(), _names.fromString( "compare" ),
+      doubleSym.type, List.of( _syms.doubleType, _syms.doubleType ) );
+    JCTree.JCMethodInvocation call = _make.App( _make.Select( _make.QualIdent( doubleSym ), compare ), List.of( lhs, rhs ) );
+    return makeBinary( tag, call, _make.Literal( 0 ) );
+  }
+
+  private JCExpression makeGreater( JCExpression lhs, JCExpression rhs, Type type )
+  {
+    return makeCompare( JCTree.Tag.GT, lhs, rhs, type );
+  }
+
+  private JCExpression makeConditional( JCExpression cond, JCExpression ifTrue, JCExpression ifFalse, Type type )
+  {
+    JCTree.JCConditional conditional = _make.Conditional( cond, ifTrue, ifFalse );
+    conditional.type = type;
+    return conditional;
+  }
+
+  private JCExpression makeBinary( JCTree.Tag tag, JCExpression lhs, JCExpression rhs )
+  {
+    JCTree.JCBinary binary = _make.Binary( tag, lhs, rhs );
+    switch( tag )
+    {
+      case PLUS:
+      case MINUS:
+        binary.type = lhs.type.baseType();
+        break;
+      default:
+        binary.type = _syms.booleanType;
+    }
+    JCDiagnostic.DiagnosticPosition pos = lhs.pos();
+    if( JreUtil.isJava8() )
+    {
+      ReflectUtil.field( binary, "operator" ).set( _transformer.resolveMethod( pos,
+        _names.fromString( operatorName( tag ) ), _syms.predefClass.type,
+        List.of( lhs.type.baseType(), rhs.type.baseType() ) ) );
+    }
+    else
+    {
+      //reflective: binary.operator = Operators.instance( _ctx ).resolveBinary( ... );
+      Object operators = ReflectUtil.method( "com.sun.tools.javac.comp.Operators", "instance", Context.class )
+        .invokeStatic( _ctx );
+      ReflectUtil.field( binary, "operator" ).set( ReflectUtil.method( operators, "resolveBinary",
+          JCDiagnostic.DiagnosticPosition.class, JCTree.Tag.class, Type.class, Type.class )
+        .invoke( pos, tag, lhs.type.baseType(), rhs.type.baseType() ) );
+    }
+    return binary;
+  }
+
+  private static String operatorName( JCTree.Tag tag )
+  {
+    switch( tag )
+    {
+      case PLUS:
+        return "+";
+      case MINUS:
+        return "-";
+      case LT:
+        return "<";
+      case LE:
+        return "<=";
+      case GT:
+        return ">";
+      case GE:
+        return ">=";
+      case EQ:
+        return "==";
+      case AND:
+        return "&&";
+      case OR:
+        return "||";
+    }
+    throw new IllegalStateException( "Unexpected operator: " + tag );
+  }
+
+  private static class RangeExpr
+  {
+    private Type _type;
+    private JCExpression _start;
+    private JCExpression _end;
+    private JCExpression _step;
+    private boolean _leftClosed;
+    private boolean _rightClosed;
+  }
+}
@@ -114,7 +114,7 @@ public class StaticStructuralTypeProxyGenerator
     return sb.toString();
   }
 
-  private static String getNamespace( String extensionPkg )
+  static String getNamespace( String extensionPkg )
   {
     String nspace = extensionPkg;
     if( nspace.startsWith( "java." ) || nspace.startsWith( "javax." ) )
@@ -188,7 +188,7 @@ public class StaticStructuralTypeProxyGenerator
         ? "    "
         : "    return " )
       .append( maybeCastReturnType( mi, returnType, rootType ) );
-    if( !mi.getReturnType().isPrimitive() )
+    if( !mi.getReturnType().isPrimitiveOrVoid() )
     {
       sb.append( RuntimeMethods.class.getTypeName() ).append( ".coerce(" );
     }
@@ -196,7 +196,7 @@ public class StaticStructuralTypeProxyGenerator
     {
       handleMethod( sb, mi, params );
     }
-    if( !mi.getReturnType().isPrimitive() )
+    if( !mi.getReturnType().isPrimitiveOrVoid() )
     {
       sb.append( ", " ).append( mi.getReturnType().tsym.toString() ).append( ".class);\n" );
     }
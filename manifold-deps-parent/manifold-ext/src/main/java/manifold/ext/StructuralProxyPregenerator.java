@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.ext;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Symbol.ClassSymbol;
+import com.sun.tools.javac.code.Symbol.MethodSymbol;
+import com.sun.tools.javac.code.Symtab;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.TypeTag;
+import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.Context;
+import manifold.ext.rt.ExtensionMethod;
+import manifold.internal.javac.IDynamicJdk;
+import manifold.internal.javac.JavacPlugin;
+import manifold.internal.javac.StaticCompiler;
+import manifold.rt.api.util.ManClassUtil;
+import manifold.rt.api.util.Pair;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static manifold.ext.ExtCodeGen.TO_;
+
+/**
+ * Pregenerates {@link manifold.ext.rt.api.IProxyFactory_gen} implementations for structural coercion sites found
+ * during compilation. Enable with the compiler argument:<br>
+ * <code>-Amanifold.ext.proxy.pregenerate=true</code>
+ * <p/>
+ * Each site where an expression of a concrete class type is cast or assigned to a structural interface records the
+ * (root class, interface) pair. A proxy factory for the pair is generated into the interface's package, compiled with
+ * the project, and registered in {@code META-INF/services/manifold.ext.rt.api.IProxyFactory_gen} so the runtime finds
+ * it before resorting to dynamic proxy generation. Sites that cannot be pregenerated e.g., where the root type is an
+ * interface, are reported as warnings.
+ */
+class StructuralProxyPregenerator
+{
+  static final String ARG_PREGENERATE = "manifold.ext.proxy.pregenerate";
+  static final String PREGENPROXY_ = "pregeneratedproxy_";
+
+  private final ExtensionManifold _manifold;
+  private final Map<String, Pair<ClassSymbol, ClassSymbol>> _proxyToPair = new ConcurrentHashMap<>();
+  private final Set<String> _pending = ConcurrentHashMap.newKeySet();
+  private Boolean _enabled;
+
+  StructuralProxyPregenerator( ExtensionManifold manifold )
+  {
+    _manifold = manifold;
+  }
+
+  boolean isEnabled( Context ctx )
+  {
+    if( _enabled == null )
+    {
+      Map<String, String> options = JavacProcessingEnvironment.instance( ctx ).getOptions();
+      _enabled = Boolean.parseBoolean( options.get( ARG_PREGENERATE ) );
+    }
+    return _enabled;
+  }
+
+  /**
+   * Record a coercion of an expression of type {@code rootType} to structural interface {@code ifaceType}.
+   *
+   * @return The reason the pair cannot be pregenerated, otherwise null
+   */
+  String record( Types types, Type rootType, Type ifaceType )
+  {
+    if( rootType == null || ifaceType == null || !(ifaceType.tsym instanceof ClassSymbol) ||
+      rootType.isPrimitive() || rootType.isErroneous() || rootType.getTag() == TypeTag.BOT )
+    {
+      return null;
+    }
+
+    ClassSymbol ifaceSym = (ClassSymbol)ifaceType.tsym;
+    Type erasedRoot = types.erasure( rootType );
+    if( erasedRoot.tsym instanceof ClassSymbol && erasedRoot.tsym.isSubClass( ifaceSym, types ) )
+    {
+      // nominal subtype, no proxy necessary
+      return null;
+    }
+
+    String reason = verify( types, erasedRoot, ifaceSym );
+    if( reason != null )
+    {
+      return reason;
+    }
+
+    ClassSymbol rootSym = (ClassSymbol)erasedRoot.tsym;
+    String proxyFqn = makeProxyFactoryTypeName( rootSym, ifaceSym );
+    if( _proxyToPair.putIfAbsent( proxyFqn, new Pair<>( rootSym, ifaceSym ) ) == null )
+    {
+      StaticCompiler.instance().addIProxyFactory( ifaceSym.getQualifiedName().toString(), proxyFqn );
+      _pending.add( proxyFqn );
+    }
+    return null;
+  }
+
+  /**
+   * Surface recorded proxy factories in the compiler so they compile to disk along with the project.
+   */
+  void surfacePending( Context ctx, CompilationUnitTree compilationUnit )
+  {
+    if( _pending.isEmpty() )
+    {
+      return;
+    }
+
+    for( String proxyFqn : new ArrayList<>( _pending ) )
+    {
+      _pending.remove( proxyFqn );
+      surface( ctx, compilationUnit, proxyFqn );
+    }
+  }
+
+  private void surface( Context ctx, CompilationUnitTree compilationUnit, String proxyFqn )
+  {
+    // First, try to load the class the normal way via FileManager#list()
+
+    if( IDynamicJdk.instance().getTypeElement( ctx, compilationUnit, proxyFqn ) != null )
+    {
+      return;
+    }
+
+    // Next, since the proxy's package may have been listed before the proxy was recorded, force the compiler to load it
+
+    StaticCompiler.instance().includeGeneratedType( ctx, (JCTree.JCCompilationUnit)compilationUnit, proxyFqn );
+  }
+
+  boolean isType( String fqn )
+  {
+    return !_proxyToPair.isEmpty() && _proxyToPair.containsKey( fqn );
+  }
+
+  String contribute( String fqn )
+  {
+    Pair<ClassSymbol, ClassSymbol> pair = _proxyToPair.get( fqn );
+    return StaticStructuralTypeProxyGenerator.makeProxy( ManClassUtil.getShortClassName( fqn ),
+      pair.getSecond().type, pair.getFirst(), ManClassUtil.getPackage( fqn ), _manifold.getModule() ).getSecond();
+  }
+
+  private String makeProxyFactoryTypeName( ClassSymbol rootSym, ClassSymbol ifaceSym )
+  {
+    //   <interface-package>.pregeneratedproxy_<root-name>_To_<interface-name>
+    //
+    // note the "generatedproxy_" suffix of the prefix lets the class file write to disk, see
+    // ManifoldJavaFileManager#okToWriteClassFile()
+
+    String pkg = StaticStructuralTypeProxyGenerator.getNamespace( ifaceSym.packge().getQualifiedName().toString() );
+    String name = PREGENPROXY_ + flatten( rootSym ) + TO_ + flatten( ifaceSym );
+    return pkg + '.' + name;
+  }
+
+  private static String flatten( ClassSymbol sym )
+  {
+    return sym.flatName().toString().replace( '.', '_' ).replace( '$', '_' );
+  }
+
+  private String verify( Types types, Type rootType, ClassSymbol ifaceSym )
+  {
+    if( !(rootType instanceof Type.ClassType) || !(rootType.tsym instanceof ClassSymbol) )
+    {
+      return "root type is not a class";
+    }
+    ClassSymbol rootSym = (ClassSymbol)rootType.tsym;
+    if( rootSym.isInterface() || rootSym.type == symtab().objectType )
+    {
+      return "root type '" + rootSym.getQualifiedName() + "' does not determine the runtime class";
+    }
+    if( rootSym.isAnonymous() || rootSym.isLocal() )
+    {
+      return "root type is an anonymous or local class";
+    }
+    if( !ifaceSym.type.getTypeArguments().isEmpty() )
+    {
+      return "generic structural interfaces are not supported";
+    }
+
+    String pkg = StaticStructuralTypeProxyGenerator.getNamespace( ifaceSym.packge().getQualifiedName().toString() );
+    if( pkg.isEmpty() )
+    {
+      return "interface is in the default package";
+    }
+    if( !isAccessible( rootSym, pkg ) || !isAccessible( ifaceSym, pkg ) )
+    {
+      return "root type or interface is not accessible from package '" + pkg + "'";
+    }
+
+    return verifyMethods( types, rootSym, ifaceSym );
+  }
+
+  private boolean isAccessible( ClassSymbol sym, String pkg )
+  {
+    for( Symbol csr = sym; csr instanceof ClassSymbol; csr = csr.owner )
+    {
+      long flags = csr.flags();
+      if( (flags & Flags.PRIVATE) != 0 )
+      {
+        return false;
+      }
+      if( (flags & Flags.PUBLIC) == 0 && !csr.packge().getQualifiedName().toString().equals( pkg ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Verify the source generated by {@link StaticStructuralTypeProxyGenerator} compiles: each interface method must
+   * have a directly callable root method.
+   */
+  private String verifyMethods( Types types, ClassSymbol rootSym, ClassSymbol ifaceSym )
+  {
+    Set<String> signatures = new HashSet<>();
+    for( MethodSymbol mi : getInterfaceMethods( ifaceSym, new HashSet<>(), new ArrayList<>() ) )
+    {
+      if( mi.isStatic() || (mi.flags() & (Flags.SYNTHETIC | Flags.BRIDGE)) != 0 ||
+        mi.getAnnotation( ExtensionMethod.class ) != null ||
+        StaticStructuralTypeProxyGenerator.isObjectMethod( mi ) )
+      {
+        continue;
+      }
+
+      if( !signatures.add( mi.flatName() + types.erasure( mi.type ).getParameterTypes().toString() ) )
+      {
+        return "interface method '" + mi.flatName() + "' is overridden in the interface hierarchy";
+      }
+      if( !mi.getTypeParameters().isEmpty() )
+      {
+        return "generic interface method '" + mi.flatName() + "'";
+      }
+      if( mi.getReturnType() instanceof Type.ArrayType )
+      {
+        return "interface method '" + mi.flatName() + "' returns an array";
+      }
+
+      List<MethodSymbol> candidates = findRootMethods( rootSym, mi, new ArrayList<>() );
+      if( candidates.isEmpty() )
+      {
+        if( mi.isDefault() )
+        {
+          continue;
+        }
+        return "no method in root type matches '" + mi.flatName() + "'";
+      }
+      if( candidates.stream().noneMatch( rm -> isCallable( types, mi, rm ) ) )
+      {
+        return "method '" + mi.flatName() + "' in root type is not directly callable from the interface method";
+      }
+    }
+    return null;
+  }
+
+  private List<MethodSymbol> getInterfaceMethods( ClassSymbol iface, Set<ClassSymbol> visited, List<MethodSymbol> methods )
+  {
+    if( !visited.add( iface ) )
+    {
+      return methods;
+    }
+
+    for( Type superIface : iface.getInterfaces() )
+    {
+      getInterfaceMethods( (ClassSymbol)superIface.tsym, visited, methods );
+    }
+    for( Symbol member : IDynamicJdk.instance().getMembers( iface ) )
+    {
+      if( member instanceof MethodSymbol )
+      {
+        methods.add( (MethodSymbol)member );
+      }
+    }
+    return methods;
+  }
+
+  private List<MethodSymbol> findRootMethods( ClassSymbol rootSym, MethodSymbol mi, List<MethodSymbol> found )
+  {
+    findRootMethods( rootSym, mi, found, new HashSet<>() );
+    return found;
+  }
+
+  private void findRootMethods( ClassSymbol sym, MethodSymbol mi, List<MethodSymbol> found, Set<ClassSymbol> visited )
+  {
+    if( sym == null || !visited.add( sym ) )
+    {
+      return;
+    }
+
+    for( Symbol member : IDynamicJdk.instance().getMembersByName( sym, mi.getSimpleName() ) )
+    {
+      if( member instanceof MethodSymbol &&
+        ((MethodSymbol)member).getParameters().size() == mi.getParameters().size() )
+      {
+        found.add( (MethodSymbol)member );
+      }
+    }
+
+    Type superclass = sym.getSuperclass();
+    if( superclass != null && superclass.tsym instanceof ClassSymbol )
+    {
+      findRootMethods( (ClassSymbol)superclass.tsym, mi, found, visited );
+    }
+    for( Type iface : sym.getInterfaces() )
+    {
+      findRootMethods( (ClassSymbol)iface.tsym, mi, found, visited );
+    }
+  }
+
+  private boolean isCallable( Types types, MethodSymbol mi, MethodSymbol rm )
+  {
+    if( rm.isStatic() || (rm.flags() & Flags.PUBLIC) == 0 )
+    {
+      return false;
+    }
+
+    List<Type> miParams = types.erasure( mi.type ).getParameterTypes();
+    List<Type> rmParams = types.erasure( rm.type ).getParameterTypes();
+    for( int i = 0; i < miParams.size(); i++ )
+    {
+      if( !types.isAssignable( miParams.get( i ), rmParams.get( i ) ) )
+      {
+        return false;
+      }
+    }
+
+    Type miReturn = mi.getReturnType();
+    Type rmReturn = types.erasure( rm.getReturnType() );
+    if( miReturn.isPrimitive() && !types.isAssignable( rmReturn, miReturn ) )
+    {
+      return false;
+    }
+    if( !miReturn.isPrimitiveOrVoid() && rmReturn.getTag() == TypeTag.VOID )
+    {
+      return false;
+    }
+
+    // the generated method does not declare exceptions
+    Type runtimeException = symtab().runtimeExceptionType;
+    Type error = symtab().errorType;
+    for( Type thrown : rm.getThrownTypes() )
+    {
+      if( !types.isSubtype( thrown, runtimeException ) && !types.isSubtype( thrown, error ) )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Symtab symtab()
+  {
+    return Symtab.instance( JavacPlugin.instance().getContext() );
+  }
+}
@@ -25,6 +25,7 @@ public class Config
   }
 
   private boolean _removeNullConstraintValues;
+  private boolean _persistedQueries;
 
   /**
    * If true, recursively removes all {@code null} values from the <i>variables</i> component
@@ -53,5 +54,23 @@ public class Config
     _removeNullConstraintValues = value;
   }
 
+  /**
+   * If true, requests use <a href="https://www.apollographql.com/docs/apollo-server/performance/apq">automatic persisted
+   * queries</a>: a request sends the SHA-256 hash of its query instead of the query text. If the server does not have
+   * the query for the hash, the request is sent again with both the query text and the hash, which the server keeps for
+   * subsequent requests. If the server does not support persisted queries, requests to it send the query text.
+   * <p/>
+   * Note, the default setting is {@code false}, which always sends the query text. Use
+   * {@link manifold.graphql.rt.api.request.Executor#withPersistedQuery(boolean)} to override the setting per request.
+   */
+  public boolean isPersistedQueries()
+  {
+    return _persistedQueries;
+  }
+  public void setPersistedQueries( boolean value )
+  {
+    _persistedQueries = value;
+  }
+
   private Config() {}
 }
@@ -18,10 +18,13 @@ package manifold.graphql.rt.api.request;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import manifold.ext.rt.RuntimeMethods;
+import manifold.graphql.rt.api.Config;
 import manifold.rt.api.Bindings;
 
 import manifold.json.rt.api.Endpoint;
@@ -50,38 +53,122 @@ import manifold.json.rt.api.Requester;
  * using POST + Content-Type: application/json
  * $ curl -XPOST http://localhost:8080/graphql -H 'Content-Type: application/json' -d '{"query": "mutation M { newTodo: createTodo(text: \"This is a mutation example\") { text done } }"}'
  * </pre>
+ * With {@link Config#setPersistedQueries(boolean)} or {@link #withPersistedQuery(boolean)} requests use automatic
+ * persisted queries, which send the SHA-256 hash of the query instead of its text, see {@link #withPersistedQuery}.
+ * Use {@link GqlBatch} to send several requests in one HTTP round trip.
  * @param <T>
  */
 public class Executor<T>
 {
+  private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+  private static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
+
+  /** URLs of servers responding {@link #PERSISTED_QUERY_NOT_SUPPORTED} */
+  private static final Set<String> NO_PERSISTED_QUERIES = ConcurrentHashMap.newKeySet();
+
   private final GqlRequestBody _reqArgs;
   private final Requester<Bindings> _requester;
+  private final Supplier<Requester<Bindings>> _requesterSupplier;
+  private final Class<T> _resultType;
+  private String _queryHash;
+  private boolean _persistedQuery;
+  private boolean _sendingHash;
 
   public Executor( String url, String operation, String query, Bindings variables, Class<T> resultType )
+  {
+    this( url, operation, query, null, variables, resultType );
+  }
+
+  /**
+   * @param queryHash The SHA-256 hash of {@code query}, precomputed to identify the query as a persisted query. If null,
+   *                  the hash is computed from {@code query} if needed.
+   */
+  public Executor( String url, String operation, String query, String queryHash, Bindings variables, Class<T> resultType )
   {
     _requester = new Requester<>( url, result -> coerce( (Class<T>) resultType, result ) );
+    _requesterSupplier = () -> new Requester<>( url );
     _requester.withHeader( "Content-Type", "application/json" );
     _reqArgs = GqlRequestBody.create( query, variables );
+    _resultType = resultType;
+    _queryHash = queryHash;
+    _persistedQuery = Config.instance().isPersistedQueries();
   }
 
   public Executor( Endpoint endpoint, String operation, String query, Bindings variables, Class<T> resultType )
+  {
+    this( endpoint, operation, query, null, variables, resultType );
+  }
+
+  /**
+   * @param queryHash The SHA-256 hash of {@code query}, precomputed to identify the query as a persisted query. If null,
+   *                  the hash is computed from {@code query} if needed.
+   */
+  public Executor( Endpoint endpoint, String operation, String query, String queryHash, Bindings variables, Class<T> resultType )
   {
     _requester = new Requester<>( endpoint, result -> coerce( resultType, result ) );
+    _requesterSupplier = () -> new Requester<>( endpoint );
     _requester.withHeader( "Content-Type", "application/json" );
     _reqArgs = GqlRequestBody.create( query, variables );
+    _resultType = resultType;
+    _queryHash = queryHash;
+    _persistedQuery = Config.instance().isPersistedQueries();
   }
 
   public Executor( Supplier<Requester<Bindings>> requester, String operation, String query, Bindings variables, Class<T> resultType )
+  {
+    this( requester, operation, query, null, variables, resultType );
+  }
+
+  /**
+   * @param queryHash The SHA-256 hash of {@code query}, precomputed to identify the query as a persisted query. If null,
+   *                  the hash is computed from {@code query} if needed.
+   */
+  public Executor( Supplier<Requester<Bindings>> requester, String operation, String query, String queryHash, Bindings variables, Class<T> resultType )
   {
     _requester = requester.get();
+    _requesterSupplier = requester;
     _requester.withCoercer( result -> coerce( resultType, result ) );
     _requester.withHeader( "Content-Type", "application/json" );
     _reqArgs = GqlRequestBody.create( query, variables );
+    _resultType = resultType;
+    _queryHash = queryHash;
+    _persistedQuery = Config.instance().isPersistedQueries();
+  }
+
+  /**
+   * Makes a requester from the same supplier as this executor's, having its headers, parameters, format and timeout,
+   * to send this request separately, such as in a {@link GqlBatch}. Its responses are not coerced, see
+   * {@link #coerceResponse(Object)}.
+   */
+  Requester<Bindings> makeRawRequester()
+  {
+    Requester<Bindings> requester = _requesterSupplier.get();
+    if( requester == _requester )
+    {
+      // the supplier shares its requester, don't change its coercer
+      requester = new Requester<>( _requester.getEndpoint() );
+    }
+    requester.withCoercer( result -> result );
+    getHeaders().forEach( requester::withHeader );
+    getParameters().forEach( requester::withParam );
+    requester.withResponseFormat( getFormat() );
+    requester.withTimeout( getTimeout() );
+    return requester;
+  }
+
+  /**
+   * Coerces a response to this request sent separately, such as in a {@link GqlBatch}.
+   */
+  T coerceResponse( Object response )
+  {
+    //noinspection unchecked
+    return (T)coerce( _resultType, response );
   }
 
   private Object coerce( Class<T> resultType, Object result )
   {
     Bindings response = (Bindings) result;
+    handlePersistedQueryErrors( response );
     Object customResult = handleRawResponse( response );
     if( customResult != null )
     {
@@ -102,6 +189,18 @@ public class Executor<T>
     return _reqArgs;
   }
 
+  /**
+   * The SHA-256 hash of the query, which identifies the query as a persisted query.
+   */
+  public String getQueryHash()
+  {
+    if( _queryHash == null )
+    {
+      _queryHash = GqlRequestBody.hash( _reqArgs.getQuery() );
+    }
+    return _queryHash;
+  }
+
   /**
    * Access an unmodifiable view of the GraphQL request headers.
    */
@@ -110,6 +209,14 @@ public class Executor<T>
     return _requester.getHeaders();
   }
 
+  /**
+   * Access an unmodifiable view of the GraphQL request URL parameters.
+   */
+  public Map<String, String> getParameters()
+  {
+    return _requester.getParameters();
+  }
+
   /**
    * Access the GraphQL request endpoint.
    */
@@ -206,6 +313,26 @@ public class Executor<T>
     return this;
   }
 
+  /**
+   * Use an <a href="https://www.apollographql.com/docs/apollo-server/performance/apq">automatic persisted query</a>,
+   * overrides {@link Config#isPersistedQueries()}. The request sends the query's hash, see {@link #getQueryHash()},
+   * instead of the query text. If the server responds {@code PersistedQueryNotFound}, the request is sent again with
+   * both the query text and the hash so the server can register it. If the server responds
+   * {@code PersistedQueryNotSupported}, the request and subsequent requests to the server send the query text.
+   *
+   * @return this {@code Executor} instance.
+   */
+  public Executor<T> withPersistedQuery( boolean persistedQuery )
+  {
+    _persistedQuery = persistedQuery;
+    return this;
+  }
+
+  public boolean isPersistedQuery()
+  {
+    return _persistedQuery;
+  }
+
   public Function<Bindings, Object> getRawResponseHandler()
   {
     return _requester.getRawResponseHandler();
@@ -221,7 +348,7 @@ public class Executor<T>
    */
   public T post() throws GqlRequestException
   {
-    return _requester.postOne( _reqArgs.getBindings() );
+    return send( body -> _requester.postOne( body ) );
   }
 
   /**
@@ -236,7 +363,7 @@ public class Executor<T>
    */
   public T post( Requester.Format format ) throws GqlRequestException
   {
-    return _requester.postOne( "", _reqArgs.getBindings(), format );
+    return send( body -> _requester.postOne( "", body, format ) );
   }
 
   /**
@@ -249,7 +376,7 @@ public class Executor<T>
    */
   public T get() throws GqlRequestException
   {
-    return (T)_requester.getOne( _reqArgs.getBindings() );
+    return send( body -> (T)_requester.getOne( body ) );
   }
 
   /**
@@ -264,7 +391,70 @@ public class Executor<T>
    */
   public T get( Requester.Format format ) throws GqlRequestException
   {
-    return (T)_requester.getOne( "", _reqArgs.getBindings(), format );
+    return send( body -> (T)_requester.getOne( "", body, format ) );
+  }
+
+  private T send( Function<Bindings, T> request )
+  {
+    String url = getEndpoint().getUrlBase();
+    if( !_persistedQuery || NO_PERSISTED_QUERIES.contains( url ) )
+    {
+      return request.apply( _reqArgs.getBindings() );
+    }
+
+    Bindings variables = (Bindings)_reqArgs.getVariables();
+    _sendingHash = true;
+    try
+    {
+      return request.apply( GqlRequestBody.createPersisted( null, getQueryHash(), variables ).getBindings() );
+    }
+    catch( PersistedQueryException e )
+    {
+      _sendingHash = false;
+      if( e.isNotSupported() )
+      {
+        NO_PERSISTED_QUERIES.add( url );
+        return request.apply( _reqArgs.getBindings() );
+      }
+      // register the query with the server
+      return request.apply( GqlRequestBody.createPersisted( _reqArgs.getQuery(), getQueryHash(), variables ).getBindings() );
+    }
+    finally
+    {
+      _sendingHash = false;
+    }
+  }
+
+  /**
+   * Servers respond to a persisted query they don't have with an error having the message or the code
+   * {@code PersistedQueryNotFound}, and likewise {@code PersistedQueryNotSupported} if they don't support them.
+   */
+  private void handlePersistedQueryErrors( Bindings response )
+  {
+    Object errors = response.get( "errors" );
+    if( !_sendingHash || !(errors instanceof List) )
+    {
+      return;
+    }
+
+    for( Object error : (List<?>)errors )
+    {
+      if( !(error instanceof Bindings) )
+      {
+        continue;
+      }
+      Object message = ((Bindings)error).get( "message" );
+      Object extensions = ((Bindings)error).get( "extensions" );
+      Object code = extensions instanceof Bindings ? ((Bindings)extensions).get( "code" ) : null;
+      if( PERSISTED_QUERY_NOT_FOUND.equals( message ) || "PERSISTED_QUERY_NOT_FOUND".equals( code ) )
+      {
+        throw new PersistedQueryException( false );
+      }
+      if( PERSISTED_QUERY_NOT_SUPPORTED.equals( message ) || "PERSISTED_QUERY_NOT_SUPPORTED".equals( code ) )
+      {
+        throw new PersistedQueryException( true );
+      }
+    }
   }
 
   private Object handleRawResponse( Bindings response )
@@ -286,4 +476,20 @@ public class Executor<T>
       throw new GqlRequestException( response );
     }
   }
+
+  private static class PersistedQueryException extends RuntimeException
+  {
+    private final boolean _notSupported;
+
+    PersistedQueryException( boolean notSupported )
+    {
+      super( notSupported ? PERSISTED_QUERY_NOT_SUPPORTED : PERSISTED_QUERY_NOT_FOUND, null, false, false );
+      _notSupported = notSupported;
+    }
+
+    boolean isNotSupported()
+    {
+      return _notSupported;
+    }
+  }
 }
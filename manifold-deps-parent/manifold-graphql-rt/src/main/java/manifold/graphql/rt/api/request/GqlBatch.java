@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.graphql.rt.api.request;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import manifold.json.rt.Json;
+import manifold.json.rt.api.Requester;
+import manifold.rt.api.Bindings;
+
+/**
+ * Gathers GraphQL requests submitted within a short window and sends them as a single HTTP POST having a JSON array of
+ * request bodies, which servers supporting batching answer with an array of responses in the same order. Identical
+ * requests, having the same query and variables, are sent once while pending or in flight and share the response.
+ * <pre><code>
+ * GqlBatch batch = new GqlBatch();
+ * CompletableFuture&lt;MovieQuery.Result&gt; movies = batch.submit( movieQuery.request( url ) );
+ * CompletableFuture&lt;ActorQuery.Result&gt; actors = batch.submit( actorQuery.request( url ) );
+ * ...
+ * movies.join().getMovies()
+ * </code></pre>
+ * Requests are batched by endpoint, URL parameters, headers, response format, and timeout, as configured on the
+ * {@link Executor}. A batch is sent when the window elapses after its first request, when it has {@code maxSize}
+ * requests, or on {@link #flush()}. A batch of one request is sent as a plain request. If the server does not answer a
+ * batch with an array of responses, or rejects it with an HTTP error, its requests are sent separately.
+ * <p/>
+ * Batches are sent concurrently, on a daemon thread pool or on a {@code sender} supplied to the constructor, so a slow
+ * endpoint does not hold up batches for other endpoints. A batch is sent with a requester from the same supplier as its
+ * first request's {@link Executor}.
+ * <p/>
+ * Batched requests send the query text, they do not use persisted queries.
+ */
+public class GqlBatch implements AutoCloseable
+{
+  private static final long DEFAULT_WINDOW = 10;
+  private static final int DEFAULT_MAX_SIZE = 100;
+
+  private final long _window;
+  private final int _maxSize;
+  private final ScheduledExecutorService _timer;
+  private final java.util.concurrent.Executor _sender;
+  /** the default sender, shut down on close */
+  private final ExecutorService _ownSender;
+  /** batches waiting for the window to elapse, by endpoint, parameters, headers, format and timeout */
+  private final Map<String, Batch> _pending;
+  /** responses of requests pending or in flight, by batch and request body */
+  private final Map<String, CompletableFuture<Object>> _inFlight;
+
+  /**
+   * Batches requests submitted within 10 milliseconds, up to 100 requests per batch.
+   */
+  public GqlBatch()
+  {
+    this( DEFAULT_WINDOW, DEFAULT_MAX_SIZE );
+  }
+
+  /**
+   * @param window The time in milliseconds to wait for more requests after the first request of a batch
+   * @param maxSize The max number of distinct requests per batch
+   */
+  public GqlBatch( long window, int maxSize )
+  {
+    this( window, maxSize, null );
+  }
+
+  /**
+   * @param window The time in milliseconds to wait for more requests after the first request of a batch
+   * @param maxSize The max number of distinct requests per batch
+   * @param sender Sends the batches, if null batches are sent on a daemon thread pool. The sender is not shut down on
+   *               {@link #close()}.
+   */
+  public GqlBatch( long window, int maxSize, java.util.concurrent.Executor sender )
+  {
+    if( window < 0 || maxSize < 1 )
+    {
+      throw new IllegalArgumentException( "window: " + window + ", maxSize: " + maxSize );
+    }
+    _window = window;
+    _maxSize = maxSize;
+    _timer = Executors.newSingleThreadScheduledExecutor( r -> {
+      Thread thread = new Thread( r, "GqlBatch" );
+      thread.setDaemon( true );
+      return thread;
+    } );
+    _ownSender = sender == null
+      ? Executors.newCachedThreadPool( r -> {
+          Thread thread = new Thread( r, "GqlBatch-send" );
+          thread.setDaemon( true );
+          return thread;
+        } )
+      : null;
+    _sender = sender == null ? _ownSender : sender;
+    _pending = new HashMap<>();
+    _inFlight = new HashMap<>();
+  }
+
+  /**
+   * Adds the request to a batch.
+   *
+   * @return The result of the request, completes exceptionally with {@link GqlRequestException} if the response has
+   * errors
+   */
+  public <T> CompletableFuture<T> submit( Executor<T> executor )
+  {
+    Bindings body = executor.getRequestBody().getBindings();
+    String batchKey = makeBatchKey( executor );
+    String requestKey = batchKey + '\0' + Json.toJson( body );
+    Batch full = null;
+    CompletableFuture<Object> response;
+    synchronized( this )
+    {
+      response = _inFlight.get( requestKey );
+      if( response == null )
+      {
+        Batch batch = _pending.get( batchKey );
+        if( batch == null )
+        {
+          batch = new Batch( batchKey, executor );
+          _pending.put( batchKey, batch );
+          Batch scheduled = batch;
+          batch._scheduled = _timer.schedule( () -> dispatch( scheduled ), _window, TimeUnit.MILLISECONDS );
+        }
+        response = new CompletableFuture<>();
+        _inFlight.put( requestKey, response );
+        batch._requests.put( requestKey, body );
+        batch._responses.add( response );
+        if( batch._requests.size() >= _maxSize )
+        {
+          _pending.remove( batchKey );
+          full = batch;
+        }
+      }
+    }
+    if( full != null )
+    {
+      dispatch( full );
+    }
+    return response.thenApply( executor::coerceResponse );
+  }
+
+  /**
+   * Sends the pending batches now.
+   */
+  public void flush()
+  {
+    List<Batch> batches;
+    synchronized( this )
+    {
+      batches = new ArrayList<>( _pending.values() );
+    }
+    batches.forEach( this::send );
+  }
+
+  /**
+   * Sends the pending batches and stops the timer, no more requests may be submitted. Batches in flight complete on
+   * their sender.
+   */
+  @Override
+  public void close()
+  {
+    flush();
+    _timer.shutdown();
+    if( _ownSender != null )
+    {
+      _ownSender.shutdown();
+    }
+  }
+
+  private void dispatch( Batch batch )
+  {
+    try
+    {
+      _sender.execute( () -> send( batch ) );
+    }
+    catch( RejectedExecutionException e )
+    {
+      // the sender is shut down, send on this thread
+      send( batch );
+    }
+  }
+
+  private void send( Batch batch )
+  {
+    List<String> keys;
+    synchronized( this )
+    {
+      if( batch._sent )
+      {
+        return;
+      }
+      batch._sent = true;
+      _pending.remove( batch._key, batch );
+      batch._scheduled.cancel( false );
+      keys = new ArrayList<>( batch._requests.keySet() );
+    }
+
+    List<Bindings> bodies = new ArrayList<>( batch._requests.values() );
+    List<Object> results;
+    try
+    {
+      results = bodies.size() == 1 ? null : sendBatch( batch, bodies );
+    }
+    catch( RuntimeException e )
+    {
+      if( !isRejected( e ) )
+      {
+        for( int i = 0; i < keys.size(); i++ )
+        {
+          complete( keys.get( i ), batch._responses.get( i ), null, e );
+        }
+        return;
+      }
+      // the server rejects batches e.g., with HTTP 400 for an array body
+      results = null;
+    }
+
+    for( int i = 0; i < bodies.size(); i++ )
+    {
+      if( results != null )
+      {
+        complete( keys.get( i ), batch._responses.get( i ), results.get( i ), null );
+        continue;
+      }
+      try
+      {
+        complete( keys.get( i ), batch._responses.get( i ), batch._requester.postOne( bodies.get( i ) ), null );
+      }
+      catch( RuntimeException e )
+      {
+        complete( keys.get( i ), batch._responses.get( i ), null, e );
+      }
+    }
+  }
+
+  private List<Object> sendBatch( Batch batch, List<Bindings> bodies )
+  {
+    Object result = batch._requester.postMany( bodies );
+    if( result instanceof List && ((List)result).size() == bodies.size() )
+    {
+      //noinspection unchecked
+      return (List<Object>)result;
+    }
+    // the server does not support batching
+    return null;
+  }
+
+  /**
+   * @return True if the server answered the batch with an error, as opposed to the server being unreachable
+   */
+  private static boolean isRejected( RuntimeException e )
+  {
+    for( Throwable t = e; t != null; t = t.getCause() )
+    {
+      if( t instanceof ConnectException || t instanceof SocketTimeoutException || t instanceof UnknownHostException )
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void complete( String requestKey, CompletableFuture<Object> response, Object result, Throwable t )
+  {
+    synchronized( this )
+    {
+      _inFlight.remove( requestKey );
+    }
+    if( t == null )
+    {
+      response.complete( result );
+    }
+    else
+    {
+      response.completeExceptionally( t );
+    }
+  }
+
+  private static String makeBatchKey( Executor<?> executor )
+  {
+    return executor.getEndpoint().getUrlBase() + '\0' + new TreeMap<>( executor.getParameters() ) + '\0' +
+      new TreeMap<>( executor.getHeaders() ) + '\0' + executor.getFormat() + '\0' + executor.getTimeout();
+  }
+
+  private static class Batch
+  {
+    private final String _key;
+    private final Requester<Bindings> _requester;
+    private final Map<String, Bindings> _requests;
+    private final List<CompletableFuture<Object>> _responses;
+    private ScheduledFuture<?> _scheduled;
+    private boolean _sent;
+
+    private Batch( String key, Executor<?> executor )
+    {
+      _key = key;
+      _requester = executor.makeRawRequester();
+      _requests = new LinkedHashMap<>();
+      _responses = new ArrayList<>();
+    }
+  }
+}
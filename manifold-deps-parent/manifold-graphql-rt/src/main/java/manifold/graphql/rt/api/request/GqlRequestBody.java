@@ -16,6 +16,9 @@
 
 package manifold.graphql.rt.api.request;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 import manifold.graphql.rt.api.Config;
@@ -42,6 +45,55 @@ public interface GqlRequestBody<V> extends IJsonBindingsBacked
     return (GqlRequestBody<V>)bindings;
   }
 
+  /**
+   * Creates a request body for an <a href="https://www.apollographql.com/docs/apollo-server/performance/apq">automatic
+   * persisted query</a>, which identifies the query with {@code queryHash}.
+   *
+   * @param query The query text, null to send only the hash
+   * @param queryHash The SHA-256 hash of the query text, see {@link #hash(String)}
+   */
+  static <V> GqlRequestBody<V> createPersisted( String query, String queryHash, V variables )
+  {
+    DataBindings persistedQuery = new DataBindings();
+    persistedQuery.put( "version", 1 );
+    persistedQuery.put( "sha256Hash", queryHash );
+    DataBindings extensions = new DataBindings();
+    extensions.put( "persistedQuery", persistedQuery );
+
+    DataBindings bindings = new DataBindings();
+    if( query != null )
+    {
+      bindings.put( "query", query );
+    }
+    bindings.put( "variables", maybeRemoveNulls( (Bindings)variables ) );
+    bindings.put( "extensions", extensions );
+
+    //noinspection unchecked
+    return (GqlRequestBody<V>)bindings;
+  }
+
+  /**
+   * @return The SHA-256 hash of {@code query} as lowercase hex, which identifies the query as a persisted query
+   */
+  static String hash( String query )
+  {
+    byte[] digest;
+    try
+    {
+      digest = MessageDigest.getInstance( "SHA-256" ).digest( query.getBytes( StandardCharsets.UTF_8 ) );
+    }
+    catch( NoSuchAlgorithmException e )
+    {
+      throw new RuntimeException( e );
+    }
+    StringBuilder sb = new StringBuilder( digest.length * 2 );
+    for( byte b : digest )
+    {
+      sb.append( Character.forDigit( (b >> 4) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+    }
+    return sb.toString();
+  }
+
   /**
    * Recursively remove entries with `null` values since the absence of a field and a field
    * with a `null` value are treated equally. The reason for removing them is mostly due to
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.graphql.sample;
+
+import com.sun.net.httpserver.HttpServer;
+import manifold.graphql.rt.api.request.Executor;
+import manifold.graphql.rt.api.request.GqlBatch;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.Requester;
+import manifold.rt.api.Bindings;
+import manifold.rt.api.DisableStringLiteralTemplates;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static manifold.graphql.sample.queries.*;
+import static org.junit.Assert.*;
+
+@DisableStringLiteralTemplates
+public class GqlBatchTest
+{
+  private HttpServer _server;
+  private ExecutorService _serverThreads;
+  /** holds responses from the /slow context */
+  private CountDownLatch _slow;
+  private List<Object> _requests;
+  private boolean _batching;
+  /** if nonzero, the HTTP status answering a batch */
+  private int _batchStatus;
+
+  @Before
+  public void startServer() throws IOException
+  {
+    _requests = Collections.synchronizedList( new ArrayList<>() );
+    _batching = true;
+    _batchStatus = 0;
+    _slow = new CountDownLatch( 1 );
+    _server = HttpServer.create( new InetSocketAddress( "localhost", 0 ), 0 );
+    _serverThreads = Executors.newCachedThreadPool();
+    _server.setExecutor( _serverThreads );
+    _server.createContext( "/slow", exchange -> {
+      try
+      {
+        _slow.await( 10, TimeUnit.SECONDS );
+      }
+      catch( InterruptedException e )
+      {
+        throw new RuntimeException( e );
+      }
+      byte[] bytes = respond( (Bindings)Json.fromJson( read( exchange.getRequestBody() ) ) ).getBytes( UTF_8 );
+      exchange.getResponseHeaders().add( "Content-Type", "application/json" );
+      exchange.sendResponseHeaders( 200, bytes.length );
+      try( OutputStream out = exchange.getResponseBody() )
+      {
+        out.write( bytes );
+      }
+    } );
+    _server.createContext( "/graphql", exchange -> {
+      Object request = Json.fromJson( read( exchange.getRequestBody() ) );
+      _requests.add( request );
+      String response;
+      int status = 200;
+      if( request instanceof List )
+      {
+        if( _batchStatus != 0 )
+        {
+          status = _batchStatus;
+          response = "{\"errors\": [{\"message\": \"expected an object\"}]}";
+        }
+        else if( _batching )
+        {
+          StringBuilder sb = new StringBuilder( "[" );
+          for( Object body : (List<?>)request )
+          {
+            sb.append( sb.length() == 1 ? "" : "," ).append( respond( (Bindings)body ) );
+          }
+          response = sb.append( "]" ).toString();
+        }
+        else
+        {
+          response = "{\"errors\": [{\"message\": \"batching is not supported\"}]}";
+        }
+      }
+      else
+      {
+        response = respond( (Bindings)request );
+      }
+      byte[] bytes = response.getBytes( UTF_8 );
+      exchange.getResponseHeaders().add( "Content-Type", "application/json" );
+      exchange.sendResponseHeaders( status, bytes.length );
+      try( OutputStream out = exchange.getResponseBody() )
+      {
+        out.write( bytes );
+      }
+    } );
+    _server.start();
+  }
+
+  @After
+  public void stopServer()
+  {
+    _slow.countDown();
+    _server.stop( 0 );
+    _serverThreads.shutdownNow();
+  }
+
+  @Test
+  public void testBatched()
+  {
+    List<CompletableFuture<MovieQuery.Result>> movies = new ArrayList<>();
+    CompletableFuture<ActorQuery.Result> actors;
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 1000 ) )
+    {
+      for( int i = 0; i < 200; i++ )
+      {
+        // 20 distinct lookups, each 10 times
+        movies.add( batch.submit( MovieQuery.builder().withTitle( "Movie" + i % 20 ).build().request( getUrl() ) ) );
+      }
+      actors = batch.submit( ActorQuery.builder( "The Getaway" ).build().request( getUrl() ) );
+    }
+
+    assertEquals( 1, _requests.size() );
+    assertEquals( 21, ((List<?>)_requests.get( 0 )).size() );
+    for( int i = 0; i < movies.size(); i++ )
+    {
+      assertEquals( "Movie" + i % 20, movies.get( i ).join().getMovies().get( 0 ).getTitle() );
+    }
+    assertTrue( actors.join().getActors().isEmpty() );
+  }
+
+  @Test
+  public void testWindow() throws Exception
+  {
+    try( GqlBatch batch = new GqlBatch( 200, 1000 ) )
+    {
+      CompletableFuture<MovieQuery.Result> first = batch.submit( makeRequest( "Le Mans" ) );
+      CompletableFuture<MovieQuery.Result> second = batch.submit( makeRequest( "Bullitt" ) );
+      assertEquals( "Le Mans", first.get( 10, TimeUnit.SECONDS ).getMovies().get( 0 ).getTitle() );
+      assertEquals( "Bullitt", second.get( 10, TimeUnit.SECONDS ).getMovies().get( 0 ).getTitle() );
+      assertEquals( 1, _requests.size() );
+
+      // the next window is a separate batch, a single request is sent as is
+      assertEquals( "Papillon", batch.submit( makeRequest( "Papillon" ) ).get( 10, TimeUnit.SECONDS )
+        .getMovies().get( 0 ).getTitle() );
+      assertEquals( 2, _requests.size() );
+      assertTrue( _requests.get( 1 ) instanceof Bindings );
+    }
+  }
+
+  @Test
+  public void testMaxSize()
+  {
+    List<CompletableFuture<MovieQuery.Result>> movies = new ArrayList<>();
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 4 ) )
+    {
+      for( int i = 0; i < 10; i++ )
+      {
+        movies.add( batch.submit( makeRequest( "Movie" + i ) ) );
+      }
+    }
+    movies.forEach( CompletableFuture::join );
+    assertEquals( 3, _requests.size() );
+  }
+
+  @Test
+  public void testBatchingNotSupported()
+  {
+    _batching = false;
+    CompletableFuture<MovieQuery.Result> first;
+    CompletableFuture<MovieQuery.Result> second;
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 1000 ) )
+    {
+      first = batch.submit( makeRequest( "Le Mans" ) );
+      second = batch.submit( makeRequest( "Bullitt" ) );
+    }
+    assertEquals( "Le Mans", first.join().getMovies().get( 0 ).getTitle() );
+    assertEquals( "Bullitt", second.join().getMovies().get( 0 ).getTitle() );
+    assertEquals( 3, _requests.size() );
+  }
+
+  @Test
+  public void testBatchRejected()
+  {
+    _batchStatus = 400;
+    CompletableFuture<MovieQuery.Result> first;
+    CompletableFuture<MovieQuery.Result> second;
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 1000 ) )
+    {
+      first = batch.submit( makeRequest( "Le Mans" ) );
+      second = batch.submit( makeRequest( "Bullitt" ) );
+    }
+    assertEquals( "Le Mans", first.join().getMovies().get( 0 ).getTitle() );
+    assertEquals( "Bullitt", second.join().getMovies().get( 0 ).getTitle() );
+    assertEquals( 3, _requests.size() );
+    assertTrue( _requests.get( 0 ) instanceof List );
+  }
+
+  @Test
+  public void testServerUnreachable()
+  {
+    String url = getUrl();
+    _server.stop( 0 );
+    CompletableFuture<MovieQuery.Result> first;
+    CompletableFuture<MovieQuery.Result> second;
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 1000 ) )
+    {
+      first = batch.submit( MovieQuery.builder().withTitle( "Le Mans" ).build().request( url ) );
+      second = batch.submit( MovieQuery.builder().withTitle( "Bullitt" ).build().request( url ) );
+    }
+    assertTrue( first.isCompletedExceptionally() );
+    assertTrue( second.isCompletedExceptionally() );
+  }
+
+  @Test
+  public void testSlowEndpointDoesNotHoldUpOthers() throws Exception
+  {
+    try( GqlBatch batch = new GqlBatch( 10, 1000 ) )
+    {
+      String slowUrl = "http://localhost:" + _server.getAddress().getPort() + "/slow";
+      CompletableFuture<MovieQuery.Result> slow =
+        batch.submit( MovieQuery.builder().withTitle( "Le Mans" ).build().request( slowUrl ) );
+      Thread.sleep( 50 );
+      CompletableFuture<MovieQuery.Result> fast = batch.submit( makeRequest( "Bullitt" ) );
+      assertEquals( "Bullitt", fast.get( 5, TimeUnit.SECONDS ).getMovies().get( 0 ).getTitle() );
+      assertFalse( slow.isDone() );
+
+      _slow.countDown();
+      assertEquals( "Le Mans", slow.get( 10, TimeUnit.SECONDS ).getMovies().get( 0 ).getTitle() );
+    }
+  }
+
+  @Test
+  public void testRequesterSupplier()
+  {
+    AtomicInteger posts = new AtomicInteger();
+    CompletableFuture<MovieQuery.Result> first;
+    CompletableFuture<MovieQuery.Result> second;
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 1000 ) )
+    {
+      first = batch.submit( makeRequest( "Le Mans", posts ) );
+      second = batch.submit( makeRequest( "Bullitt", posts ) );
+    }
+    assertEquals( "Le Mans", first.join().getMovies().get( 0 ).getTitle() );
+    assertEquals( "Bullitt", second.join().getMovies().get( 0 ).getTitle() );
+    assertEquals( 1, posts.get() );
+    assertEquals( 1, _requests.size() );
+  }
+
+  @Test
+  public void testSender()
+  {
+    AtomicInteger sends = new AtomicInteger();
+    List<CompletableFuture<MovieQuery.Result>> movies = new ArrayList<>();
+    try( GqlBatch batch = new GqlBatch( TimeUnit.HOURS.toMillis( 1 ), 2, task -> {
+      sends.incrementAndGet();
+      task.run();
+    } ) )
+    {
+      for( int i = 0; i < 4; i++ )
+      {
+        movies.add( batch.submit( makeRequest( "Movie" + i ) ) );
+      }
+    }
+    movies.forEach( CompletableFuture::join );
+    assertEquals( 2, sends.get() );
+    assertEquals( 2, _requests.size() );
+  }
+
+  /**
+   * A request whose requester counts the batches it posts
+   */
+  private Executor<MovieQuery.Result> makeRequest( String title, AtomicInteger posts )
+  {
+    return MovieQuery.builder().withTitle( title ).build().request( () -> new Requester<Bindings>( getUrl() )
+    {
+      @Override
+      public <R> R postMany( List<Bindings> payload )
+      {
+        posts.incrementAndGet();
+        return super.postMany( payload );
+      }
+    } );
+  }
+
+  private Executor<MovieQuery.Result> makeRequest( String title )
+  {
+    return MovieQuery.builder().withTitle( title ).build().request( getUrl() );
+  }
+
+  private static String respond( Bindings body )
+  {
+    Bindings variables = (Bindings)body.get( "variables" );
+    if( ((String)body.get( "query" )).startsWith( "query MovieQuery" ) )
+    {
+      return "{\"data\": {\"movies\": [{\"id\": \"1\", \"title\": \"" + variables.get( "title" ) + "\"}]}}";
+    }
+    return "{\"data\": {\"actors\": []}}";
+  }
+
+  private String getUrl()
+  {
+    return "http://localhost:" + _server.getAddress().getPort() + "/graphql";
+  }
+
+  private static String read( InputStream in ) throws IOException
+  {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[4096];
+    for( int read; (read = in.read( buf )) > 0; )
+    {
+      out.write( buf, 0, read );
+    }
+    return new String( out.toByteArray(), UTF_8 );
+  }
+}
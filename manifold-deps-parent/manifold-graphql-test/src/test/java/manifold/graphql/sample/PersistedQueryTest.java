@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.graphql.sample;
+
+import com.sun.net.httpserver.HttpServer;
+import manifold.graphql.rt.api.Config;
+import manifold.graphql.rt.api.request.Executor;
+import manifold.graphql.rt.api.request.GqlRequestBody;
+import manifold.json.rt.Json;
+import manifold.rt.api.Bindings;
+import manifold.rt.api.DisableStringLiteralTemplates;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static manifold.graphql.sample.queries.*;
+import static org.junit.Assert.*;
+
+@DisableStringLiteralTemplates
+public class PersistedQueryTest
+{
+  private HttpServer _server;
+  private List<Bindings> _requests;
+  private Set<String> _persisted;
+  private boolean _supported;
+
+  @Before
+  public void startServer() throws IOException
+  {
+    _requests = new ArrayList<>();
+    _persisted = new HashSet<>();
+    _supported = true;
+    _server = HttpServer.create( new InetSocketAddress( "localhost", 0 ), 0 );
+    _server.createContext( "/graphql", exchange -> {
+      Bindings request = (Bindings)Json.fromJson( read( exchange.getRequestBody() ) );
+      _requests.add( request );
+      byte[] response = respond( request ).getBytes( UTF_8 );
+      exchange.getResponseHeaders().add( "Content-Type", "application/json" );
+      exchange.sendResponseHeaders( 200, response.length );
+      try( OutputStream out = exchange.getResponseBody() )
+      {
+        out.write( response );
+      }
+    } );
+    _server.start();
+  }
+
+  @After
+  public void stopServer()
+  {
+    _server.stop( 0 );
+  }
+
+  @Test
+  public void testHashGeneratedAtCompileTime()
+  {
+    Executor<ActorQuery.Result> request = ActorQuery.builder( "The Getaway" ).build().request( "" );
+    assertEquals( GqlRequestBody.hash( request.getRequestBody().getQuery() ), request.getQueryHash() );
+    assertEquals( 64, request.getQueryHash().length() );
+    assertFalse( request.isPersistedQuery() );
+  }
+
+  @Test
+  public void testPersistedQuery()
+  {
+    ActorQuery query = ActorQuery.builder( "The Getaway" ).build();
+    ActorQuery.Result result = query.request( getUrl() ).withPersistedQuery( true ).post();
+    assertTrue( result.getActors().isEmpty() );
+
+    // hash only, not found, then registered with the query text
+    assertEquals( 2, _requests.size() );
+    String hash = query.request( getUrl() ).getQueryHash();
+    assertNull( _requests.get( 0 ).get( "query" ) );
+    assertEquals( hash, getHash( _requests.get( 0 ) ) );
+    assertEquals( query.request( getUrl() ).getRequestBody().getQuery(), _requests.get( 1 ).get( "query" ) );
+    assertEquals( hash, getHash( _requests.get( 1 ) ) );
+
+    // found
+    _requests.clear();
+    result = query.request( getUrl() ).withPersistedQuery( true ).post();
+    assertTrue( result.getActors().isEmpty() );
+    assertEquals( 1, _requests.size() );
+    assertNull( _requests.get( 0 ).get( "query" ) );
+    assertEquals( hash, getHash( _requests.get( 0 ) ) );
+    assertEquals( "The Getaway", ((Bindings)_requests.get( 0 ).get( "variables" )).get( "title" ) );
+  }
+
+  @Test
+  public void testPersistedQueryNotSupported()
+  {
+    _supported = false;
+    Config.instance().setPersistedQueries( true );
+    try
+    {
+      ActorQuery query = ActorQuery.builder( "The Getaway" ).build();
+      assertTrue( query.request( getUrl() ).post().getActors().isEmpty() );
+      assertEquals( 2, _requests.size() );
+      assertNull( _requests.get( 1 ).get( "extensions" ) );
+
+      // the server is known not to support persisted queries
+      _requests.clear();
+      assertTrue( query.request( getUrl() ).post().getActors().isEmpty() );
+      assertEquals( 1, _requests.size() );
+      assertNotNull( _requests.get( 0 ).get( "query" ) );
+    }
+    finally
+    {
+      Config.instance().setPersistedQueries( false );
+    }
+  }
+
+  private String respond( Bindings request )
+  {
+    Object query = request.get( "query" );
+    String hash = getHash( request );
+    if( hash != null )
+    {
+      if( !_supported )
+      {
+        return "{\"errors\": [{\"message\": \"PersistedQueryNotSupported\"}]}";
+      }
+      if( query != null )
+      {
+        _persisted.add( hash );
+      }
+      else if( !_persisted.contains( hash ) )
+      {
+        return "{\"errors\": [{\"message\": \"PersistedQueryNotFound\", \"extensions\": {\"code\": \"PERSISTED_QUERY_NOT_FOUND\"}}]}";
+      }
+    }
+    return "{\"data\": {\"actors\": []}}";
+  }
+
+  private static String getHash( Bindings request )
+  {
+    Bindings extensions = (Bindings)request.get( "extensions" );
+    return extensions == null ? null : (String)((Bindings)extensions.get( "persistedQuery" )).get( "sha256Hash" );
+  }
+
+  private String getUrl()
+  {
+    return "http://localhost:" + _server.getAddress().getPort() + "/graphql";
+  }
+
+  private static String read( InputStream in ) throws IOException
+  {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[4096];
+    for( int read; (read = in.read( buf )) > 0; )
+    {
+      out.write( buf, 0, read );
+    }
+    return new String( out.toByteArray(), UTF_8 );
+  }
+}
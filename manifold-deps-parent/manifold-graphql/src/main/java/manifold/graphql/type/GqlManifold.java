@@ -50,6 +50,12 @@ public class GqlManifold extends JavaTypeManifold<GqlModel>
     return _scopeFinder;
   }
 
+  @Override
+  public boolean isModelPrewarmable()
+  {
+    return true;
+  }
+
   @Override
   public boolean handlesFileExtension( String fileExtension )
   {
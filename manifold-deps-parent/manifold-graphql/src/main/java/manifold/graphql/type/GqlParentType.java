@@ -56,6 +56,7 @@ import manifold.rt.api.util.ManStringUtil;
 import manifold.rt.api.util.Pair;
 import manifold.ext.rt.RuntimeMethods;
 import manifold.graphql.rt.api.request.Executor;
+import manifold.graphql.rt.api.request.GqlRequestBody;
 import manifold.rt.api.DisableStringLiteralTemplates;
 import manifold.util.ReflectUtil;
 import org.jetbrains.annotations.NotNull;
@@ -332,18 +333,19 @@ class GqlParentType
 
   private void addRequestMethods( SrcLinkedClass srcClass, OperationDefinition operation )
   {
+    String queryText = AstPrinter.printAstCompact( operation ) + " " + getFragments( srcClass );
     //noinspection unused
-    String query = ManEscapeUtil.escapeForJavaStringLiteral( AstPrinter.printAstCompact( operation ) );
-    String fragments = getFragments( srcClass );
-    //noinspection UnusedAssignment
-    query += " " + fragments;
+    String query = ManEscapeUtil.escapeForJavaStringLiteral( queryText );
+    // precompute the hash identifying the query as a persisted query
+    //noinspection unused
+    String queryHash = GqlRequestBody.hash( queryText );
     srcClass.addMethod( new SrcMethod()
       .addAnnotation( new SrcAnnotationExpression( DisableStringLiteralTemplates.class.getSimpleName() ) )
       .modifiers( Flags.DEFAULT )
       .name( "request" )
       .addParam( "url", String.class )
       .returns( new SrcType( "Executor<Result>" ) )
-      .body( "return new Executor<Result>(url, \"${operation.getOperation().name().toLowerCase()}\", \"$query\", getBindings(), Result.class);"
+      .body( "return new Executor<Result>(url, \"${operation.getOperation().name().toLowerCase()}\", \"$query\", \"$queryHash\", getBindings(), Result.class);"
       ) );
     srcClass.addMethod( new SrcMethod()
       .addAnnotation( new SrcAnnotationExpression( DisableStringLiteralTemplates.class.getSimpleName() ) )
@@ -351,7 +353,7 @@ class GqlParentType
       .name( "request" )
       .addParam( "endpoint", Endpoint.class )
       .returns( new SrcType( "Executor<Result>" ) )
-      .body( "return new Executor<Result>(endpoint, \"${operation.getOperation().name().toLowerCase()}\", \"$query\", getBindings(), Result.class);"
+      .body( "return new Executor<Result>(endpoint, \"${operation.getOperation().name().toLowerCase()}\", \"$query\", \"$queryHash\", getBindings(), Result.class);"
       ) );
     srcClass.addMethod( new SrcMethod()
       .addAnnotation( new SrcAnnotationExpression( DisableStringLiteralTemplates.class.getSimpleName() ) )
@@ -359,7 +361,7 @@ class GqlParentType
       .name( "request" )
       .addParam( "requester", new SrcType( "Supplier<Requester<Bindings>>" ) )
       .returns( new SrcType( "Executor<Result>" ) )
-      .body( "return new Executor<Result>(requester, \"${operation.getOperation().name().toLowerCase()}\", \"$query\", getBindings(), Result.class);"
+      .body( "return new Executor<Result>(requester, \"${operation.getOperation().name().toLowerCase()}\", \"$query\", \"$queryHash\", getBindings(), Result.class);"
       ) );
   }
 
@@ -374,7 +376,7 @@ class GqlParentType
 
     StringBuilder sb = new StringBuilder();
     fragments.values().forEach( fragment ->
-      sb.append( ManEscapeUtil.escapeForJavaStringLiteral( AstPrinter.printAstCompact( fragment ) ) ).append( " " ) );
+      sb.append( AstPrinter.printAstCompact( fragment ) ).append( " " ) );
     return sb.toString();
   }
 
@@ -6,6 +6,13 @@ import manifold.test.api.ExtensionManifoldTest;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  */
@@ -33,6 +40,86 @@ public class ManFileExtTest extends ExtensionManifoldTest {
     }
   }
 
+  public void testCopyTo() throws IOException {
+    File dir = File.createTempDir();
+    File src = new File(dir, "src.bin");
+    byte[] content = new byte[100_000];
+    new Random(1).nextBytes(content);
+    src.writeBytes(content);
+
+    File dst = src.copyTo(new File(dir, "a/b/dst.bin"));
+    assertTrue(Arrays.equals(content, dst.readBytes()));
+    try {
+      src.copyTo(dst);
+      fail();
+    }
+    catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof FileAlreadyExistsException);
+    }
+    new File(dir, "small.bin").writeBytes(new byte[] {1, 2});
+    new File(dir, "small.bin").copyTo(dst, true);
+    assertTrue(Arrays.equals(new byte[] {1, 2}, dst.readBytes()));
+    assertTrue(dir.deleteRecursively());
+  }
+
+  public void testCopyRecursivelyParallel() throws IOException {
+    File tree = createTempFileTree(
+      "top\n" +
+      "--subDir0\n" +
+      "----File0.txt\n" +
+      "----File1.txt\n" +
+      "--subDir1\n" +
+      "----subDir0\n" +
+      "------File0.txt\n" +
+      "----File0.txt\n" +
+      "----File1.txt\n"
+    );
+    for (File file : tree.walkTopDown()) {
+      if (file.isFile()) {
+        file.writeText(file.toRelativeString(tree));
+      }
+    }
+
+    File target = File.createTempDir();
+    assertTrue(tree.copyRecursivelyParallel(target));
+    assertEquals(listTree(tree), listTree(target));
+    for (File file : target.walkTopDown()) {
+      if (file.isFile()) {
+        assertEquals(file.toRelativeString(target), file.readText());
+      }
+    }
+
+    // the copy exists, skip conflicts
+    List<File> conflicts = Collections.synchronizedList(new ArrayList<>());
+    assertTrue(tree.copyRecursivelyParallel(target, false,
+      (f, e) -> { conflicts.add(f); return ManFileExt.OnErrorAction.SKIP; }, f -> true, 4));
+    assertEquals(5, conflicts.size());
+
+    // terminate on the first conflict
+    assertFalse(tree.copyRecursivelyParallel(target, false,
+      (f, e) -> ManFileExt.OnErrorAction.TERMINATE, f -> true, 4));
+
+    // overwrite, filtered
+    File filtered = File.createTempDir();
+    assertTrue(tree.copyRecursivelyParallel(filtered, true,
+      (f, e) -> { throw new RuntimeException(e); }, f -> !f.getName().equals("File1.txt"), 4));
+    assertEquals(listTree(tree).stream().filter(p -> !p.endsWith("File1.txt")).collect(Collectors.toList()),
+      listTree(filtered));
+
+    assertTrue(tree.deleteRecursively());
+    assertTrue(target.deleteRecursively());
+    assertTrue(filtered.deleteRecursively());
+  }
+
+  private static List<String> listTree(File root) {
+    List<String> paths = new ArrayList<>();
+    for (File file : root.walkTopDown()) {
+      paths.add(file.toRelativeString(root));
+    }
+    Collections.sort(paths);
+    return paths;
+  }
+
   private File createTempFileTree(String treeDesc) throws IOException {
     Stack<File> parents = new Stack<>();
     File tempDir = File.createTempDir();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.io.extensions.java.io.File;
+
+import manifold.io.MappedCharSequence;
+import manifold.test.api.ExtensionManifoldTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ */
+public class ManFileReadWriteExtTest extends ExtensionManifoldTest {
+  public void testCoverage() {
+//    testCoverage(ManFileReadWriteExt.class);
+  }
+
+  public void testMappedBytes() throws IOException {
+    File f = File.createTempFile("foo", ".tmp");
+    f.writeText("0123456789");
+    ByteBuffer bytes = f.mappedBytes();
+    assertTrue(bytes.isReadOnly());
+    assertEquals(10, bytes.remaining());
+    assertEquals('0', bytes.get(0));
+    ByteBuffer region = f.mappedBytes(5, 3);
+    assertEquals(3, region.remaining());
+    assertEquals('5', region.get(0));
+    //noinspection ResultOfMethodCallIgnored
+    f.delete();
+  }
+
+  public void testMappedAsciiText() throws IOException {
+    File f = File.createTempFile("foo", ".tmp");
+    f.writeText("this\nis\na\ntest");
+    MappedCharSequence text = f.mappedText();
+    assertTrue(text.isAscii());
+    assertEquals("this\nis\na\ntest", text.toString());
+    assertEquals('a', text.charAt(8));
+    assertEquals("is\na", text.subSequence(5, 9).toString());
+    //noinspection ResultOfMethodCallIgnored
+    f.delete();
+  }
+
+  public void testMappedUtf8Text() throws IOException {
+    // 1, 2, 3 and 4 byte UTF-8 sequences, the 4 byte one is a surrogate pair
+    String[] chars = {"a", "\u00e9", "\u20ac", "\ud83d\ude00"};
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      sb.append(chars[i % 4]).append(chars[i % 3]);
+    }
+    String expected = sb.toString();
+    File f = File.createTempFile("foo", ".tmp");
+    f.writeText(expected);
+    MappedCharSequence text = f.mappedText();
+    assertFalse(text.isAscii());
+    assertEquals(expected.length(), text.length());
+    for (int i = 0; i < expected.length(); i++) {
+      assertEquals("index " + i, expected.charAt(i), text.charAt(i));
+    }
+    assertEquals(expected, text.toString());
+    for (int start = 0; start < 40; start++) {
+      assertEquals(expected.substring(start, start + 37), text.subSequence(start, start + 37).toString());
+    }
+    //noinspection ResultOfMethodCallIgnored
+    f.delete();
+  }
+
+  public void testMalformedUtf8() {
+    byte[] bytes = {'a', (byte)0xC3, 'b', (byte)0xE2, (byte)0x82, 'c', (byte)0xC0, (byte)0x80, (byte)0xE2};
+    MappedCharSequence text = new MappedCharSequence(ByteBuffer.wrap(bytes));
+    assertEquals("a\uFFFDb\uFFFD\uFFFDc\uFFFD\uFFFD\uFFFD", text.toString());
+    assertEquals(new String(new byte[] {'x', (byte)0xC3, (byte)0xA9}, StandardCharsets.UTF_8),
+      new MappedCharSequence(ByteBuffer.wrap(new byte[] {'x', (byte)0xC3, (byte)0xA9})).toString());
+  }
+}
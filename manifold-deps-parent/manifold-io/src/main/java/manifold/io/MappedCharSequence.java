@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * A read-only {@link CharSequence} view of UTF-8 encoded bytes, such as a file mapped with
+ * {@code File.mappedBytes()}. The chars are decoded on demand from the bytes, the text is not copied to the heap.
+ * <p>
+ * If the bytes are all ASCII, {@link #charAt(int)} reads a single byte. Otherwise, an index of every 16th char is
+ * built up front and {@code charAt()} decodes at most 16 chars from the nearest indexed one. Malformed UTF-8 decodes
+ * to U+FFFD, one char per malformed byte.
+ * <p>
+ * Use {@code File.mappedText()} to instantiate a {@link MappedCharSequence} for a file.
+ */
+public class MappedCharSequence implements CharSequence
+{
+  private static final int INDEX_SHIFT = 4;
+  private static final int INDEX_MASK = (1 << INDEX_SHIFT) - 1;
+  private static final char REPLACEMENT = '\uFFFD';
+
+  private final ByteBuffer _bytes;
+  private final int _length;
+  /**
+   * For UTF-8 the byte offset of the code point containing every 16th char, {@code ~offset} if that char is the low
+   * surrogate of the code point. Null for ASCII.
+   */
+  private final int[] _index;
+
+  /**
+   * @param bytes UTF-8 encoded text from {@code bytes.position()} to {@code bytes.limit()}, must not change
+   */
+  public MappedCharSequence( ByteBuffer bytes )
+  {
+    _bytes = bytes.slice();
+    int limit = _bytes.limit();
+    int ascii = 0;
+    while( ascii < limit && _bytes.get( ascii ) >= 0 )
+    {
+      ascii++;
+    }
+    if( ascii == limit )
+    {
+      _length = limit;
+      _index = null;
+      return;
+    }
+
+    int[] index = new int[(limit >>> INDEX_SHIFT) + 1];
+    int count = 0;
+    int size = 0;
+    for( int pos = 0; pos < limit; )
+    {
+      int decoded = decode( pos );
+      boolean supplementary = (decoded & 0xFFFFFF) >= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+      if( (count & INDEX_MASK) == 0 )
+      {
+        index[size++] = pos;
+      }
+      else if( supplementary && ((count + 1) & INDEX_MASK) == 0 )
+      {
+        index[size++] = ~pos;
+      }
+      count += supplementary ? 2 : 1;
+      pos += decoded >>> 24;
+    }
+    _length = count;
+    _index = size == index.length ? index : Arrays.copyOf( index, size );
+  }
+
+  private MappedCharSequence( ByteBuffer bytes, int length, int[] index )
+  {
+    _bytes = bytes;
+    _length = length;
+    _index = index;
+  }
+
+  /**
+   * @return True if the text is all ASCII, {@link #charAt(int)} reads a single byte.
+   */
+  public boolean isAscii()
+  {
+    return _index == null;
+  }
+
+  @Override
+  public int length()
+  {
+    return _length;
+  }
+
+  @Override
+  public char charAt( int index )
+  {
+    if( index < 0 || index >= _length )
+    {
+      throw new IndexOutOfBoundsException( "index: " + index + ", length: " + _length );
+    }
+    if( _index == null )
+    {
+      return (char)_bytes.get( index );
+    }
+
+    int indexed = _index[index >>> INDEX_SHIFT];
+    int pos;
+    int c;
+    if( indexed < 0 )
+    {
+      pos = ~indexed;
+      c = (index & ~INDEX_MASK) - 1;
+    }
+    else
+    {
+      pos = indexed;
+      c = index & ~INDEX_MASK;
+    }
+    while( true )
+    {
+      int decoded = decode( pos );
+      int codePoint = decoded & 0xFFFFFF;
+      if( codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT )
+      {
+        if( c == index )
+        {
+          return Character.highSurrogate( codePoint );
+        }
+        if( c + 1 == index )
+        {
+          return Character.lowSurrogate( codePoint );
+        }
+        c += 2;
+      }
+      else
+      {
+        if( c == index )
+        {
+          return (char)codePoint;
+        }
+        c++;
+      }
+      pos += decoded >>> 24;
+    }
+  }
+
+  @Override
+  public CharSequence subSequence( int start, int end )
+  {
+    if( start < 0 || end > _length || start > end )
+    {
+      throw new IndexOutOfBoundsException( "start: " + start + ", end: " + end + ", length: " + _length );
+    }
+    if( _index == null )
+    {
+      ByteBuffer bytes = _bytes.duplicate();
+      bytes.position( start ).limit( end );
+      return new MappedCharSequence( bytes.slice(), end - start, null );
+    }
+    return new String( toChars( start, end ) );
+  }
+
+  /**
+   * @return The decoded text, copied to the heap
+   */
+  @Override
+  public String toString()
+  {
+    if( _index == null )
+    {
+      byte[] bytes = new byte[_length];
+      _bytes.duplicate().get( bytes );
+      return new String( bytes, US_ASCII );
+    }
+    return new String( toChars( 0, _length ) );
+  }
+
+  private char[] toChars( int start, int end )
+  {
+    char[] chars = new char[end - start];
+    if( start == end )
+    {
+      return chars;
+    }
+
+    // decode sequentially from the indexed char nearest start
+    int indexed = _index[start >>> INDEX_SHIFT];
+    int pos = indexed < 0 ? ~indexed : indexed;
+    int c = indexed < 0 ? (start & ~INDEX_MASK) - 1 : start & ~INDEX_MASK;
+    int i = 0;
+    while( i < chars.length )
+    {
+      int decoded = decode( pos );
+      int codePoint = decoded & 0xFFFFFF;
+      if( codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT )
+      {
+        if( c >= start )
+        {
+          chars[i++] = Character.highSurrogate( codePoint );
+        }
+        if( c + 1 >= start && i < chars.length )
+        {
+          chars[i++] = Character.lowSurrogate( codePoint );
+        }
+        c += 2;
+      }
+      else
+      {
+        if( c >= start )
+        {
+          chars[i++] = (char)codePoint;
+        }
+        c++;
+      }
+      pos += decoded >>> 24;
+    }
+    return chars;
+  }
+
+  /**
+   * @return The code point at byte offset {@code pos} in the low 24 bits and its length in bytes in the high 8 bits
+   */
+  private int decode( int pos )
+  {
+    int b0 = _bytes.get( pos ) & 0xFF;
+    if( b0 < 0x80 )
+    {
+      return b0 | (1 << 24);
+    }
+
+    int length;
+    int codePoint;
+    int min;
+    if( b0 >= 0xC2 && b0 <= 0xDF )
+    {
+      length = 2;
+      codePoint = b0 & 0x1F;
+      min = 0x80;
+    }
+    else if( (b0 & 0xF0) == 0xE0 )
+    {
+      length = 3;
+      codePoint = b0 & 0x0F;
+      min = 0x800;
+    }
+    else if( b0 >= 0xF0 && b0 <= 0xF4 )
+    {
+      length = 4;
+      codePoint = b0 & 0x07;
+      min = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+    }
+    else
+    {
+      return REPLACEMENT | (1 << 24);
+    }
+
+    if( pos + length > _bytes.limit() )
+    {
+      return REPLACEMENT | (1 << 24);
+    }
+    for( int i = 1; i < length; i++ )
+    {
+      int b = _bytes.get( pos + i ) & 0xFF;
+      if( (b & 0xC0) != 0x80 )
+      {
+        return REPLACEMENT | (1 << 24);
+      }
+      codePoint = (codePoint << 6) | (b & 0x3F);
+    }
+    if( codePoint < min || codePoint > Character.MAX_CODE_POINT ||
+        (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) )
+    {
+      return REPLACEMENT | (1 << 24);
+    }
+    return codePoint | (length << 24);
+  }
+}
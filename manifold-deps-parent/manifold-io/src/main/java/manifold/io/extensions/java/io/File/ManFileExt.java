@@ -20,12 +20,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemException;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -172,7 +179,7 @@ public class ManFileExt
     // Check roots
     FilePathComponents thisComponents = thiz.toComponents().normalize();
     FilePathComponents baseComponents = base.toComponents().normalize();
-    if( thisComponents.root != baseComponents.root )
+    if( !thisComponents.root.equals( baseComponents.root ) )
     {
       return null;
     }
@@ -350,8 +357,29 @@ public class ManFileExt
    * @throws NoSuchFileException        if the source file doesn't exist.
    * @throws FileAlreadyExistsException if the destination file already exists and 'rewrite' argument is set to {@code false}.
    * @throws IOException                if any errors occur while copying.
+   * @see #copyTo(File, File, boolean)
    */
   public static File copyTo( @This File thiz, File target, boolean overwrite, int bufferSize )
+  {
+    return copyFile( thiz, target, overwrite, bufferSize );
+  }
+
+  /**
+   * Same as {@code copyTo(File, File, boolean, int)}, but transfers the content directly between the files'
+   * channels with {@link FileChannel#transferTo}, without copying it through a user-space buffer. Depending on the
+   * operating system the content may not pass through the JVM at all.
+   * <p>
+   * @see #copyTo(File, File, boolean, int)
+   */
+  public static File copyTo( @This File thiz, File target, boolean overwrite )
+  {
+    return copyFile( thiz, target, overwrite, 0 );
+  }
+
+  /**
+   * @param bufferSize the buffer size to use when copying, or 0 to transfer between file channels.
+   */
+  private static File copyFile( File thiz, File target, boolean overwrite, int bufferSize )
   {
     if( !thiz.exists() )
     {
@@ -384,27 +412,55 @@ public class ManFileExt
         parentFile.mkdirs();
       }
 
-      try( InputStream input = thiz.inputStream();
-           OutputStream output = target.outputStream() )
+      if( bufferSize > 0 )
       {
-        input.copyTo( output, bufferSize );
+        try( InputStream input = thiz.inputStream();
+             OutputStream output = target.outputStream() )
+        {
+          input.copyTo( output, bufferSize );
+        }
+        catch( IOException e )
+        {
+          throw new RuntimeException( e );
+        }
       }
-      catch( IOException e )
+      else
       {
-        throw new RuntimeException( e );
+        try( FileChannel input = FileChannel.open( thiz.toPath(), StandardOpenOption.READ );
+             FileChannel output = FileChannel.open( target.toPath(), StandardOpenOption.CREATE,
+               StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ) )
+        {
+          long size = input.size();
+          long position = 0;
+          while( position < size )
+          {
+            // transferTo() may transfer fewer bytes than requested
+            long count = input.transferTo( position, size - position, output );
+            if( count <= 0 )
+            {
+              // the source shrank while copying
+              break;
+            }
+            position += count;
+          }
+        }
+        catch( IOException e )
+        {
+          throw new RuntimeException( e );
+        }
       }
     }
 
     return target;
   }
   /**
-   * Same as {@code copyTo(File, File, false, #DEFAULT_BUFFER_SIZE)}
+   * Same as {@code copyTo(File, File, false)}
    * <p>
-   * @see #copyTo(File, File, boolean, int) 
+   * @see #copyTo(File, File, boolean)
    */
   public static File copyTo( @This File thiz, File target )
   {
-    return thiz.copyTo( target, false, DEFAULT_BUFFER_SIZE );
+    return thiz.copyTo( target, false );
   }
 
   /**
@@ -483,63 +539,65 @@ public class ManFileExt
       if (!filter.test(src)) {
         continue;
       }
-      if( !src.exists() )
+      if( !copyEntry( thiz, target, src, overwrite, onError ) )
       {
-        if( OnErrorAction.TERMINATE == onError.apply( src, new NoSuchFileException( src.toString(), null, "The source file doesn't exist." ) ) )
-        {
-          return false;
-        }
+        return false;
+      }
+    }
+    return true;
+  }
+  /**
+   * Copies {@code src}, a file or directory in the tree rooted at {@code root}, to its counterpart in {@code target}.
+   * Directories are copied without their content.
+   *
+   * @return {@code false} if the copying was terminated, {@code true} otherwise.
+   */
+  private static boolean copyEntry( File root, File target, File src, boolean overwrite,
+                                    BiFunction<File, IOException, OnErrorAction> onError )
+  {
+    if( !src.exists() )
+    {
+      return OnErrorAction.TERMINATE != onError.apply( src, new NoSuchFileException( src.toString(), null, "The source file doesn't exist." ) );
+    }
+
+    String relPath = src.toRelativeString( root );
+    File dstFile = new File( target, relPath );
+    if( dstFile.exists() && !(src.isDirectory() && dstFile.isDirectory()) )
+    {
+      boolean stillExists;
+      if( !overwrite )
+      {
+        stillExists = true;
       }
       else
       {
-        String relPath = src.toRelativeString( thiz );
-        File dstFile = new File( target, relPath );
-        if( dstFile.exists() && !(src.isDirectory() && dstFile.isDirectory()) )
+        if( dstFile.isDirectory() )
         {
-          boolean stillExists;
-          if( !overwrite )
-          {
-            stillExists = true;
-          }
-          else
-          {
-            if( dstFile.isDirectory() )
-            {
-              stillExists = !dstFile.deleteRecursively();
-            }
-            else
-            {
-              stillExists = !dstFile.delete();
-            }
-          }
-
-          if( stillExists )
-          {
-            if( OnErrorAction.TERMINATE == onError.apply( dstFile, new FileAlreadyExistsException( src.toString(), dstFile.toString(), "The destination file already exists." ) ) )
-            {
-              return false;
-            }
-
-            continue;
-          }
-        }
-
-        if( src.isDirectory() )
-        {
-          //noinspection ResultOfMethodCallIgnored
-          dstFile.mkdirs();
+          stillExists = !dstFile.deleteRecursively();
         }
         else
         {
-          if( src.copyTo( dstFile, overwrite, DEFAULT_BUFFER_SIZE ).length() != src.length() )
-          {
-            if( OnErrorAction.TERMINATE == onError.apply( src, new IOException( "Source file wasn't copied completely, length of destination file differs." ) ) )
-            {
-              return false;
-            }
-          }
+          stillExists = !dstFile.delete();
         }
       }
+
+      if( stillExists )
+      {
+        return OnErrorAction.TERMINATE != onError.apply( dstFile, new FileAlreadyExistsException( src.toString(), dstFile.toString(), "The destination file already exists." ) );
+      }
+    }
+
+    if( src.isDirectory() )
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dstFile.mkdirs();
+    }
+    else
+    {
+      if( src.copyTo( dstFile, overwrite ).length() != src.length() )
+      {
+        return OnErrorAction.TERMINATE != onError.apply( src, new IOException( "Source file wasn't copied completely, length of destination file differs." ) );
+      }
     }
     return true;
   }
@@ -569,6 +627,141 @@ public class ManFileExt
   public static boolean copyRecursively( @This File thiz, File target, boolean overwrite, BiFunction<File, IOException, OnErrorAction> onError ) {
     return copyRecursively(thiz, target, overwrite, onError, file -> true);
   }
+
+  /**
+   * Same as {@code copyRecursively(File, File, boolean, BiFunction, Predicate)}, but copies independent subtrees
+   * concurrently using up to {@code parallelism} threads. A directory is created before its content is copied,
+   * otherwise the order in which files are copied is unspecified. Use this function to copy large trees, particularly
+   * to storage that performs better with several concurrent requests.
+   * <p>
+   * {@code onError} and {@code filter} may be called concurrently from several threads. If {@code onError} returns
+   * {@code TERMINATE}, copies in progress complete and no new ones start. If {@code onError} or {@code filter} throws,
+   * the exception is rethrown from this function after copies in progress complete.
+   *
+   * @param parallelism the maximum number of files or directories copied at a time.
+   *
+   * @return {@code false} if the copying was terminated, {@code true} otherwise.
+   *
+   * @see #copyRecursively(File, File, boolean, BiFunction, Predicate)
+   */
+  public static boolean copyRecursivelyParallel( @This File thiz, File target, boolean overwrite,
+                                                 BiFunction<File, IOException, OnErrorAction> onError,
+                                                 Predicate<File> filter, int parallelism )
+  {
+    if( !thiz.exists() )
+    {
+      return OnErrorAction.TERMINATE != onError.apply( thiz, new NoSuchFileException( thiz.toString(), null, "The source file doesn't exist." ) );
+    }
+
+    ParallelCopy copy = new ParallelCopy( thiz, target, overwrite, onError, filter );
+    ForkJoinPool pool = new ForkJoinPool( parallelism );
+    try
+    {
+      pool.invoke( copy.new CopyTask( thiz ) );
+    }
+    finally
+    {
+      pool.shutdown();
+    }
+    RuntimeException failure = copy._failure.get();
+    if( failure != null )
+    {
+      throw failure;
+    }
+    return !copy._terminated.get();
+  }
+  /**
+   * Same as {@code copyRecursivelyParallel(File, File, false, rethrow, file -> true, available processors)}
+   * <p>
+   * @see #copyRecursivelyParallel(File, File, boolean, BiFunction, Predicate, int)
+   */
+  public static boolean copyRecursivelyParallel( @This File thiz, File target )
+  {
+    return copyRecursivelyParallel( thiz, target, false, ( t, u ) ->
+    {
+      throw new RuntimeException( u );
+    }, file -> true, Runtime.getRuntime().availableProcessors() );
+  }
+
+  private static class ParallelCopy
+  {
+    private final File _root;
+    private final File _target;
+    private final boolean _overwrite;
+    private final BiFunction<File, IOException, OnErrorAction> _onError;
+    private final Predicate<File> _filter;
+    private final AtomicBoolean _terminated = new AtomicBoolean();
+    private final AtomicReference<RuntimeException> _failure = new AtomicReference<>();
+
+    private ParallelCopy( File root, File target, boolean overwrite,
+                          BiFunction<File, IOException, OnErrorAction> onError, Predicate<File> filter )
+    {
+      _root = root;
+      _target = target;
+      _overwrite = overwrite;
+      _onError = onError;
+      _filter = filter;
+    }
+
+    private boolean isStopped()
+    {
+      return _terminated.get() || _failure.get() != null;
+    }
+
+    /**
+     * Copies a file, or a directory and then its children concurrently, same as the top-down walk in
+     * {@code copyRecursively()}
+     */
+    private class CopyTask extends RecursiveAction
+    {
+      private final File _src;
+
+      private CopyTask( File src )
+      {
+        _src = src;
+      }
+
+      @Override
+      protected void compute()
+      {
+        if( isStopped() )
+        {
+          return;
+        }
+        try
+        {
+          if( _filter.test( _src ) && !copyEntry( _root, _target, _src, _overwrite, _onError ) )
+          {
+            _terminated.set( true );
+            return;
+          }
+          if( !_src.isDirectory() )
+          {
+            return;
+          }
+          File[] children = _src.listFiles();
+          if( children == null )
+          {
+            if( _onError.apply( _src, new AccessDeniedException( _src.toString(), null, "Cannot list files in a directory" ) ) == OnErrorAction.TERMINATE )
+            {
+              _terminated.set( true );
+            }
+            return;
+          }
+          List<CopyTask> tasks = new ArrayList<>( children.length );
+          for( File child: children )
+          {
+            tasks.add( new CopyTask( child ) );
+          }
+          invokeAll( tasks );
+        }
+        catch( RuntimeException e )
+        {
+          _failure.compareAndSet( null, e );
+        }
+      }
+    }
+  }
   
   /**
    * Gets an iterable for visiting this directory and all its content.
@@ -622,7 +815,7 @@ public class ManFileExt
   {
     FilePathComponents components = thiz.toComponents();
     FilePathComponents otherComponents = other.toComponents();
-    if( components.root != otherComponents.root )
+    if( !components.root.equals( otherComponents.root ) )
     {
       return false;
     }
@@ -26,6 +26,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +36,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import manifold.ext.rt.api.Extension;
 import manifold.ext.rt.api.This;
+import manifold.io.MappedCharSequence;
 
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -159,6 +162,66 @@ public class ManFileReadWriteExt
     }
   }
 
+  /**
+   * Maps the entire content of this file into memory as a read-only buffer. Unlike {@link #readBytes(File)} the
+   * content is not copied to the heap, the operating system pages it in as the buffer is read.
+   * <p>
+   * The mapping remains valid until the buffer is garbage collected. Changes to the file while it is mapped may or may
+   * not be visible in the buffer, and truncating the file may cause the buffer to throw an unspecified error.
+   *
+   * @return the content of this file as a read-only {@link MappedByteBuffer}.
+   *
+   * @throws IllegalStateException if this file is larger than 2 GB, use {@link #mappedBytes(File, long, int)} to map a
+   *                               region of it.
+   */
+  public static MappedByteBuffer mappedBytes( @This File thiz )
+  {
+    long length = thiz.length();
+    if( length > Integer.MAX_VALUE )
+    {
+      throw new IllegalStateException( "File " + thiz + " is too big (" + length + " bytes) to map in one buffer." );
+    }
+    return thiz.mappedBytes( 0, (int)length );
+  }
+
+  /**
+   * Maps a region of this file into memory as a read-only buffer.
+   *
+   * @param position the position in the file where the region starts.
+   * @param size     the size of the region in bytes.
+   *
+   * @return the region of this file as a read-only {@link MappedByteBuffer}.
+   *
+   * @see #mappedBytes(File)
+   */
+  public static MappedByteBuffer mappedBytes( @This File thiz, long position, int size )
+  {
+    // the mapping does not depend on the channel staying open
+    try( FileChannel channel = thiz.inputStream().getChannel() )
+    {
+      return channel.map( FileChannel.MapMode.READ_ONLY, position, size );
+    }
+    catch( IOException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+
+  /**
+   * Maps the entire content of this file into memory as UTF-8 (or ASCII) text. Chars are decoded on demand from the
+   * mapped bytes, use this function to scan or search huge files without reading them into Strings.
+   * <p>
+   * See {@link MappedCharSequence} for the cost of accessing the text.
+   *
+   * @return the content of this file as a read-only {@link CharSequence}.
+   *
+   * @see #mappedBytes(File)
+   */
+  public static MappedCharSequence mappedText( @This File thiz )
+  {
+    return new MappedCharSequence( thiz.mappedBytes() );
+  }
+
   /**
    * Sets the content of this file as an [array] of bytes.
    * If this file already exists, it becomes overwritten.
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.js.rt;
+
+import org.mozilla.javascript.Context;
+
+/**
+ * Provides the Rhino {@link Context} of the current thread. A thread enters a context once, the first time it runs
+ * JavaScript, and keeps it, so evaluating and calling scripts does not enter and configure a context each time. If the
+ * thread has already entered a context, such as one configured by the application, that context is used as is.
+ * <p/>
+ * A context entered here uses the optimization level of the {@code manifold.js.optimization.level} system property:
+ * {@code -1} interprets scripts, {@code 0} through {@code 9} compile them to bytecode with increasing optimization. If
+ * the property is not set, Rhino's default applies.
+ */
+public final class JsContext
+{
+  public static final String OPTIMIZATION_LEVEL = "manifold.js.optimization.level";
+
+  private static final Integer LEVEL = Integer.getInteger( OPTIMIZATION_LEVEL );
+
+  private JsContext()
+  {
+  }
+
+  /**
+   * @return The current thread's context, entered and configured if the thread does not have one
+   */
+  public static Context get()
+  {
+    Context cx = Context.getCurrentContext();
+    if( cx == null )
+    {
+      // stays entered for the life of the thread, which is how manifold-js has always used contexts
+      cx = Context.enter();
+      if( LEVEL != null )
+      {
+        cx.setOptimizationLevel( LEVEL );
+      }
+    }
+    return cx;
+  }
+}
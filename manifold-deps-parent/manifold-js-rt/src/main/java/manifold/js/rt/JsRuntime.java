@@ -23,13 +23,18 @@ import manifold.js.rt.parser.Tokenizer;
 import manifold.js.rt.parser.tree.ClassNode;
 import manifold.js.rt.parser.tree.Node;
 import manifold.js.rt.parser.tree.template.JSTNode;
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.ScriptableObject;
 
 public class JsRuntime
 {
+  /** compiled class code, see {@link ClassNode#genCode()} */
+  private static final ScriptCache CLASSES = new ScriptCache();
+  /** compiled program code, see {@link Node#genCode()} */
+  private static final ScriptCache PROGRAMS = new ScriptCache();
+
   @SuppressWarnings("unused")
   public static <T> T invoke( ScriptableObject scope, String func, Object... args )
   {
@@ -72,18 +77,20 @@ public class JsRuntime
   public static ScriptableObject init( String fqn, String content, String url )
   {
     ScriptableObject scope = SharedScope.newStaticScope();
-    Parser parser = new Parser( new Tokenizer( content, url ) );
-    Node programNode = parser.parse();
-    ClassNode classNode = programNode.getFirstChild( ClassNode.class );
-    String script = classNode.genCode();
-    Context.getCurrentContext().evaluateString( scope, script, fqn, 1, null );
+    Script script = CLASSES.get( content, url, fqn, () -> {
+      Parser parser = new Parser( new Tokenizer( content, url ) );
+      Node programNode = parser.parse();
+      ClassNode classNode = programNode.getFirstChild( ClassNode.class );
+      return classNode.genCode();
+    } );
+    script.exec( JsContext.get(), scope );
     return scope;
   }
 
   @SuppressWarnings("unused")
   public static ScriptableObject initInstance( ScriptableObject scope, String name, Object... args )
   {
-    return (ScriptableObject)Context.getCurrentContext().newObject( scope, name, args );
+    return (ScriptableObject)JsContext.get().newObject( scope, name, args );
   }
 
 
@@ -96,7 +103,7 @@ public class JsRuntime
     {
       Function renderToString = (Function)scope.get( func, scope );
       //noinspection unchecked
-      return (T)renderToString.call( Context.getCurrentContext(), scope, scope, args );
+      return (T)renderToString.call( JsContext.get(), scope, scope, args );
     }
     catch( Exception e )
     {
@@ -108,22 +115,17 @@ public class JsRuntime
   public static ScriptableObject initProg( String fqn, String source, String url )
   {
     ScriptableObject scope = SharedScope.newStaticScope();
-    Parser parser = new Parser( new Tokenizer( source, url ) );
-    Node programNode = parser.parse();
-    Context.getCurrentContext().evaluateString( scope, programNode.genCode(), fqn, 1, null );
+    PROGRAMS.get( source, url, fqn, () -> genProgramCode( source, url ) ).exec( JsContext.get(), scope );
     return scope;
   }
 
-  private static ThreadLocal<Integer> _programCounter = ThreadLocal.withInitial( () -> 0 );
-
   @SuppressWarnings("unused")
   public static ScriptableObject initDirect( String source, String url )
   {
     ScriptableObject scope = SharedScope.newStaticScope();
-    Parser parser = new Parser( new Tokenizer( source, url ) );
-    Node programNode = parser.parse();
-    Context.getCurrentContext().evaluateString( scope, programNode.genCode(), "direct_" + _programCounter.get(), 1, null );
-    _programCounter.set( _programCounter.get() + 1 );
+    // named by content, the same source has the same name and is compiled once
+    String name = "direct_" + Integer.toHexString( source.hashCode() );
+    PROGRAMS.get( source, url, name, () -> genProgramCode( source, url ) ).exec( JsContext.get(), scope );
     return scope;
   }
 
@@ -131,9 +133,15 @@ public class JsRuntime
   public static Object evaluate( String source, String url )
   {
     ScriptableObject scope = SharedScope.newStaticScope();
+    return PROGRAMS.get( source, url, "evaluate_js", () -> genProgramCode( source, url ) )
+      .exec( JsContext.get(), scope );
+  }
+
+  private static String genProgramCode( String source, String url )
+  {
     Parser parser = new Parser( new Tokenizer( source, url ) );
     Node programNode = parser.parse();
-    return Context.getCurrentContext().evaluateString( scope, programNode.genCode(), "evaluate_js", 1, null );
+    return programNode.genCode();
   }
 
   //// JavascriptTemplate
@@ -146,7 +154,7 @@ public class JsRuntime
     ScriptableObject scope = SharedScope.newStaticScope();
     String name = "template_" + _Templatecounter.get();
     _Templatecounter.set( _Templatecounter.get() + 1 );
-    Context.getCurrentContext().evaluateString( scope, templateNode.genCode(), name, 1, null );
+    JsContext.get().evaluateString( scope, templateNode.genCode(), name, 1, null );
     return scope;
   }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.js.rt;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+
+/**
+ * Compiled scripts by manifold JavaScript source, url, script name, and the context's optimization level, since a
+ * compiled script keeps the name it reports in errors and stack traces, and is interpreted or compiled to bytecode per
+ * the optimization level. The least recently used are discarded beyond
+ * {@code manifold.js.script.cache.size} entries (default 256). A cached script is executed without parsing, generating,
+ * or compiling its code again. Compiled scripts are independent of scopes and threads.
+ */
+class ScriptCache
+{
+  private static final int MAX_SIZE = Integer.getInteger( "manifold.js.script.cache.size", 256 );
+
+  private final Map<Key, Script> _scripts = Collections.synchronizedMap(
+    new LinkedHashMap<Key, Script>( 16, .75f, true )
+    {
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<Key, Script> eldest )
+      {
+        return size() > MAX_SIZE;
+      }
+    } );
+
+  /**
+   * @param genCode Generates the Rhino JavaScript code for {@code source}, called only if the script is not cached
+   */
+  Script get( String source, String url, String name, Supplier<String> genCode )
+  {
+    Context cx = JsContext.get();
+    Key key = new Key( source, url, name, cx.getOptimizationLevel() );
+    Script script = _scripts.get( key );
+    if( script == null )
+    {
+      // threads racing here compile the same script, either one is fine
+      script = cx.compileString( genCode.get(), name, 1, null );
+      _scripts.put( key, script );
+    }
+    return script;
+  }
+
+  private static class Key
+  {
+    private final String _source;
+    private final String _url;
+    private final String _name;
+    private final int _optimizationLevel;
+
+    private Key( String source, String url, String name, int optimizationLevel )
+    {
+      _source = source;
+      _url = url;
+      _name = name;
+      _optimizationLevel = optimizationLevel;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+      if( this == o )
+      {
+        return true;
+      }
+      if( !(o instanceof Key) )
+      {
+        return false;
+      }
+      Key key = (Key)o;
+      return _optimizationLevel == key._optimizationLevel &&
+             _source.equals( key._source ) &&
+             Objects.equals( _url, key._url ) &&
+             Objects.equals( _name, key._name );
+    }
+
+    @Override
+    public int hashCode()
+    {
+      // String caches its hash, repeated lookups with the same source do not rehash it
+      return 31 * (31 * _source.hashCode() + Objects.hashCode( _url )) + Objects.hashCode( _name );
+    }
+  }
+}
@@ -16,13 +16,12 @@
 
 package manifold.js.rt;
 
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ScriptableObject;
 
 class SharedScope
 {
   private static final ThreadLocal<ScriptableObject> SHARED_SCOPE =
-    ThreadLocal.withInitial( () -> Context.enter().initStandardObjects() );
+    ThreadLocal.withInitial( () -> JsContext.get().initStandardObjects() );
 
   private static ScriptableObject get()
   {
@@ -37,7 +36,7 @@ class SharedScope
   static ScriptableObject newStaticScope()
   {
     ScriptableObject sharedGlobalScope = SharedScope.get();
-    ScriptableObject programScope = (ScriptableObject)Context.getCurrentContext().newObject( sharedGlobalScope );
+    ScriptableObject programScope = (ScriptableObject)JsContext.get().newObject( sharedGlobalScope );
     programScope.setPrototype( sharedGlobalScope );
     programScope.setParentScope( null );
     return programScope;
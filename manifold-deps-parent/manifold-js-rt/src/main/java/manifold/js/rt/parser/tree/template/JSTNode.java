@@ -17,6 +17,9 @@
 package manifold.js.rt.parser.tree.template;
 
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import manifold.js.rt.parser.tree.ImportNode;
 import manifold.js.rt.parser.tree.Node;
 import manifold.js.rt.parser.tree.ParameterNode;
@@ -38,11 +41,28 @@ public class JSTNode extends Node
   private final String TEMPLATE_FOOTER =
     "\n\treturn " + STR_BUILDER + ";\n}";
 
+  private volatile List<String> _rawStrings;
+
   public JSTNode()
   {
     super( null );
   }
 
+  /**
+   * @return The raw strings of the template, in order, passed to the generated function on each call
+   */
+  public List<String> getRawStrings()
+  {
+    List<String> rawStrings = _rawStrings;
+    if( rawStrings == null )
+    {
+      _rawStrings = rawStrings = Collections.unmodifiableList( getChildren( RawStringNode.class ).stream()
+        .map( node -> node.genCode() )
+        .collect( Collectors.toList() ) );
+    }
+    return rawStrings;
+  }
+
   @Override
   public String genCode()
   {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.js.programs;
+
+import manifold.js.rt.JsContext;
+import manifold.js.rt.JsRuntime;
+import manifold.rt.api.DisableStringLiteralTemplates;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.RhinoException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+
+@DisableStringLiteralTemplates
+public class ScriptCacheTest
+{
+  @Test
+  public void testRepeatedEvaluation()
+  {
+    String source = "var x = 20; x + 22;";
+    for( int i = 0; i < 3; i++ )
+    {
+      // a new scope each time, the cached script does not carry state
+      assertEquals( 42, ((Number)JsRuntime.evaluate( source, "file:///test.js" )).intValue() );
+    }
+    assertEquals( 7, ((Number)JsRuntime.evaluate( "3 + 4;", "file:///test.js" )).intValue() );
+  }
+
+  @Test
+  public void testCachedPerName()
+  {
+    String source = "notDefined();";
+    assertEquals( "abc.First", sourceNameOfError( "abc.First", source ) );
+    // same source and url, the script compiled for the other name is not reused
+    assertEquals( "abc.Second", sourceNameOfError( "abc.Second", source ) );
+    assertEquals( "abc.First", sourceNameOfError( "abc.First", source ) );
+  }
+
+  @Test
+  public void testCachedPerOptimizationLevel()
+  {
+    String source = "var frames = java.lang.Thread.currentThread().getStackTrace(); var interpreted = false;" +
+                    "for( var i = 0; i < frames.length; i++ ) {" +
+                    "  if( frames[i].getClassName() == 'org.mozilla.javascript.Interpreter' ) { interpreted = true; }" +
+                    "}" +
+                    "interpreted;";
+    Context cx = JsContext.get();
+    int level = cx.getOptimizationLevel();
+    try
+    {
+      cx.setOptimizationLevel( 9 );
+      assertEquals( false, JsRuntime.evaluate( source, "file:///test.js" ) );
+      cx.setOptimizationLevel( -1 );
+      assertEquals( true, JsRuntime.evaluate( source, "file:///test.js" ) );
+    }
+    finally
+    {
+      cx.setOptimizationLevel( level );
+    }
+  }
+
+  @Test
+  public void testPerThreadContext() throws Exception
+  {
+    assertSame( JsContext.get(), JsContext.get() );
+
+    // the cached script runs in another thread's context
+    String source = "var y = 6; y * 7;";
+    assertEquals( 42, ((Number)JsRuntime.evaluate( source, "file:///test.js" )).intValue() );
+    Object result = CompletableFuture.supplyAsync( () -> {
+      assertNotSame( null, JsContext.get() );
+      return JsRuntime.evaluate( source, "file:///test.js" );
+    } ).get();
+    assertEquals( 42, ((Number)result).intValue() );
+  }
+
+  private static String sourceNameOfError( String name, String source )
+  {
+    try
+    {
+      JsRuntime.initProg( name, source, "file:///test.js" );
+      fail( "expected an error" );
+      return null;
+    }
+    catch( RhinoException e )
+    {
+      return e.sourceName();
+    }
+  }
+}
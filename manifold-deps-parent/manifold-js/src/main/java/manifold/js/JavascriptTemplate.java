@@ -20,17 +20,15 @@ import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import manifold.rt.api.DisableStringLiteralTemplates;
 import manifold.api.fs.IFile;
 import manifold.api.gen.*;
 import manifold.api.type.ResourceFileTypeManifold;
+import manifold.js.rt.JsContext;
 import manifold.js.rt.JsRuntime;
 import manifold.js.rt.parser.tree.template.JSTNode;
-import manifold.js.rt.parser.tree.template.RawStringNode;
 import manifold.rt.api.util.ManEscapeUtil;
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.Function;
 import org.mozilla.javascript.ScriptableObject;
 
@@ -87,15 +85,10 @@ public class JavascriptTemplate
       //make argument list including the raw string list
       Object[] argsWithStrings = Arrays.copyOf( args, args.length + 1 );
 
-      List rawStrings = templateNode.getChildren( RawStringNode.class )
-        .stream()
-        .map( node -> node.genCode() )
-        .collect( Collectors.toList() );
-
-      argsWithStrings[argsWithStrings.length - 1] = rawStrings;
+      argsWithStrings[argsWithStrings.length - 1] = templateNode.getRawStrings();
 
       Function renderToString = (Function)scope.get( "renderToString", scope );
-      return (String)renderToString.call( Context.getCurrentContext(), scope, scope, argsWithStrings );
+      return (String)renderToString.call( JsContext.get(), scope, scope, argsWithStrings );
     }
     catch( Exception e )
     {
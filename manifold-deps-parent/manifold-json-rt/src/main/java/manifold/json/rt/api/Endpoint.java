@@ -86,6 +86,14 @@ public class Endpoint
     _proxy = proxy;
   }
 
+  /**
+   * @return The base URL for the endpoint, including name=value arguments, if any.
+   */
+  public String getUrlBase()
+  {
+    return _urlBase;
+  }
+
   /**
    * Creates a new {@code Endpoint} with a base URL consisting of this endpoint's base URL + {@code urlSuffix}.
    *
@@ -49,6 +49,22 @@ public abstract class AbstractJsonTypeManifold<T extends JsonModel> extends Java
   private static final Set<String> API_INNER_CLASS_NAMES =
     new HashSet<>( Arrays.asList( "Proxy", "ProxyFactory", "Builder", "Copier" ) );
 
+  /**
+   * Source is generated from the JSON file and the schema files it references. Note a {@code $ref} to a remote URL
+   * is assumed not to change.
+   */
+  @Override
+  public boolean isContributionCacheable()
+  {
+    return true;
+  }
+
+  @Override
+  public boolean isModelPrewarmable()
+  {
+    return true;
+  }
+
   @Override
   public boolean isInnerType( String topLevel, String relativeInner )
   {
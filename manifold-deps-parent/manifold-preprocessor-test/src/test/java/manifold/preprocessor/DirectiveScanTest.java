@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.preprocessor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A {@code #} in comments and literals, like in {@link #testHashInLiterals()}, is not a directive. Files are scanned
+ * for a {@code #} elsewhere before they are parsed, directives following them must still apply.
+ */
+public class DirectiveScanTest
+{
+  @Test
+  public void testHashInLiterals()
+  {
+    // #define NOT_DEFINED
+    /* #define NOT_DEFINED */
+    String s = "#define NOT_DEFINED";
+    char c = '#';
+    String escaped = "\"#define NOT_DEFINED";
+    assertEquals( '#', c );
+    assertEquals( 19, s.length() );
+    assertEquals( 20, escaped.length() );
+
+    boolean defined = false;
+    #if NOT_DEFINED
+    fail();
+    #endif
+    #define SCAN_DEFINED
+    #if SCAN_DEFINED
+    defined = true;
+    #endif
+    assertTrue( defined );
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.preprocessor.definitions;
+
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.fs.IFileSystem;
+import manifold.api.fs.def.FileSystemImpl;
+import manifold.internal.host.RuntimeManifoldHost;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+
+public class BuildPropertiesCacheTest
+{
+  private File _dir;
+  private IFileSystem _fs;
+
+  @Before
+  public void setup() throws IOException
+  {
+    _dir = Files.createTempDirectory( "buildprops" ).toFile();
+    _fs = new FileSystemImpl( RuntimeManifoldHost.get(), IFileSystem.CachingMode.NO_CACHING );
+  }
+
+  @After
+  public void cleanup() throws IOException
+  {
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  @Test
+  public void testEditedFileReloaded() throws IOException
+  {
+    File file = write( new File( _dir, Definitions.BUILD_PROPERTIES ), "MY_PROP=1" );
+    IFile buildProperties = _fs.getIFile( file );
+    assertEquals( "1", BuildPropertiesCache.load( buildProperties ).get( "MY_PROP" ) );
+
+    // size changes
+    write( file, "MY_PROP=22" );
+    assertEquals( "22", BuildPropertiesCache.load( buildProperties ).get( "MY_PROP" ) );
+
+    // same size, timestamp changes
+    long lastModified = file.lastModified();
+    write( file, "MY_PROP=33" );
+    assertTrue( file.setLastModified( lastModified + 2000 ) );
+    assertEquals( "33", BuildPropertiesCache.load( buildProperties ).get( "MY_PROP" ) );
+  }
+
+  @Test
+  public void testNearestPerContext() throws IOException
+  {
+    File sub = new File( _dir, "sub" );
+    assertTrue( sub.mkdir() );
+    IDirectory subDir = _fs.getIDirectory( sub );
+    Object firstTask = new Object();
+    assertNull( BuildPropertiesCache.findBuildProperties( subDir, firstTask ) );
+
+    File file = write( new File( _dir, Definitions.BUILD_PROPERTIES ), "MY_PROP=1" );
+    // the first task keeps its lookup, the next task finds the new file
+    assertNull( BuildPropertiesCache.findBuildProperties( subDir, firstTask ) );
+    IFile found = BuildPropertiesCache.findBuildProperties( subDir, new Object() );
+    assertNotNull( found );
+    assertEquals( file.getCanonicalFile(), found.toJavaFile().getCanonicalFile() );
+  }
+
+  @Test
+  public void testDefinitionsDoNotWriteBack() throws IOException
+  {
+    File file = write( new File( _dir, Definitions.BUILD_PROPERTIES ), "MY_PROP=1" );
+    IFile source = _fs.getIFile( write( new File( _dir, "Foo.java" ), "class Foo {}" ) );
+
+    Definitions buildDefinitions = new Definitions( source ).makeBuildPropertiesDefinitions();
+    assertEquals( "1", buildDefinitions.getValue( "MY_PROP" ) );
+    buildDefinitions.define( "MY_PROP", "2" );
+    buildDefinitions.define( "MY_OTHER_PROP" );
+    assertEquals( "2", buildDefinitions.getValue( "MY_PROP" ) );
+
+    assertEquals( "1", BuildPropertiesCache.load( _fs.getIFile( file ) ).get( "MY_PROP" ) );
+    assertFalse( BuildPropertiesCache.load( _fs.getIFile( file ) ).containsKey( "MY_OTHER_PROP" ) );
+    assertEquals( "1", new Definitions( source ).makeBuildPropertiesDefinitions().getValue( "MY_PROP" ) );
+  }
+
+  private static File write( File file, String content ) throws IOException
+  {
+    Files.write( file.toPath(), content.getBytes( UTF_8 ) );
+    return file;
+  }
+}
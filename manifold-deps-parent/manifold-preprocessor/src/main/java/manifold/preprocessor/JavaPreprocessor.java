@@ -17,6 +17,9 @@
 package manifold.preprocessor;
 
 import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import manifold.api.fs.IFile;
 import manifold.api.type.IPreprocessor;
@@ -26,6 +29,23 @@ import manifold.preprocessor.statement.FileStatement;
 
 public class JavaPreprocessor implements IPreprocessor
 {
+  /**
+   * Parsed files having directives, by file. An entry is reused while the file's content is unchanged e.g., for
+   * incremental builds in a long-running compiler process. Files with parse errors are not cached so that the errors
+   * are reported again. The least recently used entries are discarded beyond
+   * {@code -Dmanifold.preprocessor.cache.size}, 1000 by default.
+   */
+  private static final int MAX_PARSED_FILES = Integer.getInteger( "manifold.preprocessor.cache.size", 1000 );
+  private static final Map<URI, ParsedFile> PARSED_FILES = Collections.synchronizedMap(
+    new LinkedHashMap<URI, ParsedFile>( 16, .75f, true )
+    {
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<URI, ParsedFile> eldest )
+      {
+        return size() > MAX_PARSED_FILES;
+      }
+    } );
+
   @Override
   public Order getPreferredOrder()
   {
@@ -39,7 +59,15 @@ public class JavaPreprocessor implements IPreprocessor
   }
   public CharSequence process( URI sourceFile, CharSequence source, Consumer<Tokenizer> consumer )
   {
-    FileStatement fileStmt = new PreprocessorParser( source, consumer ).parseFile();
+    if( consumer == null && !Tokenizer.hasDirectiveStart( source ) )
+    {
+      // the vast majority of files, nothing to parse
+      return source;
+    }
+
+    FileStatement fileStmt = consumer == null
+                             ? parse( sourceFile, source )
+                             : new PreprocessorParser( source, consumer ).parseFile();
     if( fileStmt.hasPreprocessorDirectives() )
     {
       StringBuilder result = new StringBuilder();
@@ -56,4 +84,56 @@ public class JavaPreprocessor implements IPreprocessor
     }
     return source;
   }
+
+  private FileStatement parse( URI sourceFile, CharSequence source )
+  {
+    long fingerprint = fingerprint( source );
+    ParsedFile parsedFile = sourceFile == null ? null : PARSED_FILES.get( sourceFile );
+    if( parsedFile != null && parsedFile._length == source.length() && parsedFile._fingerprint == fingerprint )
+    {
+      return parsedFile._fileStmt;
+    }
+
+    PreprocessorParser parser = new PreprocessorParser( source, null );
+    FileStatement fileStmt = parser.parseFile();
+    if( sourceFile != null )
+    {
+      if( parser.hasErrors() || !fileStmt.hasPreprocessorDirectives() )
+      {
+        PARSED_FILES.remove( sourceFile );
+      }
+      else
+      {
+        PARSED_FILES.put( sourceFile, new ParsedFile( source.length(), fingerprint, fileStmt ) );
+      }
+    }
+    return fileStmt;
+  }
+
+  /**
+   * 64-bit FNV-1a hash of the content
+   */
+  private static long fingerprint( CharSequence source )
+  {
+    long hash = 0xcbf29ce484222325L;
+    for( int i = 0; i < source.length(); i++ )
+    {
+      hash = (hash ^ source.charAt( i )) * 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  private static class ParsedFile
+  {
+    private final int _length;
+    private final long _fingerprint;
+    private final FileStatement _fileStmt;
+
+    private ParsedFile( int length, long fingerprint, FileStatement fileStmt )
+    {
+      _length = length;
+      _fingerprint = fingerprint;
+      _fileStmt = fileStmt;
+    }
+  }
 }
@@ -47,6 +47,7 @@ public class PreprocessorParser
   private final Tokenizer _tokenizer;
   private BiConsumer<String, Integer> _issueConsumer;
   private Stack<TokenType> _ifState;
+  private boolean _hasErrors;
 
   public PreprocessorParser( CharSequence source, Consumer<Tokenizer> consumer )
   {
@@ -82,6 +83,14 @@ public class PreprocessorParser
     return new FileStatement( statements, 0, _tokenizer.getTokenEnd() );
   }
 
+  /**
+   * @return True if parsing reported errors
+   */
+  public boolean hasErrors()
+  {
+    return _hasErrors || _tokenizer.hasErrors();
+  }
+
   public Statement parseStatement()
   {
     TokenType tokenType = _tokenizer.getTokenType();
@@ -400,6 +409,7 @@ public class PreprocessorParser
 
   private void addError( String message, int pos )
   {
+    _hasErrors = true;
     if( _issueConsumer != null )
     {
       _issueConsumer.accept( message, pos );
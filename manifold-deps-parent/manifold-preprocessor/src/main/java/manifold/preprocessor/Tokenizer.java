@@ -33,6 +33,7 @@ public class Tokenizer
   private int _tokenEndOffset;
   private Expression _expr;
   private final Consumer<Tokenizer> _consumer;
+  private boolean _hasErrors;
 
   public Tokenizer( CharSequence buffer, int startOffset, int endOffset, Consumer<Tokenizer> consumer )
   {
@@ -64,6 +65,76 @@ public class Tokenizer
     return _expr;
   }
 
+  public boolean hasErrors()
+  {
+    return _hasErrors;
+  }
+
+  /**
+   * Determines whether {@code buffer} may have preprocessor directives without tokenizing it. This is the case only if
+   * it has a {@code #} outside comments and string, text block, and char literals, as lexed by {@link #advance()}. The
+   * common case, a file without any {@code #} characters, is a single pass over the buffer that does not allocate.
+   */
+  public static boolean hasDirectiveStart( CharSequence buffer )
+  {
+    int length = buffer.length();
+    int i = 0;
+    while( i < length && buffer.charAt( i ) != '#' )
+    {
+      i++;
+    }
+    if( i == length )
+    {
+      return false;
+    }
+
+    // likely a # in a comment e.g., {@link Foo#bar()}
+    return new Tokenizer( buffer, 0, length, null ).findDirectiveStart();
+  }
+
+  private boolean findDirectiveStart()
+  {
+    int pos = _bufferIndex;
+    while( pos < _bufferEndOffset )
+    {
+      char c = charAt( pos );
+      switch( c )
+      {
+        case '/':
+          if( pos + 1 < _bufferEndOffset && charAt( pos + 1 ) == '/' )
+          {
+            pos = getLineTerminator( pos + 2 );
+          }
+          else if( pos + 1 < _bufferEndOffset && charAt( pos + 1 ) == '*' )
+          {
+            pos = getClosingComment( pos + 2 );
+          }
+          else
+          {
+            pos++;
+          }
+          break;
+
+        case '"':
+          pos = pos + 2 < _bufferEndOffset && charAt( pos + 2 ) == '"' && charAt( pos + 1 ) == '"'
+                ? getTextBlockEnd( pos + 2 )
+                : getClosingQuote( pos + 1, c );
+          break;
+
+        case '\'':
+          pos = getClosingQuote( pos + 1, c );
+          break;
+
+        case '#':
+          return true;
+
+        default:
+          pos++;
+      }
+    }
+    return false;
+  }
+
   public void advance()
   {
     _tokenType = null;
@@ -428,6 +499,7 @@ public class Tokenizer
 
   private void addError( @SuppressWarnings("SameParameterValue") String message, int pos )
   {
+    _hasErrors = true;
     if( JavacPlugin.instance() == null )
     {
       // IDE
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.preprocessor.definitions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.internal.javac.JavacPlugin;
+import manifold.util.concurrent.ConcurrentWeakHashMap;
+
+import static manifold.preprocessor.definitions.Definitions.BUILD_PROPERTIES;
+
+/**
+ * Caches {@code build.properties} lookups and contents shared by all the source files in a directory tree:
+ * <ul>
+ *   <li> The nearest {@code build.properties} file of a directory, per compile task. </li>
+ *   <li> The properties of a {@code build.properties} file, reloaded if the file's timestamp or size changes. </li>
+ * </ul>
+ */
+final class BuildPropertiesCache
+{
+  /** nearest build.properties by directory, per compile task i.e., javac context */
+  private static final Map<Object, Map<URI, Optional<IFile>>> NEAREST = new ConcurrentWeakHashMap<>();
+  /** loaded build.properties by file */
+  private static final Map<URI, Loaded> LOADED = new ConcurrentHashMap<>();
+
+  private BuildPropertiesCache()
+  {
+  }
+
+  /**
+   * @return The {@code build.properties} file in {@code dir} or in its nearest ancestor having one, otherwise null
+   */
+  static IFile findBuildProperties( IDirectory dir )
+  {
+    return findBuildProperties( dir, JavacPlugin.instance() == null ? null : JavacPlugin.instance().getContext() );
+  }
+
+  /**
+   * @param context The javac context of the compile task, null if not compiling e.g., in the IDE where files come and go
+   */
+  static IFile findBuildProperties( IDirectory dir, Object context )
+  {
+    if( dir == null )
+    {
+      return null;
+    }
+
+    if( context == null )
+    {
+      return dir.hasChildFile( BUILD_PROPERTIES )
+             ? dir.file( BUILD_PROPERTIES )
+             : findBuildProperties( dir.getParent(), null );
+    }
+
+    Map<URI, Optional<IFile>> nearest = NEAREST.computeIfAbsent( context, __ -> new ConcurrentHashMap<>() );
+    URI key = dir.toURI();
+    Optional<IFile> buildProperties = nearest.get( key );
+    if( buildProperties == null )
+    {
+      // not computeIfAbsent(), this recurses into the map
+      buildProperties = Optional.ofNullable( dir.hasChildFile( BUILD_PROPERTIES )
+                                             ? dir.file( BUILD_PROPERTIES )
+                                             : findBuildProperties( dir.getParent(), context ) );
+      nearest.put( key, buildProperties );
+    }
+    return buildProperties.orElse( null );
+  }
+
+  /**
+   * @return The unmodifiable properties of {@code buildProperties}
+   */
+  static Map<String, String> load( IFile buildProperties )
+  {
+    if( !buildProperties.isJavaFile() )
+    {
+      return read( buildProperties );
+    }
+
+    File file = buildProperties.toJavaFile();
+    long lastModified = file.lastModified();
+    long length = file.length();
+    URI key = buildProperties.toURI();
+    Loaded loaded = LOADED.get( key );
+    if( loaded == null || loaded._lastModified != lastModified || loaded._length != length )
+    {
+      loaded = new Loaded( lastModified, length, read( buildProperties ) );
+      LOADED.put( key, loaded );
+    }
+    return loaded._properties;
+  }
+
+  private static Map<String, String> read( IFile source )
+  {
+    Properties properties = new Properties();
+    try( InputStream input = source.openInputStream() )
+    {
+      properties.load( input );
+      //noinspection unchecked
+      return Collections.unmodifiableMap( new HashMap<>( (Map)properties ) );
+    }
+    catch( IOException e )
+    {
+      throw new RuntimeException( e );
+    }
+  }
+
+  private static class Loaded
+  {
+    private final long _lastModified;
+    private final long _length;
+    private final Map<String, String> _properties;
+
+    private Loaded( long lastModified, long length, Map<String, String> properties )
+    {
+      _lastModified = lastModified;
+      _length = length;
+      _properties = properties;
+    }
+  }
+}
@@ -16,12 +16,9 @@
 
 package manifold.preprocessor.definitions;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Properties;
 import manifold.api.fs.IDirectory;
 import manifold.api.fs.IFile;
 import manifold.api.fs.IResource;
@@ -159,34 +156,23 @@ public class Definitions
       }
     }
 
-    if( ((IDirectory)source).hasChildFile( BUILD_PROPERTIES ) )
-    {
-      return makeBuildDefinitions( ((IDirectory)source).file( BUILD_PROPERTIES ) );
-    }
-    return findBuildProperties( source.getParent() );
+    // the directory lookups and the properties are shared by all the files in the tree
+    IFile buildProperties = BuildPropertiesCache.findBuildProperties( (IDirectory)source );
+    return buildProperties == null ? null : makeBuildDefinitions( buildProperties );
   }
 
   private Definitions makeBuildDefinitions( IFile source )
   {
-    Properties properties = new Properties();
-    try( InputStream input = source.openInputStream() )
-    {
-      properties.load( input );
-      //noinspection unchecked
-      return
-        new Definitions( getRoot(), source, (Map)properties )
+    // the cached properties are shared, copy them since definitions are mutable
+    return
+      new Definitions( getRoot(), source, new HashMap<>( BuildPropertiesCache.load( source ) ) )
+      {
+        @Override
+        protected Definitions loadParentDefinitions()
         {
-          @Override
-          protected Definitions loadParentDefinitions()
-          {
-            return makeBuildPropertiesDefinitions();
-          }
-        };
-    }
-    catch( IOException e )
-    {
-      throw new RuntimeException( e );
-    }
+          return makeBuildPropertiesDefinitions();
+        }
+      };
   }
 
   public void clear()
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import junit.framework.TestCase;
+import manifold.api.host.IModule;
+import manifold.api.type.ITypeManifold;
+import manifold.api.util.JavacDiagnostic;
+import manifold.internal.runtime.Bootstrap;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileObject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class ContributionCacheTest extends TestCase
+{
+  private IModule _module;
+  private File _dir;
+
+  @Override
+  protected void setUp() throws IOException
+  {
+    Bootstrap.init();
+    _module = RuntimeManifoldHost.get().getSingleModule();
+    _dir = Files.createTempDirectory( "contributions" ).toFile();
+  }
+
+  @Override
+  protected void tearDown() throws IOException
+  {
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  public void testCachedAcrossInstances()
+  {
+    String fqn = "abc.MyProperties";
+    Set<ITypeManifold> tms = _module.findTypeManifoldsFor( fqn );
+    assertFalse( tms.isEmpty() );
+    AtomicInteger calls = new AtomicInteger();
+    Function<DiagnosticListener<JavaFileObject>, String> producer = handler -> {
+      calls.incrementAndGet();
+      return tms.iterator().next().contribute( null, fqn, false, "", handler );
+    };
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+
+    String source = new ContributionCache( _module, _dir ).produce( null, tms, fqn, diagnostics::add, producer );
+    assertTrue( source.contains( "class MyProperties" ) );
+    assertEquals( 1, calls.get() );
+
+    // a new cache, as in the next build, reads the source from disk
+    String cached = new ContributionCache( _module, _dir ).produce( null, tms, fqn, diagnostics::add, producer );
+    assertEquals( source, cached );
+    assertEquals( 1, calls.get() );
+    assertTrue( diagnostics.isEmpty() );
+  }
+
+  public void testNotCachedIfDiagnosticsReported()
+  {
+    String fqn = "abc.MyProperties";
+    Set<ITypeManifold> tms = _module.findTypeManifoldsFor( fqn );
+    AtomicInteger calls = new AtomicInteger();
+    Function<DiagnosticListener<JavaFileObject>, String> producer = handler -> {
+      calls.incrementAndGet();
+      handler.report( new JavacDiagnostic( null, Diagnostic.Kind.WARNING, 0, 1, 1, "warning" ) );
+      return "class MyProperties {}";
+    };
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+
+    ContributionCache cache = new ContributionCache( _module, _dir );
+    cache.produce( null, tms, fqn, diagnostics::add, producer );
+    cache.produce( null, tms, fqn, diagnostics::add, producer );
+    assertEquals( 2, calls.get() );
+    assertEquals( 2, diagnostics.size() );
+  }
+
+  public void testTypeNotBackedByResourceFileIsNotCached()
+  {
+    // system properties are a peripheral type of the properties manifold, not defined in a resource file
+    String fqn = "gw.lang.SystemProperties";
+    Set<ITypeManifold> tms = _module.findTypeManifoldsFor( fqn );
+    assertFalse( tms.isEmpty() );
+    AtomicInteger calls = new AtomicInteger();
+    Function<DiagnosticListener<JavaFileObject>, String> producer = handler -> {
+      calls.incrementAndGet();
+      return "class SystemProperties {}";
+    };
+
+    ContributionCache cache = new ContributionCache( _module, _dir );
+    cache.produce( null, tms, fqn, d -> {}, producer );
+    cache.produce( null, tms, fqn, d -> {}, producer );
+    assertEquals( 2, calls.get() );
+  }
+}
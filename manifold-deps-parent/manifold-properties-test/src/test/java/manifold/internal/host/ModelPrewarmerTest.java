@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import junit.framework.TestCase;
+import manifold.api.host.IModule;
+import manifold.api.properties.PropertiesTypeManifold;
+import manifold.api.type.ITypeManifold;
+import manifold.internal.runtime.Bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ModelPrewarmerTest extends TestCase
+{
+  private IModule _module;
+  private PropertiesTypeManifold _tm;
+
+  @Override
+  protected void setUp()
+  {
+    Bootstrap.init();
+    _module = RuntimeManifoldHost.get().getSingleModule();
+    _tm = (PropertiesTypeManifold)_module.getTypeManifolds().stream()
+      .filter( tm -> tm instanceof PropertiesTypeManifold )
+      .findFirst().orElseThrow( IllegalStateException::new );
+  }
+
+  public void testPrewarmBuildsModels() throws Exception
+  {
+    String fqn = "abc.MyProperties";
+    String expected = contribute( fqn );
+
+    _tm.clear();
+    CompletableFuture<Void> prewarm = ModelPrewarmer.start( _module, 2 );
+    assertNotNull( prewarm );
+    prewarm.get( 30, TimeUnit.SECONDS );
+
+    // all models are built, nothing left to pre-warm
+    assertTrue( _tm.prewarmModels( Runnable::run ).isEmpty() );
+    assertEquals( expected, contribute( fqn ) );
+  }
+
+  public void testWorkerCount()
+  {
+    String prior = System.getProperty( ModelPrewarmer.PREWARM_PROPERTY );
+    try
+    {
+      System.clearProperty( ModelPrewarmer.PREWARM_PROPERTY );
+      assertEquals( 0, ModelPrewarmer.getWorkerCount() );
+      System.setProperty( ModelPrewarmer.PREWARM_PROPERTY, "false" );
+      assertEquals( 0, ModelPrewarmer.getWorkerCount() );
+      System.setProperty( ModelPrewarmer.PREWARM_PROPERTY, "3" );
+      assertEquals( 3, ModelPrewarmer.getWorkerCount() );
+      System.setProperty( ModelPrewarmer.PREWARM_PROPERTY, "true" );
+      assertTrue( ModelPrewarmer.getWorkerCount() >= 1 );
+    }
+    finally
+    {
+      if( prior == null )
+      {
+        System.clearProperty( ModelPrewarmer.PREWARM_PROPERTY );
+      }
+      else
+      {
+        System.setProperty( ModelPrewarmer.PREWARM_PROPERTY, prior );
+      }
+    }
+  }
+
+  private String contribute( String fqn )
+  {
+    List<Object> diagnostics = new ArrayList<>();
+    Iterable<ITypeManifold> tms = _module.findTypeManifoldsFor( fqn );
+    return tms.iterator().next().contribute( null, fqn, false, "", diagnostics::add );
+  }
+}
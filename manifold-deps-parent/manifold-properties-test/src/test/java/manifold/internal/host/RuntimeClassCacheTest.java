@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import junit.framework.TestCase;
+import manifold.api.host.IModule;
+import manifold.internal.runtime.Bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class RuntimeClassCacheTest extends TestCase
+{
+  private static final List<String> OPTIONS = Arrays.asList( "-g", "-parameters" );
+
+  private IModule _module;
+  private File _dir;
+
+  @Override
+  protected void setUp() throws IOException
+  {
+    Bootstrap.init();
+    _module = RuntimeManifoldHost.get().getSingleModule();
+    _dir = Files.createTempDirectory( "classes" ).toFile();
+  }
+
+  @Override
+  protected void tearDown() throws IOException
+  {
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  public void testCachedAcrossInstances()
+  {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<byte[]> compiler = () -> {
+      calls.incrementAndGet();
+      return classBytes( 10 );
+    };
+
+    byte[] bytes = new RuntimeClassCache( _module, _dir, Long.MAX_VALUE ).get( "abc.Foo", "class Foo {}", OPTIONS, compiler );
+    assertEquals( 1, calls.get() );
+
+    // a new cache, as in the next JVM, reads the class from disk
+    byte[] cached = new RuntimeClassCache( _module, _dir, Long.MAX_VALUE ).get( "abc.Foo", "class Foo {}", OPTIONS, compiler );
+    assertTrue( Arrays.equals( bytes, cached ) );
+    assertEquals( 1, calls.get() );
+
+    // different options compile again
+    new RuntimeClassCache( _module, _dir, Long.MAX_VALUE ).get( "abc.Foo", "class Foo {}", Arrays.asList( "-g" ), compiler );
+    assertEquals( 2, calls.get() );
+  }
+
+  public void testChangedSourceReplacesEntry()
+  {
+    RuntimeClassCache cache = new RuntimeClassCache( _module, _dir, Long.MAX_VALUE );
+    cache.get( "abc.Foo", "class Foo {}", OPTIONS, () -> classBytes( 10 ) );
+    cache.get( "abc.Foo", "class Foo { int x; }", OPTIONS, () -> classBytes( 20 ) );
+
+    File[] entries = new File( _dir, "abc.Foo" ).listFiles();
+    assertNotNull( entries );
+    assertEquals( 1, entries.length );
+    assertEquals( 20, entries[0].length() );
+  }
+
+  public void testInvalidEntryIsRecompiled() throws IOException
+  {
+    RuntimeClassCache cache = new RuntimeClassCache( _module, _dir, Long.MAX_VALUE );
+    cache.get( "abc.Foo", "class Foo {}", OPTIONS, () -> classBytes( 10 ) );
+    File entry = new File( _dir, "abc.Foo" ).listFiles()[0];
+    Files.write( entry.toPath(), new byte[]{1, 2, 3} );
+
+    AtomicInteger calls = new AtomicInteger();
+    byte[] bytes = cache.get( "abc.Foo", "class Foo {}", OPTIONS, () -> {
+      calls.incrementAndGet();
+      return classBytes( 10 );
+    } );
+    assertEquals( 1, calls.get() );
+    assertEquals( 10, bytes.length );
+  }
+
+  public void testEditedResourceInvalidatesOnlyItsType() throws IOException
+  {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<byte[]> compiler = () -> {
+      calls.incrementAndGet();
+      return classBytes( 10 );
+    };
+    RuntimeClassCache cache = new RuntimeClassCache( _module, _dir, Long.MAX_VALUE );
+    cache.get( "abc.MyProperties", "class MyProperties {}", OPTIONS, compiler );
+    cache.get( "DefaultPackageProps", "class DefaultPackageProps {}", OPTIONS, compiler );
+    assertEquals( 2, calls.get() );
+
+    File file = _module.findTypeManifoldsFor( "abc.MyProperties" ).iterator().next()
+      .findFilesForType( "abc.MyProperties" ).get( 0 ).toJavaFile();
+    byte[] content = Files.readAllBytes( file.toPath() );
+    try
+    {
+      Files.write( file.toPath(), (new String( content, UTF_8 ) + "\nEdited = true").getBytes( UTF_8 ) );
+
+      // a new cache, as in the next JVM
+      cache = new RuntimeClassCache( _module, _dir, Long.MAX_VALUE );
+      cache.get( "DefaultPackageProps", "class DefaultPackageProps {}", OPTIONS, compiler );
+      assertEquals( 2, calls.get() );
+      cache.get( "abc.MyProperties", "class MyProperties {}", OPTIONS, compiler );
+      assertEquals( 3, calls.get() );
+    }
+    finally
+    {
+      Files.write( file.toPath(), content );
+    }
+  }
+
+  public void testSizeIsBounded()
+  {
+    RuntimeClassCache cache = new RuntimeClassCache( _module, _dir, 1000 );
+    for( int i = 0; i < 10; i++ )
+    {
+      cache.get( "abc.Foo" + i, "class Foo" + i + " {}", OPTIONS, () -> classBytes( 300 ) );
+    }
+
+    long size = 0;
+    for( File dir : _dir.listFiles() )
+    {
+      for( File file : dir.listFiles() )
+      {
+        size += file.length();
+      }
+    }
+    assertTrue( "size: " + size, size <= 1000 );
+    // the latest is kept
+    assertTrue( new File( _dir, "abc.Foo9" ).isDirectory() );
+  }
+
+  private static byte[] classBytes( int length )
+  {
+    byte[] bytes = new byte[length];
+    bytes[0] = (byte)0xCA;
+    bytes[1] = (byte)0xFE;
+    bytes[2] = (byte)0xBA;
+    bytes[3] = (byte)0xBE;
+    return bytes;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.internal.host;
+
+import junit.framework.TestCase;
+import manifold.api.host.IModule;
+import manifold.api.properties.PropertiesTypeManifold;
+import manifold.api.type.ContributorKind;
+import manifold.api.type.ITypeManifold;
+import manifold.internal.runtime.Bootstrap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class TypeManifoldIndexTest extends TestCase
+{
+  private IModule _module;
+
+  @Override
+  protected void setUp()
+  {
+    Bootstrap.init();
+    _module = RuntimeManifoldHost.get().getSingleModule();
+  }
+
+  public void testPropertiesManifoldIsIndexed()
+  {
+    assertTrue( _module.getTypeManifolds().stream()
+      .anyMatch( tm -> tm instanceof PropertiesTypeManifold && TypeManifoldIndex.isIndexable( tm ) ) );
+  }
+
+  public void testTopLevelAndInnerTypes()
+  {
+    assertTrue( hasProperties( _module.findTypeManifoldsFor( "abc.MyProperties" ) ) );
+    assertTrue( hasProperties( _module.findTypeManifoldsFor( "abc.MyProperties.MyProperty" ) ) );
+    assertTrue( hasProperties( _module.findTypeManifoldsFor( "abc.MyProperties" + '$' + "MyProperty" ) ) );
+    assertFalse( hasProperties( _module.findTypeManifoldsFor( "abc.MyProperties.NoSuchProperty" ) ) );
+    assertFalse( hasProperties( _module.findTypeManifoldsFor( "abc.NoSuchProperties" ) ) );
+    assertTrue( _module.findTypeManifoldsFor( "java.lang.String" ).isEmpty() );
+  }
+
+  public void testSameAsAskingEveryManifold()
+  {
+    List<String> names = new ArrayList<>( Arrays.asList(
+      "java.lang.String", "java.util.Map.Entry", "java.util.Map" + '$' + "Entry", "abc", "abc.", "", "MyProperties" ) );
+    for( ITypeManifold tm : _module.getTypeManifolds() )
+    {
+      for( String fqn : tm.getAllTypeNames() )
+      {
+        names.add( fqn );
+        names.add( fqn + ".MyProperty" );
+        names.add( fqn + '$' + "MyProperty" );
+        names.add( fqn + ".Inner" );
+        names.add( fqn + "x" );
+        names.add( fqn.substring( 0, fqn.length() - 1 ) );
+      }
+    }
+
+    Predicate<ITypeManifold> primary = tm -> tm.getContributorKind() == ContributorKind.Primary;
+    for( String fqn : names )
+    {
+      assertEquals( fqn, findByAskingEveryManifold( fqn, null ), _module.findTypeManifoldsFor( fqn ) );
+      assertEquals( fqn, findByAskingEveryManifold( fqn, primary ), _module.findTypeManifoldsFor( fqn, primary ) );
+    }
+  }
+
+  private Set<ITypeManifold> findByAskingEveryManifold( String fqn, Predicate<ITypeManifold> predicate )
+  {
+    Set<ITypeManifold> tms = new HashSet<>();
+    for( ITypeManifold tm : _module.getTypeManifolds() )
+    {
+      if( (predicate == null || predicate.test( tm )) && tm.isType( fqn ) )
+      {
+        tms.add( tm );
+      }
+    }
+    return tms;
+  }
+
+  private boolean hasProperties( Set<ITypeManifold> tms )
+  {
+    return tms.stream().anyMatch( tm -> tm instanceof PropertiesTypeManifold );
+  }
+}
@@ -46,6 +46,18 @@ public class PropertiesTypeManifold extends JavaTypeManifold<Model>
     return FILE_EXTENSIONS.contains( fileExtension.toLowerCase() );
   }
 
+  @Override
+  public boolean isContributionCacheable()
+  {
+    return true;
+  }
+
+  @Override
+  public boolean isModelPrewarmable()
+  {
+    return true;
+  }
+
   @Override
   protected Map<String, LocklessLazyVar<Model>> getPeripheralTypes()
   {
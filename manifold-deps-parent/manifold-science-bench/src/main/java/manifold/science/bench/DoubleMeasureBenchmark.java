@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.bench;
+
+import manifold.science.fp.DoubleAcceleration;
+import manifold.science.fp.DoubleLength;
+import manifold.science.fp.DoubleTime;
+import manifold.science.fp.DoubleVelocity;
+import manifold.science.measures.Acceleration;
+import manifold.science.measures.Length;
+import manifold.science.measures.Time;
+import manifold.science.measures.Velocity;
+import manifold.science.util.Rational;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static manifold.science.util.UnitConstants.*;
+
+/**
+ * Compares the {@link Rational}-based measures with their {@code double} counterparts in {@link manifold.science.fp}.
+ *
+ * Design:
+ *   sum*       — 100 additions of lengths in the same unit
+ *   integrate* — 100 steps of Euler integration, position and velocity under constant acceleration
+ *
+ * Build:  mvn -pl :manifold-science-bench package   (from manifold-deps-parent)
+ * Run:    java -jar target/benchmarks.jar DoubleMeasureBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DoubleMeasureBenchmark
+{
+  private Length _step;
+  private Time _dt;
+  private Acceleration _g;
+  private DoubleLength _doubleStep;
+  private DoubleTime _doubleDt;
+  private DoubleAcceleration _doubleG;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    _step = 3 m;
+    _dt = 0.01 s;
+    _g = 9.8 m/s/s;
+    _doubleStep = new DoubleLength( _step );
+    _doubleDt = new DoubleTime( _dt );
+    _doubleG = new DoubleAcceleration( _g );
+  }
+
+  @Benchmark
+  public Length sumRational()
+  {
+    Length total = 0 m;
+    for( int i = 0; i < 100; i++ )
+    {
+      total += _step;
+    }
+    return total;
+  }
+
+  @Benchmark
+  public DoubleLength sumDouble()
+  {
+    DoubleLength total = new DoubleLength( 0, m );
+    for( int i = 0; i < 100; i++ )
+    {
+      total += _doubleStep;
+    }
+    return total;
+  }
+
+  @Benchmark
+  public Length integrateRational()
+  {
+    Length x = 0 m;
+    Velocity v = 0 m/s;
+    for( int i = 0; i < 100; i++ )
+    {
+      v += _g * _dt;
+      x += v * _dt;
+    }
+    return x;
+  }
+
+  @Benchmark
+  public DoubleLength integrateDouble()
+  {
+    DoubleLength x = new DoubleLength( 0, m );
+    DoubleVelocity v = new DoubleVelocity( 0, m/s );
+    for( int i = 0; i < 100; i++ )
+    {
+      v += _doubleG * _doubleDt;
+      x += v * _doubleDt;
+    }
+    return x;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.bench;
+
+import manifold.science.measures.Length;
+import manifold.science.measures.Time;
+import manifold.science.measures.Velocity;
+import manifold.science.util.Rational;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static manifold.science.util.UnitConstants.*;
+
+/**
+ * Measures {@link Length} and {@link Velocity} arithmetic, which is {@link Rational} arithmetic underneath.
+ *
+ * Design:
+ *   sumLengths     — 100 additions of lengths in the same unit, the common case fitting in a long
+ *   mixedUnits     — additions of lengths in different units, converting through the base unit
+ *   velocity       — a length divided by a time, then converted to another unit
+ *   rationalPlus   — plain Rational additions of fractions having different denominators
+ *   rationalReduce — reducing fractions, which computes a gcd
+ *
+ * Build:  mvn -pl :manifold-science-bench package   (from manifold-deps-parent)
+ * Run:    java -jar target/benchmarks.jar MeasureBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MeasureBenchmark
+{
+  private Length _step;
+  private Length _km;
+  private Length _mi;
+  private Length _distance;
+  private Time _time;
+  private Rational[] _fractions;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    _step = 3 m;
+    _km = 1.5 km;
+    _mi = 2 mi;
+    _distance = 100 m;
+    _time = 9.58 s;
+    _fractions = new Rational[16];
+    for( int i = 0; i < _fractions.length; i++ )
+    {
+      _fractions[i] = Rational.get( i * 7 + 1, i * 3 + 2 );
+    }
+  }
+
+  @Benchmark
+  public Length sumLengths()
+  {
+    Length total = 0 m;
+    for( int i = 0; i < 100; i++ )
+    {
+      total += _step;
+    }
+    return total;
+  }
+
+  @Benchmark
+  public Length mixedUnits()
+  {
+    return _km + _mi + _step;
+  }
+
+  @Benchmark
+  public Velocity velocity()
+  {
+    return (_distance / _time).to( km/hr );
+  }
+
+  @Benchmark
+  public Rational rationalPlus()
+  {
+    Rational sum = Rational.ZERO;
+    for( Rational fraction : _fractions )
+    {
+      sum = sum.plus( fraction ).reduce();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public Rational rationalReduce()
+  {
+    return _fractions[3].times( _fractions[5] ).times( 12 ).reduce();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.measures.Energy;
+import manifold.science.measures.Length;
+import manifold.science.measures.Temperature;
+import manifold.science.measures.TemperatureUnit;
+import manifold.science.measures.Velocity;
+import org.junit.Test;
+
+import static manifold.science.util.CoercionConstants.r;
+import static manifold.science.util.UnitConstants.*;
+import static org.junit.Assert.*;
+
+public class DoubleMeasureTest
+{
+  private static final double DELTA = 1e-9;
+
+  @Test
+  public void testAgreesWithMeasure()
+  {
+    Length a = 1.5 km;
+    Length b = 2 mi;
+    DoubleLength da = new DoubleLength( a );
+    DoubleLength db = new DoubleLength( b );
+    assertEquals( (a + b).toBaseNumber().doubleValue(), (da + db).toBaseNumber(), DELTA );
+    assertEquals( (a + b).toNumber().doubleValue(), (da + db).toNumber(), DELTA );
+    assertEquals( (a - b).toBaseNumber().doubleValue(), (da - db).toBaseNumber(), DELTA );
+
+    Velocity v = (100 m / 9.58 s).to( km/hr );
+    DoubleVelocity dv = (new DoubleLength( 100, m ) / new DoubleTime( 9.58, s )).to( km/hr );
+    assertEquals( v.toNumber().doubleValue(), dv.toNumber(), DELTA );
+    assertEquals( v.toNumber().doubleValue(), dv.toMeasure().toNumber().doubleValue(), DELTA );
+    assertSame( km/hr, dv.toMeasure().getDisplayUnit() );
+
+    Energy e = 10 N * 3 m;
+    DoubleEnergy de = new DoubleForce( 10, N ) * new DoubleLength( 3, m );
+    assertEquals( e.toBaseNumber().doubleValue(), de.toBaseNumber(), DELTA );
+  }
+
+  @Test
+  public void testOperators()
+  {
+    DoubleLength x = new DoubleLength( 3, m );
+    assertEquals( 6, (x * 2).toNumber(), DELTA );
+    assertEquals( 1.5, (x / 2).toNumber(), DELTA );
+    assertEquals( -3, (-x).toNumber(), DELTA );
+    assertEquals( 3, x / new DoubleLength( 1, m ), DELTA );
+    assertEquals( 1, x % new DoubleLength( 2, m ), DELTA );
+    assertTrue( x > new DoubleLength( 2, m ) );
+    assertTrue( new DoubleLength( 1, km ) == new DoubleLength( 1000, m ) );
+    assertFalse( new DoubleLength( 1, km ).equals( new DoubleLength( 1000, m ) ) );
+
+    DoubleTime t = new DoubleTime( 2, s );
+    DoubleVelocity v = x / t;
+    DoubleAcceleration a = v / t;
+    assertEquals( 0.75, a.toBaseNumber(), DELTA );
+    assertEquals( 1.5, (a * t).toBaseNumber(), DELTA );
+    assertEquals( 3, (v * t).toNumber(), DELTA );
+    assertEquals( 2, (x / v).toNumber(), DELTA );
+    DoubleForce f = new DoubleMass( 4, kg ) * a;
+    assertEquals( 3, f.toBaseNumber(), DELTA );
+    assertEquals( 4, (f / a).toBaseNumber(), DELTA );
+    assertEquals( 9, (x * x).toBaseNumber(), DELTA );
+    assertEquals( 3, ((x * x) / x).toNumber(), DELTA );
+  }
+
+  @Test
+  public void testUnits()
+  {
+    DoubleLength len = new DoubleLength( 1, mi );
+    assertEquals( 1609.344, len.toBaseNumber(), DELTA );
+    assertEquals( 1.609344, len.toNumber( km ), DELTA );
+    assertEquals( "1 mi", len.toString() );
+    assertEquals( "1.609344 km", len.to( km ).toString() );
+    assertEquals( "1.5 m/s", new DoubleVelocity( 1.5, m/s ).toString() );
+
+    // offset units
+    DoubleTemperature temp = new DoubleTemperature( 32, TemperatureUnit.Fahrenheit );
+    assertEquals( new Temperature( 32 r, TemperatureUnit.Fahrenheit ).toBaseNumber().doubleValue(), temp.toBaseNumber(), DELTA );
+  }
+}
@@ -21,6 +21,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.math.BigInteger;
+import java.util.Random;
 import org.junit.Test;
 
 
@@ -120,5 +121,78 @@ public class RationalTest
     assertEquals( Rational.get( 4 ), ++x );
   }
 
+  @Test
+  public void testLongArithmeticSameAsBigInteger()
+  {
+    long[] edges = {0, 1, -1, 2, 3, 10, 1000, Integer.MAX_VALUE, Integer.MIN_VALUE, 3037000499L, 3037000500L,
+      1L << 62, (1L << 62) - 1, Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+    Random random = new Random( 42 );
+    for( int i = 0; i < 20000; i++ )
+    {
+      Rational a = makeRational( random, edges );
+      Rational b = makeRational( random, edges );
+      long l = random.nextBoolean() ? edges[random.nextInt( edges.length )] : random.nextInt( 100 ) - 50;
+      BigInteger n1 = a.getNumerator();
+      BigInteger d1 = a.getDenominator();
+      BigInteger n2 = b.getNumerator();
+      BigInteger d2 = b.getDenominator();
+      BigInteger bl = BigInteger.valueOf( l );
+
+      assertEquals( a.signum() == 0 ? b.toString() : b.signum() == 0 ? a.toString() : d1.equals( d2 )
+        ? expected( n1.add( n2 ), d1 )
+        : expected( n1.multiply( d2 ).add( n2.multiply( d1 ) ), d1.multiply( d2 ) ), a.plus( b ).toString() );
+      assertEquals( b.signum() == 0 ? a.toString() : a.signum() == 0 ? expected( n2.negate(), d2 ) : d1.equals( d2 )
+        ? expected( n1.subtract( n2 ), d1 )
+        : expected( n1.multiply( d2 ).subtract( n2.multiply( d1 ) ), d1.multiply( d2 ) ), a.minus( b ).toString() );
+      assertEquals( expected( n1.multiply( n2 ), d1.multiply( d2 ) ), a.times( b ).toString() );
+      if( b.signum() != 0 )
+      {
+        assertEquals( expected( n1.multiply( d2 ), d1.multiply( n2 ) ), a.div( b ).toString() );
+      }
+      assertEquals( l == 0 ? a.toString() : expected( n1.subtract( d1.multiply( bl ) ), d1 ), a.minus( l ).toString() );
+      assertEquals( expected( n1.multiply( bl ), d1 ), a.times( l ).toString() );
+      if( l != 0 )
+      {
+        assertEquals( expected( n1, d1.multiply( bl ) ), a.div( l ).toString() );
+      }
+      assertEquals( expected( n1.negate(), d1 ), a.unaryMinus().toString() );
+      assertEquals( expected( n1.pow( 3 ), d1.pow( 3 ) ), a.pow( 3 ).toString() );
+      assertEquals( n1.multiply( d2 ).compareTo( n2.multiply( d1 ) ), Integer.signum( a.compareTo( b ) ) );
+
+      BigInteger gcd = n1.gcd( d1 );
+      assertEquals( expected( n1.divide( gcd ), d1.divide( gcd ) ), a.reduce().toString() );
+      assertEquals( n1.hashCode() * 31 + d1.hashCode(), a.hashCode() );
+      assertEquals( n1.divide( d1 ), a.wholePart() );
+      assertEquals( n1.divide( d1 ).longValue(), a.longValue() );
+      assertEquals( n1.remainder( d1 ).signum() == 0 ? "0 / 1" : expected( n1.remainder( d1 ), d1 ),
+        a.fractionPart().toString() );
+      assertEquals( Rational.get( n1, d1 ), a );
+    }
+  }
+
+  private static Rational makeRational( Random random, long[] edges )
+  {
+    long numerator = random.nextBoolean() ? edges[random.nextInt( edges.length )] : random.nextLong() >> random.nextInt( 64 );
+    long denominator = random.nextBoolean() ? edges[random.nextInt( edges.length )] : random.nextLong() >> random.nextInt( 64 );
+    return Rational.get( numerator, denominator == 0 ? 1 : denominator );
+  }
+
+  /**
+   * The unreduced string of {@code numerator / denominator} as made with BigInteger arithmetic
+   */
+  private static String expected( BigInteger numerator, BigInteger denominator )
+  {
+    if( numerator.signum() == 0 )
+    {
+      return "0 / 1";
+    }
+    if( denominator.signum() < 0 )
+    {
+      numerator = numerator.negate();
+      denominator = denominator.negate();
+    }
+    return numerator + " / " + denominator;
+  }
+
   private void foo( Object s ) {}
 }
\ No newline at end of file
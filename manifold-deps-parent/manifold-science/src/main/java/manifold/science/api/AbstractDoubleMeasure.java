@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.api;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import manifold.ext.rt.api.ComparableUsing;
+import manifold.ext.rt.api.Immutable;
+import manifold.science.fp.DoubleLength;
+import manifold.science.util.Rational;
+
+/**
+ * This class serves as the base class for a measured quantity having a {@code double} value, see {@link DoubleLength}
+ * and the other measures in {@link manifold.science.fp}. It is the counterpart of {@link AbstractMeasure} for code
+ * that accepts IEEE double semantics in exchange for speed, such as simulation inner loops: arithmetic on these
+ * measures allocates only the resulting measure. Note a measure carried from one loop iteration to the next, such as
+ * a running sum, is still allocated once per iteration, escape analysis does not eliminate it.
+ * <p/>
+ * These measures use the same unit types as their {@link AbstractMeasure} counterparts. Like them, instances store the
+ * value in terms of base units and maintain a display unit. Converting a value to or from other units uses the unit's
+ * conversion factor as a {@code double}.
+ * <p/>
+ * The {@code double} measures cover a subset of the Rational measures, those of mechanics and temperature: length,
+ * time, mass, area, velocity, acceleration, force, energy, and temperature. Products and quotients are defined only
+ * between these, for instance there is no {@code DoubleLength * DoubleLength * DoubleLength} volume. Other measures
+ * are available only as Rational measures.
+ * <p/>
+ * Unit expressions do not bind to the {@code double} measures, {@code 3.0 m} is a Rational {@code Length} as before.
+ * Construct a {@code double} measure with a unit e.g., {@code new DoubleLength( 3.0, m )}, or convert a Rational
+ * measure with e.g., {@code new DoubleLength( 3.0 m )}.
+ * <p/>
+ * @param <U> The unit corresponding with the type e.g., DoubleLength specifies LengthUnit.
+ * @param <T> This type.
+ */
+@Immutable
+public abstract class AbstractDoubleMeasure<U extends Unit<?, U>, T extends AbstractDoubleMeasure<U, T>>
+  implements ComparableUsing<T>, Serializable
+{
+  /** {factor, offset} of units converting to base units as {@code value * factor + offset} */
+  private static final Map<Unit<?, ?>, double[]> CONVERSIONS = new ConcurrentHashMap<>();
+
+  /** The magnitude stored in Base units */
+  private final double _value;
+
+  /** The unit used to display the value of this instance */
+  private final U _displayUnit;
+
+  /**
+   * @param value       The value (or magnitude) of this measure instance
+   * @param unit        The unit corresponding to the provided {@code value}
+   * @param displayUnit The unit in which to display this measure
+   */
+  public AbstractDoubleMeasure( double value, U unit, U displayUnit )
+  {
+    _displayUnit = displayUnit;
+    // identity, avoids equals() on the hot path
+    _value = (Object)unit == (Object)getBaseUnit() ? value : toBaseUnits( value, unit );
+  }
+
+  /**
+   * The unit on which all instances of this type are based, same as the {@link AbstractMeasure} counterpart.
+   */
+  public abstract U getBaseUnit();
+
+  /**
+   * Creates a new instance using the specified parameters.
+   */
+  public abstract T make( double value, U unit, U displayUnit );
+
+  /**
+   * Creates a new instance using the specified parameters.
+   */
+  public T make( double value, U unit )
+  {
+    return make( value, unit, unit );
+  }
+
+  /**
+   * Copies this instance with a new display unit.
+   */
+  public T copy( U displayUnit )
+  {
+    return make( _value, getBaseUnit(), displayUnit );
+  }
+
+  /**
+   * Copies this instance with a new value in Base units.
+   */
+  public T copy( double value )
+  {
+    return make( value, getBaseUnit(), _displayUnit );
+  }
+
+  /**
+   * @return The value of this measure in Base units.
+   */
+  public double getValue()
+  {
+    return _value;
+  }
+
+  /**
+   * @return The unit in which this measure displays.
+   */
+  public U getDisplayUnit()
+  {
+    return _displayUnit;
+  }
+
+  /**
+   * @return The magnitude of this measure in terms of Display units.
+   */
+  public double toNumber()
+  {
+    return toNumber( _displayUnit );
+  }
+
+  /**
+   * @return The magnitude of this measure in terms of Base units.
+   */
+  public double toBaseNumber()
+  {
+    return _value;
+  }
+
+  /**
+   * Get the magnitude of this measure in terms of the specified {@code unit}.
+   */
+  public double toNumber( U unit )
+  {
+    if( (Object)unit == (Object)getBaseUnit() )
+    {
+      return _value;
+    }
+    double[] conversion = getConversion( unit );
+    return (_value - conversion[1]) / conversion[0];
+  }
+
+  /**
+   * Copy this measure using the specified {@code displayUnit}.
+   */
+  public T to( U displayUnit )
+  {
+    return copy( displayUnit );
+  }
+
+  /**
+   * @return The value of this measure as a {@link Rational}, in Base units.
+   */
+  public Rational toRational()
+  {
+    return Rational.get( _value );
+  }
+
+  private static double toBaseUnits( double value, Unit<?, ?> unit )
+  {
+    double[] conversion = getConversion( unit );
+    return value * conversion[0] + conversion[1];
+  }
+
+  private static double[] getConversion( Unit<?, ?> unit )
+  {
+    return CONVERSIONS.computeIfAbsent( unit, u -> {
+      Rational offset = u.toBaseUnits( Rational.ZERO );
+      return new double[] {u.toBaseUnits( Rational.ONE ).minus( offset ).doubleValue(), offset.doubleValue()};
+    } );
+  }
+
+  @Override
+  public String toString()
+  {
+    double number = toNumber();
+    String value = Double.isNaN( number ) || Double.isInfinite( number )
+                   ? String.valueOf( number )
+                   : BigDecimal.valueOf( number ).stripTrailingZeros().toPlainString();
+    return value + " " + getDisplayUnit().getSymbol();
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash( _value, _displayUnit );
+  }
+
+  @Override
+  public boolean equals( Object o )
+  {
+    if( this == o )
+    {
+      return true;
+    }
+    if( o == null || getClass() != o.getClass() )
+    {
+      return false;
+    }
+    AbstractDoubleMeasure<?, ?> that = (AbstractDoubleMeasure<?, ?>)o;
+    return Double.compare( _value, that._value ) == 0 &&
+           _displayUnit.equals( that._displayUnit );
+  }
+
+  /**
+   * Use {@link #compareTo(T)} to implement the {@code ==} operator as it does not take into account the
+   * {@code _displayUnit} which is inconsequential wrt the measure.
+   */
+  @Override
+  public EqualityMode equalityMode()
+  {
+    return EqualityMode.CompareTo;
+  }
+
+  @Override
+  public int compareTo( T that )
+  {
+    return Double.compare( _value, ((AbstractDoubleMeasure<?, ?>)that)._value );
+  }
+
+  public T unaryMinus()
+  {
+    return copy( -_value );
+  }
+
+  public T plus( T operand )
+  {
+    return copy( _value + operand.toBaseNumber() );
+  }
+
+  public T minus( T operand )
+  {
+    return copy( _value - operand.toBaseNumber() );
+  }
+
+  public T times( double operand )
+  {
+    return copy( _value * operand );
+  }
+
+  public T div( double operand )
+  {
+    return copy( _value / operand );
+  }
+
+  public double div( T operand )
+  {
+    return _value / operand.toBaseNumber();
+  }
+
+  public double rem( T operand )
+  {
+    return _value % operand.toBaseNumber();
+  }
+}
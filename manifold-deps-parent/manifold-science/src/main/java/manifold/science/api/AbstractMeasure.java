@@ -18,6 +18,7 @@ package manifold.science.api;
 
 
 import java.util.Objects;
+import manifold.ext.rt.api.Immutable;
 import manifold.collections.api.range.Sequential;
 import manifold.science.measures.Length;
 import manifold.science.measures.Mass;
@@ -37,6 +38,7 @@ import manifold.science.util.Rational;
  * @param <T> This type. Note this type is recursive to enforce type-safety, normally the complicated generics are not
  *           exposed to users of the library e.g., see the {@link Length} measure.
  */
+@Immutable
 public abstract class AbstractMeasure<U extends Unit<T, U>, T extends AbstractMeasure<U, T>> implements Dimension<T>, Sequential<T, Rational, U>
 {
   /** The magnitude stored in Base units */
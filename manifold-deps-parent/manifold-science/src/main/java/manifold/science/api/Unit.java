@@ -16,6 +16,7 @@
 
 package manifold.science.api;
 
+import manifold.ext.rt.api.Immutable;
 import manifold.science.util.Rational;
 
 /**
@@ -24,6 +25,7 @@ import manifold.science.util.Rational;
  * @param <D> The {@link Dimension} type expressed using this unit type
  * @param <U> This type (recursive to enforce type-safety).
  */
+@Immutable
 public interface Unit<D extends Dimension<D>, U extends Unit<D, U>> extends Dimension<U>
 {
   /**
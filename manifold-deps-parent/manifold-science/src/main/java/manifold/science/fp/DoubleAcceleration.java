@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.Acceleration;
+import manifold.science.measures.AccelerationUnit;
+import manifold.science.measures.ForceUnit;
+import manifold.science.measures.VelocityUnit;
+
+/**
+ * Models an acceleration measure having a {@code double} value in units of {@link AccelerationUnit}, the counterpart
+ * of {@link Acceleration}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleAcceleration extends AbstractDoubleMeasure<AccelerationUnit, DoubleAcceleration>
+{
+  public DoubleAcceleration( double value, AccelerationUnit unit, AccelerationUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleAcceleration( double value, AccelerationUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleAcceleration( Acceleration measure )
+  {
+    this( measure.getValue().doubleValue(), AccelerationUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public AccelerationUnit getBaseUnit()
+  {
+    return AccelerationUnit.BASE;
+  }
+
+  @Override
+  public DoubleAcceleration make( double value, AccelerationUnit unit, AccelerationUnit displayUnit )
+  {
+    return new DoubleAcceleration( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Acceleration}
+   */
+  public Acceleration toMeasure()
+  {
+    return new Acceleration( toRational(), AccelerationUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleForce times( DoubleMass v )
+  {
+    return new DoubleForce( toBaseNumber() * v.toBaseNumber(), ForceUnit.BASE, ForceUnit.BASE );
+  }
+
+  public DoubleVelocity times( DoubleTime v )
+  {
+    return new DoubleVelocity( toBaseNumber() * v.toBaseNumber(), VelocityUnit.BASE, getDisplayUnit().getVelocityUnit() );
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.Area;
+import manifold.science.measures.AreaUnit;
+import manifold.science.measures.LengthUnit;
+
+/**
+ * Models an area measure having a {@code double} value in units of {@link AreaUnit}, the counterpart
+ * of {@link Area}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleArea extends AbstractDoubleMeasure<AreaUnit, DoubleArea>
+{
+  public DoubleArea( double value, AreaUnit unit, AreaUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleArea( double value, AreaUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleArea( Area measure )
+  {
+    this( measure.getValue().doubleValue(), AreaUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public AreaUnit getBaseUnit()
+  {
+    return AreaUnit.BASE;
+  }
+
+  @Override
+  public DoubleArea make( double value, AreaUnit unit, AreaUnit displayUnit )
+  {
+    return new DoubleArea( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Area}
+   */
+  public Area toMeasure()
+  {
+    return new Area( toRational(), AreaUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleLength div( DoubleLength v )
+  {
+    return new DoubleLength( toBaseNumber() / v.toBaseNumber(), LengthUnit.BASE, v.getDisplayUnit() );
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.Energy;
+import manifold.science.measures.EnergyUnit;
+import manifold.science.measures.ForceUnit;
+import manifold.science.measures.LengthUnit;
+
+/**
+ * Models an energy measure having a {@code double} value in units of {@link EnergyUnit}, the counterpart
+ * of {@link Energy}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleEnergy extends AbstractDoubleMeasure<EnergyUnit, DoubleEnergy>
+{
+  public DoubleEnergy( double value, EnergyUnit unit, EnergyUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleEnergy( double value, EnergyUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleEnergy( Energy measure )
+  {
+    this( measure.getValue().doubleValue(), EnergyUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public EnergyUnit getBaseUnit()
+  {
+    return EnergyUnit.BASE;
+  }
+
+  @Override
+  public DoubleEnergy make( double value, EnergyUnit unit, EnergyUnit displayUnit )
+  {
+    return new DoubleEnergy( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Energy}
+   */
+  public Energy toMeasure()
+  {
+    return new Energy( toRational(), EnergyUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleLength div( DoubleForce v )
+  {
+    return new DoubleLength( toBaseNumber() / v.toBaseNumber(), LengthUnit.BASE, getDisplayUnit().getLengthUnit() );
+  }
+
+  public DoubleForce div( DoubleLength v )
+  {
+    return new DoubleForce( toBaseNumber() / v.toBaseNumber(), ForceUnit.BASE, getDisplayUnit().getForceUnit() );
+  }
+}
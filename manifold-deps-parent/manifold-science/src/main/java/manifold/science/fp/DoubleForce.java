@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.AccelerationUnit;
+import manifold.science.measures.EnergyUnit;
+import manifold.science.measures.Force;
+import manifold.science.measures.ForceUnit;
+import manifold.science.measures.MassUnit;
+
+/**
+ * Models a force measure having a {@code double} value in units of {@link ForceUnit}, the counterpart
+ * of {@link Force}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleForce extends AbstractDoubleMeasure<ForceUnit, DoubleForce>
+{
+  public DoubleForce( double value, ForceUnit unit, ForceUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleForce( double value, ForceUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleForce( Force measure )
+  {
+    this( measure.getValue().doubleValue(), ForceUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public ForceUnit getBaseUnit()
+  {
+    return ForceUnit.BASE;
+  }
+
+  @Override
+  public DoubleForce make( double value, ForceUnit unit, ForceUnit displayUnit )
+  {
+    return new DoubleForce( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Force}
+   */
+  public Force toMeasure()
+  {
+    return new Force( toRational(), ForceUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleEnergy times( DoubleLength v )
+  {
+    return new DoubleEnergy( toBaseNumber() * v.toBaseNumber(), EnergyUnit.BASE, EnergyUnit.BASE );
+  }
+
+  public DoubleAcceleration div( DoubleMass v )
+  {
+    return new DoubleAcceleration( toBaseNumber() / v.toBaseNumber(), AccelerationUnit.BASE, getDisplayUnit().getAccUnit() );
+  }
+
+  public DoubleMass div( DoubleAcceleration v )
+  {
+    return new DoubleMass( toBaseNumber() / v.toBaseNumber(), MassUnit.BASE, getDisplayUnit().getMassUnit() );
+  }
+}
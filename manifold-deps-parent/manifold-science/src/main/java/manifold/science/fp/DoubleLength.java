@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.AreaUnit;
+import manifold.science.measures.EnergyUnit;
+import manifold.science.measures.Length;
+import manifold.science.measures.LengthUnit;
+import manifold.science.measures.TimeUnit;
+import manifold.science.measures.VelocityUnit;
+
+/**
+ * Models a length measure having a {@code double} value in units of {@link LengthUnit}, the counterpart
+ * of {@link Length}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleLength extends AbstractDoubleMeasure<LengthUnit, DoubleLength>
+{
+  public DoubleLength( double value, LengthUnit unit, LengthUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleLength( double value, LengthUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleLength( Length measure )
+  {
+    this( measure.getValue().doubleValue(), LengthUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public LengthUnit getBaseUnit()
+  {
+    return LengthUnit.BASE;
+  }
+
+  @Override
+  public DoubleLength make( double value, LengthUnit unit, LengthUnit displayUnit )
+  {
+    return new DoubleLength( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Length}
+   */
+  public Length toMeasure()
+  {
+    return new Length( toRational(), LengthUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleVelocity div( DoubleTime v )
+  {
+    return new DoubleVelocity( toBaseNumber() / v.toBaseNumber(), VelocityUnit.BASE, VelocityUnit.BASE );
+  }
+
+  public DoubleTime div( DoubleVelocity v )
+  {
+    return new DoubleTime( toBaseNumber() / v.toBaseNumber(), TimeUnit.BASE, v.getDisplayUnit().getTimeUnit() );
+  }
+
+  public DoubleArea times( DoubleLength v )
+  {
+    return new DoubleArea( toBaseNumber() * v.toBaseNumber(), AreaUnit.BASE, AreaUnit.BASE );
+  }
+
+  public DoubleEnergy times( DoubleForce v )
+  {
+    return new DoubleEnergy( toBaseNumber() * v.toBaseNumber(), EnergyUnit.BASE, EnergyUnit.BASE );
+  }
+}
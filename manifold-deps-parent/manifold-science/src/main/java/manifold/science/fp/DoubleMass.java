@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.ForceUnit;
+import manifold.science.measures.Mass;
+import manifold.science.measures.MassUnit;
+
+/**
+ * Models a mass measure having a {@code double} value in units of {@link MassUnit}, the counterpart
+ * of {@link Mass}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleMass extends AbstractDoubleMeasure<MassUnit, DoubleMass>
+{
+  public DoubleMass( double value, MassUnit unit, MassUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleMass( double value, MassUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleMass( Mass measure )
+  {
+    this( measure.getValue().doubleValue(), MassUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public MassUnit getBaseUnit()
+  {
+    return MassUnit.BASE;
+  }
+
+  @Override
+  public DoubleMass make( double value, MassUnit unit, MassUnit displayUnit )
+  {
+    return new DoubleMass( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Mass}
+   */
+  public Mass toMeasure()
+  {
+    return new Mass( toRational(), MassUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleForce times( DoubleAcceleration v )
+  {
+    return new DoubleForce( toBaseNumber() * v.toBaseNumber(), ForceUnit.BASE, ForceUnit.BASE );
+  }
+}
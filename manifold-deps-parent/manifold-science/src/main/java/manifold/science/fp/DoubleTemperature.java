@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.Temperature;
+import manifold.science.measures.TemperatureUnit;
+
+/**
+ * Models a temperature measure having a {@code double} value in units of {@link TemperatureUnit}, the counterpart
+ * of {@link Temperature}.
+ */
+public final class DoubleTemperature extends AbstractDoubleMeasure<TemperatureUnit, DoubleTemperature>
+{
+  public DoubleTemperature( double value, TemperatureUnit unit, TemperatureUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleTemperature( double value, TemperatureUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleTemperature( Temperature measure )
+  {
+    this( measure.getValue().doubleValue(), TemperatureUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public TemperatureUnit getBaseUnit()
+  {
+    return TemperatureUnit.BASE;
+  }
+
+  @Override
+  public DoubleTemperature make( double value, TemperatureUnit unit, TemperatureUnit displayUnit )
+  {
+    return new DoubleTemperature( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Temperature}
+   */
+  public Temperature toMeasure()
+  {
+    return new Temperature( toRational(), TemperatureUnit.BASE, getDisplayUnit() );
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.LengthUnit;
+import manifold.science.measures.Time;
+import manifold.science.measures.TimeUnit;
+import manifold.science.measures.VelocityUnit;
+
+/**
+ * Models a time measure having a {@code double} value in units of {@link TimeUnit}, the counterpart
+ * of {@link Time}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleTime extends AbstractDoubleMeasure<TimeUnit, DoubleTime>
+{
+  public DoubleTime( double value, TimeUnit unit, TimeUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleTime( double value, TimeUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleTime( Time measure )
+  {
+    this( measure.getValue().doubleValue(), TimeUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public TimeUnit getBaseUnit()
+  {
+    return TimeUnit.BASE;
+  }
+
+  @Override
+  public DoubleTime make( double value, TimeUnit unit, TimeUnit displayUnit )
+  {
+    return new DoubleTime( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Time}
+   */
+  public Time toMeasure()
+  {
+    return new Time( toRational(), TimeUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleLength times( DoubleVelocity v )
+  {
+    return new DoubleLength( toBaseNumber() * v.toBaseNumber(), LengthUnit.BASE, v.getDisplayUnit().getLengthUnit() );
+  }
+
+  public DoubleVelocity times( DoubleAcceleration v )
+  {
+    return new DoubleVelocity( toBaseNumber() * v.toBaseNumber(), VelocityUnit.BASE, v.getDisplayUnit().getVelocityUnit() );
+  }
+}
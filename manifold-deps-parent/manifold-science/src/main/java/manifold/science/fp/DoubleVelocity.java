@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.science.fp;
+
+import manifold.science.api.AbstractDoubleMeasure;
+import manifold.science.measures.AccelerationUnit;
+import manifold.science.measures.LengthUnit;
+import manifold.science.measures.TimeUnit;
+import manifold.science.measures.Velocity;
+import manifold.science.measures.VelocityUnit;
+
+/**
+ * Models a velocity measure having a {@code double} value in units of {@link VelocityUnit}, the counterpart
+ * of {@link Velocity}.
+ * Products and quotients of other measures display in the base unit of the result, unless the unit follows from an
+ * operand's unit without making a new one. Use {@link #to} to display in another unit.
+ */
+public final class DoubleVelocity extends AbstractDoubleMeasure<VelocityUnit, DoubleVelocity>
+{
+  public DoubleVelocity( double value, VelocityUnit unit, VelocityUnit displayUnit )
+  {
+    super( value, unit, displayUnit );
+  }
+
+  public DoubleVelocity( double value, VelocityUnit unit )
+  {
+    this( value, unit, unit );
+  }
+
+  public DoubleVelocity( Velocity measure )
+  {
+    this( measure.getValue().doubleValue(), VelocityUnit.BASE, measure.getDisplayUnit() );
+  }
+
+  @Override
+  public VelocityUnit getBaseUnit()
+  {
+    return VelocityUnit.BASE;
+  }
+
+  @Override
+  public DoubleVelocity make( double value, VelocityUnit unit, VelocityUnit displayUnit )
+  {
+    return new DoubleVelocity( value, unit, displayUnit );
+  }
+
+  /**
+   * @return This measure as a {@link Velocity}
+   */
+  public Velocity toMeasure()
+  {
+    return new Velocity( toRational(), VelocityUnit.BASE, getDisplayUnit() );
+  }
+
+  public DoubleLength times( DoubleTime v )
+  {
+    return new DoubleLength( toBaseNumber() * v.toBaseNumber(), LengthUnit.BASE, getDisplayUnit().getLengthUnit() );
+  }
+
+  public DoubleAcceleration div( DoubleTime v )
+  {
+    return new DoubleAcceleration( toBaseNumber() / v.toBaseNumber(), AccelerationUnit.BASE, AccelerationUnit.BASE );
+  }
+
+  public DoubleTime div( DoubleAcceleration v )
+  {
+    return new DoubleTime( toBaseNumber() / v.toBaseNumber(), TimeUnit.BASE, v.getDisplayUnit().getTimeUnit() );
+  }
+}
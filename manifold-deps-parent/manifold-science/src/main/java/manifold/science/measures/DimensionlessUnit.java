@@ -16,11 +16,13 @@
 
 package manifold.science.measures;
 
+import manifold.ext.rt.api.Immutable;
 import manifold.science.util.Rational;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+@Immutable
 public interface DimensionlessUnit
 {
   Rational getAmount();
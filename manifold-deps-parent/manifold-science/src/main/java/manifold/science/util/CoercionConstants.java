@@ -18,6 +18,7 @@ package manifold.science.util;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import manifold.ext.rt.api.Immutable;
 
 /**
  * This class provides constants to conveniently express complex numeric values with high precision.
@@ -38,6 +39,7 @@ public interface CoercionConstants
   BigDecimalCoercion bd = BigDecimalCoercion.INSTANCE;
   BigIntegerCoercion bi = BigIntegerCoercion.INSTANCE;
 
+  @Immutable
   class RationalCoercion
   {
     static final RationalCoercion INSTANCE = new RationalCoercion();
@@ -78,6 +80,7 @@ public interface CoercionConstants
     }
   }
 
+  @Immutable
   class BigDecimalCoercion
   {
     static final BigDecimalCoercion INSTANCE = new BigDecimalCoercion();
@@ -113,6 +116,7 @@ public interface CoercionConstants
     }
   }
 
+  @Immutable
   class BigIntegerCoercion
   {
     static final BigIntegerCoercion INSTANCE = new BigIntegerCoercion();
@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import manifold.ext.rt.api.ComparableUsing;
+import manifold.ext.rt.api.Immutable;
 import manifold.collections.api.range.Sequential;
 import manifold.science.measures.MetricScaleUnit;
 
@@ -34,6 +35,10 @@ import manifold.science.measures.MetricScaleUnit;
  * to get a separate instance for the reduced form. Call {@link #isReduced()} to determine if an instance is in reduced
  * form.
  * <p/>
+ * As another performance measure, values having a numerator and denominator that fit in a {@code long} are maintained
+ * as {@code long}s. Arithmetic on them uses overflow-checked {@code long} arithmetic and falls back to {@link BigInteger}
+ * on overflow, with the same results.
+ * <p/>
  * This class implements arithmetic, negation, and relational operators via <i>operator overloading</i> provided by the
  * manifold-ext dependency.
  * <p/>
@@ -50,37 +55,43 @@ import manifold.science.measures.MetricScaleUnit;
  * </code></pre>
  * <b>WARNING:</b> this class is under development and should be considered experimental.
  */
+@Immutable
 final public class Rational extends Number implements Sequential<Rational, Rational, Void>, ComparableUsing<Rational>, Serializable
 {
   private static final int VERSION_1 = 1;
 
-  public static final Rational ZERO = new Rational( BigInteger.ZERO, BigInteger.ONE, true );
-  public static final Rational ONE = new Rational( BigInteger.ONE, BigInteger.ONE, true );
-  public static final Rational TEN = new Rational( BigInteger.valueOf( 10 ), BigInteger.ONE, true );
-  public static final Rational HALF = new Rational( BigInteger.ONE, BigInteger.valueOf( 2 ), true );
-
-  private final BigInteger _numerator;
-  private final BigInteger _denominator;
+  public static final Rational ZERO = new Rational( 0, 1, true );
+  public static final Rational ONE = new Rational( 1, 1, true );
+  public static final Rational TEN = new Rational( 10, 1, true );
+  public static final Rational HALF = new Rational( 1, 2, true );
+
+  // If _compact, the value is _num / _den and the BigIntegers are made on demand, see getNumerator().
+  // Long.MIN_VALUE is not compact so that negating and gcd don't overflow.
+  private final boolean _compact;
+  private final long _num;
+  private final long _den;
+  private BigInteger _numerator;
+  private BigInteger _denominator;
   private boolean _reduced;
 
   public static Rational get( int numerator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.ONE );
+    return get( numerator, 1L, false );
   }
 
   public static Rational get( int numerator, int denominator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.valueOf( denominator ) );
+    return get( numerator, (long)denominator, false );
   }
 
   public static Rational get( long numerator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.ONE );
+    return get( numerator, 1L, false );
   }
 
   public static Rational get( long numerator, long denominator )
   {
-    return get( BigInteger.valueOf( numerator ), BigInteger.valueOf( denominator ) );
+    return get( numerator, denominator, false );
   }
 
   public static Rational get( float f )
@@ -169,14 +180,31 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   private static Rational get( BigInteger numerator, BigInteger denominator, boolean reduced )
   {
+    if( numerator.bitLength() < 64 && denominator.bitLength() < 64 )
+    {
+      return get( numerator.longValue(), denominator.longValue(), reduced );
+    }
     if( numerator.equals( BigInteger.ZERO ) )
     {
       return ZERO;
     }
-    if( numerator.equals( BigInteger.ONE ) && denominator.equals( BigInteger.ONE ) )
+    return new Rational( numerator, denominator, reduced );
+  }
+
+  private static Rational get( long numerator, long denominator, boolean reduced )
+  {
+    if( numerator == 0 )
+    {
+      return ZERO;
+    }
+    if( numerator == 1 && denominator == 1 )
     {
       return ONE;
     }
+    if( numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE )
+    {
+      return new Rational( BigInteger.valueOf( numerator ), BigInteger.valueOf( denominator ), reduced );
+    }
     return new Rational( numerator, denominator, reduced );
   }
 
@@ -202,6 +230,30 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       _numerator = numerator;
       _denominator = denominator;
     }
+    _compact = false;
+    _num = 0;
+    _den = 0;
+    _reduced = reduced;
+  }
+
+  private Rational( long numerator, long denominator, boolean reduced )
+  {
+    if( denominator == 0 )
+    {
+      throw new ArithmeticException( "Divide by zero" );
+    }
+    if( numerator == 0 )
+    {
+      denominator = 1;
+    }
+    else if( denominator < 0 )
+    {
+      numerator = -numerator;
+      denominator = -denominator;
+    }
+    _compact = true;
+    _num = numerator;
+    _den = denominator;
     _reduced = reduced;
   }
 
@@ -222,6 +274,17 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
   {
     if( !_reduced )
     {
+      if( _compact )
+      {
+        long gcd = gcd( Math.abs( _num ), _den );
+        if( gcd > 1 )
+        {
+          return get( _num / gcd, _den / gcd, true );
+        }
+        _reduced = true;
+        return this;
+      }
+
       BigInteger gcd = _numerator.gcd( _denominator );
       if( gcd.compareTo( BigInteger.ONE ) > 0 )
       {
@@ -232,23 +295,70 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     return this;
   }
 
+  /**
+   * Binary GCD of non-negative {@code a} and {@code b}
+   */
+  private static long gcd( long a, long b )
+  {
+    if( a == 0 )
+    {
+      return b;
+    }
+    if( b == 0 )
+    {
+      return a;
+    }
+    int shift = Long.numberOfTrailingZeros( a | b );
+    a >>= Long.numberOfTrailingZeros( a );
+    do
+    {
+      b >>= Long.numberOfTrailingZeros( b );
+      if( a > b )
+      {
+        long t = a;
+        a = b;
+        b = t;
+      }
+      b -= a;
+    } while( b != 0 );
+    return a << shift;
+  }
+
   public BigInteger getNumerator()
   {
+    if( _numerator == null )
+    {
+      _numerator = BigInteger.valueOf( _num );
+    }
     return _numerator;
   }
 
   public BigInteger getDenominator()
   {
+    if( _denominator == null )
+    {
+      _denominator = BigInteger.valueOf( _den );
+    }
     return _denominator;
   }
 
   public BigInteger wholePart()
   {
+    if( _compact )
+    {
+      return BigInteger.valueOf( _num / _den );
+    }
     return _numerator.divide( _denominator );
   }
 
   public Rational fractionPart()
   {
+    if( _compact )
+    {
+      long rem = _num % _den;
+      return rem == 0 ? ZERO : get( rem, _den, false );
+    }
+
     BigInteger rem = _numerator.remainder( _denominator );
     if( rem.signum() == 0 )
     {
@@ -260,12 +370,20 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
   @Override
   public int intValue()
   {
+    if( _compact )
+    {
+      return (int)(_num / _den);
+    }
     return _numerator.divide( _denominator ).intValue();
   }
 
   @Override
   public long longValue()
   {
+    if( _compact )
+    {
+      return _num / _den;
+    }
     return _numerator.divide( _denominator ).longValue();
   }
 
@@ -293,6 +411,12 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public BigDecimal toBigDecimal( MathContext mc )
   {
+    if( _compact )
+    {
+      return _num == 0
+             ? BigDecimal.ZERO
+             : BigDecimal.valueOf( _num ).divide( BigDecimal.valueOf( _den ), mc );
+    }
     return equals( ZERO )
            ? BigDecimal.ZERO
            : new BigDecimal( _numerator ).divide( new BigDecimal( _denominator ), mc );
@@ -331,7 +455,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
     return bg.equals( BigInteger.ZERO )
            ? this
-           : get( _numerator.add( _denominator.multiply( bg ) ), _denominator );
+           : get( getNumerator().add( getDenominator().multiply( bg ) ), getDenominator() );
   }
 
   public Rational plus( BigDecimal bd )
@@ -350,18 +474,42 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       return rational;
     }
 
+    if( _compact && rational._compact )
+    {
+      try
+      {
+        long numerator;
+        long denominator;
+        if( _den == rational._den )
+        {
+          numerator = Math.addExact( _num, rational._num );
+          denominator = _den;
+        }
+        else
+        {
+          numerator = Math.addExact( Math.multiplyExact( _num, rational._den ), Math.multiplyExact( rational._num, _den ) );
+          denominator = Math.multiplyExact( _den, rational._den );
+        }
+        return get( numerator, denominator, false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+
     BigInteger numerator;
     BigInteger denominator;
 
-    if( _denominator.equals( rational._denominator ) )
+    if( getDenominator().equals( rational.getDenominator() ) )
     {
-      numerator = _numerator.add( rational._numerator );
-      denominator = _denominator;
+      numerator = getNumerator().add( rational.getNumerator() );
+      denominator = getDenominator();
     }
     else
     {
-      numerator = (_numerator.multiply( rational._denominator )).add( (rational._numerator).multiply( _denominator ) );
-      denominator = _denominator.multiply( rational._denominator );
+      numerator = (getNumerator().multiply( rational.getDenominator() )).add( (rational.getNumerator()).multiply( getDenominator() ) );
+      denominator = getDenominator().multiply( rational.getDenominator() );
     }
 
     return numerator.signum() == 0
@@ -407,11 +555,30 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational minus( int i )
   {
-    return minus( BigInteger.valueOf( i ) );
+    return minus( (long)i );
   }
 
   public Rational minus( long l )
   {
+    if( _compact && l != Long.MIN_VALUE )
+    {
+      if( l == 0 )
+      {
+        return this;
+      }
+      if( _num == 0 )
+      {
+        return get( -l, 1L, false );
+      }
+      try
+      {
+        return get( Math.subtractExact( _num, Math.multiplyExact( _den, l ) ), _den, false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
     return minus( BigInteger.valueOf( l ) );
   }
 
@@ -435,7 +602,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return get( bi.negate() );
     }
-    return get( _numerator.subtract( _denominator.multiply( bi ) ), _denominator );
+    return get( getNumerator().subtract( getDenominator().multiply( bi ) ), getDenominator() );
   }
 
   public Rational minus( BigDecimal bd )
@@ -454,17 +621,41 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       return rational.unaryMinus();
     }
 
+    if( _compact && rational._compact )
+    {
+      try
+      {
+        long numerator;
+        long denominator;
+        if( _den == rational._den )
+        {
+          numerator = Math.subtractExact( _num, rational._num );
+          denominator = _den;
+        }
+        else
+        {
+          numerator = Math.subtractExact( Math.multiplyExact( _num, rational._den ), Math.multiplyExact( rational._num, _den ) );
+          denominator = Math.multiplyExact( _den, rational._den );
+        }
+        return get( numerator, denominator, false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+
     BigInteger numerator;
     BigInteger denominator;
-    if( _denominator.equals( rational._denominator ) )
+    if( getDenominator().equals( rational.getDenominator() ) )
     {
-      numerator = _numerator.subtract( rational._numerator );
-      denominator = _denominator;
+      numerator = getNumerator().subtract( rational.getNumerator() );
+      denominator = getDenominator();
     }
     else
     {
-      numerator = (_numerator.multiply( rational._denominator )).subtract( (rational._numerator).multiply( _denominator ) );
-      denominator = _denominator.multiply( rational._denominator );
+      numerator = (getNumerator().multiply( rational.getDenominator() )).subtract( (rational.getNumerator()).multiply( getDenominator() ) );
+      denominator = getDenominator().multiply( rational.getDenominator() );
     }
     return numerator.signum() == 0
            ? ZERO
@@ -509,11 +700,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational times( int i )
   {
-    if( i == 0 || signum() == 0 )
-    {
-      return ZERO;
-    }
-    return times( BigInteger.valueOf( i ) );
+    return times( (long)i );
   }
 
   public Rational times( long l )
@@ -522,6 +709,17 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
+    if( _compact )
+    {
+      try
+      {
+        return get( Math.multiplyExact( l, _num ), _den, false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
     return times( BigInteger.valueOf( l ) );
   }
 
@@ -549,7 +747,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return get( bi.multiply( _numerator ), _denominator );
+    return get( bi.multiply( getNumerator() ), getDenominator() );
   }
 
   public Rational times( BigDecimal bd )
@@ -567,8 +765,19 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return get( _numerator.multiply( rational._numerator ),
-      _denominator.multiply( rational._denominator ) );
+    if( _compact && rational._compact )
+    {
+      try
+      {
+        return get( Math.multiplyExact( _num, rational._num ), Math.multiplyExact( _den, rational._den ), false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+    return get( getNumerator().multiply( rational.getNumerator() ),
+      getDenominator().multiply( rational.getDenominator() ) );
   }
 
   public Rational times( Number n )
@@ -609,11 +818,26 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational div( int i )
   {
-    return div( BigInteger.valueOf( i ) );
+    return div( (long)i );
   }
 
   public Rational div( long l )
   {
+    if( _compact && l != 0 )
+    {
+      if( _num == 0 )
+      {
+        return ZERO;
+      }
+      try
+      {
+        return get( _num, Math.multiplyExact( _den, l ), false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
     return div( BigInteger.valueOf( l ) );
   }
 
@@ -637,7 +861,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return ZERO;
     }
-    return get( _numerator, _denominator.multiply( bi ) );
+    return get( getNumerator(), getDenominator().multiply( bi ) );
   }
 
   public Rational div( BigDecimal bd )
@@ -784,6 +1008,10 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational unaryMinus()
   {
+    if( _compact )
+    {
+      return get( -_num, _den, false );
+    }
     return get( _numerator.negate(), _denominator );
   }
 
@@ -805,6 +1033,10 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public Rational invert()
   {
+    if( _compact )
+    {
+      return get( _den, _num, false );
+    }
     return get( _denominator, _numerator );
   }
 
@@ -819,7 +1051,25 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return exponent == 0 ? ONE : this;
     }
-    return Rational.get( _numerator.pow( exponent ), _denominator.pow( exponent ) );
+    if( _compact && exponent >= 0 )
+    {
+      try
+      {
+        long numerator = 1;
+        long denominator = 1;
+        for( int i = 0; i < exponent; i++ )
+        {
+          numerator = Math.multiplyExact( numerator, _num );
+          denominator = Math.multiplyExact( denominator, _den );
+        }
+        return get( numerator, denominator, false );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+    return Rational.get( getNumerator().pow( exponent ), getDenominator().pow( exponent ) );
   }
 
   @Deprecated
@@ -831,7 +1081,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public boolean isInteger()
   {
-    return _denominator.equals( BigInteger.ONE );
+    return _compact ? _den == 1 : _denominator.equals( BigInteger.ONE );
   }
 
   @Override
@@ -864,7 +1114,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
   public int signum()
   {
-    return _numerator.signum();
+    return _compact ? Long.signum( _num ) : _numerator.signum();
   }
 
   @Override
@@ -888,8 +1138,19 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     {
       return thisSign - thatSign;
     }
-    BigInteger crossNum = _numerator.multiply( that._denominator );
-    BigInteger crossDen = _denominator.multiply( that._numerator );
+    if( _compact && that._compact )
+    {
+      try
+      {
+        return Long.compare( Math.multiplyExact( _num, that._den ), Math.multiplyExact( _den, that._num ) );
+      }
+      catch( ArithmeticException overflow )
+      {
+        // fall back to BigInteger
+      }
+    }
+    BigInteger crossNum = getNumerator().multiply( that.getDenominator() );
+    BigInteger crossDen = getDenominator().multiply( that.getNumerator() );
     return crossNum.compareTo( crossDen );
   }
 
@@ -916,29 +1177,50 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
 
     Rational me = reduce();
     Rational that = ((Rational)o).reduce();
-    if( !me._denominator.equals( that._denominator ) )
+    if( me._compact && that._compact )
+    {
+      return me._den == that._den && me._num == that._num;
+    }
+    if( !me.getDenominator().equals( that.getDenominator() ) )
     {
       return false;
     }
-    return me._numerator.equals( that._numerator );
+    return me.getNumerator().equals( that.getNumerator() );
   }
 
   @Override
   public int hashCode()
   {
     reduce();
+    if( _compact )
+    {
+      // same as the BigInteger hash codes
+      return 31 * hashCode( _num ) + hashCode( _den );
+    }
     int result = _numerator.hashCode();
     result = 31 * result + _denominator.hashCode();
     return result;
   }
 
+  /**
+   * @return The same hash code as {@code BigInteger.valueOf( value ).hashCode()}
+   */
+  private static int hashCode( long value )
+  {
+    long magnitude = Math.abs( value );
+    int high = (int)(magnitude >>> 32);
+    int hash = high == 0 ? 0 : (int)(high & 0xFFFFFFFFL);
+    hash = (int)(31 * hash + (magnitude & 0xFFFFFFFFL));
+    return hash * Long.signum( value );
+  }
+
   public String toFractionString()
   {
     if( !_reduced )
     {
       return reduce().toFractionString();
     }
-    return _numerator + "/" + _denominator;
+    return _compact ? _num + "/" + _den : _numerator + "/" + _denominator;
   }
 
   public String toMixedString()
@@ -948,9 +1230,9 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
       return reduce().toMixedString();
     }
 
-    if( _denominator.equals( BigInteger.ONE ) )
+    if( isInteger() )
     {
-      return _numerator.toString();
+      return getNumerator().toString();
     }
     BigInteger whole = wholePart();
     if( whole.signum() == 0 )
@@ -987,7 +1269,7 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
   @Override
   public String toString()
   {
-    return _numerator + " / " + _denominator;
+    return _compact ? _num + " / " + _den : _numerator + " / " + _denominator;
   }
 
   private Object writeReplace()
@@ -1012,8 +1294,8 @@ final public class Rational extends Number implements Sequential<Rational, Ratio
     public void writeExternal( ObjectOutput out ) throws IOException
     {
       out.writeInt( VERSION_1 );
-      out.writeObject( _rational._numerator );
-      out.writeObject( _rational._denominator );
+      out.writeObject( _rational.getNumerator() );
+      out.writeObject( _rational.getDenominator() );
       out.writeBoolean( _rational._reduced );
     }
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.query.jdbc;
+
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
+import manifold.sql.rt.api.DbConfig;
+import manifold.sql.rt.api.Dependencies;
+import manifold.sql.rt.api.ExecutionEnv;
+import manifold.sql.rt.impl.DbConfigImpl;
+import manifold.sql.schema.jdbc.JdbcSchema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class StatementCacheTest
+{
+  private static final String SQL = "select * from purchase_order where id = :id";
+
+  private File _dir;
+  private String _url;
+  private StatementCache _cache;
+
+  @Before
+  public void setup() throws IOException
+  {
+    _dir = Files.createTempDirectory( "statements" ).toFile();
+    try( InputStream in = getClass().getResourceAsStream( "/samples/db/h2-sales.mv.db" ) )
+    {
+      //noinspection ConstantConditions
+      Files.copy( in, new File( _dir, "h2-sales.mv.db" ).toPath() );
+    }
+    _url = "jdbc:h2:file:" + new File( _dir, "h2-sales" );
+    _cache = new StatementCache( new File( _dir, "cache" ) );
+  }
+
+  @After
+  public void cleanup() throws IOException
+  {
+    Dependencies.instance().getConnectionProvider().closeAll();
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  @Test
+  public void testCachedPerStatement() throws SQLException
+  {
+    JdbcSchema schema = new JdbcSchema( makeDbConfig() );
+    assertNull( StatementCache.find( schema, "MyQuery", SQL, _cache ) );
+
+    Bindings metadata = new DataBindings();
+    metadata.put( "kind", "query" );
+    StatementCache.put( schema, "MyQuery", SQL, metadata, _cache );
+    assertEquals( metadata, StatementCache.find( schema, "MyQuery", SQL, _cache ) );
+
+    // same schema, as in the next compile
+    JdbcSchema next = new JdbcSchema( makeDbConfig() );
+    assertEquals( schema.getVersion(), next.getVersion() );
+    assertEquals( metadata, StatementCache.find( next, "MyQuery", SQL, new StatementCache( new File( _dir, "cache" ) ) ) );
+
+    // different name or text, different statement
+    assertNull( StatementCache.find( schema, "MyOtherQuery", SQL, _cache ) );
+    assertNull( StatementCache.find( schema, "MyQuery", SQL + " ", _cache ) );
+  }
+
+  @Test
+  public void testKeyCollisionIsMiss() throws SQLException, IOException
+  {
+    assertNotEquals( StatementCache.makeKey( "ab", "c" ), StatementCache.makeKey( "a", "bc" ) );
+
+    JdbcSchema schema = new JdbcSchema( makeDbConfig() );
+    Bindings metadata = new DataBindings();
+    metadata.put( "kind", "query" );
+    StatementCache.put( schema, "MyQuery", SQL, metadata, _cache );
+    File[] dirs = new File( _dir, "cache" ).listFiles();
+    assertNotNull( dirs );
+    assertEquals( 1, dirs.length );
+
+    // an entry made from a different statement under this statement's key
+    Files.copy( new File( dirs[0], StatementCache.makeKey( "MyQuery", SQL ) + ".json" ).toPath(),
+      new File( dirs[0], StatementCache.makeKey( "MyOtherQuery", SQL ) + ".json" ).toPath(),
+      StandardCopyOption.REPLACE_EXISTING );
+    assertNull( StatementCache.find( schema, "MyOtherQuery", SQL, _cache ) );
+    assertEquals( metadata, StatementCache.find( schema, "MyQuery", SQL, _cache ) );
+  }
+
+  @Test
+  public void testSchemaChangeInvalidates() throws SQLException
+  {
+    JdbcSchema schema = new JdbcSchema( makeDbConfig() );
+    Bindings metadata = new DataBindings();
+    metadata.put( "kind", "query" );
+    StatementCache.put( schema, "MyQuery", SQL, metadata, _cache );
+
+    Dependencies.instance().getConnectionProvider().closeAll();
+    try( Connection c = DriverManager.getConnection( _url ) )
+    {
+      c.createStatement().execute( "alter table purchase_order add column note varchar(10)" );
+    }
+
+    JdbcSchema changed = new JdbcSchema( makeDbConfig() );
+    assertNotEquals( schema.getVersion(), changed.getVersion() );
+    assertNull( StatementCache.find( changed, "MyQuery", SQL, _cache ) );
+    StatementCache.put( changed, "MyQuery", SQL, metadata, _cache );
+    // the previous version's entries are deleted
+    File[] dirs = new File( _dir, "cache" ).listFiles();
+    assertNotNull( dirs );
+    assertEquals( 1, dirs.length );
+  }
+
+  private DbConfig makeDbConfig()
+  {
+    Bindings bindings = new DataBindings();
+    bindings.put( "name", "H2Sales" );
+    bindings.put( "path", new File( _dir, "H2Sales.dbconfig" ).getAbsolutePath() );
+    bindings.put( "url", _url );
+    bindings.put( "schemaPackage", "abc" );
+    return new DbConfigImpl( bindings, ExecutionEnv.Compiler );
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.schema.jdbc;
+
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
+import manifold.sql.rt.api.DbConfig;
+import manifold.sql.rt.api.Dependencies;
+import manifold.sql.rt.api.ExecutionEnv;
+import manifold.sql.rt.impl.DbConfigImpl;
+import manifold.sql.schema.api.SchemaColumn;
+import manifold.sql.schema.api.SchemaForeignKey;
+import manifold.sql.schema.api.SchemaTable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+
+public class SchemaSnapshotTest
+{
+  private File _dir;
+  private File _dbConfigFile;
+
+  @Before
+  public void setup() throws IOException
+  {
+    _dir = Files.createTempDirectory( "snapshot" ).toFile();
+    try( InputStream in = getClass().getResourceAsStream( "/samples/db/h2-sales.mv.db" ) )
+    {
+      //noinspection ConstantConditions
+      Files.copy( in, new File( _dir, "h2-sales.mv.db" ).toPath() );
+    }
+    _dbConfigFile = new File( _dir, "H2Sales.dbconfig" );
+    Files.write( _dbConfigFile.toPath(), "{\"schemaPackage\": \"abc\"}".getBytes( UTF_8 ) );
+    System.setProperty( SchemaSnapshot.SNAPSHOT_PROPERTY, "true" );
+  }
+
+  @After
+  public void cleanup() throws IOException
+  {
+    System.clearProperty( SchemaSnapshot.SNAPSHOT_PROPERTY );
+    Dependencies.instance().getConnectionProvider().closeAll();
+    try( Stream<java.nio.file.Path> paths = Files.walk( _dir.toPath() ) )
+    {
+      paths.sorted( Comparator.reverseOrder() ).map( java.nio.file.Path::toFile ).forEach( File::delete );
+    }
+  }
+
+  @Test
+  public void testRestoredSchemaMatchesDatabase() throws SQLException
+  {
+    JdbcSchema live = SchemaSnapshot.getSchema( makeDbConfig( "jdbc:h2:file:" + new File( _dir, "h2-sales" ) ) );
+    assertTrue( SchemaSnapshot.getFile( live.getDbConfig() ).isFile() );
+    assertFalse( live.getTables().isEmpty() );
+
+    // no database needed
+    JdbcSchema restored = SchemaSnapshot.getSchema( makeDbConfig( "jdbc:nonexistent:db" ) );
+    assertNotNull( restored.getSnapshot() );
+    assertEquals( live.getName(), restored.getName() );
+    assertEquals( live.getDriverInfo(), restored.getDriverInfo() );
+    assertEquals( live.getTables().keySet(), restored.getTables().keySet() );
+    for( SchemaTable table : live.getTables().values() )
+    {
+      SchemaTable restoredTable = restored.getTable( table.getName() );
+      assertEquals( table.getEscapedName(), restoredTable.getEscapedName() );
+      assertEquals( live.getJavaTypeName( table.getName() ), restored.getJavaTypeName( table.getName() ) );
+      assertEquals( table.getKind(), restoredTable.getKind() );
+      assertEquals( names( table.getPrimaryKey() ), names( restoredTable.getPrimaryKey() ) );
+      assertEquals( table.getId() == null ? null : table.getId().getName(),
+        restoredTable.getId() == null ? null : restoredTable.getId().getName() );
+      assertEquals( table.getColumns().keySet(), restoredTable.getColumns().keySet() );
+      for( SchemaColumn column : table.getColumns().values() )
+      {
+        SchemaColumn restoredColumn = restoredTable.getColumn( column.getName() );
+        assertEquals( column.getJdbcType(), restoredColumn.getJdbcType() );
+        assertEquals( column.getColumnClassName(), restoredColumn.getColumnClassName() );
+        assertEquals( column.isNullable(), restoredColumn.isNullable() );
+        assertEquals( column.canBeNull(), restoredColumn.canBeNull() );
+      }
+      assertEquals( table.getForeignKeys().size(), restoredTable.getForeignKeys().size() );
+      for( Map.Entry<SchemaTable, List<SchemaForeignKey>> entry : table.getForeignKeys().entrySet() )
+      {
+        List<SchemaForeignKey> restoredFks = restoredTable.getForeignKeys().get( restored.getTable( entry.getKey().getName() ) );
+        assertEquals( entry.getValue().size(), restoredFks.size() );
+      }
+      assertEquals( ((JdbcSchemaTable)table).getOneToMany().size(), ((JdbcSchemaTable)restoredTable).getOneToMany().size() );
+    }
+  }
+
+  @Test
+  public void testStatementsPersist() throws SQLException
+  {
+    JdbcSchema live = SchemaSnapshot.getSchema( makeDbConfig( "jdbc:h2:file:" + new File( _dir, "h2-sales" ) ) );
+    Bindings metadata = new DataBindings();
+    metadata.put( "escapedName", "\"MyQuery\"" );
+    live.getSnapshot().putStatement( "MyQuery", "select * from customer where id = ?", metadata );
+
+    JdbcSchema restored = SchemaSnapshot.getSchema( makeDbConfig( "jdbc:nonexistent:db" ) );
+    assertEquals( metadata, restored.getSnapshot().getStatement( "MyQuery", "select * from customer where id = ?" ) );
+    assertNull( restored.getSnapshot().getStatement( "MyQuery", "select * from customer" ) );
+  }
+
+  @Test
+  public void testStatementsWrittenTogether() throws SQLException, IOException
+  {
+    JdbcSchema live = SchemaSnapshot.getSchema( makeDbConfig( "jdbc:h2:file:" + new File( _dir, "h2-sales" ) ) );
+    File file = SchemaSnapshot.getFile( live.getDbConfig() );
+    for( int i = 0; i < 3; i++ )
+    {
+      Bindings metadata = new DataBindings();
+      metadata.put( "escapedName", "\"MyQuery" + i + "\"" );
+      live.getSnapshot().putStatement( "MyQuery" + i, "select * from customer where id = " + i, metadata );
+    }
+    // not written per statement
+    assertFalse( new String( Files.readAllBytes( file.toPath() ), UTF_8 ).contains( "MyQuery" ) );
+
+    new SchemaSnapshotFlusher().closing();
+    String content = new String( Files.readAllBytes( file.toPath() ), UTF_8 );
+    for( int i = 0; i < 3; i++ )
+    {
+      assertTrue( content.contains( "MyQuery" + i ) );
+    }
+  }
+
+  @Test
+  public void testChangedDbConfigRebuilds() throws SQLException, IOException
+  {
+    SchemaSnapshot.getSchema( makeDbConfig( "jdbc:h2:file:" + new File( _dir, "h2-sales" ) ) );
+    Files.write( _dbConfigFile.toPath(), "{\"schemaPackage\": \"def\"}".getBytes( UTF_8 ) );
+    Dependencies.instance().getConnectionProvider().closeAll();
+    try
+    {
+      SchemaSnapshot.getSchema( makeDbConfig( "jdbc:nonexistent:db" ) );
+      fail( "expected the stale snapshot to be rebuilt from the database" );
+    }
+    catch( SQLException expected )
+    {
+    }
+  }
+
+  private DbConfig makeDbConfig( String url )
+  {
+    Bindings bindings = new DataBindings();
+    bindings.put( "name", "H2Sales" );
+    bindings.put( "path", _dbConfigFile.getAbsolutePath() );
+    bindings.put( "url", url );
+    bindings.put( "schemaPackage", "abc" );
+    return new DbConfigImpl( bindings, ExecutionEnv.Compiler );
+  }
+
+  private static String names( List<SchemaColumn> columns )
+  {
+    StringBuilder sb = new StringBuilder();
+    columns.forEach( c -> sb.append( c.getName() ).append( ',' ) );
+    return sb.toString();
+  }
+}
@@ -16,6 +16,8 @@
 
 package manifold.sql.query.jdbc;
 
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.rt.api.util.ManStringUtil;
 import manifold.sql.api.Parameter;
 import manifold.sql.query.api.Command;
@@ -48,6 +50,14 @@ public class JdbcCommand implements Command
   private final SqlIssueContainer _issues;
 
   public JdbcCommand( SqlScope scope, String simpleName, String command )
+  {
+    this( scope, simpleName, command, scope.isErrant() ? null : StatementCache.find( scope.getSchema(), simpleName, command ) );
+  }
+
+  /**
+   * @param metadata The statement's metadata from {@link StatementCache}, or null to build it from the database
+   */
+  JdbcCommand( SqlScope scope, String simpleName, String command, Bindings metadata )
   {
     _scope = scope;
     List<ParamInfo> paramNames = ParameterParser.getParameters( command );
@@ -64,6 +74,13 @@ public class JdbcCommand implements Command
       return;
     }
 
+    if( metadata != null )
+    {
+      _escapedName = (String)metadata.get( "escapedName" );
+      restore( metadata );
+      return;
+    }
+
     ConnectionProvider cp = Dependencies.instance().getConnectionProvider();
     String escapedName = null;
     try( Connection c = cp.getConnection( scope.getDbconfig() ) )
@@ -76,6 +93,11 @@ public class JdbcCommand implements Command
       _issues.addIssues( Collections.singletonList( e ) );
     }
     _escapedName = escapedName;
+
+    if( _issues.getIssues().isEmpty() )
+    {
+      StatementCache.put( schema, _name, command, toSnapshot() );
+    }
   }
 
   private void build( Connection c, List<ParamInfo> paramNames ) throws SQLException
@@ -98,6 +120,32 @@ public class JdbcCommand implements Command
     }
   }
 
+  /**
+   * Restores the metadata from {@link #toSnapshot()}, see {@link StatementCache}.
+   */
+  @SuppressWarnings( "unchecked" )
+  private void restore( Bindings metadata )
+  {
+    for( Bindings param : (List<Bindings>)metadata.get( "parameters" ) )
+    {
+      _parameters.add( new JdbcParameter<>( this, param ) );
+    }
+  }
+
+  private Bindings toSnapshot()
+  {
+    Bindings metadata = new DataBindings();
+    metadata.put( "kind", "command" );
+    metadata.put( "escapedName", _escapedName );
+    List<Bindings> parameters = new ArrayList<>();
+    for( Parameter param : _parameters )
+    {
+      parameters.add( ((JdbcParameter<?>)param).toSnapshot() );
+    }
+    metadata.put( "parameters", parameters );
+    return metadata;
+  }
+
   @Override
   public String getName()
   {
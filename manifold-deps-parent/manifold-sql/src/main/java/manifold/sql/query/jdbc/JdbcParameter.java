@@ -16,6 +16,8 @@
 
 package manifold.sql.query.jdbc;
 
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.rt.api.util.Pair;
 import manifold.sql.api.Statement;
 import manifold.sql.api.Parameter;
@@ -84,6 +86,38 @@ public class JdbcParameter<S extends Statement> implements Parameter
     _javaClassNameForGetObject = javaClassNameForGetObject;
   }
 
+  /**
+   * Restores the parameter from {@link #toSnapshot()}, see {@link manifold.sql.schema.jdbc.SchemaSnapshot}.
+   */
+  JdbcParameter( S owner, Bindings snapshot )
+  {
+    _owner = owner;
+    _position = (int)snapshot.get( "position" );
+    _name = (String)snapshot.get( "name" );
+    _jdbcType = (int)snapshot.get( "jdbcType" );
+    _sqlType = (String)snapshot.get( "sqlType" );
+    _size = (int)snapshot.get( "size" );
+    _scale = (int)snapshot.get( "scale" );
+    _isNullable = (boolean)snapshot.get( "nullable" );
+    _isSigned = (boolean)snapshot.get( "signed" );
+    _javaClassNameForGetObject = (String)snapshot.get( "columnType" );
+  }
+
+  Bindings toSnapshot()
+  {
+    Bindings snapshot = new DataBindings();
+    snapshot.put( "position", _position );
+    snapshot.put( "name", _name );
+    snapshot.put( "jdbcType", _jdbcType );
+    snapshot.put( "sqlType", _sqlType );
+    snapshot.put( "size", _size );
+    snapshot.put( "scale", _scale );
+    snapshot.put( "nullable", _isNullable );
+    snapshot.put( "signed", _isSigned );
+    snapshot.put( "columnType", _javaClassNameForGetObject );
+    return snapshot;
+  }
+
   private Pair<Integer, Boolean> getJdbcType( ParameterMetaData paramMetaData, int paramIndex, DatabaseMetaData dbMetadata )
   {
     int jdbcType;
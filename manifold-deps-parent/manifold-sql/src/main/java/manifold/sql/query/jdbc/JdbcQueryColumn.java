@@ -16,6 +16,8 @@
 
 package manifold.sql.query.jdbc;
 
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.sql.query.api.QueryColumn;
 import manifold.sql.query.api.QueryTable;
 import manifold.sql.rt.api.Dependencies;
@@ -99,6 +101,52 @@ public class JdbcQueryColumn implements QueryColumn
     _isSigned = rsMetaData.isSigned( colIndex );
   }
 
+  /**
+   * Restores the column from {@link #toSnapshot()}, see {@link manifold.sql.schema.jdbc.SchemaSnapshot}.
+   */
+  JdbcQueryColumn( JdbcQueryTable queryTable, Bindings snapshot )
+  {
+    _queryTable = queryTable;
+    _position = (int)snapshot.get( "position" );
+    _name = (String)snapshot.get( "name" );
+    _escapedName = (String)snapshot.get( "escapedName" );
+    String tableName = (String)snapshot.get( "table" );
+    _schemaTable = tableName == null ? null : _queryTable.getSchema().getTable( tableName );
+    String columnName = (String)snapshot.get( "column" );
+    _schemaColumn = _schemaTable == null || columnName == null ? null : _schemaTable.getColumn( columnName );
+    _jdbcType = (int)snapshot.get( "jdbcType" );
+    _sqlType = (String)snapshot.get( "sqlType" );
+    _columnType = (String)snapshot.get( "columnType" );
+    _isNullable = (boolean)snapshot.get( "nullable" );
+    _size = (int)snapshot.get( "size" );
+    _scale = (int)snapshot.get( "scale" );
+    _displaySize = (int)snapshot.get( "displaySize" );
+    _isCurrency = (boolean)snapshot.get( "currency" );
+    _isReadOnly = (boolean)snapshot.get( "readOnly" );
+    _isSigned = (boolean)snapshot.get( "signed" );
+  }
+
+  Bindings toSnapshot()
+  {
+    Bindings snapshot = new DataBindings();
+    snapshot.put( "position", _position );
+    snapshot.put( "name", _name );
+    snapshot.put( "escapedName", _escapedName );
+    snapshot.put( "table", _schemaTable == null ? null : _schemaTable.getName() );
+    snapshot.put( "column", _schemaColumn == null ? null : _schemaColumn.getName() );
+    snapshot.put( "jdbcType", _jdbcType );
+    snapshot.put( "sqlType", _sqlType );
+    snapshot.put( "columnType", _columnType );
+    snapshot.put( "nullable", _isNullable );
+    snapshot.put( "size", _size );
+    snapshot.put( "scale", _scale );
+    snapshot.put( "displaySize", _displaySize );
+    snapshot.put( "currency", _isCurrency );
+    snapshot.put( "readOnly", _isReadOnly );
+    snapshot.put( "signed", _isSigned );
+    return snapshot;
+  }
+
   @Nullable
   private String getTableName( ResultSetMetaData rsMetaData )
   {
@@ -16,6 +16,8 @@
 
 package manifold.sql.query.jdbc;
 
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.rt.api.util.ManStringUtil;
 import manifold.rt.api.util.Pair;
 import manifold.sql.query.api.ForeignKeyQueryRef;
@@ -50,6 +52,14 @@ public class JdbcQueryTable implements QueryTable
   private final SqlIssueContainer _issues;
 
   public JdbcQueryTable( SqlScope scope, String simpleName, String query )
+  {
+    this( scope, simpleName, query, scope.isErrant() ? null : StatementCache.find( scope.getSchema(), simpleName, query ) );
+  }
+
+  /**
+   * @param metadata The statement's metadata from {@link StatementCache}, or null to build it from the database
+   */
+  JdbcQueryTable( SqlScope scope, String simpleName, String query, Bindings metadata )
   {
     _scope = scope;
     List<ParamInfo> paramNames = ParameterParser.getParameters( query );
@@ -67,6 +77,13 @@ public class JdbcQueryTable implements QueryTable
       return;
     }
 
+    if( metadata != null )
+    {
+      _escapedName = (String)metadata.get( "escapedName" );
+      restore( metadata );
+      return;
+    }
+
     ConnectionProvider cp = Dependencies.instance().getConnectionProvider();
     String escapedName = _name;
     try( Connection c = cp.getConnection( scope.getDbconfig() ) )
@@ -79,6 +96,11 @@ public class JdbcQueryTable implements QueryTable
       _issues.addIssues( Collections.singletonList( e ) );
     }
     _escapedName = escapedName;
+
+    if( _issues.getIssues().isEmpty() )
+    {
+      StatementCache.put( schema, _name, query, toSnapshot() );
+    }
   }
 
   private void build( Connection c, List<ParamInfo> paramNames ) throws SQLException
@@ -113,6 +135,37 @@ public class JdbcQueryTable implements QueryTable
     }
   }
 
+  /**
+   * Restores the metadata from {@link #toSnapshot()}, see {@link StatementCache}.
+   */
+  @SuppressWarnings( "unchecked" )
+  private void restore( Bindings metadata )
+  {
+    for( Bindings param : (List<Bindings>)metadata.get( "parameters" ) )
+    {
+      _parameters.add( new JdbcParameter<>( this, param ) );
+    }
+    for( Bindings column : (List<Bindings>)metadata.get( "columns" ) )
+    {
+      JdbcQueryColumn col = new JdbcQueryColumn( this, column );
+      _columns.put( col.getName(), col );
+    }
+  }
+
+  private Bindings toSnapshot()
+  {
+    Bindings metadata = new DataBindings();
+    metadata.put( "kind", "query" );
+    metadata.put( "escapedName", _escapedName );
+    metadata.put( "parameters", _parameters.stream()
+      .map( p -> ((JdbcParameter<?>)p).toSnapshot() )
+      .collect( Collectors.toList() ) );
+    metadata.put( "columns", _columns.values().stream()
+      .map( c -> ((JdbcQueryColumn)c).toSnapshot() )
+      .collect( Collectors.toList() ) );
+    return metadata;
+  }
+
   private void executeQueryIfRequired( DatabaseMetaData metadata, PreparedStatement ps ) throws SQLException
   {
     DriverInfo driverInfo = DriverInfo.lookup( metadata );
@@ -16,6 +16,7 @@
 
 package manifold.sql.query.jdbc;
 
+import manifold.rt.api.Bindings;
 import manifold.sql.api.Statement;
 import manifold.sql.query.api.SqlAnalyzer;
 import manifold.sql.query.type.SqlScope;
@@ -32,22 +33,27 @@ public class JdbcSqlAnalyzer implements SqlAnalyzer
   @Override
   public Statement makeStatement( String queryName, SqlScope scope, String sql )
   {
-    boolean isQuery;
+    Bindings metadata = scope.isErrant() ? null : StatementCache.find( scope.getSchema(), queryName, sql );
+    Object kind = metadata == null ? null : metadata.get( "kind" );
+    boolean isQuery = kind == null ? isQuery( sql ) : kind.equals( "query" );
+    return isQuery
+      ? new JdbcQueryTable( scope, queryName, sql, metadata )
+      : new JdbcCommand( scope, queryName, sql, metadata );
+  }
+
+  private static boolean isQuery( String sql )
+  {
     try
     {
       // using this parser only to distinguish between query statements and non-query statements
       net.sf.jsqlparser.statement.Statement statement = CCJSqlParserUtil.parse( sql );
-      isQuery = statement instanceof Select || statement instanceof Pivot || statement instanceof UnPivot;
+      return statement instanceof Select || statement instanceof Pivot || statement instanceof UnPivot;
     }
     catch( JSQLParserException e )
     {
       // todo: Maybe do light parsing to determine type of statement
-      isQuery = _queryStarts.stream()
+      return _queryStarts.stream()
         .anyMatch( start -> sql.trim().toLowerCase().startsWith( start ) );
     }
-
-    return isQuery
-      ? new JdbcQueryTable( scope, queryName, sql )
-      : new JdbcCommand( scope, queryName, sql );
   }
 }
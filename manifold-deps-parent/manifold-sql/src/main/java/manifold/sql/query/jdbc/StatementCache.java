@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.query.jdbc;
+
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
+import manifold.sql.rt.api.DbConfig;
+import manifold.sql.rt.api.Dependencies;
+import manifold.sql.schema.api.Schema;
+import manifold.sql.schema.jdbc.JdbcSchema;
+import manifold.sql.schema.jdbc.SchemaSnapshot;
+import manifold.util.concurrent.ConcurrentHashSet;
+import manifold.util.concurrent.LocklessLazyVar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Finds the metadata of a query or command compiled before, so that it is neither parsed to classify it nor prepared on
+ * the database again. The metadata is first looked up in the schema's {@link SchemaSnapshot}, if snapshots are enabled,
+ * otherwise in a disk cache shared by compiles.
+ * <p/>
+ * Cache entries are keyed by a {@link Fingerprint} of the statement's name and SQL text, under a directory per dbconfig
+ * and schema version, see {@link JdbcSchema#getVersion()}. An entry records the name and SQL text it was made from, if
+ * they don't match the statement's, the entry is a miss. Since the schema is read from the database, changing the
+ * database's schema e.g., via DDL, changes its version, and the entries cached for the previous version are deleted.
+ * <p/>
+ * The cache is off by default. Enable it with {@code -Dmanifold.sql.cache=true} to use
+ * {@code ${java.io.tmpdir}/manifold/sql-cache}, or set the property to the directory to use instead.
+ */
+final class StatementCache
+{
+  private static final Logger LOGGER = LoggerFactory.getLogger( StatementCache.class );
+
+  static final String CACHE_PROPERTY = "manifold.sql.cache";
+  private static final String VERSION = "2";
+
+  private static final LocklessLazyVar<StatementCache> INSTANCE = LocklessLazyVar.make( () -> make() );
+
+  private final File _dir;
+  private final Set<File> _cleaned;
+
+  static StatementCache make()
+  {
+    String value = System.getProperty( CACHE_PROPERTY );
+    if( value == null || value.isEmpty() || value.equalsIgnoreCase( "false" ) )
+    {
+      return null;
+    }
+
+    return new StatementCache( value.equalsIgnoreCase( "true" )
+      ? new File( System.getProperty( "java.io.tmpdir" ), "manifold" + File.separator + "sql-cache" )
+      : new File( value ) );
+  }
+
+  StatementCache( File dir )
+  {
+    _dir = dir;
+    _cleaned = new ConcurrentHashSet<>();
+  }
+
+  /**
+   * @return The metadata recorded for the statement, or null if the statement must be built from the database
+   */
+  static Bindings find( Schema schema, String name, String sql )
+  {
+    return find( schema, name, sql, INSTANCE.get() );
+  }
+
+  static Bindings find( Schema schema, String name, String sql, StatementCache cache )
+  {
+    if( !(schema instanceof JdbcSchema) )
+    {
+      return null;
+    }
+
+    SchemaSnapshot snapshot = ((JdbcSchema)schema).getSnapshot();
+    if( snapshot != null )
+    {
+      return snapshot.getStatement( name, sql );
+    }
+    return cache == null ? null : cache.read( (JdbcSchema)schema, name, sql );
+  }
+
+  /**
+   * Records the metadata of a statement built from the database.
+   */
+  static void put( Schema schema, String name, String sql, Bindings metadata )
+  {
+    put( schema, name, sql, metadata, INSTANCE.get() );
+  }
+
+  static void put( Schema schema, String name, String sql, Bindings metadata, StatementCache cache )
+  {
+    if( !(schema instanceof JdbcSchema) )
+    {
+      return;
+    }
+
+    SchemaSnapshot snapshot = ((JdbcSchema)schema).getSnapshot();
+    if( snapshot != null )
+    {
+      snapshot.putStatement( name, sql, metadata );
+    }
+    else if( cache != null )
+    {
+      cache.write( (JdbcSchema)schema, name, sql, metadata );
+    }
+  }
+
+  private Bindings read( JdbcSchema schema, String name, String sql )
+  {
+    File entry = getEntry( schema, name, sql );
+    if( !entry.isFile() )
+    {
+      return null;
+    }
+
+    try
+    {
+      Bindings bindings = (Bindings)Json.fromJson( new String( Files.readAllBytes( entry.toPath() ), UTF_8 ) );
+      if( !name.equals( bindings.get( "name" ) ) || !sql.equals( bindings.get( "sql" ) ) )
+      {
+        // a different statement having the same key
+        return null;
+      }
+      return (Bindings)bindings.get( "metadata" );
+    }
+    catch( IOException | RuntimeException e )
+    {
+      // deleted meanwhile or not written by us, build it from the database and replace it
+      return null;
+    }
+  }
+
+  private void write( JdbcSchema schema, String name, String sql, Bindings metadata )
+  {
+    File entry = getEntry( schema, name, sql );
+    File dir = entry.getParentFile();
+    File tmp = null;
+    try
+    {
+      //noinspection ResultOfMethodCallIgnored
+      dir.mkdirs();
+      tmp = File.createTempFile( entry.getName(), ".tmp", dir );
+      Bindings bindings = new DataBindings();
+      bindings.put( "name", name );
+      bindings.put( "sql", sql );
+      bindings.put( "metadata", metadata );
+      Files.write( tmp.toPath(), Json.toJson( bindings ).getBytes( UTF_8 ) );
+      try
+      {
+        Files.move( tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      }
+      catch( AtomicMoveNotSupportedException e )
+      {
+        Files.move( tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+    }
+    catch( IOException e )
+    {
+      // the cache is only an optimization, a failure to write it costs building the statement next time
+      LOGGER.warn( "Failed to write statement cache entry: " + entry, e );
+      if( tmp != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        tmp.delete();
+      }
+    }
+  }
+
+  private File getEntry( JdbcSchema schema, String name, String sql )
+  {
+    return new File( getSchemaDir( schema ), makeKey( name, sql ) + ".json" );
+  }
+
+  /**
+   * The name's length separates it from the SQL text, so that e.g., ("ab", "c") and ("a", "bc") differ
+   */
+  static String makeKey( String name, String sql )
+  {
+    return new Fingerprint( name.length() + ":" + name ).extend( sql ).toHexString();
+  }
+
+  /**
+   * @return {@code <dbconfig name>-<dbconfig id>-<schema version>}, deletes the directories of other schema versions
+   * for the dbconfig the first time
+   */
+  private File getSchemaDir( JdbcSchema schema )
+  {
+    DbConfig dbConfig = schema.getDbConfig();
+    String prefix = dbConfig.getName() + '-' +
+      new Fingerprint( String.valueOf( dbConfig.getPath() ) )
+        .extend( String.valueOf( dbConfig.getBuildUrlOtherwiseRuntimeUrl() ) ).toHexString() + '-';
+    String version = new Fingerprint( VERSION )
+      .extend( schema.getVersion() )
+      .extend( Dependencies.instance().getTypeProvider().getClass().getTypeName() ).toHexString();
+    File schemaDir = new File( _dir, prefix + version );
+    if( _cleaned.add( schemaDir ) )
+    {
+      File[] stale = _dir.listFiles( file -> file.isDirectory() && file.getName().startsWith( prefix ) &&
+                                             !file.equals( schemaDir ) );
+      if( stale != null )
+      {
+        for( File dir : stale )
+        {
+          File[] entries = dir.listFiles();
+          if( entries != null )
+          {
+            for( File entry : entries )
+            {
+              //noinspection ResultOfMethodCallIgnored
+              entry.delete();
+            }
+          }
+          //noinspection ResultOfMethodCallIgnored
+          dir.delete();
+        }
+      }
+    }
+    return schemaDir;
+  }
+}
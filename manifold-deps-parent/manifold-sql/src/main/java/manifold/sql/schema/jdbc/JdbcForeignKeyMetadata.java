@@ -34,6 +34,11 @@ public class JdbcForeignKeyMetadata
     _keyParts = keyParts;
   }
 
+  List<KeyPart> getKeyParts()
+  {
+    return _keyParts;
+  }
+
   public Map<SchemaTable, List<SchemaForeignKey>> resolve( JdbcSchema schema )
   {
     Map<SchemaTable, List<SchemaForeignKey>> foreignKeys = new LinkedHashMap<>();
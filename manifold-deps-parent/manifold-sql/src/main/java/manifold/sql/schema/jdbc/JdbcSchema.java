@@ -16,6 +16,10 @@
 
 package manifold.sql.schema.jdbc;
 
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.rt.api.util.ManIdentifierUtil;
 import manifold.sql.rt.api.ConnectionProvider;
 import manifold.sql.rt.api.DbConfig;
@@ -48,6 +52,8 @@ public class JdbcSchema implements Schema
   private final boolean _schemaIsCatalog;
   private boolean _hasSchemas;
   private boolean _hasCatalogs;
+  private SchemaSnapshot _snapshot;
+  private String _version;
 
   public JdbcSchema( DbConfig dbConfig ) throws SQLException
   {
@@ -103,6 +109,82 @@ public class JdbcSchema implements Schema
     }
   }
 
+  /**
+   * Restores the schema from {@link #toSnapshot()} without connecting to the database, see {@link SchemaSnapshot}.
+   */
+  @SuppressWarnings( "unchecked" )
+  JdbcSchema( DbConfig dbConfig, Bindings snapshot )
+  {
+    _dbConfig = dbConfig;
+    _tables = new LinkedHashMap<>();
+    _javaToName = new LinkedHashMap<>();
+    _nameToJava = new LinkedHashMap<>();
+    _driverInfo = DriverInfo.valueOf( (String)snapshot.get( "driver" ) );
+    _schemaIsCatalog = (boolean)snapshot.get( "isCatalog" );
+    _name = (String)snapshot.get( "name" );
+    for( Bindings entry : (List<Bindings>)snapshot.get( "javaNames" ) )
+    {
+      String name = (String)entry.get( "name" );
+      String javaName = (String)entry.get( "javaName" );
+      _javaToName.put( javaName, name );
+      _nameToJava.put( name, javaName );
+    }
+    for( Bindings table : (List<Bindings>)snapshot.get( "tables" ) )
+    {
+      JdbcSchemaTable schemaTable = new JdbcSchemaTable( this, table );
+      _tables.put( schemaTable.getName(), schemaTable );
+    }
+    resolveForeignKeys();
+  }
+
+  Bindings toSnapshot()
+  {
+    Bindings snapshot = new DataBindings();
+    snapshot.put( "driver", _driverInfo.name() );
+    snapshot.put( "isCatalog", _schemaIsCatalog );
+    snapshot.put( "name", _name );
+    List<Bindings> javaNames = new ArrayList<>();
+    _javaToName.forEach( ( javaName, name ) -> {
+      Bindings entry = new DataBindings();
+      entry.put( "name", name );
+      entry.put( "javaName", javaName );
+      javaNames.add( entry );
+    } );
+    snapshot.put( "javaNames", javaNames );
+    List<Bindings> tables = new ArrayList<>();
+    for( SchemaTable table : _tables.values() )
+    {
+      tables.add( ((JdbcSchemaTable)table).toSnapshot() );
+    }
+    snapshot.put( "tables", tables );
+    return snapshot;
+  }
+
+  /**
+   * @return The snapshot this schema is restored from or is recorded to, null if snapshots are not enabled
+   */
+  public SchemaSnapshot getSnapshot()
+  {
+    return _snapshot;
+  }
+  void setSnapshot( SchemaSnapshot snapshot )
+  {
+    _snapshot = snapshot;
+  }
+
+  /**
+   * @return A fingerprint of the schema's tables, columns, and keys, which changes along with the database's schema
+   */
+  public String getVersion()
+  {
+    if( _version == null )
+    {
+      // benign race, same result
+      _version = new Fingerprint( Json.toJson( toSnapshot() ) ).toHexString();
+    }
+    return _version;
+  }
+
   private void build( Connection c, DatabaseMetaData metaData ) throws SQLException
   {
     String catalog = _schemaIsCatalog ? _name : _dbConfig.getCatalogName();
@@ -124,6 +206,11 @@ public class JdbcSchema implements Schema
       LOGGER.warn( "JdbcSchema: build may not have completed.", e );
     }
 
+    resolveForeignKeys();
+  }
+
+  private void resolveForeignKeys()
+  {
     for( SchemaTable table : _tables.values() )
     {
       table.resolveForeignKeys();
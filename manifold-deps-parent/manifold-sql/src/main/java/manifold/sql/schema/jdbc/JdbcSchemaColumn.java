@@ -16,6 +16,8 @@
 
 package manifold.sql.schema.jdbc;
 
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.sql.rt.api.Dependencies;
 import manifold.sql.rt.api.TypeProvider;
 import manifold.sql.rt.util.DbUtil;
@@ -46,6 +48,7 @@ public class JdbcSchemaColumn implements SchemaColumn
   private String _columnType;
   private JdbcSchemaColumn _fk;
   private final int _size;
+  private final boolean _isFromSnapshot;
 
   public JdbcSchemaColumn( int colIndex, JdbcSchemaTable jdbcSchemaTable, ResultSet rs, List<String> primaryKey,
                            Map<String, Set<String>> uniqueKeys, String columnType, DatabaseMetaData dbMetadata ) throws SQLException
@@ -72,6 +75,54 @@ public class JdbcSchemaColumn implements SchemaColumn
     _jdbcType = getSchemaColumnType( rs, dbMetadata, typeProvider, columnType );
     _sqlType = rs.getString( "TYPE_NAME" );
     _columnType = columnType;
+    _isFromSnapshot = false;
+  }
+
+  /**
+   * Restores the column from {@link #toSnapshot()}, see {@link SchemaSnapshot}.
+   */
+  JdbcSchemaColumn( JdbcSchemaTable jdbcSchemaTable, Bindings snapshot )
+  {
+    _table = jdbcSchemaTable;
+    _position = (int)snapshot.get( "position" );
+    _name = (String)snapshot.get( "name" );
+    _escapedName = (String)snapshot.get( "escapedName" );
+    _isNullable = (boolean)snapshot.get( "nullable" );
+    _isAutoIncrement = (boolean)snapshot.get( "autoIncrement" );
+    _isGenerated = (boolean)snapshot.get( "generated" );
+    _isPrimaryKeyPart = (boolean)snapshot.get( "primaryKeyPart" );
+    _nonNullUniqueKeyName = (String)snapshot.get( "nonNullUniqueKeyName" );
+    _isNonNullUniqueId = (boolean)snapshot.get( "nonNullUniqueId" );
+    _defaultValue = (String)snapshot.get( "defaultValue" );
+    _size = (int)snapshot.get( "size" );
+    _decimalDigits = (int)snapshot.get( "decimalDigits" );
+    _numPrecRadix = (int)snapshot.get( "numPrecRadix" );
+    _jdbcType = (int)snapshot.get( "jdbcType" );
+    _sqlType = (String)snapshot.get( "sqlType" );
+    _columnType = (String)snapshot.get( "columnType" );
+    _isFromSnapshot = true;
+  }
+
+  Bindings toSnapshot()
+  {
+    Bindings snapshot = new DataBindings();
+    snapshot.put( "position", _position );
+    snapshot.put( "name", _name );
+    snapshot.put( "escapedName", _escapedName );
+    snapshot.put( "nullable", _isNullable );
+    snapshot.put( "autoIncrement", _isAutoIncrement );
+    snapshot.put( "generated", _isGenerated );
+    snapshot.put( "primaryKeyPart", _isPrimaryKeyPart );
+    snapshot.put( "nonNullUniqueKeyName", _nonNullUniqueKeyName );
+    snapshot.put( "nonNullUniqueId", _isNonNullUniqueId );
+    snapshot.put( "defaultValue", _defaultValue );
+    snapshot.put( "size", _size );
+    snapshot.put( "decimalDigits", _decimalDigits );
+    snapshot.put( "numPrecRadix", _numPrecRadix );
+    snapshot.put( "jdbcType", _jdbcType );
+    snapshot.put( "sqlType", _sqlType );
+    snapshot.put( "columnType", _columnType );
+    return snapshot;
   }
 
   private int getSchemaColumnType( ResultSet rs, DatabaseMetaData dbMetadata, TypeProvider typeProvider, String columnType ) throws SQLException
@@ -174,7 +225,7 @@ public class JdbcSchemaColumn implements SchemaColumn
   void setForeignKey( JdbcSchemaColumn fk )
   {
     _fk = fk;
-    if( _fk != null )
+    if( _fk != null && !_isFromSnapshot ) // a snapshot has the types already matched
     {
       // fk type must match pk type, otherwise
       // e.g., oracle, there can be Number/BigDecimal fk types trying to compare with Number(10)/java.lang.Integer pk types etc.
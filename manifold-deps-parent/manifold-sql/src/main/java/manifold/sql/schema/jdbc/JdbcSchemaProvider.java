@@ -27,6 +27,6 @@ public class JdbcSchemaProvider implements SchemaProvider
   @Override
   public Schema getSchema( DbConfig dbConfig ) throws SQLException
   {
-    return new JdbcSchema( dbConfig );
+    return SchemaSnapshot.getSchema( dbConfig );
   }
 }
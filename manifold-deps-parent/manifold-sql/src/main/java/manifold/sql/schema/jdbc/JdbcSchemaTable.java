@@ -16,6 +16,8 @@
 
 package manifold.sql.schema.jdbc;
 
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
 import manifold.rt.api.util.Pair;
 import manifold.sql.query.type.SqlIssueContainer;
 import manifold.sql.rt.util.DbUtil;
@@ -148,21 +150,7 @@ public class JdbcSchemaTable implements SchemaTable
         i++;
         String columnClassName = columnClassNames.get( colResults.getString( "COLUMN_NAME" ) );
         JdbcSchemaColumn col = new JdbcSchemaColumn( i, this, colResults, primaryKey, uniqueKeys, columnClassName, metaData );
-        _columns.put( col.getName(), col );
-        if( col.isNonNullUniqueId() )
-        {
-          if( id == null || id.isPrimaryKeyPart() )
-          {
-            // if there is a pk, ensure that is the id, otherwise first non-null unique key is the id
-            id = col;
-          }
-        }
-        if( col.isPrimaryKeyPart() )
-        {
-          _primaryKeys.add( col );
-        }
-
-        buildNonNullUniqueKeys( col );
+        id = addColumn( col, id );
       }
       _nonNullUniqueId = id;
     }
@@ -176,6 +164,92 @@ public class JdbcSchemaTable implements SchemaTable
     }
   }
 
+  /**
+   * Restores the table from {@link #toSnapshot()}, see {@link SchemaSnapshot}. Foreign keys are resolved afterward, same
+   * as a table built from the database.
+   */
+  @SuppressWarnings( "unchecked" )
+  JdbcSchemaTable( JdbcSchema owner, Bindings snapshot )
+  {
+    _schema = owner;
+    _name = (String)snapshot.get( "name" );
+    _escapedName = (String)snapshot.get( "escapedName" );
+    _description = (String)snapshot.get( "description" );
+    _kind = Kind.valueOf( (String)snapshot.get( "kind" ) );
+    _tableDdl = null;
+
+    List<JdbcForeignKeyMetadata.KeyPart> keyParts = new ArrayList<>();
+    for( Bindings part : (List<Bindings>)snapshot.get( "foreignKeys" ) )
+    {
+      keyParts.add( new JdbcForeignKeyMetadata.KeyPart( (String)part.get( "fkName" ), (String)part.get( "fromColumn" ),
+        (String)part.get( "toColumn" ), (String)part.get( "toTable" ) ) );
+    }
+    _foreignKeyData = new JdbcForeignKeyMetadata( this, keyParts );
+
+    _columns = new LinkedHashMap<>();
+    _primaryKeys = new ArrayList<>();
+    _foreignKeys = new LinkedHashMap<>();
+    _nonNullUniqueKeys = new LinkedHashMap<>();
+    _oneToMany = new LinkedHashSet<>();
+    _manyToMany = new LinkedHashSet<>();
+    JdbcSchemaColumn id = null;
+    for( Bindings column : (List<Bindings>)snapshot.get( "columns" ) )
+    {
+      id = addColumn( new JdbcSchemaColumn( this, column ), id );
+    }
+    _nonNullUniqueId = id;
+  }
+
+  Bindings toSnapshot()
+  {
+    Bindings snapshot = new DataBindings();
+    snapshot.put( "name", _name );
+    snapshot.put( "escapedName", _escapedName );
+    snapshot.put( "description", _description );
+    snapshot.put( "kind", _kind.name() );
+    List<Bindings> columns = new ArrayList<>();
+    for( SchemaColumn column : _columns.values() )
+    {
+      columns.add( ((JdbcSchemaColumn)column).toSnapshot() );
+    }
+    snapshot.put( "columns", columns );
+    List<Bindings> keyParts = new ArrayList<>();
+    for( JdbcForeignKeyMetadata.KeyPart keyPart : _foreignKeyData.getKeyParts() )
+    {
+      Bindings part = new DataBindings();
+      part.put( "fkName", keyPart.getFkName() );
+      part.put( "fromColumn", keyPart.getFromColName() );
+      part.put( "toColumn", keyPart.getToColName() );
+      part.put( "toTable", keyPart.getToTableName() );
+      keyParts.add( part );
+    }
+    snapshot.put( "foreignKeys", keyParts );
+    return snapshot;
+  }
+
+  /**
+   * @return The table's id column, {@code id} or {@code col} if it is a better fit
+   */
+  private JdbcSchemaColumn addColumn( JdbcSchemaColumn col, JdbcSchemaColumn id )
+  {
+    _columns.put( col.getName(), col );
+    if( col.isNonNullUniqueId() )
+    {
+      if( id == null || id.isPrimaryKeyPart() )
+      {
+        // if there is a pk, ensure that is the id, otherwise first non-null unique key is the id
+        id = col;
+      }
+    }
+    if( col.isPrimaryKeyPart() )
+    {
+      _primaryKeys.add( col );
+    }
+
+    buildNonNullUniqueKeys( col );
+    return id;
+  }
+
   @NotNull
   private Map<String, String> getColumnClassNames( DatabaseMetaData metaData ) throws SQLException
   {
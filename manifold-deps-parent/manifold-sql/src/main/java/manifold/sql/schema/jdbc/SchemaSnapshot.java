@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.schema.jdbc;
+
+import manifold.api.util.fingerprint.Fingerprint;
+import manifold.json.rt.Json;
+import manifold.json.rt.api.DataBindings;
+import manifold.rt.api.Bindings;
+import manifold.sql.rt.api.DbConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A snapshot of the metadata built from a dbconfig's database: the {@link JdbcSchema} along with the parameter and
+ * result set metadata of the queries and commands compiled against it. The snapshot is a JSON file next to the
+ * {@code .dbconfig} file, with the same name and a {@code .dbsnapshot} extension. Compiling against the snapshot needs
+ * no database and skips the metadata round trips per table, query, and command.
+ * <p/>
+ * Snapshots are off by default. With {@code -Dmanifold.sql.snapshot=true} the schema is restored from the snapshot if
+ * it exists and was made from the same dbconfig file, otherwise the schema is built from the database and the snapshot
+ * is written. Likewise, queries and commands missing from the snapshot are built from the database and added to it.
+ * With {@code -Dmanifold.sql.snapshot=refresh} everything is built from the database and the snapshot is rewritten.
+ * <p/>
+ * Queries and commands added to a snapshot are written together, when the snapshot is next read in the same process
+ * or when compilation finishes, see {@link SchemaSnapshotFlusher}, not once per statement.
+ * <p/>
+ * A snapshot does not track changes to the database, refresh it after changing the database's schema. Check the
+ * snapshot in along with the dbconfig so that builds elsewhere, such as CI, need no database.
+ */
+public class SchemaSnapshot
+{
+  private static final Logger LOGGER = LoggerFactory.getLogger( SchemaSnapshot.class );
+
+  public static final String SNAPSHOT_PROPERTY = "manifold.sql.snapshot";
+  public static final String EXT = "dbsnapshot";
+  private static final int VERSION = 1;
+
+  /** snapshots having statements not yet written, by file */
+  private static final Map<File, SchemaSnapshot> PENDING = new ConcurrentHashMap<>();
+
+  enum Mode
+  {
+    Off, Use, Refresh
+  }
+
+  private final File _file;
+  private final String _dbConfigFingerprint;
+  private final Bindings _schema;
+  private final Map<String, Bindings> _statements;
+  private boolean _dirty;
+
+  private SchemaSnapshot( File file, String dbConfigFingerprint, Bindings schema, Map<String, Bindings> statements )
+  {
+    _file = file;
+    _dbConfigFingerprint = dbConfigFingerprint;
+    _schema = schema;
+    _statements = statements;
+  }
+
+  static Mode getMode()
+  {
+    String value = System.getProperty( SNAPSHOT_PROPERTY );
+    if( value == null )
+    {
+      return Mode.Off;
+    }
+    switch( value.trim().toLowerCase() )
+    {
+      case "true":
+        return Mode.Use;
+      case "refresh":
+        return Mode.Refresh;
+      default:
+        return Mode.Off;
+    }
+  }
+
+  /**
+   * @return The schema for {@code dbConfig}, from its snapshot or from the database according to {@link #getMode()}
+   */
+  static JdbcSchema getSchema( DbConfig dbConfig ) throws SQLException
+  {
+    Mode mode = getMode();
+    if( mode == Mode.Off || dbConfig.getPath() == null )
+    {
+      return new JdbcSchema( dbConfig );
+    }
+
+    File file = getFile( dbConfig );
+    // statements added in this process, the snapshot is either read or replaced
+    flush( file );
+    String fingerprint = fingerprint( dbConfig );
+    if( mode == Mode.Use )
+    {
+      SchemaSnapshot snapshot = read( file, fingerprint );
+      if( snapshot != null )
+      {
+        try
+        {
+          JdbcSchema schema = new JdbcSchema( dbConfig, snapshot._schema );
+          schema.setSnapshot( snapshot );
+          LOGGER.info( "JdbcSchema restored from snapshot: " + file );
+          return schema;
+        }
+        catch( RuntimeException e )
+        {
+          LOGGER.warn( "Invalid schema snapshot, rebuilding: " + file, e );
+        }
+      }
+    }
+
+    JdbcSchema schema = new JdbcSchema( dbConfig );
+    SchemaSnapshot snapshot = new SchemaSnapshot( file, fingerprint, schema.toSnapshot(), new TreeMap<>() );
+    snapshot.write();
+    schema.setSnapshot( snapshot );
+    return schema;
+  }
+
+  static File getFile( DbConfig dbConfig )
+  {
+    File dbConfigFile = new File( dbConfig.getPath() );
+    String name = dbConfigFile.getName();
+    int dot = name.lastIndexOf( '.' );
+    return new File( dbConfigFile.getParentFile(), (dot < 0 ? name : name.substring( 0, dot )) + '.' + EXT );
+  }
+
+  /**
+   * The snapshot is made from the dbconfig's content, if that changes e.g., to a different url, the snapshot is stale.
+   */
+  private static String fingerprint( DbConfig dbConfig )
+  {
+    try( InputStream in = Files.newInputStream( new File( dbConfig.getPath() ).toPath() ) )
+    {
+      return new Fingerprint( in ).toHexString();
+    }
+    catch( IOException e )
+    {
+      return "";
+    }
+  }
+
+  /**
+   * @return The metadata recorded for the query or command, null if the snapshot does not have it
+   */
+  public synchronized Bindings getStatement( String name, String source )
+  {
+    return _statements.get( makeKey( name, source ) );
+  }
+
+  /**
+   * Records the metadata of a query or command built from the database. The snapshot file is written later, see
+   * {@link #flushAll()}.
+   */
+  public synchronized void putStatement( String name, String source, Bindings metadata )
+  {
+    String key = makeKey( name, source );
+    if( !metadata.equals( _statements.put( key, metadata ) ) && !_dirty )
+    {
+      _dirty = true;
+      PENDING.put( _file.getAbsoluteFile(), this );
+    }
+  }
+
+  /**
+   * Writes the statements added to snapshots in this process. Runs when compilation finishes.
+   */
+  static void flushAll()
+  {
+    for( File file : new ArrayList<>( PENDING.keySet() ) )
+    {
+      flush( file );
+    }
+  }
+
+  private static void flush( File file )
+  {
+    SchemaSnapshot snapshot = PENDING.remove( file.getAbsoluteFile() );
+    if( snapshot != null )
+    {
+      snapshot.write();
+    }
+  }
+
+  private static String makeKey( String name, String source )
+  {
+    return name + '\0' + source;
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private static SchemaSnapshot read( File file, String dbConfigFingerprint )
+  {
+    if( !file.isFile() )
+    {
+      return null;
+    }
+
+    try
+    {
+      Bindings bindings = (Bindings)Json.fromJson( new String( Files.readAllBytes( file.toPath() ), UTF_8 ) );
+      if( !Integer.valueOf( VERSION ).equals( bindings.get( "version" ) ) )
+      {
+        LOGGER.info( "Schema snapshot from a different version, rebuilding: " + file );
+        return null;
+      }
+      if( !dbConfigFingerprint.equals( bindings.get( "dbconfig" ) ) )
+      {
+        LOGGER.info( "Schema snapshot made from a different dbconfig, rebuilding: " + file );
+        return null;
+      }
+      Map<String, Bindings> statements = new TreeMap<>();
+      for( Bindings statement : (List<Bindings>)bindings.get( "statements" ) )
+      {
+        statements.put( makeKey( (String)statement.get( "name" ), (String)statement.get( "source" ) ),
+          (Bindings)statement.get( "metadata" ) );
+      }
+      return new SchemaSnapshot( file, dbConfigFingerprint, (Bindings)bindings.get( "schema" ), statements );
+    }
+    catch( IOException | RuntimeException e )
+    {
+      LOGGER.warn( "Invalid schema snapshot, rebuilding: " + file, e );
+      return null;
+    }
+  }
+
+  private synchronized void write()
+  {
+    _dirty = false;
+    Bindings bindings = new DataBindings();
+    bindings.put( "version", VERSION );
+    bindings.put( "dbconfig", _dbConfigFingerprint );
+    bindings.put( "schema", _schema );
+    List<Bindings> statements = new ArrayList<>();
+    _statements.forEach( ( key, metadata ) -> {
+      int sep = key.indexOf( '\0' );
+      Bindings statement = new DataBindings();
+      statement.put( "name", key.substring( 0, sep ) );
+      statement.put( "source", key.substring( sep + 1 ) );
+      statement.put( "metadata", metadata );
+      statements.add( statement );
+    } );
+    bindings.put( "statements", statements );
+
+    File tmp = null;
+    try
+    {
+      tmp = File.createTempFile( _file.getName(), ".tmp", _file.getAbsoluteFile().getParentFile() );
+      Files.write( tmp.toPath(), Json.toJson( bindings ).getBytes( UTF_8 ) );
+      try
+      {
+        Files.move( tmp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+      }
+      catch( AtomicMoveNotSupportedException e )
+      {
+        Files.move( tmp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+      }
+    }
+    catch( IOException e )
+    {
+      LOGGER.warn( "Failed to write schema snapshot: " + _file, e );
+      if( tmp != null )
+      {
+        //noinspection ResultOfMethodCallIgnored
+        tmp.delete();
+      }
+    }
+  }
+}
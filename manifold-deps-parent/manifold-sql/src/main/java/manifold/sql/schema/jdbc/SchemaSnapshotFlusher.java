@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.sql.schema.jdbc;
+
+import manifold.internal.javac.IFinishedCompilingListener;
+
+/**
+ * Writes the queries and commands added to {@link SchemaSnapshot}s during compilation.
+ */
+public class SchemaSnapshotFlusher implements IFinishedCompilingListener
+{
+  @Override
+  public void closing()
+  {
+    SchemaSnapshot.flushAll();
+  }
+}
@@ -57,6 +57,12 @@ public class TemplateManifold extends JavaTypeManifold<TemplateModel>
     return true;
   }
 
+  @Override
+  public boolean isModelPrewarmable()
+  {
+    return true;
+  }
+
   @Override
   public boolean handlesFileExtension( String fileExtension )
   {
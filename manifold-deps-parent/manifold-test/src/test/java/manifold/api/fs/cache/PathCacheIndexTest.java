@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.fs.cache;
+
+import junit.framework.TestCase;
+import manifold.api.fs.IDirectory;
+import manifold.api.fs.IFile;
+import manifold.api.fs.jar.JarFileDirectoryImpl;
+import manifold.rt.api.util.StreamUtil;
+import manifold.util.ReflectUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class PathCacheIndexTest extends TestCase
+{
+  private File _dir;
+
+  @Override
+  protected void setUp() throws Exception
+  {
+    _dir = Files.createTempDirectory( "pathcache" ).toFile();
+  }
+
+  @Override
+  protected void tearDown()
+  {
+    for( File file : _dir.listFiles() )
+    {
+      //noinspection ResultOfMethodCallIgnored
+      file.delete();
+    }
+    //noinspection ResultOfMethodCallIgnored
+    _dir.delete();
+  }
+
+  public void testIndexedRootIsReloaded() throws IOException
+  {
+    File jar = makeJar( "a.jar", "abc/Foo.json", "abc/def/Bar.json" );
+    File indexFile = new File( _dir, "pathcache.idx" );
+
+    PathCacheIndex index = PathCacheIndex.load( indexFile );
+    IDirectory root = new JarFileDirectoryImpl( null, jar );
+    assertNull( index.find( root ) );
+    index.put( root, true, Arrays.asList( "abc/Foo.json", "abc/def/Bar.json" ) );
+    index.save();
+    assertTrue( indexFile.isFile() );
+
+    PathCacheIndex reloaded = PathCacheIndex.load( indexFile );
+    PathCacheIndex.Root entry = reloaded.find( new JarFileDirectoryImpl( null, jar ) );
+    assertNotNull( entry );
+    assertTrue( entry.hasSources );
+    assertEquals( Arrays.asList( "abc/Foo.json", "abc/def/Bar.json" ), entry.files );
+
+    // indexed paths resolve without opening the jar
+    JarFileDirectoryImpl indexedRoot = new JarFileDirectoryImpl( null, jar );
+    IFile file = indexedRoot.indexedFile( entry.files.get( 1 ) );
+    assertTrue( file.exists() );
+    assertEquals( "Bar.json", file.getName() );
+    assertEquals( "json", file.getExtension() );
+    assertNull( ReflectUtil.field( indexedRoot, "_jarFile" ).get() );
+
+    // reading opens the jar, processing its entries resolves the indexed file's entry
+    try( InputStream in = file.openInputStream() )
+    {
+      assertEquals( "abc/def/Bar.json", StreamUtil.getContent( new InputStreamReader( in, UTF_8 ) ) );
+    }
+    assertSame( file, indexedRoot.file( "abc/def/Bar.json" ) );
+    assertEquals( 1, indexedRoot.dir( "abc" ).listFiles().size() );
+  }
+
+  public void testChangedRootIsRescanned() throws IOException
+  {
+    File jar = makeJar( "a.jar", "abc/Foo.json" );
+    File indexFile = new File( _dir, "pathcache.idx" );
+
+    PathCacheIndex index = PathCacheIndex.load( indexFile );
+    index.put( new JarFileDirectoryImpl( null, jar ), false, Collections.emptyList() );
+    index.save();
+
+    makeJar( "a.jar", "abc/Foo.json", "abc/Baz.json" );
+    //noinspection ResultOfMethodCallIgnored
+    jar.setLastModified( jar.lastModified() + 2000 );
+    assertNull( PathCacheIndex.load( indexFile ).find( new JarFileDirectoryImpl( null, jar ) ) );
+  }
+
+  public void testDeletedRootIsPruned() throws IOException
+  {
+    File a = makeJar( "a.jar", "abc/Foo.json" );
+    File b = makeJar( "b.jar", "abc/Bar.json" );
+    File indexFile = new File( _dir, "pathcache.idx" );
+
+    PathCacheIndex index = PathCacheIndex.load( indexFile );
+    index.put( new JarFileDirectoryImpl( null, a ), false, Collections.emptyList() );
+    index.put( new JarFileDirectoryImpl( null, b ), false, Collections.emptyList() );
+    index.save();
+    long size = indexFile.length();
+
+    //noinspection ResultOfMethodCallIgnored
+    b.delete();
+    PathCacheIndex next = PathCacheIndex.load( indexFile );
+    next.put( new JarFileDirectoryImpl( null, a ), false, Collections.emptyList() );
+    next.save();
+    assertTrue( indexFile.length() < size );
+    assertNotNull( PathCacheIndex.load( indexFile ).find( new JarFileDirectoryImpl( null, a ) ) );
+  }
+
+  public void testUnreadableIndexIsIgnored() throws IOException
+  {
+    File indexFile = new File( _dir, "pathcache.idx" );
+    Files.write( indexFile.toPath(), new byte[]{0, 0, 0, 1, 0, 0, 0, 5} );
+    File jar = makeJar( "a.jar", "abc/Foo.json" );
+    assertNull( PathCacheIndex.load( indexFile ).find( new JarFileDirectoryImpl( null, jar ) ) );
+  }
+
+  private File makeJar( String name, String... entries ) throws IOException
+  {
+    File jar = new File( _dir, name );
+    try( JarOutputStream out = new JarOutputStream( new FileOutputStream( jar ) ) )
+    {
+      for( String entry : entries )
+      {
+        out.putNextEntry( new ZipEntry( entry ) );
+        out.write( entry.getBytes() );
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
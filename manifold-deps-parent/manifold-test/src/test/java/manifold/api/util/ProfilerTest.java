@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.api.util;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class ProfilerTest extends TestCase
+{
+  public void testTraceEvents() throws IOException
+  {
+    Profiler profiler = new Profiler( new File( "unused.json" ) );
+    long start = System.nanoTime();
+    profiler.record( "contribute", "abc.MyManifold", "abc.Foo", start, start + 2_000_000, true );
+    profiler.record( "model", "abc.MyManifold", "abc.Foo", start, start + 1_000_000, true );
+    profiler.record( "isType", "abc.MyManifold", null, start, start + 3_000, false );
+    profiler.record( "isType", "abc.MyManifold", null, start, start + 5_000, false );
+
+    String json = write( profiler );
+    assertTrue( json, json.startsWith( "{\"displayTimeUnit\":\"ms\",\"traceEvents\":[" ) );
+    assertTrue( json, json.contains( "\"ph\":\"X\"" ) );
+    assertTrue( json, json.contains( "\"dur\":2000,\"cat\":\"contribute\",\"name\":\"abc.MyManifold\",\"args\":{\"file\":\"abc.Foo\"}" ) );
+    // counted calls are totaled, not traced
+    assertFalse( json, json.contains( "\"cat\":\"isType\",\"name\":\"abc.MyManifold\",\"args\"" ) );
+    assertTrue( json, json.contains( "{\"cat\":\"isType\",\"name\":\"abc.MyManifold\",\"count\":2,\"ms\":0.008}" ) );
+    assertTrue( json, json.contains( "{\"file\":\"abc.Foo\",\"ms\":3.000,\"cat\":{\"contribute\":2.000,\"model\":1.000}}" ) );
+  }
+
+  public void testTotalsSlowestFirst() throws IOException
+  {
+    Profiler profiler = new Profiler( new File( "unused.json" ) );
+    long start = System.nanoTime();
+    profiler.record( "model", "Fast", "a", start, start + 1_000, true );
+    profiler.record( "model", "Slow", "b", start, start + 9_000, true );
+
+    String json = write( profiler );
+    assertTrue( json, json.indexOf( "\"name\":\"Slow\",\"count\"" ) < json.indexOf( "\"name\":\"Fast\",\"count\"" ) );
+    String files = json.substring( json.indexOf( "\"files\":[" ) );
+    assertTrue( json, files.indexOf( "{\"file\":\"b\"" ) < files.indexOf( "{\"file\":\"a\"" ) );
+  }
+
+  public void testWrittenOnlyIfRecorded() throws IOException
+  {
+    File file = File.createTempFile( "trace", ".json" );
+    try
+    {
+      Profiler profiler = new Profiler( file );
+      long start = System.nanoTime();
+      profiler.record( "model", "First", "a", start, start + 1_000, true );
+      assertEquals( file, profiler.writeIfRecorded() );
+      assertTrue( new String( Files.readAllBytes( file.toPath() ), UTF_8 ).contains( "\"name\":\"First\"" ) );
+      // nothing recorded since
+      assertNull( profiler.writeIfRecorded() );
+
+      profiler.record( "model", "Second", "b", start, start + 1_000, true );
+      assertEquals( file, profiler.writeIfRecorded() );
+      String json = new String( Files.readAllBytes( file.toPath() ), UTF_8 );
+      assertTrue( json, json.contains( "\"name\":\"First\"" ) && json.contains( "\"name\":\"Second\"" ) );
+    }
+    finally
+    {
+      //noinspection ResultOfMethodCallIgnored
+      file.delete();
+    }
+  }
+
+  public void testQuote()
+  {
+    assertEquals( "\"a\\\"b\\\\c\\nd\\u0001\"", Profiler.quote( "a\"b\\c\nd\u0001" ) );
+  }
+
+  private static String write( Profiler profiler ) throws IOException
+  {
+    StringWriter out = new StringWriter();
+    profiler.write( out );
+    return out.toString();
+  }
+}
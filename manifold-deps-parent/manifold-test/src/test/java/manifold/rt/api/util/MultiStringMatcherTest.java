@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.rt.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.TestCase;
+
+public class MultiStringMatcherTest extends TestCase
+{
+  /** search strings that never match the texts below, enough to route ManStringUtil through the matcher */
+  private static final String[] PADDING = {
+    "#0", "#1", "#2", "#3", "#4", "#5", "#6", "#7", "#8", "#9", "#A", "#B", "#C", "#D", "#E", "#F"};
+
+  public void testReplaceEach()
+  {
+    assertReplaceEach( "aba", new String[]{"a"}, new String[]{""}, "b" );
+    assertReplaceEach( "aba", new String[]{null}, new String[]{"a"}, "aba" );
+    assertReplaceEach( "aba", new String[]{"a", "b"}, new String[]{null, "c"}, "aca" );
+    assertReplaceEach( "abcde", new String[]{"ab", "d"}, new String[]{"w", "t"}, "wcte" );
+    assertReplaceEach( "abcde", new String[]{"ab", "d"}, new String[]{"d", "t"}, "dcte" );
+    assertReplaceEach( "abcde", new String[]{"ab", "abc"}, new String[]{"1", "2"}, "1cde" );
+    assertReplaceEach( "abcde", new String[]{"abc", "ab"}, new String[]{"1", "2"}, "1de" );
+    assertReplaceEach( "abcde", new String[]{"bcde", "abcdx", "cd"}, new String[]{"1", "2", "3"}, "a1" );
+    assertReplaceEach( "she sells", new String[]{"he", "she", "ell", "hers"}, new String[]{"1", "2", "3", "4"}, "2 s3s" );
+    assertReplaceEach( "aaaa", new String[]{"aa", "a"}, new String[]{"b", "c"}, "bb" );
+  }
+
+  public void testReplaceEachRepeatedly()
+  {
+    String[] search = {"ab", "d"};
+    assertEquals( "tcte", ManStringUtil.replaceEachRepeatedly( "abcde", pad( search ), pad( new String[]{"d", "t"} ) ) );
+    assertEquals( "tcte", ManStringUtil.compileReplacer( search, new String[]{"d", "t"} ).replaceEachRepeatedly( "abcde" ) );
+    try
+    {
+      ManStringUtil.replaceEachRepeatedly( "abcde", pad( search ), pad( new String[]{"d", "ab"} ) );
+      fail();
+    }
+    catch( IllegalStateException expected )
+    {
+    }
+    try
+    {
+      ManStringUtil.compileReplacer( search, new String[]{"d", "ab"} ).replaceEachRepeatedly( "abcde" );
+      fail();
+    }
+    catch( IllegalStateException expected )
+    {
+    }
+  }
+
+  public void testIndexOfAny()
+  {
+    assertIndexOfAny( "zzabyycdxx", new String[]{"ab", "cd"}, 2 );
+    assertIndexOfAny( "zzabyycdxx", new String[]{"cd", "ab"}, 2 );
+    assertIndexOfAny( "zzabyycdxx", new String[]{"mn", "op"}, -1 );
+    assertIndexOfAny( "zzabyycdxx", new String[]{"zab", "aby"}, 1 );
+    assertIndexOfAny( "zzabyycdxx", new String[]{"abyyx", "b"}, 3 );
+    assertIndexOfAny( "zzabyycdxx", new String[]{null, ""}, 0 );
+    assertIndexOfAny( "", new String[]{""}, 0 );
+    assertIndexOfAny( "", new String[]{"a"}, -1 );
+    assertEquals( -1, ManStringUtil.compileMatcher( new String[]{"a"} ).indexOfAny( null ) );
+
+    assertTrue( ManStringUtil.containsAny( "zzabyycdxx", pad( new String[]{"mn", "cd"} ) ) );
+    assertFalse( ManStringUtil.containsAny( "zzabyycdxx", pad( new String[]{"mn", "op"} ) ) );
+    assertTrue( ManStringUtil.containsAny( "", pad( new String[]{""} ) ) );
+    assertTrue( ManStringUtil.containsAny( "zzabyycdxx", new String[]{"mn", "cd"} ) );
+    assertFalse( ManStringUtil.containsAny( null, new String[]{"mn", "cd"} ) );
+  }
+
+  public void testSameAsPerStringSearch()
+  {
+    // below the threshold ManStringUtil searches once per search string, the matcher must agree with it
+    Random random = new Random( 7 );
+    for( int n = 0; n < 2000; n++ )
+    {
+      String text = randomString( random, random.nextInt( 30 ) );
+      String[] search = new String[1 + random.nextInt( 15 )];
+      String[] replace = new String[search.length];
+      for( int i = 0; i < search.length; i++ )
+      {
+        search[i] = randomString( random, 1 + random.nextInt( 4 ) );
+        replace[i] = randomString( random, random.nextInt( 3 ) ).toUpperCase();
+      }
+      String message = text + " " + Arrays.toString( search );
+      assertEquals( message, ManStringUtil.replaceEach( text, search, replace ),
+        ManStringUtil.compileReplacer( search, replace ).replaceEach( text ) );
+      assertEquals( message, ManStringUtil.indexOfAny( text, search ),
+        ManStringUtil.compileMatcher( search ).indexOfAny( text ) );
+      assertEquals( message, ManStringUtil.containsAny( text, search ),
+        ManStringUtil.compileMatcher( search ).containsAny( text ) );
+    }
+  }
+
+  public void testCachedMatchersConcurrently() throws Exception
+  {
+    // more distinct lists than the cache holds, searched from several threads at once
+    ExecutorService executor = Executors.newFixedThreadPool( 8 );
+    try
+    {
+      List<Future<?>> futures = new ArrayList<>();
+      for( int t = 0; t < 8; t++ )
+      {
+        int thread = t;
+        futures.add( executor.submit( () -> {
+          for( int n = 0; n < 500; n++ )
+          {
+            int list = (thread * 31 + n) % 100;
+            String[] search = pad( new String[]{"x" + list} );
+            String[] replace = pad( new String[]{"y" + list} );
+            assertEquals( "ay" + list + "b", ManStringUtil.replaceEach( "ax" + list + "b", search, replace ) );
+            assertEquals( 1, ManStringUtil.indexOfAny( "ax" + list + "b", search ) );
+          }
+        } ) );
+      }
+      for( Future<?> future : futures )
+      {
+        future.get();
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    // the cache copies the lists, changing them after a search does not change the next search
+    String[] search = pad( new String[]{"a"} );
+    String[] replace = pad( new String[]{"b"} );
+    assertEquals( "b", ManStringUtil.replaceEach( "a", search, replace ) );
+    replace[0] = "c";
+    assertEquals( "c", ManStringUtil.replaceEach( "a", search, replace ) );
+  }
+
+  public void testMismatchedLengths()
+  {
+    try
+    {
+      ManStringUtil.compileReplacer( new String[]{"a", "b"}, new String[]{"c"} );
+      fail();
+    }
+    catch( IllegalArgumentException expected )
+    {
+    }
+    try
+    {
+      ManStringUtil.compileMatcher( new String[]{"a"} ).replaceEach( "a" );
+      fail();
+    }
+    catch( IllegalStateException expected )
+    {
+    }
+  }
+
+  private static void assertReplaceEach( String text, String[] search, String[] replace, String expected )
+  {
+    assertEquals( expected, ManStringUtil.replaceEach( text, search, replace ) );
+    assertEquals( expected, ManStringUtil.replaceEach( text, pad( search ), pad( replace ) ) );
+    assertEquals( expected, ManStringUtil.compileReplacer( search, replace ).replaceEach( text ) );
+  }
+
+  private static void assertIndexOfAny( String text, String[] search, int expected )
+  {
+    assertEquals( expected, ManStringUtil.indexOfAny( text, search ) );
+    assertEquals( expected, ManStringUtil.indexOfAny( text, pad( search ) ) );
+    assertEquals( expected, ManStringUtil.compileMatcher( search ).indexOfAny( text ) );
+  }
+
+  private static String[] pad( String[] strings )
+  {
+    String[] padded = Arrays.copyOf( strings, strings.length + PADDING.length );
+    System.arraycopy( PADDING, 0, padded, strings.length, PADDING.length );
+    return padded;
+  }
+
+  private static String randomString( Random random, int length )
+  {
+    StringBuilder sb = new StringBuilder();
+    for( int i = 0; i < length; i++ )
+    {
+      sb.append( (char)('a' + random.nextInt( 3 )) );
+    }
+    return sb.toString();
+  }
+}
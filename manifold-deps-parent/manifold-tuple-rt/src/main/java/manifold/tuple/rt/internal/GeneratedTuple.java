@@ -43,7 +43,7 @@ public abstract class GeneratedTuple implements Tuple, Serializable
       .map( f -> {
         try
         {
-          return ReflectUtil.field( this, f ).get();
+          return ReflectUtil.field( this, f ).getFast();
         }
         catch( Exception e )
         {
@@ -0,0 +1,152 @@
+package manifold.util.bench;
+
+import manifold.util.ReflectUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the core reflection paths of {@link ReflectUtil}'s member refs with their cached MethodHandle variants.
+ *
+ * Design:
+ *   reflect*  — MethodRef.invoke, LiveFieldRef.get/set, ConstructorRef.newInstance (core reflection)
+ *   fast*     — the *Fast variants, a cached spreader MethodHandle
+ *   arity*    — the arity-specialized invokeN, a cached MethodHandle with no argument array
+ *   handle*   — asHandle() held in a static final, the ceiling for a caller that keeps the handle
+ *   lookup*   — ref lookup plus call on every invocation, as ReflectionRuntimeMethods does
+ *   mega*     — one call site cycling through four methods, as in a shared runtime helper
+ *
+ * Build:  mvn -pl :manifold-util-bench package   (from the root)
+ * Run:    java -jar manifold-util-bench/target/benchmarks.jar ReflectUtilBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReflectUtilBenchmark
+{
+  private static final MethodHandle PLUS = ReflectUtil.method( Target.class, "plus", int.class ).asHandle();
+
+  private Target _target;
+  private ReflectUtil.MethodRef _plus;
+  private ReflectUtil.LiveFieldRef _value;
+  private ReflectUtil.ConstructorRef _ctor;
+  private ReflectUtil.MethodRef[] _ops;
+  private int _index;
+  private Integer _arg;
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    _target = new Target();
+    _plus = ReflectUtil.method( Target.class, "plus", int.class );
+    _value = ReflectUtil.field( _target, "_value" );
+    _ctor = ReflectUtil.constructor( Target.class, int.class );
+    _ops = new ReflectUtil.MethodRef[] {
+      _plus,
+      ReflectUtil.method( Target.class, "minus", int.class ),
+      ReflectUtil.method( Target.class, "times", int.class ),
+      ReflectUtil.method( Target.class, "max", int.class )};
+    _arg = 42;
+  }
+
+  @Benchmark
+  public Object reflectInvoke()
+  {
+    return _plus.invoke( _target, _arg );
+  }
+
+  @Benchmark
+  public Object fastInvoke()
+  {
+    return _plus.invokeFast( _target, _arg );
+  }
+
+  @Benchmark
+  public Object arityInvoke()
+  {
+    return _plus.invoke1( _target, _arg );
+  }
+
+  @Benchmark
+  public int handleInvoke() throws Throwable
+  {
+    return (int)PLUS.invokeExact( _target, (int)_arg );
+  }
+
+  @Benchmark
+  public Object lookupReflectInvoke()
+  {
+    return ReflectUtil.method( _target, "plus", int.class ).invoke( _arg );
+  }
+
+  @Benchmark
+  public Object lookupFastInvoke()
+  {
+    return ReflectUtil.method( _target, "plus", int.class ).invokeFast( _arg );
+  }
+
+  private ReflectUtil.MethodRef nextOp()
+  {
+    ReflectUtil.MethodRef op = _ops[_index];
+    _index = (_index + 1) & 3;
+    return op;
+  }
+
+  @Benchmark
+  public Object megaReflectInvoke()
+  {
+    return nextOp().invoke( _target, _arg );
+  }
+
+  @Benchmark
+  public Object megaFastInvoke()
+  {
+    return nextOp().invokeFast( _target, _arg );
+  }
+
+  @Benchmark
+  public Object megaArityInvoke()
+  {
+    return nextOp().invoke1( _target, _arg );
+  }
+
+  @Benchmark
+  public Object reflectGet()
+  {
+    return _value.get();
+  }
+
+  @Benchmark
+  public Object fastGet()
+  {
+    return _value.getFast();
+  }
+
+  @Benchmark
+  public void reflectSet()
+  {
+    _value.set( _arg );
+  }
+
+  @Benchmark
+  public void fastSet()
+  {
+    _value.setFast( _arg );
+  }
+
+  @Benchmark
+  public Object reflectNewInstance()
+  {
+    return _ctor.newInstance( _arg );
+  }
+
+  @Benchmark
+  public Object fastNewInstance()
+  {
+    return _ctor.newInstanceFast( _arg );
+  }
+}
@@ -0,0 +1,39 @@
+package manifold.util.bench;
+
+/**
+ * Private members, as reached by ReflectUtil.
+ */
+public class Target
+{
+  private int _value;
+
+  public Target()
+  {
+    this( 1 );
+  }
+
+  private Target( int value )
+  {
+    _value = value;
+  }
+
+  private int plus( int i )
+  {
+    return _value + i;
+  }
+
+  private int minus( int i )
+  {
+    return _value - i;
+  }
+
+  private int times( int i )
+  {
+    return _value * i;
+  }
+
+  private int max( int i )
+  {
+    return Math.max( _value, i );
+  }
+}
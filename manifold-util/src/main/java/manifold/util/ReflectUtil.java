@@ -58,11 +58,13 @@ import static manifold.util.JdkAccessUtil.getUnhelmeted;
 @SuppressWarnings("rawtypes")
 public class ReflectUtil
 {
-  private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, ConcurrentHashSet<Method>>> _methodsByName = new ConcurrentWeakHashMap<>();
-  private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, Field>> _fieldsByName = new ConcurrentWeakHashMap<>();
-  private static final ConcurrentWeakHashMap<Class, Set<Constructor>> _constructorsByClass = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, ConcurrentHashSet<MethodRef>>> _methodsByName = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Class, ConcurrentMap<String, FieldRef>> _fieldsByName = new ConcurrentWeakHashMap<>();
+  private static final ConcurrentWeakHashMap<Class, Set<ConstructorRef>> _constructorsByClass = new ConcurrentWeakHashMap<>();
   private static final ConcurrentWeakHashMap<Method, ConcurrentMap<Class, Method>> _structuralCall = new ConcurrentWeakHashMap<>();
   private static final ConcurrentHashMap<Method, MethodHandle> _defaultMethodHandles = new ConcurrentHashMap<>();
+  private static final ConcurrentWeakHashMap<Member, MemberHandles> _memberHandles = new ConcurrentWeakHashMap<>();
+  private static final Object[] NO_ARGS = {};
   private static final LocklessLazyVar<ClassContextSecurityManager> _sm = LocklessLazyVar.make( () -> new ClassContextSecurityManager() );
   private static final String LAMBDA_METHOD = "lambda method";
   private static final Object UNHANDLED = new Object() {};
@@ -346,7 +348,7 @@ public class ReflectUtil
         mr = _method( superclass, name, params );
         if( mr != null )
         {
-          addMethodToCache( cls, mr._method );
+          addRawMethodToCache( cls, mr, mr._method.getName() );
           return mr;
         }
       }
@@ -356,7 +358,7 @@ public class ReflectUtil
         mr = _method( iface, name, params );
         if( mr != null )
         {
-          addMethodToCache( cls, mr._method );
+          addRawMethodToCache( cls, mr, mr._method.getName() );
           return mr;
         }
       }
@@ -481,7 +483,7 @@ public class ReflectUtil
       mr = methodFromName( superclass, name );
       if( mr != null )
       {
-        addMethodToCache( cls, mr._method );
+        addRawMethodToCache( cls, mr, mr._method.getName() );
         return mr;
       }
     }
@@ -491,7 +493,7 @@ public class ReflectUtil
       mr = methodFromName( iface, name );
       if( mr != null )
       {
-        addMethodToCache( cls, mr._method );
+        addRawMethodToCache( cls, mr, mr._method.getName() );
         return mr;
       }
     }
@@ -716,7 +718,7 @@ public class ReflectUtil
         fr = _field( superclass, name );
         if( fr != null )
         {
-          addFieldToCache( cls, fr._field );
+          addRawFieldToCache( cls, fr );
           return fr;
         }
       }
@@ -726,7 +728,7 @@ public class ReflectUtil
         fr = _field( iface, name );
         if( fr != null )
         {
-          addFieldToCache( cls, fr._field );
+          addRawFieldToCache( cls, fr );
           return fr;
         }
       }
@@ -908,7 +910,7 @@ public class ReflectUtil
         mr = constructor( iface, params );
         if( mr != null )
         {
-          addConstructorToCache( cls, mr._constructor );
+          addRawConstructorToCache( cls, mr );
           return mr;
         }
       }
@@ -977,12 +979,35 @@ public class ReflectUtil
   public static class MethodRef
   {
     private final Method _method;
+    private MemberHandles _handles; // racy single-check, MemberHandles is immutable
 
     private MethodRef( Method m )
     {
       _method = m;
     }
 
+    @Override
+    public boolean equals( Object o )
+    {
+      return o instanceof MethodRef && _method.equals( ((MethodRef)o)._method );
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _method.hashCode();
+    }
+
+    private MemberHandles handles()
+    {
+      MemberHandles handles = _handles;
+      if( handles == null )
+      {
+        _handles = handles = MemberHandles.of( _method );
+      }
+      return handles;
+    }
+
     public Method getMethod()
     {
       return _method;
@@ -1020,19 +1045,129 @@ public class ReflectUtil
       }
     }
 
+    /**
+     * @return A cached {@link MethodHandle} for this method, fixed arity, as unreflected
+     */
+    public MethodHandle asHandle()
+    {
+      return handles().direct;
+    }
+
+    /**
+     * Same as {@link #invoke(Object, Object...)}, but calls through a cached {@link MethodHandle}, which avoids the
+     * per-call access checks and argument array copies of core reflection.
+     * <p/>
+     * Warning: MethodHandle.invoke/invokeExact do not work in Android APIs before version 8 (API level 26).
+     */
+    public Object invokeFast( Object receiver, Object... args )
+    {
+      try
+      {
+        return (Object)handles().spreader.invokeExact( receiver, MemberHandles.nonNull( args ) );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    /**
+     * Same as {@link #invokeStatic(Object...)}, but calls through a cached {@link MethodHandle}.
+     */
+    public Object invokeStaticFast( Object... args )
+    {
+      return invokeFast( null, args );
+    }
+
+    // Arity-specialized calls avoid the argument array altogether. The receiver is ignored if the method is static.
+
+    public Object invoke0( Object receiver )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( receiver );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke1( Object receiver, Object arg )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( receiver, arg );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke2( Object receiver, Object arg1, Object arg2 )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( receiver, arg1, arg2 );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke3( Object receiver, Object arg1, Object arg2, Object arg3 )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( receiver, arg1, arg2, arg3 );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invokeStatic0()
+    {
+      return invoke0( null );
+    }
+
+    public Object invokeStatic1( Object arg )
+    {
+      return invoke1( null, arg );
+    }
+
+    public Object invokeStatic2( Object arg1, Object arg2 )
+    {
+      return invoke2( null, arg1, arg2 );
+    }
+
+    public Object invokeStatic3( Object arg1, Object arg2, Object arg3 )
+    {
+      return invoke3( null, arg1, arg2, arg3 );
+    }
   }
 
   public static class LiveMethodRef
   {
+    private final MethodRef _ref;
     private final Method _method;
     private final Object _receiver;
 
-    private LiveMethodRef( Method m, Object receiver )
+    private LiveMethodRef( MethodRef ref, Object receiver )
     {
-      _method = m;
+      _ref = ref;
+      _method = ref._method;
       _receiver = receiver;
     }
 
+    private MemberHandles handles()
+    {
+      return _ref.handles();
+    }
+
     public Method getMethod()
     {
       return _method;
@@ -1059,6 +1194,79 @@ public class ReflectUtil
       }
     }
 
+    /**
+     * @return A cached {@link MethodHandle} for this method, not bound to the receiver
+     */
+    public MethodHandle asHandle()
+    {
+      return handles().direct;
+    }
+
+    /**
+     * Same as {@link #invoke(Object...)}, but calls through a cached {@link MethodHandle}.
+     * <p/>
+     * Warning: MethodHandle.invoke/invokeExact do not work in Android APIs before version 8 (API level 26).
+     */
+    public Object invokeFast( Object... args )
+    {
+      try
+      {
+        return (Object)handles().spreader.invokeExact( _receiver, MemberHandles.nonNull( args ) );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke0()
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( _receiver );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke1( Object arg )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( _receiver, arg );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke2( Object arg1, Object arg2 )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( _receiver, arg1, arg2 );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object invoke3( Object arg1, Object arg2, Object arg3 )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( _receiver, arg1, arg2, arg3 );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
     /**
      * Warning: using reflect to access MethodHandle because MethodHandle.invoke/invokeExact do not work in Android APIs
      * before version 8 (API level 26). If you call this method from Android with an older API, it's gonna splode.
@@ -1094,12 +1302,23 @@ public class ReflectUtil
   public static class FieldRef
   {
     private final Field _field;
+    private MemberHandles _handles; // racy single-check, MemberHandles is immutable
 
     private FieldRef( Field f )
     {
       _field = f;
     }
 
+    private MemberHandles handles()
+    {
+      MemberHandles handles = _handles;
+      if( handles == null )
+      {
+        _handles = handles = MemberHandles.of( _field );
+      }
+      return handles;
+    }
+
     public Object get( Object receiver )
     {
       try
@@ -1166,19 +1385,95 @@ public class ReflectUtil
     {
       return _field;
     }
+
+    /**
+     * @return A cached getter {@link MethodHandle} for this field, as unreflected
+     */
+    public MethodHandle asGetter()
+    {
+      return handles().direct;
+    }
+
+    /**
+     * @return A cached setter {@link MethodHandle} for this field, as unreflected, or null if the field is final
+     */
+    public MethodHandle asSetter()
+    {
+      return handles().spreader;
+    }
+
+    /**
+     * Same as {@link #get(Object)}, but reads through a cached {@link MethodHandle}. The receiver is ignored if the
+     * field is static.
+     */
+    public Object getFast( Object receiver )
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( receiver );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    /**
+     * Same as {@link #set(Object, Object)}, but writes through a cached {@link MethodHandle}. Final fields are set via
+     * {@link #set(Object, Object)}.
+     */
+    public void setFast( Object receiver, Object value )
+    {
+      MethodHandle setter = handles().spreader;
+      if( setter == null )
+      {
+        set( receiver, value );
+        return;
+      }
+      try
+      {
+        setter.invokeExact( receiver, value );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    public Object getStaticFast()
+    {
+      return getFast( null );
+    }
+
+    public void setStaticFast( Object value )
+    {
+      if( handles().spreader == null )
+      {
+        setStatic( value );
+        return;
+      }
+      setFast( null, value );
+    }
   }
 
   public static class LiveFieldRef
   {
+    private final FieldRef _ref;
     private final Field _field;
     private final Object _receiver;
 
-    private LiveFieldRef( Field f, Object receiver )
+    private LiveFieldRef( FieldRef ref, Object receiver )
     {
-      _field = f;
+      _ref = ref;
+      _field = ref._field;
       _receiver = receiver;
     }
 
+    private MemberHandles handles()
+    {
+      return _ref.handles();
+    }
+
     public Field getField()
     {
       return _field;
@@ -1222,17 +1517,77 @@ public class ReflectUtil
     {
       return Modifier.isStatic( getField().getModifiers() );
     }
+
+    /**
+     * Same as {@link #get()}, but reads through a cached {@link MethodHandle}.
+     */
+    public Object getFast()
+    {
+      try
+      {
+        return (Object)handles().exact.invokeExact( _receiver );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+
+    /**
+     * Same as {@link #set(Object)}, but writes through a cached {@link MethodHandle}. Final fields are set via
+     * {@link #set(Object)}.
+     */
+    public void setFast( Object value )
+    {
+      MethodHandle setter = handles().spreader;
+      if( setter == null )
+      {
+        set( value );
+        return;
+      }
+      try
+      {
+        setter.invokeExact( _receiver, value );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
   }
 
   public static class ConstructorRef
   {
     private final Constructor<?> _constructor;
+    private MemberHandles _handles; // racy single-check, MemberHandles is immutable
 
     private ConstructorRef( Constructor<?> constructor )
     {
       _constructor = constructor;
     }
 
+    @Override
+    public boolean equals( Object o )
+    {
+      return o instanceof ConstructorRef && _constructor.equals( ((ConstructorRef)o)._constructor );
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _constructor.hashCode();
+    }
+
+    private MemberHandles handles()
+    {
+      MemberHandles handles = _handles;
+      if( handles == null )
+      {
+        _handles = handles = MemberHandles.of( _constructor );
+      }
+      return handles;
+    }
+
     public Object newInstance( Object... args )
     {
       try
@@ -1249,6 +1604,126 @@ public class ReflectUtil
     {
       return _constructor;
     }
+
+    /**
+     * @return A cached {@link MethodHandle} for this constructor, fixed arity, as unreflected
+     */
+    public MethodHandle asHandle()
+    {
+      return handles().direct;
+    }
+
+    /**
+     * Same as {@link #newInstance(Object...)}, but calls through a cached {@link MethodHandle}.
+     */
+    public Object newInstanceFast( Object... args )
+    {
+      try
+      {
+        return (Object)handles().spreader.invokeExact( MemberHandles.nonNull( args ) );
+      }
+      catch( Throwable t )
+      {
+        throw ManExceptionUtil.unchecked( t );
+      }
+    }
+  }
+
+  /**
+   * Method handles for a method, field, or constructor, created on first use of a {@code *Fast} call or {@code as*}
+   * accessor and cached per member.
+   * <p/>
+   * Note VarHandle is not used for fields since this library must run on Java 8, getter/setter MethodHandles perform
+   * the same once the JIT constant-folds them.
+   */
+  private static final class MemberHandles
+  {
+    /** The handle as unreflected: the method, constructor, or field getter */
+    final MethodHandle direct;
+    /**
+     * All-Object signature with a leading receiver param, unused if static. Fields: {@code (Object)Object} getter.
+     * Constructors: same as {@code spreader}.
+     */
+    final MethodHandle exact;
+    /**
+     * Methods: {@code (Object receiver, Object[] args)Object}. Constructors: {@code (Object[] args)Object}. Fields:
+     * {@code (Object receiver, Object value)void} setter, or null if the field is final.
+     */
+    final MethodHandle spreader;
+
+    private MemberHandles( MethodHandle direct, MethodHandle exact, MethodHandle spreader )
+    {
+      this.direct = direct;
+      this.exact = exact;
+      this.spreader = spreader;
+    }
+
+    static Object[] nonNull( Object[] args )
+    {
+      return args == null ? NO_ARGS : args;
+    }
+
+    static MemberHandles of( Member member )
+    {
+      MemberHandles handles = _memberHandles.get( member );
+      if( handles == null )
+      {
+        handles = make( member );
+        MemberHandles existing = _memberHandles.putIfAbsent( member, handles );
+        if( existing != null )
+        {
+          handles = existing;
+        }
+      }
+      return handles;
+    }
+
+    private static MemberHandles make( Member member )
+    {
+      setAccessible( member );
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      boolean isStatic = Modifier.isStatic( member.getModifiers() );
+      try
+      {
+        if( member instanceof Method )
+        {
+          MethodHandle direct = lookup.unreflect( (Method)member ).asFixedArity();
+          int paramCount = ((Method)member).getParameterCount();
+          MethodHandle exact = isStatic
+            ? MethodHandles.dropArguments( direct.asType( MethodType.genericMethodType( paramCount ) ), 0, Object.class )
+            : direct.asType( MethodType.genericMethodType( paramCount + 1 ) );
+          return new MemberHandles( direct, exact, exact.asSpreader( Object[].class, paramCount ) );
+        }
+        if( member instanceof Constructor )
+        {
+          MethodHandle direct = lookup.unreflectConstructor( (Constructor<?>)member ).asFixedArity();
+          int paramCount = ((Constructor<?>)member).getParameterCount();
+          MethodHandle spreader = direct.asType( MethodType.genericMethodType( paramCount ) )
+            .asSpreader( Object[].class, paramCount );
+          return new MemberHandles( direct, spreader, spreader );
+        }
+
+        Field field = (Field)member;
+        MethodHandle getter = lookup.unreflectGetter( field );
+        MethodHandle exact = isStatic
+          ? MethodHandles.dropArguments( getter.asType( MethodType.genericMethodType( 0 ) ), 0, Object.class )
+          : getter.asType( MethodType.genericMethodType( 1 ) );
+        MethodHandle setter = null;
+        if( !Modifier.isFinal( field.getModifiers() ) )
+        {
+          MethodType setterType = MethodType.methodType( void.class, Object.class, Object.class );
+          setter = lookup.unreflectSetter( field );
+          setter = isStatic
+            ? MethodHandles.dropArguments( setter.asType( setterType.dropParameterTypes( 0, 1 ) ), 0, Object.class )
+            : setter.asType( setterType );
+        }
+        return new MemberHandles( getter, exact, setter );
+      }
+      catch( IllegalAccessException e )
+      {
+        throw ManExceptionUtil.unchecked( e );
+      }
+    }
   }
 
   private static MethodRef addMethodToCache( Class cls, Method m )
@@ -1258,38 +1733,32 @@ public class ReflectUtil
   private static MethodRef addMethodToCache( Class cls, Method m, String name )
   {
     setAccessible( m );
-    addRawMethodToCache( cls, m, name );
-    return new MethodRef( m );
+    MethodRef ref = new MethodRef( m );
+    addRawMethodToCache( cls, ref, name );
+    return ref;
   }
 
-  private static void addRawMethodToCache( Class cls, Method m, String name )
+  private static void addRawMethodToCache( Class cls, MethodRef ref, String name )
   {
     _methodsByName.computeIfAbsent( cls, k -> new ConcurrentHashMap<>() )
       .computeIfAbsent( name, k -> new ConcurrentHashSet<>( 2 ) )
-      .add( m );
+      .add( ref );
   }
 
-  private static MethodRef getMethodFromCache( Class cls, String name, Class... params )
-  {
-    Method m = getRawMethodFromCache( cls, name, params );
-    if( m != null )
-    {
-      return new MethodRef( m );
-    }
-    return null;
-  }
+  // The cached refs are returned as-is so their MethodHandles, once created, are reused
 
-  private static Method getRawMethodFromCache( Class cls, String name, Class... params )
+  private static MethodRef getMethodFromCache( Class cls, String name, Class... params )
   {
-    ConcurrentMap<String, ConcurrentHashSet<Method>> methodsByName = _methodsByName.get( cls );
+    ConcurrentMap<String, ConcurrentHashSet<MethodRef>> methodsByName = _methodsByName.get( cls );
     if( methodsByName != null )
     {
-      ConcurrentHashSet<Method> methods = methodsByName.get( name );
+      ConcurrentHashSet<MethodRef> methods = methodsByName.get( name );
       if( methods != null )
       {
         outer:
-        for( Method m: methods )
+        for( MethodRef ref: methods )
         {
+          Method m = ref._method;
           int paramsLen = params == null ? 0 : params.length;
           if( m.getParameterCount() == paramsLen )
           {
@@ -1305,7 +1774,7 @@ public class ReflectUtil
                 }
               }
             }
-            return m;
+            return ref;
           }
         }
       }
@@ -1315,20 +1784,10 @@ public class ReflectUtil
 
   private static MethodRef getMethodFromCacheUsingNameOnly( Class cls, String name )
   {
-    Method m = getRawMethodFromCacheUsingNameOnly( cls, name );
-    if( m != null )
-    {
-      return new MethodRef( m );
-    }
-    return null;
-  }
-
-  private static Method getRawMethodFromCacheUsingNameOnly( Class cls, String name )
-  {
-    ConcurrentMap<String, ConcurrentHashSet<Method>> methodsByName = _methodsByName.get( cls );
+    ConcurrentMap<String, ConcurrentHashSet<MethodRef>> methodsByName = _methodsByName.get( cls );
     if( methodsByName != null )
     {
-      ConcurrentHashSet<Method> methods = methodsByName.get( name );
+      ConcurrentHashSet<MethodRef> methods = methodsByName.get( name );
       if( methods != null )
       {
         return methods.iterator().next();
@@ -1340,34 +1799,26 @@ public class ReflectUtil
   private static ConstructorRef addConstructorToCache( Class cls, Constructor m )
   {
     setAccessible( m );
-    addRawConstructorToCache( cls, m );
-    return new ConstructorRef( m );
+    ConstructorRef ref = new ConstructorRef( m );
+    addRawConstructorToCache( cls, ref );
+    return ref;
   }
 
-  private static void addRawConstructorToCache( Class cls, Constructor m )
+  private static void addRawConstructorToCache( Class cls, ConstructorRef ref )
   {
-    Set<Constructor> constructors = _constructorsByClass.computeIfAbsent( cls, k -> ConcurrentHashMap.newKeySet() );
-    constructors.add( m );
+    Set<ConstructorRef> constructors = _constructorsByClass.computeIfAbsent( cls, k -> ConcurrentHashMap.newKeySet() );
+    constructors.add( ref );
   }
 
   private static ConstructorRef getConstructorFromCache( Class cls, Class... params )
   {
-    Constructor ctor = getRawConstructorFromCache( cls, params );
-    if( ctor != null )
-    {
-      return new ConstructorRef( ctor );
-    }
-    return null;
-  }
-
-  private static Constructor getRawConstructorFromCache( Class cls, Class... params )
-  {
-    Set<Constructor> constructors = _constructorsByClass.get( cls );
+    Set<ConstructorRef> constructors = _constructorsByClass.get( cls );
     if( constructors != null )
     {
       outer:
-      for( Constructor m: constructors )
+      for( ConstructorRef ref: constructors )
       {
+        Constructor<?> m = ref._constructor;
         int paramsLen = params == null ? 0 : params.length;
         if( m.getParameterCount() == paramsLen )
         {
@@ -1383,7 +1834,7 @@ public class ReflectUtil
               }
             }
           }
-          return m;
+          return ref;
         }
       }
     }
@@ -1464,29 +1915,20 @@ public class ReflectUtil
   private static FieldRef addFieldToCache( Class cls, Field f )
   {
     setAccessible( f );
-    addRawFieldToCache( cls, f );
-    return new FieldRef( f );
-  }
-
-  private static FieldRef getFieldFromCache( Class cls, String name )
-  {
-    Field field = getRawFieldFromCache( cls, name );
-    if( field != null )
-    {
-      return new FieldRef( field );
-    }
-    return null;
+    FieldRef ref = new FieldRef( f );
+    addRawFieldToCache( cls, ref );
+    return ref;
   }
 
-  private static void addRawFieldToCache( Class cls, Field f )
+  private static void addRawFieldToCache( Class cls, FieldRef ref )
   {
     _fieldsByName.computeIfAbsent( cls, k -> new ConcurrentHashMap<>() )
-      .put( f.getName(), f );
+      .put( ref._field.getName(), ref );
   }
 
-  private static Field getRawFieldFromCache( Class cls, String name )
+  private static FieldRef getFieldFromCache( Class cls, String name )
   {
-    ConcurrentMap<String, Field> fieldsByName = _fieldsByName.get( cls );
+    ConcurrentMap<String, FieldRef> fieldsByName = _fieldsByName.get( cls );
     if( fieldsByName != null )
     {
       return fieldsByName.get( name );
@@ -1545,7 +1987,7 @@ public class ReflectUtil
       {
         return null;
       }
-      return new LiveMethodRef( ref._method, receiver );
+      return new LiveMethodRef( ref, receiver );
     }
 
     public static LiveFieldRef field( Object receiver, String name )
@@ -1555,7 +1997,7 @@ public class ReflectUtil
       {
         return null;
       }
-      return new LiveFieldRef( ref._field, receiver );
+      return new LiveFieldRef( ref, receiver );
     }
 
     public static LiveMethodRef methodWithReturn( Object receiver, String name, Class<?> returnType, Class... params )
@@ -1598,7 +2040,7 @@ public class ReflectUtil
     if( structMethod != null )
     {
       Method bestMethod = findBestMethod( structMethod.getMethod(), receiver.getClass() );
-      return bestMethod == null ? null : new LiveMethodRef( bestMethod, receiver );
+      return bestMethod == null ? null : new LiveMethodRef( new MethodRef( bestMethod ), receiver );
     }
     return null;
   }
@@ -1639,7 +2081,7 @@ public class ReflectUtil
     {
       try
       {
-        result = bestMethod.invoke( receiver, args );
+        result = (Object)MemberHandles.of( bestMethod ).spreader.invokeExact( receiver, MemberHandles.nonNull( args ) );
       }
       catch( Throwable t )
       {
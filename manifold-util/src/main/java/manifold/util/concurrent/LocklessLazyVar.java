@@ -16,13 +16,19 @@
 
 package manifold.util.concurrent;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * Implements the lazy initialization pattern.
- * No locking of any kind is used.
+ * No locking of any kind is used. Threads racing to initialize the value may each call {@link #init()}, but all of
+ * them get the value published first.
  */
 public abstract class LocklessLazyVar<T>
 {
   protected final static Object NULL = new Object();
+  @SuppressWarnings( "rawtypes" )
+  private static final AtomicReferenceFieldUpdater<LocklessLazyVar, Object> VAL =
+    AtomicReferenceFieldUpdater.newUpdater( LocklessLazyVar.class, Object.class, "_val" );
   private volatile T _val = null;
 
   /**
@@ -38,13 +44,14 @@ public abstract class LocklessLazyVar<T>
     if( result == null )
     {
       result = init();
-      if( result == null )
-      {
-        _val = (T)NULL;
-      }
-      else
+      if( !VAL.compareAndSet( this, null, result == null ? NULL : result ) )
       {
-        _val = result;
+        // another thread published first, use its value unless the var was cleared meanwhile
+        T published = _val;
+        if( published != null )
+        {
+          result = published == NULL ? null : published;
+        }
       }
     }
     return result;
@@ -31,6 +31,52 @@ public class ReflectUtilTest extends TestCase
     assertEquals( "bye", field.get() );
   }
 
+  public void testMethodHandleFastPaths()
+  {
+    Object obj = ReflectUtil.constructor( "manifold.util.testClasses.TestClass1", String.class ).newInstanceFast( "a" );
+    assertEquals( "a", ReflectUtil.method( obj, "name" ).invoke0() );
+    assertEquals( "aaa", ReflectUtil.method( obj, "repeat", String.class, int.class ).invokeFast( "a", 3 ) );
+    assertEquals( "bb", ReflectUtil.method( obj, "repeat", String.class, int.class ).invoke2( "b", 2 ) );
+
+    Class<?> cls = obj.getClass();
+    ReflectUtil.MethodRef add = ReflectUtil.method( cls, "add", int.class, long.class );
+    // Integer arg widens to long same as core reflection
+    assertEquals( 5, add.invokeStaticFast( 2, 3 ) );
+    assertEquals( 5, add.invokeStatic2( 2, 3 ) );
+    assertEquals( 5, add.invoke2( obj, 2, 3 ) ); // receiver ignored for static
+
+    try
+    {
+      ReflectUtil.method( obj, "fail" ).invoke0();
+      fail();
+    }
+    catch( IllegalStateException e )
+    {
+      // not wrapped
+      assertEquals( "fail", e.getMessage() );
+    }
+  }
+
+  public void testFieldHandleFastPaths()
+  {
+    Object obj = ReflectUtil.constructor( "manifold.util.testClasses.TestClass1" ).newInstanceFast();
+    ReflectUtil.LiveFieldRef name = ReflectUtil.field( obj, "_name" );
+    assertEquals( "x", name.getFast() );
+    name.setFast( "y" );
+    assertEquals( "y", name.get() );
+    assertNotNull( ReflectUtil.field( obj.getClass(), "_name" ).asSetter() );
+
+    ReflectUtil.FieldRef staticCount = ReflectUtil.field( obj.getClass(), "staticCount" );
+    staticCount.setStaticFast( 7 );
+    assertEquals( 7, staticCount.getStaticFast() );
+
+    // final fields fall back to reflection for set
+    ReflectUtil.LiveFieldRef finalField = ReflectUtil.field( obj, "FINAL_STRING" );
+    assertNull( ReflectUtil.field( obj.getClass(), "FINAL_STRING" ).asSetter() );
+    finalField.setFast( "bye" );
+    assertEquals( "bye", finalField.get() );
+  }
+
 //  public void testOverrideOffsetForJava12() throws NoSuchFieldException
 //  {
 //    // since we run this test in Java 8, we can test that the approximated offset for Java 12 matches the actual offset
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 - Manifold Systems LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package manifold.util.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+public class LocklessLazyVarTest extends TestCase
+{
+  public void testRacingInitsGetFirstPublished() throws Exception
+  {
+    CountDownLatch bothInit = new CountDownLatch( 2 );
+    LocklessLazyVar<Object> var = LocklessLazyVar.make( () -> {
+      bothInit.countDown();
+      try
+      {
+        // both threads are in init() before either publishes
+        bothInit.await( 10, TimeUnit.SECONDS );
+      }
+      catch( InterruptedException e )
+      {
+        throw new RuntimeException( e );
+      }
+      return new Object();
+    } );
+
+    CompletableFuture<Object> first = CompletableFuture.supplyAsync( var::get );
+    CompletableFuture<Object> second = CompletableFuture.supplyAsync( var::get );
+    Object value = first.get( 10, TimeUnit.SECONDS );
+    assertSame( value, second.get( 10, TimeUnit.SECONDS ) );
+    assertSame( value, var.get() );
+  }
+
+  public void testNullValue()
+  {
+    int[] inits = {0};
+    LocklessLazyVar<Object> var = LocklessLazyVar.make( () -> {
+      inits[0]++;
+      return null;
+    } );
+    assertNull( var.get() );
+    assertNull( var.get() );
+    assertTrue( var.isLoaded() );
+    assertEquals( 1, inits[0] );
+  }
+}
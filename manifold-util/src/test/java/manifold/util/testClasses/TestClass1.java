@@ -6,8 +6,41 @@ class TestClass1
 
   private final String FINAL_STRING = value();
 
+  private static int staticCount;
+  private String _name = "x";
+
   private TestClass1() {}
 
+  private TestClass1( String name )
+  {
+    _name = name;
+  }
+
+  private String name()
+  {
+    return _name;
+  }
+
+  private String repeat( String s, int times )
+  {
+    StringBuilder sb = new StringBuilder();
+    for( int i = 0; i < times; i++ )
+    {
+      sb.append( s );
+    }
+    return sb.toString();
+  }
+
+  private static int add( int a, long b )
+  {
+    return (int)(a + b);
+  }
+
+  private void fail()
+  {
+    throw new IllegalStateException( "fail" );
+  }
+
   private static String value()
   {
     return "hi";